@@ -384,6 +384,33 @@ public final class ProtoBufFormulas {
      * <code>.formulas.PBFormulaMapping mapping = 2;</code>
      */
     com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder getMappingOrBuilder();
+
+    /**
+     * <pre>
+     * the mapping only contains the nodes and variables which are not in this base
+     * </pre>
+     *
+     * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+     * @return Whether the base field is set.
+     */
+    boolean hasBase();
+    /**
+     * <pre>
+     * the mapping only contains the nodes and variables which are not in this base
+     * </pre>
+     *
+     * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+     * @return The base.
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference getBase();
+    /**
+     * <pre>
+     * the mapping only contains the nodes and variables which are not in this base
+     * </pre>
+     *
+     * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReferenceOrBuilder getBaseOrBuilder();
   }
   /**
    * Protobuf type {@code formulas.PBFormulas}
@@ -480,6 +507,44 @@ public final class ProtoBufFormulas {
       return mapping_ == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance() : mapping_;
     }
 
+    public static final int BASE_FIELD_NUMBER = 3;
+    private com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference base_;
+    /**
+     * <pre>
+     * the mapping only contains the nodes and variables which are not in this base
+     * </pre>
+     *
+     * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+     * @return Whether the base field is set.
+     */
+    @java.lang.Override
+    public boolean hasBase() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * the mapping only contains the nodes and variables which are not in this base
+     * </pre>
+     *
+     * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+     * @return The base.
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference getBase() {
+      return base_ == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.getDefaultInstance() : base_;
+    }
+    /**
+     * <pre>
+     * the mapping only contains the nodes and variables which are not in this base
+     * </pre>
+     *
+     * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReferenceOrBuilder getBaseOrBuilder() {
+      return base_ == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.getDefaultInstance() : base_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -505,6 +570,9 @@ public final class ProtoBufFormulas {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeMessage(2, getMapping());
       }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(3, getBase());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -532,6 +600,10 @@ public final class ProtoBufFormulas {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, getMapping());
       }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getBase());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -554,6 +626,11 @@ public final class ProtoBufFormulas {
         if (!getMapping()
             .equals(other.getMapping())) return false;
       }
+      if (hasBase() != other.hasBase()) return false;
+      if (hasBase()) {
+        if (!getBase()
+            .equals(other.getBase())) return false;
+      }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -573,6 +650,10 @@ public final class ProtoBufFormulas {
         hash = (37 * hash) + MAPPING_FIELD_NUMBER;
         hash = (53 * hash) + getMapping().hashCode();
       }
+      if (hasBase()) {
+        hash = (37 * hash) + BASE_FIELD_NUMBER;
+        hash = (53 * hash) + getBase().hashCode();
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -704,6 +785,7 @@ public final class ProtoBufFormulas {
         if (com.google.protobuf.GeneratedMessage
                 .alwaysUseFieldBuilders) {
           getMappingFieldBuilder();
+          getBaseFieldBuilder();
         }
       }
       @java.lang.Override
@@ -716,6 +798,11 @@ public final class ProtoBufFormulas {
           mappingBuilder_.dispose();
           mappingBuilder_ = null;
         }
+        base_ = null;
+        if (baseBuilder_ != null) {
+          baseBuilder_.dispose();
+          baseBuilder_ = null;
+        }
         return this;
       }
 
@@ -760,6 +847,12 @@ public final class ProtoBufFormulas {
               : mappingBuilder_.build();
           to_bitField0_ |= 0x00000001;
         }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.base_ = baseBuilder_ == null
+              ? base_
+              : baseBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
         result.bitField0_ |= to_bitField0_;
       }
 
@@ -789,6 +882,9 @@ public final class ProtoBufFormulas {
         if (other.hasMapping()) {
           mergeMapping(other.getMapping());
         }
+        if (other.hasBase()) {
+          mergeBase(other.getBase());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -838,6 +934,13 @@ public final class ProtoBufFormulas {
                 bitField0_ |= 0x00000002;
                 break;
               } // case 18
+              case 26: {
+                input.readMessage(
+                    getBaseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -1060,6 +1163,163 @@ public final class ProtoBufFormulas {
         return mappingBuilder_;
       }
 
+      private com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference base_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReferenceOrBuilder> baseBuilder_;
+      /**
+       * <pre>
+       * the mapping only contains the nodes and variables which are not in this base
+       * </pre>
+       *
+       * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+       * @return Whether the base field is set.
+       */
+      public boolean hasBase() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * the mapping only contains the nodes and variables which are not in this base
+       * </pre>
+       *
+       * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+       * @return The base.
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference getBase() {
+        if (baseBuilder_ == null) {
+          return base_ == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.getDefaultInstance() : base_;
+        } else {
+          return baseBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * the mapping only contains the nodes and variables which are not in this base
+       * </pre>
+       *
+       * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+       */
+      public Builder setBase(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference value) {
+        if (baseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          base_ = value;
+        } else {
+          baseBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the mapping only contains the nodes and variables which are not in this base
+       * </pre>
+       *
+       * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+       */
+      public Builder setBase(
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.Builder builderForValue) {
+        if (baseBuilder_ == null) {
+          base_ = builderForValue.build();
+        } else {
+          baseBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the mapping only contains the nodes and variables which are not in this base
+       * </pre>
+       *
+       * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+       */
+      public Builder mergeBase(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference value) {
+        if (baseBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+            base_ != null &&
+            base_ != com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.getDefaultInstance()) {
+            getBaseBuilder().mergeFrom(value);
+          } else {
+            base_ = value;
+          }
+        } else {
+          baseBuilder_.mergeFrom(value);
+        }
+        if (base_ != null) {
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * the mapping only contains the nodes and variables which are not in this base
+       * </pre>
+       *
+       * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+       */
+      public Builder clearBase() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        base_ = null;
+        if (baseBuilder_ != null) {
+          baseBuilder_.dispose();
+          baseBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the mapping only contains the nodes and variables which are not in this base
+       * </pre>
+       *
+       * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.Builder getBaseBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getBaseFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * the mapping only contains the nodes and variables which are not in this base
+       * </pre>
+       *
+       * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReferenceOrBuilder getBaseOrBuilder() {
+        if (baseBuilder_ != null) {
+          return baseBuilder_.getMessageOrBuilder();
+        } else {
+          return base_ == null ?
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.getDefaultInstance() : base_;
+        }
+      }
+      /**
+       * <pre>
+       * the mapping only contains the nodes and variables which are not in this base
+       * </pre>
+       *
+       * <code>optional .formulas.PBFormulaBaseReference base = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReferenceOrBuilder> 
+          getBaseFieldBuilder() {
+        if (baseBuilder_ == null) {
+          baseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReferenceOrBuilder>(
+                  getBase(),
+                  getParentForChildren(),
+                  isClean());
+          base_ = null;
+        }
+        return baseBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:formulas.PBFormulas)
     }
 
@@ -1111,51 +1371,55 @@ public final class ProtoBufFormulas {
 
   }
 
-  public interface PBFormulaMappingOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:formulas.PBFormulaMapping)
+  public interface PBFormulaBaseReferenceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:formulas.PBFormulaBaseReference)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
-     */
-    int getMappingCount();
-    /**
-     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+     * <code>string name = 1;</code>
+     * @return The name.
      */
-    boolean containsMapping(
-        int key);
+    java.lang.String getName();
     /**
-     * Use {@link #getMappingMap()} instead.
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
      */
-    @java.lang.Deprecated
-    java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
-    getMapping();
+    com.google.protobuf.ByteString
+        getNameBytes();
+
     /**
-     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+     * <code>int32 version = 2;</code>
+     * @return The version.
      */
-    java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
-    getMappingMap();
+    int getVersion();
+
     /**
-     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+     * <pre>
+     * IDs of the mapping's nodes start after the base nodes
+     * </pre>
+     *
+     * <code>int32 nodeCount = 3;</code>
+     * @return The nodeCount.
      */
-    /* nullable */
-com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrDefault(
-        int key,
-        /* nullable */
-com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue);
+    int getNodeCount();
+
     /**
-     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+     * <pre>
+     * indices of the mapping's variables start after the base variables
+     * </pre>
+     *
+     * <code>int32 variableCount = 4;</code>
+     * @return The variableCount.
      */
-    com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrThrow(
-        int key);
+    int getVariableCount();
   }
   /**
-   * Protobuf type {@code formulas.PBFormulaMapping}
+   * Protobuf type {@code formulas.PBFormulaBaseReference}
    */
-  public static final class PBFormulaMapping extends
+  public static final class PBFormulaBaseReference extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:formulas.PBFormulaMapping)
-      PBFormulaMappingOrBuilder {
+      // @@protoc_insertion_point(message_implements:formulas.PBFormulaBaseReference)
+      PBFormulaBaseReferenceOrBuilder {
   private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
@@ -1164,117 +1428,107 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
         /* minor= */ 27,
         /* patch= */ 1,
         /* suffix= */ "",
-        PBFormulaMapping.class.getName());
+        PBFormulaBaseReference.class.getName());
     }
-    // Use PBFormulaMapping.newBuilder() to construct.
-    private PBFormulaMapping(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    // Use PBFormulaBaseReference.newBuilder() to construct.
+    private PBFormulaBaseReference(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private PBFormulaMapping() {
+    private PBFormulaBaseReference() {
+      name_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_descriptor;
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaBaseReference_descriptor;
     }
 
-    @SuppressWarnings({"rawtypes"})
-    @java.lang.Override
-    protected com.google.protobuf.MapFieldReflectionAccessor internalGetMapFieldReflection(
-        int number) {
-      switch (number) {
-        case 1:
-          return internalGetMapping();
-        default:
-          throw new RuntimeException(
-              "Invalid map field number: " + number);
-      }
-    }
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_fieldAccessorTable
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaBaseReference_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.Builder.class);
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.Builder.class);
     }
 
-    public static final int MAPPING_FIELD_NUMBER = 1;
-    private static final class MappingDefaultEntryHolder {
-      static final com.google.protobuf.MapEntry<
-          java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> defaultEntry =
-              com.google.protobuf.MapEntry
-              .<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>newDefaultInstance(
-                  com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_MappingEntry_descriptor, 
-                  com.google.protobuf.WireFormat.FieldType.INT32,
-                  0,
-                  com.google.protobuf.WireFormat.FieldType.MESSAGE,
-                  com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.getDefaultInstance());
-    }
+    public static final int NAME_FIELD_NUMBER = 1;
     @SuppressWarnings("serial")
-    private com.google.protobuf.MapField<
-        java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> mapping_;
-    private com.google.protobuf.MapField<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
-    internalGetMapping() {
-      if (mapping_ == null) {
-        return com.google.protobuf.MapField.emptyMapField(
-            MappingDefaultEntryHolder.defaultEntry);
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
       }
-      return mapping_;
-    }
-    public int getMappingCount() {
-      return internalGetMapping().getMap().size();
     }
     /**
-     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
      */
     @java.lang.Override
-    public boolean containsMapping(
-        int key) {
-
-      return internalGetMapping().getMap().containsKey(key);
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
+
+    public static final int VERSION_FIELD_NUMBER = 2;
+    private int version_ = 0;
     /**
-     * Use {@link #getMappingMap()} instead.
+     * <code>int32 version = 2;</code>
+     * @return The version.
      */
     @java.lang.Override
-    @java.lang.Deprecated
-    public java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> getMapping() {
-      return getMappingMap();
+    public int getVersion() {
+      return version_;
     }
+
+    public static final int NODECOUNT_FIELD_NUMBER = 3;
+    private int nodeCount_ = 0;
     /**
-     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+     * <pre>
+     * IDs of the mapping's nodes start after the base nodes
+     * </pre>
+     *
+     * <code>int32 nodeCount = 3;</code>
+     * @return The nodeCount.
      */
     @java.lang.Override
-    public java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> getMappingMap() {
-      return internalGetMapping().getMap();
+    public int getNodeCount() {
+      return nodeCount_;
     }
-    /**
-     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
-     */
-    @java.lang.Override
-    public /* nullable */
-com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrDefault(
-        int key,
-        /* nullable */
-com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue) {
 
-      java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> map =
-          internalGetMapping().getMap();
-      return map.containsKey(key) ? map.get(key) : defaultValue;
-    }
+    public static final int VARIABLECOUNT_FIELD_NUMBER = 4;
+    private int variableCount_ = 0;
     /**
-     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+     * <pre>
+     * indices of the mapping's variables start after the base variables
+     * </pre>
+     *
+     * <code>int32 variableCount = 4;</code>
+     * @return The variableCount.
      */
     @java.lang.Override
-    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrThrow(
-        int key) {
-
-      java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> map =
-          internalGetMapping().getMap();
-      if (!map.containsKey(key)) {
-        throw new java.lang.IllegalArgumentException();
-      }
-      return map.get(key);
+    public int getVariableCount() {
+      return variableCount_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -1291,12 +1545,18 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      com.google.protobuf.GeneratedMessage
-        .serializeIntegerMapTo(
-          output,
-          internalGetMapping(),
-          MappingDefaultEntryHolder.defaultEntry,
-          1);
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, name_);
+      }
+      if (version_ != 0) {
+        output.writeInt32(2, version_);
+      }
+      if (nodeCount_ != 0) {
+        output.writeInt32(3, nodeCount_);
+      }
+      if (variableCount_ != 0) {
+        output.writeInt32(4, variableCount_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1306,15 +1566,20 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       if (size != -1) return size;
 
       size = 0;
-      for (java.util.Map.Entry<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> entry
-           : internalGetMapping().getMap().entrySet()) {
-        com.google.protobuf.MapEntry<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
-        mapping__ = MappingDefaultEntryHolder.defaultEntry.newBuilderForType()
-            .setKey(entry.getKey())
-            .setValue(entry.getValue())
-            .build();
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, name_);
+      }
+      if (version_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(1, mapping__);
+          .computeInt32Size(2, version_);
+      }
+      if (nodeCount_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, nodeCount_);
+      }
+      if (variableCount_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, variableCount_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -1326,13 +1591,19 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping)) {
+      if (!(obj instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference)) {
         return super.equals(obj);
       }
-      com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping other = (com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping) obj;
+      com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference other = (com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference) obj;
 
-      if (!internalGetMapping().equals(
-          other.internalGetMapping())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (getVersion()
+          != other.getVersion()) return false;
+      if (getNodeCount()
+          != other.getNodeCount()) return false;
+      if (getVariableCount()
+          != other.getVariableCount()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -1344,53 +1615,57 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (!internalGetMapping().getMap().isEmpty()) {
-        hash = (37 * hash) + MAPPING_FIELD_NUMBER;
-        hash = (53 * hash) + internalGetMapping().hashCode();
-      }
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion();
+      hash = (37 * hash) + NODECOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeCount();
+      hash = (37 * hash) + VARIABLECOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getVariableCount();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(byte[] data)
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(java.io.InputStream input)
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1398,26 +1673,26 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseDelimitedFrom(java.io.InputStream input)
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseDelimitedFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1430,7 +1705,7 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping prototype) {
+    public static Builder newBuilder(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1446,48 +1721,26 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       return builder;
     }
     /**
-     * Protobuf type {@code formulas.PBFormulaMapping}
+     * Protobuf type {@code formulas.PBFormulaBaseReference}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:formulas.PBFormulaMapping)
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder {
+        // @@protoc_insertion_point(builder_implements:formulas.PBFormulaBaseReference)
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReferenceOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_descriptor;
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaBaseReference_descriptor;
       }
 
-      @SuppressWarnings({"rawtypes"})
-      protected com.google.protobuf.MapFieldReflectionAccessor internalGetMapFieldReflection(
-          int number) {
-        switch (number) {
-          case 1:
-            return internalGetMapping();
-          default:
-            throw new RuntimeException(
-                "Invalid map field number: " + number);
-        }
-      }
-      @SuppressWarnings({"rawtypes"})
-      protected com.google.protobuf.MapFieldReflectionAccessor internalGetMutableMapFieldReflection(
-          int number) {
-        switch (number) {
-          case 1:
-            return internalGetMutableMapping();
-          default:
-            throw new RuntimeException(
-                "Invalid map field number: " + number);
-        }
-      }
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_fieldAccessorTable
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaBaseReference_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.Builder.class);
+                com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.Builder.class);
       }
 
-      // Construct using com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.newBuilder()
+      // Construct using com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.newBuilder()
       private Builder() {
 
       }
@@ -1501,24 +1754,27 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        internalGetMutableMapping().clear();
+        name_ = "";
+        version_ = 0;
+        nodeCount_ = 0;
+        variableCount_ = 0;
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_descriptor;
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaBaseReference_descriptor;
       }
 
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping getDefaultInstanceForType() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance();
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference getDefaultInstanceForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping build() {
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping result = buildPartial();
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference build() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1526,35 +1782,55 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
 
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping buildPartial() {
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping result = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping(this);
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference buildPartial() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference result = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping result) {
+      private void buildPartial0(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference result) {
         int from_bitField0_ = bitField0_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.mapping_ = internalGetMapping().build(MappingDefaultEntryHolder.defaultEntry);
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.version_ = version_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.nodeCount_ = nodeCount_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.variableCount_ = variableCount_;
         }
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping) {
-          return mergeFrom((com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping)other);
+        if (other instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference) {
+          return mergeFrom((com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping other) {
-        if (other == com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance()) return this;
-        internalGetMutableMapping().mergeFrom(
-            other.internalGetMapping());
-        bitField0_ |= 0x00000001;
+      public Builder mergeFrom(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference other) {
+        if (other == com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getVersion() != 0) {
+          setVersion(other.getVersion());
+        }
+        if (other.getNodeCount() != 0) {
+          setNodeCount(other.getNodeCount());
+        }
+        if (other.getVariableCount() != 0) {
+          setVariableCount(other.getVariableCount());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -1582,14 +1858,25 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
                 done = true;
                 break;
               case 10: {
-                com.google.protobuf.MapEntry<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
-                mapping__ = input.readMessage(
-                    MappingDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
-                internalGetMutableMapping().ensureBuilderMap().put(
-                    mapping__.getKey(), mapping__.getValue());
+                name_ = input.readStringRequireUtf8();
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
+              case 16: {
+                version_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                nodeCount_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                variableCount_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -1607,178 +1894,215 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
       private int bitField0_;
 
-      private static final class MappingConverter implements com.google.protobuf.MapFieldBuilder.Converter<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> {
-        @java.lang.Override
-        public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula build(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder val) {
-          if (val instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) { return (com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) val; }
-          return ((com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder) val).build();
-        }
-
-        @java.lang.Override
-        public com.google.protobuf.MapEntry<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> defaultEntry() {
-          return MappingDefaultEntryHolder.defaultEntry;
-        }
-      };
-      private static final MappingConverter mappingConverter = new MappingConverter();
-
-      private com.google.protobuf.MapFieldBuilder<
-          java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder> mapping_;
-      private com.google.protobuf.MapFieldBuilder<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder>
-          internalGetMapping() {
-        if (mapping_ == null) {
-          return new com.google.protobuf.MapFieldBuilder<>(mappingConverter);
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        return mapping_;
       }
-      private com.google.protobuf.MapFieldBuilder<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder>
-          internalGetMutableMapping() {
-        if (mapping_ == null) {
-          mapping_ = new com.google.protobuf.MapFieldBuilder<>(mappingConverter);
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
-        return mapping_;
-      }
-      public int getMappingCount() {
-        return internalGetMapping().ensureBuilderMap().size();
+        return this;
       }
       /**
-       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
        */
-      @java.lang.Override
-      public boolean containsMapping(
-          int key) {
-
-        return internalGetMapping().ensureBuilderMap().containsKey(key);
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
       }
       /**
-       * Use {@link #getMappingMap()} instead.
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
        */
-      @java.lang.Override
-      @java.lang.Deprecated
-      public java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> getMapping() {
-        return getMappingMap();
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
       }
+
+      private int version_ ;
       /**
-       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+       * <code>int32 version = 2;</code>
+       * @return The version.
        */
       @java.lang.Override
-      public java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> getMappingMap() {
-        return internalGetMapping().getImmutableMap();
+      public int getVersion() {
+        return version_;
       }
       /**
-       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+       * <code>int32 version = 2;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
        */
-      @java.lang.Override
-      public /* nullable */
-com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrDefault(
-          int key,
-          /* nullable */
-com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue) {
+      public Builder setVersion(int value) {
 
-        java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> map = internalGetMutableMapping().ensureBuilderMap();
-        return map.containsKey(key) ? mappingConverter.build(map.get(key)) : defaultValue;
+        version_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
       }
       /**
-       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+       * <code>int32 version = 2;</code>
+       * @return This builder for chaining.
        */
-      @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrThrow(
-          int key) {
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        version_ = 0;
+        onChanged();
+        return this;
+      }
 
-        java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> map = internalGetMutableMapping().ensureBuilderMap();
-        if (!map.containsKey(key)) {
-          throw new java.lang.IllegalArgumentException();
-        }
-        return mappingConverter.build(map.get(key));
-      }
-      public Builder clearMapping() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        internalGetMutableMapping().clear();
-        return this;
+      private int nodeCount_ ;
+      /**
+       * <pre>
+       * IDs of the mapping's nodes start after the base nodes
+       * </pre>
+       *
+       * <code>int32 nodeCount = 3;</code>
+       * @return The nodeCount.
+       */
+      @java.lang.Override
+      public int getNodeCount() {
+        return nodeCount_;
       }
       /**
-       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+       * <pre>
+       * IDs of the mapping's nodes start after the base nodes
+       * </pre>
+       *
+       * <code>int32 nodeCount = 3;</code>
+       * @param value The nodeCount to set.
+       * @return This builder for chaining.
        */
-      public Builder removeMapping(
-          int key) {
+      public Builder setNodeCount(int value) {
 
-        internalGetMutableMapping().ensureBuilderMap()
-            .remove(key);
+        nodeCount_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
         return this;
       }
       /**
-       * Use alternate mutation accessors instead.
+       * <pre>
+       * IDs of the mapping's nodes start after the base nodes
+       * </pre>
+       *
+       * <code>int32 nodeCount = 3;</code>
+       * @return This builder for chaining.
        */
-      @java.lang.Deprecated
-      public java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
-          getMutableMapping() {
-        bitField0_ |= 0x00000001;
-        return internalGetMutableMapping().ensureMessageMap();
+      public Builder clearNodeCount() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        nodeCount_ = 0;
+        onChanged();
+        return this;
       }
+
+      private int variableCount_ ;
       /**
-       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+       * <pre>
+       * indices of the mapping's variables start after the base variables
+       * </pre>
+       *
+       * <code>int32 variableCount = 4;</code>
+       * @return The variableCount.
        */
-      public Builder putMapping(
-          int key,
-          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula value) {
-
-        if (value == null) { throw new NullPointerException("map value"); }
-        internalGetMutableMapping().ensureBuilderMap()
-            .put(key, value);
-        bitField0_ |= 0x00000001;
-        return this;
+      @java.lang.Override
+      public int getVariableCount() {
+        return variableCount_;
       }
       /**
-       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+       * <pre>
+       * indices of the mapping's variables start after the base variables
+       * </pre>
+       *
+       * <code>int32 variableCount = 4;</code>
+       * @param value The variableCount to set.
+       * @return This builder for chaining.
        */
-      public Builder putAllMapping(
-          java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> values) {
-        for (java.util.Map.Entry<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> e : values.entrySet()) {
-          if (e.getKey() == null || e.getValue() == null) {
-            throw new NullPointerException();
-          }
-        }
-        internalGetMutableMapping().ensureBuilderMap()
-            .putAll(values);
-        bitField0_ |= 0x00000001;
+      public Builder setVariableCount(int value) {
+
+        variableCount_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
         return this;
       }
       /**
-       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+       * <pre>
+       * indices of the mapping's variables start after the base variables
+       * </pre>
+       *
+       * <code>int32 variableCount = 4;</code>
+       * @return This builder for chaining.
        */
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder putMappingBuilderIfAbsent(
-          int key) {
-        java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> builderMap = internalGetMutableMapping().ensureBuilderMap();
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder entry = builderMap.get(key);
-        if (entry == null) {
-          entry = com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.newBuilder();
-          builderMap.put(key, entry);
-        }
-        if (entry instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) {
-          entry = ((com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) entry).toBuilder();
-          builderMap.put(key, entry);
-        }
-        return (com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder) entry;
+      public Builder clearVariableCount() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        variableCount_ = 0;
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:formulas.PBFormulaMapping)
+      // @@protoc_insertion_point(builder_scope:formulas.PBFormulaBaseReference)
     }
 
-    // @@protoc_insertion_point(class_scope:formulas.PBFormulaMapping)
-    private static final com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:formulas.PBFormulaBaseReference)
+    private static final com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping();
+      DEFAULT_INSTANCE = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference();
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping getDefaultInstance() {
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PBFormulaMapping>
-        PARSER = new com.google.protobuf.AbstractParser<PBFormulaMapping>() {
+    private static final com.google.protobuf.Parser<PBFormulaBaseReference>
+        PARSER = new com.google.protobuf.AbstractParser<PBFormulaBaseReference>() {
       @java.lang.Override
-      public PBFormulaMapping parsePartialFrom(
+      public PBFormulaBaseReference parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1797,153 +2121,172 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
     };
 
-    public static com.google.protobuf.Parser<PBFormulaMapping> parser() {
+    public static com.google.protobuf.Parser<PBFormulaBaseReference> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PBFormulaMapping> getParserForType() {
+    public com.google.protobuf.Parser<PBFormulaBaseReference> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping getDefaultInstanceForType() {
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PBInternalFormulaOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:formulas.PBInternalFormula)
+  public interface PBFormulaMappingOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:formulas.PBFormulaMapping)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional .formulas.PBFormulaType type = 1;</code>
-     * @return Whether the type field is set.
+     * <pre>
+     * legacy node table
+     * </pre>
+     *
+     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
      */
-    boolean hasType();
+    int getMappingCount();
     /**
-     * <code>optional .formulas.PBFormulaType type = 1;</code>
-     * @return The enum numeric value on the wire for type.
+     * <pre>
+     * legacy node table
+     * </pre>
+     *
+     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
      */
-    int getTypeValue();
+    boolean containsMapping(
+        int key);
     /**
-     * <code>optional .formulas.PBFormulaType type = 1;</code>
-     * @return The type.
+     * Use {@link #getMappingMap()} instead.
      */
-    com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType getType();
-
+    @java.lang.Deprecated
+    java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
+    getMapping();
     /**
      * <pre>
-     * constants
+     * legacy node table
      * </pre>
      *
-     * <code>optional bool value = 2;</code>
-     * @return Whether the value field is set.
+     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
      */
-    boolean hasValue();
+    java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
+    getMappingMap();
     /**
      * <pre>
-     * constants
+     * legacy node table
      * </pre>
      *
-     * <code>optional bool value = 2;</code>
-     * @return The value.
+     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
      */
-    boolean getValue();
+    /* nullable */
+com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrDefault(
+        int key,
+        /* nullable */
+com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue);
+    /**
+     * <pre>
+     * legacy node table
+     * </pre>
+     *
+     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrThrow(
+        int key);
 
     /**
      * <pre>
-     * literal (together with value)
+     * variable table, referenced by signed 1-based literal indices
      * </pre>
      *
-     * <code>optional string variable = 3;</code>
-     * @return Whether the variable field is set.
+     * <code>repeated string variable = 2;</code>
+     * @return A list containing the variable.
      */
-    boolean hasVariable();
+    java.util.List<java.lang.String>
+        getVariableList();
     /**
      * <pre>
-     * literal (together with value)
+     * variable table, referenced by signed 1-based literal indices
      * </pre>
      *
-     * <code>optional string variable = 3;</code>
-     * @return The variable.
+     * <code>repeated string variable = 2;</code>
+     * @return The count of variable.
      */
-    java.lang.String getVariable();
+    int getVariableCount();
     /**
      * <pre>
-     * literal (together with value)
+     * variable table, referenced by signed 1-based literal indices
      * </pre>
      *
-     * <code>optional string variable = 3;</code>
-     * @return The bytes for variable.
+     * <code>repeated string variable = 2;</code>
+     * @param index The index of the element to return.
+     * @return The variable at the given index.
      */
-    com.google.protobuf.ByteString
-        getVariableBytes();
-
+    java.lang.String getVariable(int index);
     /**
      * <pre>
-     * PBConstraint
+     * variable table, referenced by signed 1-based literal indices
      * </pre>
      *
-     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
-     * @return Whether the pbConstraint field is set.
+     * <code>repeated string variable = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the variable at the given index.
      */
-    boolean hasPbConstraint();
+    com.google.protobuf.ByteString
+        getVariableBytes(int index);
+
     /**
      * <pre>
-     * PBConstraint
+     * node table in topological order, the ID of a node is its position
      * </pre>
      *
-     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
-     * @return The pbConstraint.
+     * <code>repeated .formulas.PBInternalFormula node = 3;</code>
      */
-    com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getPbConstraint();
+    java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> 
+        getNodeList();
     /**
      * <pre>
-     * PBConstraint
+     * node table in topological order, the ID of a node is its position
      * </pre>
      *
-     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+     * <code>repeated .formulas.PBInternalFormula node = 3;</code>
      */
-    com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder getPbConstraintOrBuilder();
-
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getNode(int index);
     /**
      * <pre>
-     * not = 1, impl/equiv = 2, and/or = n
+     * node table in topological order, the ID of a node is its position
      * </pre>
      *
-     * <code>repeated int32 operand = 5;</code>
-     * @return A list containing the operand.
+     * <code>repeated .formulas.PBInternalFormula node = 3;</code>
      */
-    java.util.List<java.lang.Integer> getOperandList();
+    int getNodeCount();
     /**
      * <pre>
-     * not = 1, impl/equiv = 2, and/or = n
+     * node table in topological order, the ID of a node is its position
      * </pre>
      *
-     * <code>repeated int32 operand = 5;</code>
-     * @return The count of operand.
+     * <code>repeated .formulas.PBInternalFormula node = 3;</code>
      */
-    int getOperandCount();
+    java.util.List<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> 
+        getNodeOrBuilderList();
     /**
      * <pre>
-     * not = 1, impl/equiv = 2, and/or = n
+     * node table in topological order, the ID of a node is its position
      * </pre>
      *
-     * <code>repeated int32 operand = 5;</code>
-     * @param index The index of the element to return.
-     * @return The operand at the given index.
+     * <code>repeated .formulas.PBInternalFormula node = 3;</code>
      */
-    int getOperand(int index);
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder getNodeOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code formulas.PBInternalFormula}
+   * Protobuf type {@code formulas.PBFormulaMapping}
    */
-  public static final class PBInternalFormula extends
+  public static final class PBFormulaMapping extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:formulas.PBInternalFormula)
-      PBInternalFormulaOrBuilder {
+      // @@protoc_insertion_point(message_implements:formulas.PBFormulaMapping)
+      PBFormulaMappingOrBuilder {
   private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
@@ -1952,222 +2295,251 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
         /* minor= */ 27,
         /* patch= */ 1,
         /* suffix= */ "",
-        PBInternalFormula.class.getName());
+        PBFormulaMapping.class.getName());
     }
-    // Use PBInternalFormula.newBuilder() to construct.
-    private PBInternalFormula(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    // Use PBFormulaMapping.newBuilder() to construct.
+    private PBFormulaMapping(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private PBInternalFormula() {
-      type_ = 0;
-      variable_ = "";
-      operand_ = emptyIntList();
+    private PBFormulaMapping() {
+      variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      node_ = java.util.Collections.emptyList();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalFormula_descriptor;
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_descriptor;
     }
 
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapFieldReflectionAccessor internalGetMapFieldReflection(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetMapping();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalFormula_fieldAccessorTable
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder.class);
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.Builder.class);
     }
 
-    private int bitField0_;
-    public static final int TYPE_FIELD_NUMBER = 1;
-    private int type_ = 0;
-    /**
-     * <code>optional .formulas.PBFormulaType type = 1;</code>
-     * @return Whether the type field is set.
-     */
-    @java.lang.Override public boolean hasType() {
-      return ((bitField0_ & 0x00000001) != 0);
-    }
-    /**
-     * <code>optional .formulas.PBFormulaType type = 1;</code>
-     * @return The enum numeric value on the wire for type.
-     */
-    @java.lang.Override public int getTypeValue() {
-      return type_;
-    }
-    /**
-     * <code>optional .formulas.PBFormulaType type = 1;</code>
-     * @return The type.
-     */
-    @java.lang.Override public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType getType() {
-      com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType result = com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType.forNumber(type_);
-      return result == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType.UNRECOGNIZED : result;
+    public static final int MAPPING_FIELD_NUMBER = 1;
+    private static final class MappingDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>newDefaultInstance(
+                  com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_MappingEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.INT32,
+                  0,
+                  com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                  com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.getDefaultInstance());
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> mapping_;
+    private com.google.protobuf.MapField<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
+    internalGetMapping() {
+      if (mapping_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            MappingDefaultEntryHolder.defaultEntry);
+      }
+      return mapping_;
+    }
+    public int getMappingCount() {
+      return internalGetMapping().getMap().size();
     }
-
-    public static final int VALUE_FIELD_NUMBER = 2;
-    private boolean value_ = false;
     /**
      * <pre>
-     * constants
+     * legacy node table
      * </pre>
      *
-     * <code>optional bool value = 2;</code>
-     * @return Whether the value field is set.
+     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
      */
     @java.lang.Override
-    public boolean hasValue() {
-      return ((bitField0_ & 0x00000002) != 0);
+    public boolean containsMapping(
+        int key) {
+
+      return internalGetMapping().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getMappingMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> getMapping() {
+      return getMappingMap();
     }
     /**
      * <pre>
-     * constants
+     * legacy node table
      * </pre>
      *
-     * <code>optional bool value = 2;</code>
-     * @return The value.
+     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
      */
     @java.lang.Override
-    public boolean getValue() {
-      return value_;
+    public java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> getMappingMap() {
+      return internalGetMapping().getMap();
     }
-
-    public static final int VARIABLE_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object variable_ = "";
     /**
      * <pre>
-     * literal (together with value)
+     * legacy node table
      * </pre>
      *
-     * <code>optional string variable = 3;</code>
-     * @return Whether the variable field is set.
+     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
      */
     @java.lang.Override
-    public boolean hasVariable() {
-      return ((bitField0_ & 0x00000004) != 0);
+    public /* nullable */
+com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrDefault(
+        int key,
+        /* nullable */
+com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue) {
+
+      java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> map =
+          internalGetMapping().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
     }
     /**
      * <pre>
-     * literal (together with value)
+     * legacy node table
      * </pre>
      *
-     * <code>optional string variable = 3;</code>
-     * @return The variable.
+     * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
      */
     @java.lang.Override
-    public java.lang.String getVariable() {
-      java.lang.Object ref = variable_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        variable_ = s;
-        return s;
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrThrow(
+        int key) {
+
+      java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> map =
+          internalGetMapping().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
       }
+      return map.get(key);
     }
+
+    public static final int VARIABLE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList variable_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
     /**
      * <pre>
-     * literal (together with value)
+     * variable table, referenced by signed 1-based literal indices
      * </pre>
      *
-     * <code>optional string variable = 3;</code>
-     * @return The bytes for variable.
+     * <code>repeated string variable = 2;</code>
+     * @return A list containing the variable.
      */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getVariableBytes() {
-      java.lang.Object ref = variable_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        variable_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ProtocolStringList
+        getVariableList() {
+      return variable_;
     }
-
-    public static final int PBCONSTRAINT_FIELD_NUMBER = 4;
-    private com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint pbConstraint_;
     /**
      * <pre>
-     * PBConstraint
+     * variable table, referenced by signed 1-based literal indices
      * </pre>
      *
-     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
-     * @return Whether the pbConstraint field is set.
+     * <code>repeated string variable = 2;</code>
+     * @return The count of variable.
      */
-    @java.lang.Override
-    public boolean hasPbConstraint() {
-      return ((bitField0_ & 0x00000008) != 0);
+    public int getVariableCount() {
+      return variable_.size();
     }
     /**
      * <pre>
-     * PBConstraint
+     * variable table, referenced by signed 1-based literal indices
      * </pre>
      *
-     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
-     * @return The pbConstraint.
+     * <code>repeated string variable = 2;</code>
+     * @param index The index of the element to return.
+     * @return The variable at the given index.
      */
-    @java.lang.Override
-    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getPbConstraint() {
-      return pbConstraint_ == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance() : pbConstraint_;
+    public java.lang.String getVariable(int index) {
+      return variable_.get(index);
     }
     /**
      * <pre>
-     * PBConstraint
+     * variable table, referenced by signed 1-based literal indices
      * </pre>
      *
-     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+     * <code>repeated string variable = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the variable at the given index.
      */
-    @java.lang.Override
-    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder getPbConstraintOrBuilder() {
-      return pbConstraint_ == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance() : pbConstraint_;
+    public com.google.protobuf.ByteString
+        getVariableBytes(int index) {
+      return variable_.getByteString(index);
     }
 
-    public static final int OPERAND_FIELD_NUMBER = 5;
+    public static final int NODE_FIELD_NUMBER = 3;
     @SuppressWarnings("serial")
-    private com.google.protobuf.Internal.IntList operand_ =
-        emptyIntList();
+    private java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> node_;
     /**
      * <pre>
-     * not = 1, impl/equiv = 2, and/or = n
+     * node table in topological order, the ID of a node is its position
      * </pre>
      *
-     * <code>repeated int32 operand = 5;</code>
-     * @return A list containing the operand.
+     * <code>repeated .formulas.PBInternalFormula node = 3;</code>
      */
     @java.lang.Override
-    public java.util.List<java.lang.Integer>
-        getOperandList() {
-      return operand_;
+    public java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> getNodeList() {
+      return node_;
     }
     /**
      * <pre>
-     * not = 1, impl/equiv = 2, and/or = n
+     * node table in topological order, the ID of a node is its position
      * </pre>
      *
-     * <code>repeated int32 operand = 5;</code>
-     * @return The count of operand.
+     * <code>repeated .formulas.PBInternalFormula node = 3;</code>
      */
-    public int getOperandCount() {
-      return operand_.size();
+    @java.lang.Override
+    public java.util.List<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> 
+        getNodeOrBuilderList() {
+      return node_;
     }
     /**
      * <pre>
-     * not = 1, impl/equiv = 2, and/or = n
+     * node table in topological order, the ID of a node is its position
      * </pre>
      *
-     * <code>repeated int32 operand = 5;</code>
-     * @param index The index of the element to return.
-     * @return The operand at the given index.
+     * <code>repeated .formulas.PBInternalFormula node = 3;</code>
      */
-    public int getOperand(int index) {
-      return operand_.getInt(index);
+    @java.lang.Override
+    public int getNodeCount() {
+      return node_.size();
+    }
+    /**
+     * <pre>
+     * node table in topological order, the ID of a node is its position
+     * </pre>
+     *
+     * <code>repeated .formulas.PBInternalFormula node = 3;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getNode(int index) {
+      return node_.get(index);
+    }
+    /**
+     * <pre>
+     * node table in topological order, the ID of a node is its position
+     * </pre>
+     *
+     * <code>repeated .formulas.PBInternalFormula node = 3;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder getNodeOrBuilder(
+        int index) {
+      return node_.get(index);
     }
-    private int operandMemoizedSerializedSize = -1;
 
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
@@ -2183,25 +2555,17 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) != 0)) {
-        output.writeEnum(1, type_);
-      }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        output.writeBool(2, value_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, variable_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
-        output.writeMessage(4, getPbConstraint());
-      }
-      if (getOperandList().size() > 0) {
-        output.writeUInt32NoTag(42);
-        output.writeUInt32NoTag(operandMemoizedSerializedSize);
+      com.google.protobuf.GeneratedMessage
+        .serializeIntegerMapTo(
+          output,
+          internalGetMapping(),
+          MappingDefaultEntryHolder.defaultEntry,
+          1);
+      for (int i = 0; i < variable_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, variable_.getRaw(i));
       }
-      for (int i = 0; i < operand_.size(); i++) {
-        output.writeInt32NoTag(operand_.getInt(i));
+      for (int i = 0; i < node_.size(); i++) {
+        output.writeMessage(3, node_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -2212,34 +2576,27 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(1, type_);
-      }
-      if (((bitField0_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, value_);
-      }
-      if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, variable_);
-      }
-      if (((bitField0_ & 0x00000008) != 0)) {
+      for (java.util.Map.Entry<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> entry
+           : internalGetMapping().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
+        mapping__ = MappingDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, getPbConstraint());
+            .computeMessageSize(1, mapping__);
       }
       {
         int dataSize = 0;
-        for (int i = 0; i < operand_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeInt32SizeNoTag(operand_.getInt(i));
+        for (int i = 0; i < variable_.size(); i++) {
+          dataSize += computeStringSizeNoTag(variable_.getRaw(i));
         }
         size += dataSize;
-        if (!getOperandList().isEmpty()) {
-          size += 1;
-          size += com.google.protobuf.CodedOutputStream
-              .computeInt32SizeNoTag(dataSize);
-        }
-        operandMemoizedSerializedSize = dataSize;
+        size += 1 * getVariableList().size();
+      }
+      for (int i = 0; i < node_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, node_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -2251,107 +2608,83 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula)) {
+      if (!(obj instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping)) {
         return super.equals(obj);
       }
-      com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula other = (com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) obj;
+      com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping other = (com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping) obj;
 
-      if (hasType() != other.hasType()) return false;
-      if (hasType()) {
-        if (type_ != other.type_) return false;
-      }
-      if (hasValue() != other.hasValue()) return false;
-      if (hasValue()) {
-        if (getValue()
-            != other.getValue()) return false;
-      }
-      if (hasVariable() != other.hasVariable()) return false;
-      if (hasVariable()) {
-        if (!getVariable()
-            .equals(other.getVariable())) return false;
-      }
-      if (hasPbConstraint() != other.hasPbConstraint()) return false;
-      if (hasPbConstraint()) {
-        if (!getPbConstraint()
-            .equals(other.getPbConstraint())) return false;
-      }
-      if (!getOperandList()
-          .equals(other.getOperandList())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
+      if (!internalGetMapping().equals(
+          other.internalGetMapping())) return false;
+      if (!getVariableList()
+          .equals(other.getVariableList())) return false;
+      if (!getNodeList()
+          .equals(other.getNodeList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasType()) {
-        hash = (37 * hash) + TYPE_FIELD_NUMBER;
-        hash = (53 * hash) + type_;
-      }
-      if (hasValue()) {
-        hash = (37 * hash) + VALUE_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-            getValue());
+      if (!internalGetMapping().getMap().isEmpty()) {
+        hash = (37 * hash) + MAPPING_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetMapping().hashCode();
       }
-      if (hasVariable()) {
+      if (getVariableCount() > 0) {
         hash = (37 * hash) + VARIABLE_FIELD_NUMBER;
-        hash = (53 * hash) + getVariable().hashCode();
-      }
-      if (hasPbConstraint()) {
-        hash = (37 * hash) + PBCONSTRAINT_FIELD_NUMBER;
-        hash = (53 * hash) + getPbConstraint().hashCode();
+        hash = (53 * hash) + getVariableList().hashCode();
       }
-      if (getOperandCount() > 0) {
-        hash = (37 * hash) + OPERAND_FIELD_NUMBER;
-        hash = (53 * hash) + getOperandList().hashCode();
+      if (getNodeCount() > 0) {
+        hash = (37 * hash) + NODE_FIELD_NUMBER;
+        hash = (53 * hash) + getNodeList().hashCode();
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(byte[] data)
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(java.io.InputStream input)
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2359,26 +2692,26 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseDelimitedFrom(java.io.InputStream input)
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseDelimitedFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2391,7 +2724,7 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula prototype) {
+    public static Builder newBuilder(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2407,71 +2740,88 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       return builder;
     }
     /**
-     * Protobuf type {@code formulas.PBInternalFormula}
+     * Protobuf type {@code formulas.PBFormulaMapping}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:formulas.PBInternalFormula)
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder {
+        // @@protoc_insertion_point(builder_implements:formulas.PBFormulaMapping)
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMappingOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalFormula_descriptor;
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_descriptor;
       }
 
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapFieldReflectionAccessor internalGetMapFieldReflection(
+          int number) {
+        switch (number) {
+          case 1:
+            return internalGetMapping();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapFieldReflectionAccessor internalGetMutableMapFieldReflection(
+          int number) {
+        switch (number) {
+          case 1:
+            return internalGetMutableMapping();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalFormula_fieldAccessorTable
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder.class);
+                com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.Builder.class);
       }
 
-      // Construct using com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.newBuilder()
+      // Construct using com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.newBuilder()
       private Builder() {
-        maybeForceBuilderInitialization();
+
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage
-                .alwaysUseFieldBuilders) {
-          getPbConstraintFieldBuilder();
-        }
+
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        type_ = 0;
-        value_ = false;
-        variable_ = "";
-        pbConstraint_ = null;
-        if (pbConstraintBuilder_ != null) {
-          pbConstraintBuilder_.dispose();
-          pbConstraintBuilder_ = null;
+        internalGetMutableMapping().clear();
+        variable_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        if (nodeBuilder_ == null) {
+          node_ = java.util.Collections.emptyList();
+        } else {
+          node_ = null;
+          nodeBuilder_.clear();
         }
-        operand_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalFormula_descriptor;
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaMapping_descriptor;
       }
 
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getDefaultInstanceForType() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.getDefaultInstance();
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping getDefaultInstanceForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula build() {
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula result = buildPartial();
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping build() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2479,78 +2829,88 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
 
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula buildPartial() {
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula result = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula(this);
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping buildPartial() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping result = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping(this);
+        buildPartialRepeatedFields(result);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula result) {
+      private void buildPartialRepeatedFields(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping result) {
+        if (nodeBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            node_ = java.util.Collections.unmodifiableList(node_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.node_ = node_;
+        } else {
+          result.node_ = nodeBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping result) {
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.type_ = type_;
-          to_bitField0_ |= 0x00000001;
+          result.mapping_ = internalGetMapping().build(MappingDefaultEntryHolder.defaultEntry);
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.value_ = value_;
-          to_bitField0_ |= 0x00000002;
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
+          variable_.makeImmutable();
           result.variable_ = variable_;
-          to_bitField0_ |= 0x00000004;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.pbConstraint_ = pbConstraintBuilder_ == null
-              ? pbConstraint_
-              : pbConstraintBuilder_.build();
-          to_bitField0_ |= 0x00000008;
         }
-        if (((from_bitField0_ & 0x00000010) != 0)) {
-          operand_.makeImmutable();
-          result.operand_ = operand_;
-        }
-        result.bitField0_ |= to_bitField0_;
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) {
-          return mergeFrom((com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula)other);
+        if (other instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping) {
+          return mergeFrom((com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula other) {
-        if (other == com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.getDefaultInstance()) return this;
-        if (other.hasType()) {
-          setType(other.getType());
-        }
-        if (other.hasValue()) {
-          setValue(other.getValue());
-        }
-        if (other.hasVariable()) {
-          variable_ = other.variable_;
-          bitField0_ |= 0x00000004;
-          onChanged();
-        }
-        if (other.hasPbConstraint()) {
-          mergePbConstraint(other.getPbConstraint());
-        }
-        if (!other.operand_.isEmpty()) {
-          if (operand_.isEmpty()) {
-            operand_ = other.operand_;
-            operand_.makeImmutable();
-            bitField0_ |= 0x00000010;
+      public Builder mergeFrom(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping other) {
+        if (other == com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping.getDefaultInstance()) return this;
+        internalGetMutableMapping().mergeFrom(
+            other.internalGetMapping());
+        bitField0_ |= 0x00000001;
+        if (!other.variable_.isEmpty()) {
+          if (variable_.isEmpty()) {
+            variable_ = other.variable_;
+            bitField0_ |= 0x00000002;
           } else {
-            ensureOperandIsMutable();
-            operand_.addAll(other.operand_);
+            ensureVariableIsMutable();
+            variable_.addAll(other.variable_);
           }
           onChanged();
         }
+        if (nodeBuilder_ == null) {
+          if (!other.node_.isEmpty()) {
+            if (node_.isEmpty()) {
+              node_ = other.node_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureNodeIsMutable();
+              node_.addAll(other.node_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.node_.isEmpty()) {
+            if (nodeBuilder_.isEmpty()) {
+              nodeBuilder_.dispose();
+              nodeBuilder_ = null;
+              node_ = other.node_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              nodeBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getNodeFieldBuilder() : null;
+            } else {
+              nodeBuilder_.addAllMessages(other.node_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -2577,44 +2937,34 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
               case 0:
                 done = true;
                 break;
-              case 8: {
-                type_ = input.readEnum();
+              case 10: {
+                com.google.protobuf.MapEntry<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
+                mapping__ = input.readMessage(
+                    MappingDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableMapping().ensureBuilderMap().put(
+                    mapping__.getKey(), mapping__.getValue());
                 bitField0_ |= 0x00000001;
                 break;
-              } // case 8
-              case 16: {
-                value_ = input.readBool();
-                bitField0_ |= 0x00000002;
+              } // case 10
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureVariableIsMutable();
+                variable_.add(s);
                 break;
-              } // case 16
+              } // case 18
               case 26: {
-                variable_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 26
-              case 34: {
-                input.readMessage(
-                    getPbConstraintFieldBuilder().getBuilder(),
-                    extensionRegistry);
-                bitField0_ |= 0x00000008;
-                break;
-              } // case 34
-              case 40: {
-                int v = input.readInt32();
-                ensureOperandIsMutable();
-                operand_.addInt(v);
-                break;
-              } // case 40
-              case 42: {
-                int length = input.readRawVarint32();
-                int limit = input.pushLimit(length);
-                ensureOperandIsMutable();
-                while (input.getBytesUntilLimit() > 0) {
-                  operand_.addInt(input.readInt32());
+                com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula m =
+                    input.readMessage(
+                        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.parser(),
+                        extensionRegistry);
+                if (nodeBuilder_ == null) {
+                  ensureNodeIsMutable();
+                  node_.add(m);
+                } else {
+                  nodeBuilder_.addMessage(m);
                 }
-                input.popLimit(limit);
                 break;
-              } // case 42
+              } // case 26
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -2632,511 +2982,669 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
       private int bitField0_;
 
-      private int type_ = 0;
-      /**
-       * <code>optional .formulas.PBFormulaType type = 1;</code>
-       * @return Whether the type field is set.
-       */
-      @java.lang.Override public boolean hasType() {
-        return ((bitField0_ & 0x00000001) != 0);
-      }
-      /**
-       * <code>optional .formulas.PBFormulaType type = 1;</code>
-       * @return The enum numeric value on the wire for type.
-       */
-      @java.lang.Override public int getTypeValue() {
-        return type_;
+      private static final class MappingConverter implements com.google.protobuf.MapFieldBuilder.Converter<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> {
+        @java.lang.Override
+        public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula build(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder val) {
+          if (val instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) { return (com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) val; }
+          return ((com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder) val).build();
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.MapEntry<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> defaultEntry() {
+          return MappingDefaultEntryHolder.defaultEntry;
+        }
+      };
+      private static final MappingConverter mappingConverter = new MappingConverter();
+
+      private com.google.protobuf.MapFieldBuilder<
+          java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder> mapping_;
+      private com.google.protobuf.MapFieldBuilder<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder>
+          internalGetMapping() {
+        if (mapping_ == null) {
+          return new com.google.protobuf.MapFieldBuilder<>(mappingConverter);
+        }
+        return mapping_;
       }
-      /**
-       * <code>optional .formulas.PBFormulaType type = 1;</code>
-       * @param value The enum numeric value on the wire for type to set.
-       * @return This builder for chaining.
-       */
-      public Builder setTypeValue(int value) {
-        type_ = value;
+      private com.google.protobuf.MapFieldBuilder<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder>
+          internalGetMutableMapping() {
+        if (mapping_ == null) {
+          mapping_ = new com.google.protobuf.MapFieldBuilder<>(mappingConverter);
+        }
         bitField0_ |= 0x00000001;
         onChanged();
-        return this;
+        return mapping_;
+      }
+      public int getMappingCount() {
+        return internalGetMapping().ensureBuilderMap().size();
       }
       /**
-       * <code>optional .formulas.PBFormulaType type = 1;</code>
-       * @return The type.
+       * <pre>
+       * legacy node table
+       * </pre>
+       *
+       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
        */
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType getType() {
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType result = com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType.forNumber(type_);
-        return result == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType.UNRECOGNIZED : result;
+      public boolean containsMapping(
+          int key) {
+
+        return internalGetMapping().ensureBuilderMap().containsKey(key);
       }
       /**
-       * <code>optional .formulas.PBFormulaType type = 1;</code>
-       * @param value The type to set.
-       * @return This builder for chaining.
+       * Use {@link #getMappingMap()} instead.
        */
-      public Builder setType(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000001;
-        type_ = value.getNumber();
-        onChanged();
-        return this;
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> getMapping() {
+        return getMappingMap();
       }
       /**
-       * <code>optional .formulas.PBFormulaType type = 1;</code>
-       * @return This builder for chaining.
+       * <pre>
+       * legacy node table
+       * </pre>
+       *
+       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
        */
-      public Builder clearType() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        type_ = 0;
-        onChanged();
-        return this;
+      @java.lang.Override
+      public java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> getMappingMap() {
+        return internalGetMapping().getImmutableMap();
       }
-
-      private boolean value_ ;
       /**
        * <pre>
-       * constants
+       * legacy node table
        * </pre>
        *
-       * <code>optional bool value = 2;</code>
-       * @return Whether the value field is set.
+       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
        */
       @java.lang.Override
-      public boolean hasValue() {
-        return ((bitField0_ & 0x00000002) != 0);
+      public /* nullable */
+com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrDefault(
+          int key,
+          /* nullable */
+com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue) {
+
+        java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> map = internalGetMutableMapping().ensureBuilderMap();
+        return map.containsKey(key) ? mappingConverter.build(map.get(key)) : defaultValue;
       }
       /**
        * <pre>
-       * constants
+       * legacy node table
        * </pre>
        *
-       * <code>optional bool value = 2;</code>
-       * @return The value.
+       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
        */
       @java.lang.Override
-      public boolean getValue() {
-        return value_;
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getMappingOrThrow(
+          int key) {
+
+        java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> map = internalGetMutableMapping().ensureBuilderMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return mappingConverter.build(map.get(key));
+      }
+      public Builder clearMapping() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        internalGetMutableMapping().clear();
+        return this;
       }
       /**
        * <pre>
-       * constants
+       * legacy node table
        * </pre>
        *
-       * <code>optional bool value = 2;</code>
-       * @param value The value to set.
-       * @return This builder for chaining.
+       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
        */
-      public Builder setValue(boolean value) {
+      public Builder removeMapping(
+          int key) {
 
-        value_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
+        internalGetMutableMapping().ensureBuilderMap()
+            .remove(key);
         return this;
       }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>
+          getMutableMapping() {
+        bitField0_ |= 0x00000001;
+        return internalGetMutableMapping().ensureMessageMap();
+      }
       /**
        * <pre>
-       * constants
+       * legacy node table
        * </pre>
        *
-       * <code>optional bool value = 2;</code>
-       * @return This builder for chaining.
+       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
        */
-      public Builder clearValue() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        value_ = false;
-        onChanged();
+      public Builder putMapping(
+          int key,
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula value) {
+
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableMapping().ensureBuilderMap()
+            .put(key, value);
+        bitField0_ |= 0x00000001;
         return this;
       }
-
-      private java.lang.Object variable_ = "";
       /**
        * <pre>
-       * literal (together with value)
+       * legacy node table
        * </pre>
        *
-       * <code>optional string variable = 3;</code>
-       * @return Whether the variable field is set.
+       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
        */
-      public boolean hasVariable() {
-        return ((bitField0_ & 0x00000004) != 0);
+      public Builder putAllMapping(
+          java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> values) {
+        for (java.util.Map.Entry<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> e : values.entrySet()) {
+          if (e.getKey() == null || e.getValue() == null) {
+            throw new NullPointerException();
+          }
+        }
+        internalGetMutableMapping().ensureBuilderMap()
+            .putAll(values);
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
        * <pre>
-       * literal (together with value)
+       * legacy node table
        * </pre>
        *
-       * <code>optional string variable = 3;</code>
-       * @return The variable.
+       * <code>map&lt;int32, .formulas.PBInternalFormula&gt; mapping = 1;</code>
        */
-      public java.lang.String getVariable() {
-        java.lang.Object ref = variable_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          variable_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder putMappingBuilderIfAbsent(
+          int key) {
+        java.util.Map<java.lang.Integer, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> builderMap = internalGetMutableMapping().ensureBuilderMap();
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder entry = builderMap.get(key);
+        if (entry == null) {
+          entry = com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.newBuilder();
+          builderMap.put(key, entry);
+        }
+        if (entry instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) {
+          entry = ((com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) entry).toBuilder();
+          builderMap.put(key, entry);
+        }
+        return (com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder) entry;
+      }
+
+      private com.google.protobuf.LazyStringArrayList variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureVariableIsMutable() {
+        if (!variable_.isModifiable()) {
+          variable_ = new com.google.protobuf.LazyStringArrayList(variable_);
         }
+        bitField0_ |= 0x00000002;
       }
       /**
        * <pre>
-       * literal (together with value)
+       * variable table, referenced by signed 1-based literal indices
        * </pre>
        *
-       * <code>optional string variable = 3;</code>
-       * @return The bytes for variable.
+       * <code>repeated string variable = 2;</code>
+       * @return A list containing the variable.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getVariableList() {
+        variable_.makeImmutable();
+        return variable_;
+      }
+      /**
+       * <pre>
+       * variable table, referenced by signed 1-based literal indices
+       * </pre>
+       *
+       * <code>repeated string variable = 2;</code>
+       * @return The count of variable.
+       */
+      public int getVariableCount() {
+        return variable_.size();
+      }
+      /**
+       * <pre>
+       * variable table, referenced by signed 1-based literal indices
+       * </pre>
+       *
+       * <code>repeated string variable = 2;</code>
+       * @param index The index of the element to return.
+       * @return The variable at the given index.
+       */
+      public java.lang.String getVariable(int index) {
+        return variable_.get(index);
+      }
+      /**
+       * <pre>
+       * variable table, referenced by signed 1-based literal indices
+       * </pre>
+       *
+       * <code>repeated string variable = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the variable at the given index.
        */
       public com.google.protobuf.ByteString
-          getVariableBytes() {
-        java.lang.Object ref = variable_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          variable_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+          getVariableBytes(int index) {
+        return variable_.getByteString(index);
       }
       /**
        * <pre>
-       * literal (together with value)
+       * variable table, referenced by signed 1-based literal indices
        * </pre>
        *
-       * <code>optional string variable = 3;</code>
+       * <code>repeated string variable = 2;</code>
+       * @param index The index to set the value at.
        * @param value The variable to set.
        * @return This builder for chaining.
        */
       public Builder setVariable(
-          java.lang.String value) {
+          int index, java.lang.String value) {
         if (value == null) { throw new NullPointerException(); }
-        variable_ = value;
-        bitField0_ |= 0x00000004;
+        ensureVariableIsMutable();
+        variable_.set(index, value);
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * literal (together with value)
+       * variable table, referenced by signed 1-based literal indices
        * </pre>
        *
-       * <code>optional string variable = 3;</code>
+       * <code>repeated string variable = 2;</code>
+       * @param value The variable to add.
        * @return This builder for chaining.
        */
-      public Builder clearVariable() {
-        variable_ = getDefaultInstance().getVariable();
-        bitField0_ = (bitField0_ & ~0x00000004);
+      public Builder addVariable(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureVariableIsMutable();
+        variable_.add(value);
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
        * <pre>
-       * literal (together with value)
+       * variable table, referenced by signed 1-based literal indices
        * </pre>
        *
-       * <code>optional string variable = 3;</code>
-       * @param value The bytes for variable to set.
+       * <code>repeated string variable = 2;</code>
+       * @param values The variable to add.
        * @return This builder for chaining.
        */
-      public Builder setVariableBytes(
+      public Builder addAllVariable(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureVariableIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, variable_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * variable table, referenced by signed 1-based literal indices
+       * </pre>
+       *
+       * <code>repeated string variable = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVariable() {
+        variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * variable table, referenced by signed 1-based literal indices
+       * </pre>
+       *
+       * <code>repeated string variable = 2;</code>
+       * @param value The bytes of the variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVariableBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) { throw new NullPointerException(); }
         checkByteStringIsUtf8(value);
-        variable_ = value;
-        bitField0_ |= 0x00000004;
+        ensureVariableIsMutable();
+        variable_.add(value);
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
 
-      private com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint pbConstraint_;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder> pbConstraintBuilder_;
+      private java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> node_ =
+        java.util.Collections.emptyList();
+      private void ensureNodeIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          node_ = new java.util.ArrayList<com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula>(node_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> nodeBuilder_;
+
       /**
        * <pre>
-       * PBConstraint
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
-       * @return Whether the pbConstraint field is set.
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public boolean hasPbConstraint() {
-        return ((bitField0_ & 0x00000008) != 0);
+      public java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> getNodeList() {
+        if (nodeBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(node_);
+        } else {
+          return nodeBuilder_.getMessageList();
+        }
       }
       /**
        * <pre>
-       * PBConstraint
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
-       * @return The pbConstraint.
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getPbConstraint() {
-        if (pbConstraintBuilder_ == null) {
-          return pbConstraint_ == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance() : pbConstraint_;
+      public int getNodeCount() {
+        if (nodeBuilder_ == null) {
+          return node_.size();
         } else {
-          return pbConstraintBuilder_.getMessage();
+          return nodeBuilder_.getCount();
         }
       }
       /**
        * <pre>
-       * PBConstraint
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public Builder setPbConstraint(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint value) {
-        if (pbConstraintBuilder_ == null) {
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getNode(int index) {
+        if (nodeBuilder_ == null) {
+          return node_.get(index);
+        } else {
+          return nodeBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * node table in topological order, the ID of a node is its position
+       * </pre>
+       *
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
+       */
+      public Builder setNode(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula value) {
+        if (nodeBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          pbConstraint_ = value;
+          ensureNodeIsMutable();
+          node_.set(index, value);
+          onChanged();
         } else {
-          pbConstraintBuilder_.setMessage(value);
+          nodeBuilder_.setMessage(index, value);
         }
-        bitField0_ |= 0x00000008;
-        onChanged();
         return this;
       }
       /**
        * <pre>
-       * PBConstraint
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public Builder setPbConstraint(
-          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder builderForValue) {
-        if (pbConstraintBuilder_ == null) {
-          pbConstraint_ = builderForValue.build();
+      public Builder setNode(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder builderForValue) {
+        if (nodeBuilder_ == null) {
+          ensureNodeIsMutable();
+          node_.set(index, builderForValue.build());
+          onChanged();
         } else {
-          pbConstraintBuilder_.setMessage(builderForValue.build());
+          nodeBuilder_.setMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000008;
-        onChanged();
         return this;
       }
       /**
        * <pre>
-       * PBConstraint
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public Builder mergePbConstraint(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint value) {
-        if (pbConstraintBuilder_ == null) {
-          if (((bitField0_ & 0x00000008) != 0) &&
-            pbConstraint_ != null &&
-            pbConstraint_ != com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance()) {
-            getPbConstraintBuilder().mergeFrom(value);
-          } else {
-            pbConstraint_ = value;
+      public Builder addNode(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula value) {
+        if (nodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-        } else {
-          pbConstraintBuilder_.mergeFrom(value);
-        }
-        if (pbConstraint_ != null) {
-          bitField0_ |= 0x00000008;
+          ensureNodeIsMutable();
+          node_.add(value);
           onChanged();
+        } else {
+          nodeBuilder_.addMessage(value);
         }
         return this;
       }
       /**
        * <pre>
-       * PBConstraint
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public Builder clearPbConstraint() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        pbConstraint_ = null;
-        if (pbConstraintBuilder_ != null) {
-          pbConstraintBuilder_.dispose();
-          pbConstraintBuilder_ = null;
+      public Builder addNode(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula value) {
+        if (nodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeIsMutable();
+          node_.add(index, value);
+          onChanged();
+        } else {
+          nodeBuilder_.addMessage(index, value);
         }
-        onChanged();
         return this;
       }
       /**
        * <pre>
-       * PBConstraint
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder getPbConstraintBuilder() {
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return getPbConstraintFieldBuilder().getBuilder();
+      public Builder addNode(
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder builderForValue) {
+        if (nodeBuilder_ == null) {
+          ensureNodeIsMutable();
+          node_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nodeBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
       /**
        * <pre>
-       * PBConstraint
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder getPbConstraintOrBuilder() {
-        if (pbConstraintBuilder_ != null) {
-          return pbConstraintBuilder_.getMessageOrBuilder();
+      public Builder addNode(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder builderForValue) {
+        if (nodeBuilder_ == null) {
+          ensureNodeIsMutable();
+          node_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          return pbConstraint_ == null ?
-              com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance() : pbConstraint_;
+          nodeBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
       /**
        * <pre>
-       * PBConstraint
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder> 
-          getPbConstraintFieldBuilder() {
-        if (pbConstraintBuilder_ == null) {
-          pbConstraintBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder>(
-                  getPbConstraint(),
-                  getParentForChildren(),
-                  isClean());
-          pbConstraint_ = null;
+      public Builder addAllNode(
+          java.lang.Iterable<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula> values) {
+        if (nodeBuilder_ == null) {
+          ensureNodeIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, node_);
+          onChanged();
+        } else {
+          nodeBuilder_.addAllMessages(values);
         }
-        return pbConstraintBuilder_;
+        return this;
       }
-
-      private com.google.protobuf.Internal.IntList operand_ = emptyIntList();
-      private void ensureOperandIsMutable() {
-        if (!operand_.isModifiable()) {
-          operand_ = makeMutableCopy(operand_);
+      /**
+       * <pre>
+       * node table in topological order, the ID of a node is its position
+       * </pre>
+       *
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
+       */
+      public Builder clearNode() {
+        if (nodeBuilder_ == null) {
+          node_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          nodeBuilder_.clear();
         }
-        bitField0_ |= 0x00000010;
+        return this;
       }
       /**
        * <pre>
-       * not = 1, impl/equiv = 2, and/or = n
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>repeated int32 operand = 5;</code>
-       * @return A list containing the operand.
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public java.util.List<java.lang.Integer>
-          getOperandList() {
-        operand_.makeImmutable();
-        return operand_;
+      public Builder removeNode(int index) {
+        if (nodeBuilder_ == null) {
+          ensureNodeIsMutable();
+          node_.remove(index);
+          onChanged();
+        } else {
+          nodeBuilder_.remove(index);
+        }
+        return this;
       }
       /**
        * <pre>
-       * not = 1, impl/equiv = 2, and/or = n
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>repeated int32 operand = 5;</code>
-       * @return The count of operand.
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public int getOperandCount() {
-        return operand_.size();
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder getNodeBuilder(
+          int index) {
+        return getNodeFieldBuilder().getBuilder(index);
       }
       /**
        * <pre>
-       * not = 1, impl/equiv = 2, and/or = n
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>repeated int32 operand = 5;</code>
-       * @param index The index of the element to return.
-       * @return The operand at the given index.
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public int getOperand(int index) {
-        return operand_.getInt(index);
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder getNodeOrBuilder(
+          int index) {
+        if (nodeBuilder_ == null) {
+          return node_.get(index);  } else {
+          return nodeBuilder_.getMessageOrBuilder(index);
+        }
       }
       /**
        * <pre>
-       * not = 1, impl/equiv = 2, and/or = n
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>repeated int32 operand = 5;</code>
-       * @param index The index to set the value at.
-       * @param value The operand to set.
-       * @return This builder for chaining.
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public Builder setOperand(
-          int index, int value) {
-
-        ensureOperandIsMutable();
-        operand_.setInt(index, value);
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
+      public java.util.List<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> 
+           getNodeOrBuilderList() {
+        if (nodeBuilder_ != null) {
+          return nodeBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(node_);
+        }
       }
       /**
        * <pre>
-       * not = 1, impl/equiv = 2, and/or = n
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>repeated int32 operand = 5;</code>
-       * @param value The operand to add.
-       * @return This builder for chaining.
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public Builder addOperand(int value) {
-
-        ensureOperandIsMutable();
-        operand_.addInt(value);
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder addNodeBuilder() {
+        return getNodeFieldBuilder().addBuilder(
+            com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.getDefaultInstance());
       }
       /**
        * <pre>
-       * not = 1, impl/equiv = 2, and/or = n
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>repeated int32 operand = 5;</code>
-       * @param values The operand to add.
-       * @return This builder for chaining.
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public Builder addAllOperand(
-          java.lang.Iterable<? extends java.lang.Integer> values) {
-        ensureOperandIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, operand_);
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder addNodeBuilder(
+          int index) {
+        return getNodeFieldBuilder().addBuilder(
+            index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.getDefaultInstance());
       }
       /**
        * <pre>
-       * not = 1, impl/equiv = 2, and/or = n
+       * node table in topological order, the ID of a node is its position
        * </pre>
        *
-       * <code>repeated int32 operand = 5;</code>
-       * @return This builder for chaining.
+       * <code>repeated .formulas.PBInternalFormula node = 3;</code>
        */
-      public Builder clearOperand() {
-        operand_ = emptyIntList();
-        bitField0_ = (bitField0_ & ~0x00000010);
-        onChanged();
-        return this;
+      public java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder> 
+           getNodeBuilderList() {
+        return getNodeFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder> 
+          getNodeFieldBuilder() {
+        if (nodeBuilder_ == null) {
+          nodeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder>(
+                  node_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          node_ = null;
+        }
+        return nodeBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:formulas.PBInternalFormula)
+      // @@protoc_insertion_point(builder_scope:formulas.PBFormulaMapping)
     }
 
-    // @@protoc_insertion_point(class_scope:formulas.PBInternalFormula)
-    private static final com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:formulas.PBFormulaMapping)
+    private static final com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula();
+      DEFAULT_INSTANCE = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping();
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getDefaultInstance() {
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PBInternalFormula>
-        PARSER = new com.google.protobuf.AbstractParser<PBInternalFormula>() {
+    private static final com.google.protobuf.Parser<PBFormulaMapping>
+        PARSER = new com.google.protobuf.AbstractParser<PBFormulaMapping>() {
       @java.lang.Override
-      public PBInternalFormula parsePartialFrom(
+      public PBFormulaMapping parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3155,108 +3663,259 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
     };
 
-    public static com.google.protobuf.Parser<PBInternalFormula> parser() {
+    public static com.google.protobuf.Parser<PBFormulaMapping> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PBInternalFormula> getParserForType() {
+    public com.google.protobuf.Parser<PBFormulaMapping> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getDefaultInstanceForType() {
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PBInternalPseudoBooleanConstraintOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:formulas.PBInternalPseudoBooleanConstraint)
+  public interface PBInternalFormulaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:formulas.PBInternalFormula)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.formulas.PBComparison comparator = 1;</code>
-     * @return The enum numeric value on the wire for comparator.
+     * <code>optional .formulas.PBFormulaType type = 1;</code>
+     * @return Whether the type field is set.
      */
-    int getComparatorValue();
+    boolean hasType();
     /**
-     * <code>.formulas.PBComparison comparator = 1;</code>
-     * @return The comparator.
+     * <code>optional .formulas.PBFormulaType type = 1;</code>
+     * @return The enum numeric value on the wire for type.
      */
-    com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison getComparator();
+    int getTypeValue();
+    /**
+     * <code>optional .formulas.PBFormulaType type = 1;</code>
+     * @return The type.
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType getType();
 
     /**
-     * <code>int64 rhs = 2;</code>
-     * @return The rhs.
+     * <pre>
+     * constants
+     * </pre>
+     *
+     * <code>optional bool value = 2;</code>
+     * @return Whether the value field is set.
      */
-    long getRhs();
+    boolean hasValue();
+    /**
+     * <pre>
+     * constants
+     * </pre>
+     *
+     * <code>optional bool value = 2;</code>
+     * @return The value.
+     */
+    boolean getValue();
 
     /**
-     * <code>repeated int64 coefficient = 3;</code>
-     * @return A list containing the coefficient.
+     * <pre>
+     * literal (together with value), legacy encoding
+     * </pre>
+     *
+     * <code>optional string variable = 3;</code>
+     * @return Whether the variable field is set.
      */
-    java.util.List<java.lang.Long> getCoefficientList();
+    boolean hasVariable();
     /**
-     * <code>repeated int64 coefficient = 3;</code>
-     * @return The count of coefficient.
+     * <pre>
+     * literal (together with value), legacy encoding
+     * </pre>
+     *
+     * <code>optional string variable = 3;</code>
+     * @return The variable.
      */
-    int getCoefficientCount();
+    java.lang.String getVariable();
     /**
-     * <code>repeated int64 coefficient = 3;</code>
+     * <pre>
+     * literal (together with value), legacy encoding
+     * </pre>
+     *
+     * <code>optional string variable = 3;</code>
+     * @return The bytes for variable.
+     */
+    com.google.protobuf.ByteString
+        getVariableBytes();
+
+    /**
+     * <pre>
+     * PBConstraint
+     * </pre>
+     *
+     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+     * @return Whether the pbConstraint field is set.
+     */
+    boolean hasPbConstraint();
+    /**
+     * <pre>
+     * PBConstraint
+     * </pre>
+     *
+     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+     * @return The pbConstraint.
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getPbConstraint();
+    /**
+     * <pre>
+     * PBConstraint
+     * </pre>
+     *
+     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder getPbConstraintOrBuilder();
+
+    /**
+     * <pre>
+     * not = 1, impl/equiv = 2, and/or = n
+     * </pre>
+     *
+     * <code>repeated int32 operand = 5;</code>
+     * @return A list containing the operand.
+     */
+    java.util.List<java.lang.Integer> getOperandList();
+    /**
+     * <pre>
+     * not = 1, impl/equiv = 2, and/or = n
+     * </pre>
+     *
+     * <code>repeated int32 operand = 5;</code>
+     * @return The count of operand.
+     */
+    int getOperandCount();
+    /**
+     * <pre>
+     * not = 1, impl/equiv = 2, and/or = n
+     * </pre>
+     *
+     * <code>repeated int32 operand = 5;</code>
      * @param index The index of the element to return.
-     * @return The coefficient at the given index.
+     * @return The operand at the given index.
      */
-    long getCoefficient(int index);
+    int getOperand(int index);
 
     /**
      * <pre>
-     * including phase with/out `-`
+     * literal as index into the variable table (negative = negative phase)
      * </pre>
      *
-     * <code>repeated string literal = 4;</code>
-     * @return A list containing the literal.
+     * <code>optional sint32 literal = 6;</code>
+     * @return Whether the literal field is set.
      */
-    java.util.List<java.lang.String>
-        getLiteralList();
+    boolean hasLiteral();
     /**
      * <pre>
-     * including phase with/out `-`
+     * literal as index into the variable table (negative = negative phase)
      * </pre>
      *
-     * <code>repeated string literal = 4;</code>
-     * @return The count of literal.
+     * <code>optional sint32 literal = 6;</code>
+     * @return The literal.
      */
-    int getLiteralCount();
+    int getLiteral();
+
     /**
      * <pre>
-     * including phase with/out `-`
+     * and/or operands as differences to the previous operand (the first to 0), alternative to operand
      * </pre>
      *
-     * <code>repeated string literal = 4;</code>
+     * <code>repeated sint32 operandDelta = 7;</code>
+     * @return A list containing the operandDelta.
+     */
+    java.util.List<java.lang.Integer> getOperandDeltaList();
+    /**
+     * <pre>
+     * and/or operands as differences to the previous operand (the first to 0), alternative to operand
+     * </pre>
+     *
+     * <code>repeated sint32 operandDelta = 7;</code>
+     * @return The count of operandDelta.
+     */
+    int getOperandDeltaCount();
+    /**
+     * <pre>
+     * and/or operands as differences to the previous operand (the first to 0), alternative to operand
+     * </pre>
+     *
+     * <code>repeated sint32 operandDelta = 7;</code>
      * @param index The index of the element to return.
-     * @return The literal at the given index.
+     * @return The operandDelta at the given index.
      */
-    java.lang.String getLiteral(int index);
+    int getOperandDelta(int index);
+
     /**
      * <pre>
-     * including phase with/out `-`
+     * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
      * </pre>
      *
-     * <code>repeated string literal = 4;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the literal at the given index.
+     * <code>repeated sint32 clauseLiteral = 8;</code>
+     * @return A list containing the clauseLiteral.
      */
-    com.google.protobuf.ByteString
-        getLiteralBytes(int index);
+    java.util.List<java.lang.Integer> getClauseLiteralList();
+    /**
+     * <pre>
+     * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+     * </pre>
+     *
+     * <code>repeated sint32 clauseLiteral = 8;</code>
+     * @return The count of clauseLiteral.
+     */
+    int getClauseLiteralCount();
+    /**
+     * <pre>
+     * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+     * </pre>
+     *
+     * <code>repeated sint32 clauseLiteral = 8;</code>
+     * @param index The index of the element to return.
+     * @return The clauseLiteral at the given index.
+     */
+    int getClauseLiteral(int index);
+
+    /**
+     * <pre>
+     * and: number of literals of each clause of a CNF
+     * </pre>
+     *
+     * <code>repeated int32 clauseSize = 9;</code>
+     * @return A list containing the clauseSize.
+     */
+    java.util.List<java.lang.Integer> getClauseSizeList();
+    /**
+     * <pre>
+     * and: number of literals of each clause of a CNF
+     * </pre>
+     *
+     * <code>repeated int32 clauseSize = 9;</code>
+     * @return The count of clauseSize.
+     */
+    int getClauseSizeCount();
+    /**
+     * <pre>
+     * and: number of literals of each clause of a CNF
+     * </pre>
+     *
+     * <code>repeated int32 clauseSize = 9;</code>
+     * @param index The index of the element to return.
+     * @return The clauseSize at the given index.
+     */
+    int getClauseSize(int index);
   }
   /**
-   * Protobuf type {@code formulas.PBInternalPseudoBooleanConstraint}
+   * Protobuf type {@code formulas.PBInternalFormula}
    */
-  public static final class PBInternalPseudoBooleanConstraint extends
+  public static final class PBInternalFormula extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:formulas.PBInternalPseudoBooleanConstraint)
-      PBInternalPseudoBooleanConstraintOrBuilder {
+      // @@protoc_insertion_point(message_implements:formulas.PBInternalFormula)
+      PBInternalFormulaOrBuilder {
   private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
@@ -3265,143 +3924,378 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
         /* minor= */ 27,
         /* patch= */ 1,
         /* suffix= */ "",
-        PBInternalPseudoBooleanConstraint.class.getName());
+        PBInternalFormula.class.getName());
     }
-    // Use PBInternalPseudoBooleanConstraint.newBuilder() to construct.
-    private PBInternalPseudoBooleanConstraint(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    // Use PBInternalFormula.newBuilder() to construct.
+    private PBInternalFormula(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private PBInternalPseudoBooleanConstraint() {
-      comparator_ = 0;
-      coefficient_ = emptyLongList();
-      literal_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
+    private PBInternalFormula() {
+      type_ = 0;
+      variable_ = "";
+      operand_ = emptyIntList();
+      operandDelta_ = emptyIntList();
+      clauseLiteral_ = emptyIntList();
+      clauseSize_ = emptyIntList();
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalPseudoBooleanConstraint_descriptor;
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalFormula_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalPseudoBooleanConstraint_fieldAccessorTable
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalFormula_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder.class);
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder.class);
     }
 
-    public static final int COMPARATOR_FIELD_NUMBER = 1;
-    private int comparator_ = 0;
+    private int bitField0_;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private int type_ = 0;
     /**
-     * <code>.formulas.PBComparison comparator = 1;</code>
-     * @return The enum numeric value on the wire for comparator.
+     * <code>optional .formulas.PBFormulaType type = 1;</code>
+     * @return Whether the type field is set.
      */
-    @java.lang.Override public int getComparatorValue() {
-      return comparator_;
+    @java.lang.Override public boolean hasType() {
+      return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>.formulas.PBComparison comparator = 1;</code>
-     * @return The comparator.
+     * <code>optional .formulas.PBFormulaType type = 1;</code>
+     * @return The enum numeric value on the wire for type.
      */
-    @java.lang.Override public com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison getComparator() {
-      com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison result = com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.forNumber(comparator_);
-      return result == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.UNRECOGNIZED : result;
+    @java.lang.Override public int getTypeValue() {
+      return type_;
     }
-
-    public static final int RHS_FIELD_NUMBER = 2;
-    private long rhs_ = 0L;
     /**
-     * <code>int64 rhs = 2;</code>
-     * @return The rhs.
+     * <code>optional .formulas.PBFormulaType type = 1;</code>
+     * @return The type.
      */
-    @java.lang.Override
-    public long getRhs() {
-      return rhs_;
+    @java.lang.Override public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType getType() {
+      com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType result = com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType.forNumber(type_);
+      return result == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType.UNRECOGNIZED : result;
     }
 
-    public static final int COEFFICIENT_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private com.google.protobuf.Internal.LongList coefficient_ =
-        emptyLongList();
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private boolean value_ = false;
     /**
-     * <code>repeated int64 coefficient = 3;</code>
-     * @return A list containing the coefficient.
+     * <pre>
+     * constants
+     * </pre>
+     *
+     * <code>optional bool value = 2;</code>
+     * @return Whether the value field is set.
      */
     @java.lang.Override
-    public java.util.List<java.lang.Long>
-        getCoefficientList() {
-      return coefficient_;
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) != 0);
     }
     /**
-     * <code>repeated int64 coefficient = 3;</code>
-     * @return The count of coefficient.
+     * <pre>
+     * constants
+     * </pre>
+     *
+     * <code>optional bool value = 2;</code>
+     * @return The value.
      */
-    public int getCoefficientCount() {
-      return coefficient_.size();
+    @java.lang.Override
+    public boolean getValue() {
+      return value_;
     }
+
+    public static final int VARIABLE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object variable_ = "";
     /**
-     * <code>repeated int64 coefficient = 3;</code>
-     * @param index The index of the element to return.
-     * @return The coefficient at the given index.
+     * <pre>
+     * literal (together with value), legacy encoding
+     * </pre>
+     *
+     * <code>optional string variable = 3;</code>
+     * @return Whether the variable field is set.
      */
-    public long getCoefficient(int index) {
-      return coefficient_.getLong(index);
+    @java.lang.Override
+    public boolean hasVariable() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * literal (together with value), legacy encoding
+     * </pre>
+     *
+     * <code>optional string variable = 3;</code>
+     * @return The variable.
+     */
+    @java.lang.Override
+    public java.lang.String getVariable() {
+      java.lang.Object ref = variable_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        variable_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * literal (together with value), legacy encoding
+     * </pre>
+     *
+     * <code>optional string variable = 3;</code>
+     * @return The bytes for variable.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVariableBytes() {
+      java.lang.Object ref = variable_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        variable_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
-    private int coefficientMemoizedSerializedSize = -1;
 
-    public static final int LITERAL_FIELD_NUMBER = 4;
+    public static final int PBCONSTRAINT_FIELD_NUMBER = 4;
+    private com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint pbConstraint_;
+    /**
+     * <pre>
+     * PBConstraint
+     * </pre>
+     *
+     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+     * @return Whether the pbConstraint field is set.
+     */
+    @java.lang.Override
+    public boolean hasPbConstraint() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * PBConstraint
+     * </pre>
+     *
+     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+     * @return The pbConstraint.
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getPbConstraint() {
+      return pbConstraint_ == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance() : pbConstraint_;
+    }
+    /**
+     * <pre>
+     * PBConstraint
+     * </pre>
+     *
+     * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder getPbConstraintOrBuilder() {
+      return pbConstraint_ == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance() : pbConstraint_;
+    }
+
+    public static final int OPERAND_FIELD_NUMBER = 5;
     @SuppressWarnings("serial")
-    private com.google.protobuf.LazyStringArrayList literal_ =
-        com.google.protobuf.LazyStringArrayList.emptyList();
+    private com.google.protobuf.Internal.IntList operand_ =
+        emptyIntList();
     /**
      * <pre>
-     * including phase with/out `-`
+     * not = 1, impl/equiv = 2, and/or = n
      * </pre>
      *
-     * <code>repeated string literal = 4;</code>
-     * @return A list containing the literal.
+     * <code>repeated int32 operand = 5;</code>
+     * @return A list containing the operand.
      */
-    public com.google.protobuf.ProtocolStringList
-        getLiteralList() {
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getOperandList() {
+      return operand_;
+    }
+    /**
+     * <pre>
+     * not = 1, impl/equiv = 2, and/or = n
+     * </pre>
+     *
+     * <code>repeated int32 operand = 5;</code>
+     * @return The count of operand.
+     */
+    public int getOperandCount() {
+      return operand_.size();
+    }
+    /**
+     * <pre>
+     * not = 1, impl/equiv = 2, and/or = n
+     * </pre>
+     *
+     * <code>repeated int32 operand = 5;</code>
+     * @param index The index of the element to return.
+     * @return The operand at the given index.
+     */
+    public int getOperand(int index) {
+      return operand_.getInt(index);
+    }
+    private int operandMemoizedSerializedSize = -1;
+
+    public static final int LITERAL_FIELD_NUMBER = 6;
+    private int literal_ = 0;
+    /**
+     * <pre>
+     * literal as index into the variable table (negative = negative phase)
+     * </pre>
+     *
+     * <code>optional sint32 literal = 6;</code>
+     * @return Whether the literal field is set.
+     */
+    @java.lang.Override
+    public boolean hasLiteral() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <pre>
+     * literal as index into the variable table (negative = negative phase)
+     * </pre>
+     *
+     * <code>optional sint32 literal = 6;</code>
+     * @return The literal.
+     */
+    @java.lang.Override
+    public int getLiteral() {
       return literal_;
     }
+
+    public static final int OPERANDDELTA_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList operandDelta_ =
+        emptyIntList();
     /**
      * <pre>
-     * including phase with/out `-`
+     * and/or operands as differences to the previous operand (the first to 0), alternative to operand
      * </pre>
      *
-     * <code>repeated string literal = 4;</code>
-     * @return The count of literal.
+     * <code>repeated sint32 operandDelta = 7;</code>
+     * @return A list containing the operandDelta.
      */
-    public int getLiteralCount() {
-      return literal_.size();
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getOperandDeltaList() {
+      return operandDelta_;
     }
     /**
      * <pre>
-     * including phase with/out `-`
+     * and/or operands as differences to the previous operand (the first to 0), alternative to operand
      * </pre>
      *
-     * <code>repeated string literal = 4;</code>
+     * <code>repeated sint32 operandDelta = 7;</code>
+     * @return The count of operandDelta.
+     */
+    public int getOperandDeltaCount() {
+      return operandDelta_.size();
+    }
+    /**
+     * <pre>
+     * and/or operands as differences to the previous operand (the first to 0), alternative to operand
+     * </pre>
+     *
+     * <code>repeated sint32 operandDelta = 7;</code>
      * @param index The index of the element to return.
-     * @return The literal at the given index.
+     * @return The operandDelta at the given index.
      */
-    public java.lang.String getLiteral(int index) {
-      return literal_.get(index);
+    public int getOperandDelta(int index) {
+      return operandDelta_.getInt(index);
     }
+    private int operandDeltaMemoizedSerializedSize = -1;
+
+    public static final int CLAUSELITERAL_FIELD_NUMBER = 8;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList clauseLiteral_ =
+        emptyIntList();
     /**
      * <pre>
-     * including phase with/out `-`
+     * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
      * </pre>
      *
-     * <code>repeated string literal = 4;</code>
-     * @param index The index of the value to return.
-     * @return The bytes of the literal at the given index.
+     * <code>repeated sint32 clauseLiteral = 8;</code>
+     * @return A list containing the clauseLiteral.
      */
-    public com.google.protobuf.ByteString
-        getLiteralBytes(int index) {
-      return literal_.getByteString(index);
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getClauseLiteralList() {
+      return clauseLiteral_;
+    }
+    /**
+     * <pre>
+     * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+     * </pre>
+     *
+     * <code>repeated sint32 clauseLiteral = 8;</code>
+     * @return The count of clauseLiteral.
+     */
+    public int getClauseLiteralCount() {
+      return clauseLiteral_.size();
+    }
+    /**
+     * <pre>
+     * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+     * </pre>
+     *
+     * <code>repeated sint32 clauseLiteral = 8;</code>
+     * @param index The index of the element to return.
+     * @return The clauseLiteral at the given index.
+     */
+    public int getClauseLiteral(int index) {
+      return clauseLiteral_.getInt(index);
+    }
+    private int clauseLiteralMemoizedSerializedSize = -1;
+
+    public static final int CLAUSESIZE_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList clauseSize_ =
+        emptyIntList();
+    /**
+     * <pre>
+     * and: number of literals of each clause of a CNF
+     * </pre>
+     *
+     * <code>repeated int32 clauseSize = 9;</code>
+     * @return A list containing the clauseSize.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getClauseSizeList() {
+      return clauseSize_;
+    }
+    /**
+     * <pre>
+     * and: number of literals of each clause of a CNF
+     * </pre>
+     *
+     * <code>repeated int32 clauseSize = 9;</code>
+     * @return The count of clauseSize.
+     */
+    public int getClauseSizeCount() {
+      return clauseSize_.size();
+    }
+    /**
+     * <pre>
+     * and: number of literals of each clause of a CNF
+     * </pre>
+     *
+     * <code>repeated int32 clauseSize = 9;</code>
+     * @param index The index of the element to return.
+     * @return The clauseSize at the given index.
+     */
+    public int getClauseSize(int index) {
+      return clauseSize_.getInt(index);
     }
+    private int clauseSizeMemoizedSerializedSize = -1;
 
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
@@ -3418,23 +4312,50 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (comparator_ != com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.EQ.getNumber()) {
-        output.writeEnum(1, comparator_);
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeEnum(1, type_);
       }
-      if (rhs_ != 0L) {
-        output.writeInt64(2, rhs_);
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBool(2, value_);
       }
-      if (getCoefficientList().size() > 0) {
-        output.writeUInt32NoTag(26);
-        output.writeUInt32NoTag(coefficientMemoizedSerializedSize);
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, variable_);
       }
-      for (int i = 0; i < coefficient_.size(); i++) {
-        output.writeInt64NoTag(coefficient_.getLong(i));
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeMessage(4, getPbConstraint());
       }
-      for (int i = 0; i < literal_.size(); i++) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 4, literal_.getRaw(i));
+      if (getOperandList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(operandMemoizedSerializedSize);
       }
-      getUnknownFields().writeTo(output);
+      for (int i = 0; i < operand_.size(); i++) {
+        output.writeInt32NoTag(operand_.getInt(i));
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeSInt32(6, literal_);
+      }
+      if (getOperandDeltaList().size() > 0) {
+        output.writeUInt32NoTag(58);
+        output.writeUInt32NoTag(operandDeltaMemoizedSerializedSize);
+      }
+      for (int i = 0; i < operandDelta_.size(); i++) {
+        output.writeSInt32NoTag(operandDelta_.getInt(i));
+      }
+      if (getClauseLiteralList().size() > 0) {
+        output.writeUInt32NoTag(66);
+        output.writeUInt32NoTag(clauseLiteralMemoizedSerializedSize);
+      }
+      for (int i = 0; i < clauseLiteral_.size(); i++) {
+        output.writeSInt32NoTag(clauseLiteral_.getInt(i));
+      }
+      if (getClauseSizeList().size() > 0) {
+        output.writeUInt32NoTag(74);
+        output.writeUInt32NoTag(clauseSizeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < clauseSize_.size(); i++) {
+        output.writeInt32NoTag(clauseSize_.getInt(i));
+      }
+      getUnknownFields().writeTo(output);
     }
 
     @java.lang.Override
@@ -3443,35 +4364,80 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       if (size != -1) return size;
 
       size = 0;
-      if (comparator_ != com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.EQ.getNumber()) {
+      if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(1, comparator_);
+          .computeEnumSize(1, type_);
       }
-      if (rhs_ != 0L) {
+      if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(2, rhs_);
+          .computeBoolSize(2, value_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, variable_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getPbConstraint());
       }
       {
         int dataSize = 0;
-        for (int i = 0; i < coefficient_.size(); i++) {
+        for (int i = 0; i < operand_.size(); i++) {
           dataSize += com.google.protobuf.CodedOutputStream
-            .computeInt64SizeNoTag(coefficient_.getLong(i));
+            .computeInt32SizeNoTag(operand_.getInt(i));
         }
         size += dataSize;
-        if (!getCoefficientList().isEmpty()) {
+        if (!getOperandList().isEmpty()) {
           size += 1;
           size += com.google.protobuf.CodedOutputStream
               .computeInt32SizeNoTag(dataSize);
         }
-        coefficientMemoizedSerializedSize = dataSize;
+        operandMemoizedSerializedSize = dataSize;
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt32Size(6, literal_);
       }
       {
         int dataSize = 0;
-        for (int i = 0; i < literal_.size(); i++) {
-          dataSize += computeStringSizeNoTag(literal_.getRaw(i));
+        for (int i = 0; i < operandDelta_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(operandDelta_.getInt(i));
         }
         size += dataSize;
-        size += 1 * getLiteralList().size();
+        if (!getOperandDeltaList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        operandDeltaMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < clauseLiteral_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(clauseLiteral_.getInt(i));
+        }
+        size += dataSize;
+        if (!getClauseLiteralList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        clauseLiteralMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < clauseSize_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(clauseSize_.getInt(i));
+        }
+        size += dataSize;
+        if (!getClauseSizeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        clauseSizeMemoizedSerializedSize = dataSize;
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -3483,18 +4449,43 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint)) {
+      if (!(obj instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula)) {
         return super.equals(obj);
       }
-      com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint other = (com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint) obj;
+      com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula other = (com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) obj;
 
-      if (comparator_ != other.comparator_) return false;
-      if (getRhs()
-          != other.getRhs()) return false;
-      if (!getCoefficientList()
-          .equals(other.getCoefficientList())) return false;
-      if (!getLiteralList()
-          .equals(other.getLiteralList())) return false;
+      if (hasType() != other.hasType()) return false;
+      if (hasType()) {
+        if (type_ != other.type_) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (getValue()
+            != other.getValue()) return false;
+      }
+      if (hasVariable() != other.hasVariable()) return false;
+      if (hasVariable()) {
+        if (!getVariable()
+            .equals(other.getVariable())) return false;
+      }
+      if (hasPbConstraint() != other.hasPbConstraint()) return false;
+      if (hasPbConstraint()) {
+        if (!getPbConstraint()
+            .equals(other.getPbConstraint())) return false;
+      }
+      if (!getOperandList()
+          .equals(other.getOperandList())) return false;
+      if (hasLiteral() != other.hasLiteral()) return false;
+      if (hasLiteral()) {
+        if (getLiteral()
+            != other.getLiteral()) return false;
+      }
+      if (!getOperandDeltaList()
+          .equals(other.getOperandDeltaList())) return false;
+      if (!getClauseLiteralList()
+          .equals(other.getClauseLiteralList())) return false;
+      if (!getClauseSizeList()
+          .equals(other.getClauseSizeList())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -3506,62 +4497,86 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + COMPARATOR_FIELD_NUMBER;
-      hash = (53 * hash) + comparator_;
-      hash = (37 * hash) + RHS_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getRhs());
-      if (getCoefficientCount() > 0) {
-        hash = (37 * hash) + COEFFICIENT_FIELD_NUMBER;
-        hash = (53 * hash) + getCoefficientList().hashCode();
+      if (hasType()) {
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + type_;
       }
-      if (getLiteralCount() > 0) {
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getValue());
+      }
+      if (hasVariable()) {
+        hash = (37 * hash) + VARIABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getVariable().hashCode();
+      }
+      if (hasPbConstraint()) {
+        hash = (37 * hash) + PBCONSTRAINT_FIELD_NUMBER;
+        hash = (53 * hash) + getPbConstraint().hashCode();
+      }
+      if (getOperandCount() > 0) {
+        hash = (37 * hash) + OPERAND_FIELD_NUMBER;
+        hash = (53 * hash) + getOperandList().hashCode();
+      }
+      if (hasLiteral()) {
         hash = (37 * hash) + LITERAL_FIELD_NUMBER;
-        hash = (53 * hash) + getLiteralList().hashCode();
+        hash = (53 * hash) + getLiteral();
+      }
+      if (getOperandDeltaCount() > 0) {
+        hash = (37 * hash) + OPERANDDELTA_FIELD_NUMBER;
+        hash = (53 * hash) + getOperandDeltaList().hashCode();
+      }
+      if (getClauseLiteralCount() > 0) {
+        hash = (37 * hash) + CLAUSELITERAL_FIELD_NUMBER;
+        hash = (53 * hash) + getClauseLiteralList().hashCode();
+      }
+      if (getClauseSizeCount() > 0) {
+        hash = (37 * hash) + CLAUSESIZE_FIELD_NUMBER;
+        hash = (53 * hash) + getClauseSizeList().hashCode();
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(byte[] data)
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(java.io.InputStream input)
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3569,26 +4584,26 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseDelimitedFrom(java.io.InputStream input)
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseDelimitedFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3601,7 +4616,7 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint prototype) {
+    public static Builder newBuilder(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3617,61 +4632,75 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       return builder;
     }
     /**
-     * Protobuf type {@code formulas.PBInternalPseudoBooleanConstraint}
+     * Protobuf type {@code formulas.PBInternalFormula}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:formulas.PBInternalPseudoBooleanConstraint)
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder {
+        // @@protoc_insertion_point(builder_implements:formulas.PBInternalFormula)
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormulaOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalPseudoBooleanConstraint_descriptor;
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalFormula_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalPseudoBooleanConstraint_fieldAccessorTable
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalFormula_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder.class);
+                com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.Builder.class);
       }
 
-      // Construct using com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.newBuilder()
+      // Construct using com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.newBuilder()
       private Builder() {
-
+        maybeForceBuilderInitialization();
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
-
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          getPbConstraintFieldBuilder();
+        }
       }
       @java.lang.Override
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
-        comparator_ = 0;
-        rhs_ = 0L;
-        coefficient_ = emptyLongList();
-        literal_ =
-            com.google.protobuf.LazyStringArrayList.emptyList();
+        type_ = 0;
+        value_ = false;
+        variable_ = "";
+        pbConstraint_ = null;
+        if (pbConstraintBuilder_ != null) {
+          pbConstraintBuilder_.dispose();
+          pbConstraintBuilder_ = null;
+        }
+        operand_ = emptyIntList();
+        literal_ = 0;
+        operandDelta_ = emptyIntList();
+        clauseLiteral_ = emptyIntList();
+        clauseSize_ = emptyIntList();
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalPseudoBooleanConstraint_descriptor;
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalFormula_descriptor;
       }
 
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getDefaultInstanceForType() {
-        return com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance();
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getDefaultInstanceForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint build() {
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint result = buildPartial();
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula build() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3679,67 +4708,127 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
 
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint buildPartial() {
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint result = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint(this);
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula buildPartial() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula result = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint result) {
+      private void buildPartial0(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula result) {
         int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.comparator_ = comparator_;
+          result.type_ = type_;
+          to_bitField0_ |= 0x00000001;
         }
         if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.rhs_ = rhs_;
+          result.value_ = value_;
+          to_bitField0_ |= 0x00000002;
         }
         if (((from_bitField0_ & 0x00000004) != 0)) {
-          coefficient_.makeImmutable();
-          result.coefficient_ = coefficient_;
+          result.variable_ = variable_;
+          to_bitField0_ |= 0x00000004;
         }
         if (((from_bitField0_ & 0x00000008) != 0)) {
-          literal_.makeImmutable();
+          result.pbConstraint_ = pbConstraintBuilder_ == null
+              ? pbConstraint_
+              : pbConstraintBuilder_.build();
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          operand_.makeImmutable();
+          result.operand_ = operand_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
           result.literal_ = literal_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          operandDelta_.makeImmutable();
+          result.operandDelta_ = operandDelta_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          clauseLiteral_.makeImmutable();
+          result.clauseLiteral_ = clauseLiteral_;
         }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          clauseSize_.makeImmutable();
+          result.clauseSize_ = clauseSize_;
+        }
+        result.bitField0_ |= to_bitField0_;
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint) {
-          return mergeFrom((com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint)other);
+        if (other instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula) {
+          return mergeFrom((com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint other) {
-        if (other == com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance()) return this;
-        if (other.comparator_ != 0) {
-          setComparatorValue(other.getComparatorValue());
+      public Builder mergeFrom(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula other) {
+        if (other == com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula.getDefaultInstance()) return this;
+        if (other.hasType()) {
+          setType(other.getType());
         }
-        if (other.getRhs() != 0L) {
-          setRhs(other.getRhs());
+        if (other.hasValue()) {
+          setValue(other.getValue());
         }
-        if (!other.coefficient_.isEmpty()) {
-          if (coefficient_.isEmpty()) {
-            coefficient_ = other.coefficient_;
-            coefficient_.makeImmutable();
-            bitField0_ |= 0x00000004;
-          } else {
-            ensureCoefficientIsMutable();
-            coefficient_.addAll(other.coefficient_);
+        if (other.hasVariable()) {
+          variable_ = other.variable_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasPbConstraint()) {
+          mergePbConstraint(other.getPbConstraint());
+        }
+        if (!other.operand_.isEmpty()) {
+          if (operand_.isEmpty()) {
+            operand_ = other.operand_;
+            operand_.makeImmutable();
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureOperandIsMutable();
+            operand_.addAll(other.operand_);
           }
           onChanged();
         }
-        if (!other.literal_.isEmpty()) {
-          if (literal_.isEmpty()) {
-            literal_ = other.literal_;
-            bitField0_ |= 0x00000008;
+        if (other.hasLiteral()) {
+          setLiteral(other.getLiteral());
+        }
+        if (!other.operandDelta_.isEmpty()) {
+          if (operandDelta_.isEmpty()) {
+            operandDelta_ = other.operandDelta_;
+            operandDelta_.makeImmutable();
+            bitField0_ |= 0x00000040;
           } else {
-            ensureLiteralIsMutable();
-            literal_.addAll(other.literal_);
+            ensureOperandDeltaIsMutable();
+            operandDelta_.addAll(other.operandDelta_);
+          }
+          onChanged();
+        }
+        if (!other.clauseLiteral_.isEmpty()) {
+          if (clauseLiteral_.isEmpty()) {
+            clauseLiteral_ = other.clauseLiteral_;
+            clauseLiteral_.makeImmutable();
+            bitField0_ |= 0x00000080;
+          } else {
+            ensureClauseLiteralIsMutable();
+            clauseLiteral_.addAll(other.clauseLiteral_);
+          }
+          onChanged();
+        }
+        if (!other.clauseSize_.isEmpty()) {
+          if (clauseSize_.isEmpty()) {
+            clauseSize_ = other.clauseSize_;
+            clauseSize_.makeImmutable();
+            bitField0_ |= 0x00000100;
+          } else {
+            ensureClauseSizeIsMutable();
+            clauseSize_.addAll(other.clauseSize_);
           }
           onChanged();
         }
@@ -3770,37 +4859,96 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
                 done = true;
                 break;
               case 8: {
-                comparator_ = input.readEnum();
+                type_ = input.readEnum();
                 bitField0_ |= 0x00000001;
                 break;
               } // case 8
               case 16: {
-                rhs_ = input.readInt64();
+                value_ = input.readBool();
                 bitField0_ |= 0x00000002;
                 break;
               } // case 16
-              case 24: {
-                long v = input.readInt64();
-                ensureCoefficientIsMutable();
-                coefficient_.addLong(v);
-                break;
-              } // case 24
               case 26: {
+                variable_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                input.readMessage(
+                    getPbConstraintFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                int v = input.readInt32();
+                ensureOperandIsMutable();
+                operand_.addInt(v);
+                break;
+              } // case 40
+              case 42: {
                 int length = input.readRawVarint32();
                 int limit = input.pushLimit(length);
-                ensureCoefficientIsMutable();
+                ensureOperandIsMutable();
                 while (input.getBytesUntilLimit() > 0) {
-                  coefficient_.addLong(input.readInt64());
+                  operand_.addInt(input.readInt32());
                 }
                 input.popLimit(limit);
                 break;
-              } // case 26
-              case 34: {
-                java.lang.String s = input.readStringRequireUtf8();
-                ensureLiteralIsMutable();
-                literal_.add(s);
+              } // case 42
+              case 48: {
+                literal_ = input.readSInt32();
+                bitField0_ |= 0x00000020;
                 break;
-              } // case 34
+              } // case 48
+              case 56: {
+                int v = input.readSInt32();
+                ensureOperandDeltaIsMutable();
+                operandDelta_.addInt(v);
+                break;
+              } // case 56
+              case 58: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureOperandDeltaIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  operandDelta_.addInt(input.readSInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 58
+              case 64: {
+                int v = input.readSInt32();
+                ensureClauseLiteralIsMutable();
+                clauseLiteral_.addInt(v);
+                break;
+              } // case 64
+              case 66: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureClauseLiteralIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  clauseLiteral_.addInt(input.readSInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 66
+              case 72: {
+                int v = input.readInt32();
+                ensureClauseSizeIsMutable();
+                clauseSize_.addInt(v);
+                break;
+              } // case 72
+              case 74: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureClauseSizeIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  clauseSize_.addInt(input.readInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 74
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -3818,339 +4966,5530 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
       private int bitField0_;
 
-      private int comparator_ = 0;
+      private int type_ = 0;
       /**
-       * <code>.formulas.PBComparison comparator = 1;</code>
-       * @return The enum numeric value on the wire for comparator.
+       * <code>optional .formulas.PBFormulaType type = 1;</code>
+       * @return Whether the type field is set.
        */
-      @java.lang.Override public int getComparatorValue() {
-        return comparator_;
+      @java.lang.Override public boolean hasType() {
+        return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>.formulas.PBComparison comparator = 1;</code>
-       * @param value The enum numeric value on the wire for comparator to set.
+       * <code>optional .formulas.PBFormulaType type = 1;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>optional .formulas.PBFormulaType type = 1;</code>
+       * @param value The enum numeric value on the wire for type to set.
        * @return This builder for chaining.
        */
-      public Builder setComparatorValue(int value) {
-        comparator_ = value;
+      public Builder setTypeValue(int value) {
+        type_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
       /**
-       * <code>.formulas.PBComparison comparator = 1;</code>
-       * @return The comparator.
+       * <code>optional .formulas.PBFormulaType type = 1;</code>
+       * @return The type.
        */
       @java.lang.Override
-      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison getComparator() {
-        com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison result = com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.forNumber(comparator_);
-        return result == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.UNRECOGNIZED : result;
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType getType() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType result = com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType.forNumber(type_);
+        return result == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType.UNRECOGNIZED : result;
       }
       /**
-       * <code>.formulas.PBComparison comparator = 1;</code>
-       * @param value The comparator to set.
+       * <code>optional .formulas.PBFormulaType type = 1;</code>
+       * @param value The type to set.
        * @return This builder for chaining.
        */
-      public Builder setComparator(com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison value) {
+      public Builder setType(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType value) {
         if (value == null) {
           throw new NullPointerException();
         }
         bitField0_ |= 0x00000001;
-        comparator_ = value.getNumber();
+        type_ = value.getNumber();
         onChanged();
         return this;
       }
       /**
-       * <code>.formulas.PBComparison comparator = 1;</code>
+       * <code>optional .formulas.PBFormulaType type = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearComparator() {
+      public Builder clearType() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        comparator_ = 0;
+        type_ = 0;
         onChanged();
         return this;
       }
 
-      private long rhs_ ;
+      private boolean value_ ;
       /**
-       * <code>int64 rhs = 2;</code>
-       * @return The rhs.
+       * <pre>
+       * constants
+       * </pre>
+       *
+       * <code>optional bool value = 2;</code>
+       * @return Whether the value field is set.
        */
       @java.lang.Override
-      public long getRhs() {
-        return rhs_;
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <code>int64 rhs = 2;</code>
-       * @param value The rhs to set.
+       * <pre>
+       * constants
+       * </pre>
+       *
+       * <code>optional bool value = 2;</code>
+       * @return The value.
+       */
+      @java.lang.Override
+      public boolean getValue() {
+        return value_;
+      }
+      /**
+       * <pre>
+       * constants
+       * </pre>
+       *
+       * <code>optional bool value = 2;</code>
+       * @param value The value to set.
        * @return This builder for chaining.
        */
-      public Builder setRhs(long value) {
+      public Builder setValue(boolean value) {
 
-        rhs_ = value;
+        value_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <code>int64 rhs = 2;</code>
+       * <pre>
+       * constants
+       * </pre>
+       *
+       * <code>optional bool value = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearRhs() {
+      public Builder clearValue() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        rhs_ = 0L;
+        value_ = false;
         onChanged();
         return this;
       }
 
-      private com.google.protobuf.Internal.LongList coefficient_ = emptyLongList();
-      private void ensureCoefficientIsMutable() {
-        if (!coefficient_.isModifiable()) {
-          coefficient_ = makeMutableCopy(coefficient_);
-        }
-        bitField0_ |= 0x00000004;
-      }
+      private java.lang.Object variable_ = "";
       /**
-       * <code>repeated int64 coefficient = 3;</code>
-       * @return A list containing the coefficient.
+       * <pre>
+       * literal (together with value), legacy encoding
+       * </pre>
+       *
+       * <code>optional string variable = 3;</code>
+       * @return Whether the variable field is set.
        */
-      public java.util.List<java.lang.Long>
-          getCoefficientList() {
-        coefficient_.makeImmutable();
-        return coefficient_;
+      public boolean hasVariable() {
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
-       * <code>repeated int64 coefficient = 3;</code>
-       * @return The count of coefficient.
+       * <pre>
+       * literal (together with value), legacy encoding
+       * </pre>
+       *
+       * <code>optional string variable = 3;</code>
+       * @return The variable.
        */
-      public int getCoefficientCount() {
-        return coefficient_.size();
+      public java.lang.String getVariable() {
+        java.lang.Object ref = variable_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          variable_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>repeated int64 coefficient = 3;</code>
-       * @param index The index of the element to return.
-       * @return The coefficient at the given index.
+       * <pre>
+       * literal (together with value), legacy encoding
+       * </pre>
+       *
+       * <code>optional string variable = 3;</code>
+       * @return The bytes for variable.
        */
-      public long getCoefficient(int index) {
-        return coefficient_.getLong(index);
+      public com.google.protobuf.ByteString
+          getVariableBytes() {
+        java.lang.Object ref = variable_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          variable_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * literal (together with value), legacy encoding
+       * </pre>
+       *
+       * <code>optional string variable = 3;</code>
+       * @param value The variable to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVariable(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        variable_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * literal (together with value), legacy encoding
+       * </pre>
+       *
+       * <code>optional string variable = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVariable() {
+        variable_ = getDefaultInstance().getVariable();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * literal (together with value), legacy encoding
+       * </pre>
+       *
+       * <code>optional string variable = 3;</code>
+       * @param value The bytes for variable to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVariableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        variable_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint pbConstraint_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder> pbConstraintBuilder_;
+      /**
+       * <pre>
+       * PBConstraint
+       * </pre>
+       *
+       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       * @return Whether the pbConstraint field is set.
+       */
+      public boolean hasPbConstraint() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * PBConstraint
+       * </pre>
+       *
+       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       * @return The pbConstraint.
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getPbConstraint() {
+        if (pbConstraintBuilder_ == null) {
+          return pbConstraint_ == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance() : pbConstraint_;
+        } else {
+          return pbConstraintBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * PBConstraint
+       * </pre>
+       *
+       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       */
+      public Builder setPbConstraint(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint value) {
+        if (pbConstraintBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          pbConstraint_ = value;
+        } else {
+          pbConstraintBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * PBConstraint
+       * </pre>
+       *
+       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       */
+      public Builder setPbConstraint(
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder builderForValue) {
+        if (pbConstraintBuilder_ == null) {
+          pbConstraint_ = builderForValue.build();
+        } else {
+          pbConstraintBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * PBConstraint
+       * </pre>
+       *
+       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       */
+      public Builder mergePbConstraint(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint value) {
+        if (pbConstraintBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0) &&
+            pbConstraint_ != null &&
+            pbConstraint_ != com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance()) {
+            getPbConstraintBuilder().mergeFrom(value);
+          } else {
+            pbConstraint_ = value;
+          }
+        } else {
+          pbConstraintBuilder_.mergeFrom(value);
+        }
+        if (pbConstraint_ != null) {
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * PBConstraint
+       * </pre>
+       *
+       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       */
+      public Builder clearPbConstraint() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        pbConstraint_ = null;
+        if (pbConstraintBuilder_ != null) {
+          pbConstraintBuilder_.dispose();
+          pbConstraintBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * PBConstraint
+       * </pre>
+       *
+       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder getPbConstraintBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getPbConstraintFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * PBConstraint
+       * </pre>
+       *
+       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder getPbConstraintOrBuilder() {
+        if (pbConstraintBuilder_ != null) {
+          return pbConstraintBuilder_.getMessageOrBuilder();
+        } else {
+          return pbConstraint_ == null ?
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance() : pbConstraint_;
+        }
+      }
+      /**
+       * <pre>
+       * PBConstraint
+       * </pre>
+       *
+       * <code>optional .formulas.PBInternalPseudoBooleanConstraint pbConstraint = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder> 
+          getPbConstraintFieldBuilder() {
+        if (pbConstraintBuilder_ == null) {
+          pbConstraintBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder>(
+                  getPbConstraint(),
+                  getParentForChildren(),
+                  isClean());
+          pbConstraint_ = null;
+        }
+        return pbConstraintBuilder_;
+      }
+
+      private com.google.protobuf.Internal.IntList operand_ = emptyIntList();
+      private void ensureOperandIsMutable() {
+        if (!operand_.isModifiable()) {
+          operand_ = makeMutableCopy(operand_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <pre>
+       * not = 1, impl/equiv = 2, and/or = n
+       * </pre>
+       *
+       * <code>repeated int32 operand = 5;</code>
+       * @return A list containing the operand.
+       */
+      public java.util.List<java.lang.Integer>
+          getOperandList() {
+        operand_.makeImmutable();
+        return operand_;
+      }
+      /**
+       * <pre>
+       * not = 1, impl/equiv = 2, and/or = n
+       * </pre>
+       *
+       * <code>repeated int32 operand = 5;</code>
+       * @return The count of operand.
+       */
+      public int getOperandCount() {
+        return operand_.size();
+      }
+      /**
+       * <pre>
+       * not = 1, impl/equiv = 2, and/or = n
+       * </pre>
+       *
+       * <code>repeated int32 operand = 5;</code>
+       * @param index The index of the element to return.
+       * @return The operand at the given index.
+       */
+      public int getOperand(int index) {
+        return operand_.getInt(index);
+      }
+      /**
+       * <pre>
+       * not = 1, impl/equiv = 2, and/or = n
+       * </pre>
+       *
+       * <code>repeated int32 operand = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The operand to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOperand(
+          int index, int value) {
+
+        ensureOperandIsMutable();
+        operand_.setInt(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * not = 1, impl/equiv = 2, and/or = n
+       * </pre>
+       *
+       * <code>repeated int32 operand = 5;</code>
+       * @param value The operand to add.
+       * @return This builder for chaining.
+       */
+      public Builder addOperand(int value) {
+
+        ensureOperandIsMutable();
+        operand_.addInt(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * not = 1, impl/equiv = 2, and/or = n
+       * </pre>
+       *
+       * <code>repeated int32 operand = 5;</code>
+       * @param values The operand to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllOperand(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureOperandIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, operand_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * not = 1, impl/equiv = 2, and/or = n
+       * </pre>
+       *
+       * <code>repeated int32 operand = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOperand() {
+        operand_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private int literal_ ;
+      /**
+       * <pre>
+       * literal as index into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>optional sint32 literal = 6;</code>
+       * @return Whether the literal field is set.
+       */
+      @java.lang.Override
+      public boolean hasLiteral() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <pre>
+       * literal as index into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>optional sint32 literal = 6;</code>
+       * @return The literal.
+       */
+      @java.lang.Override
+      public int getLiteral() {
+        return literal_;
+      }
+      /**
+       * <pre>
+       * literal as index into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>optional sint32 literal = 6;</code>
+       * @param value The literal to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLiteral(int value) {
+
+        literal_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * literal as index into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>optional sint32 literal = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLiteral() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        literal_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList operandDelta_ = emptyIntList();
+      private void ensureOperandDeltaIsMutable() {
+        if (!operandDelta_.isModifiable()) {
+          operandDelta_ = makeMutableCopy(operandDelta_);
+        }
+        bitField0_ |= 0x00000040;
+      }
+      /**
+       * <pre>
+       * and/or operands as differences to the previous operand (the first to 0), alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 operandDelta = 7;</code>
+       * @return A list containing the operandDelta.
+       */
+      public java.util.List<java.lang.Integer>
+          getOperandDeltaList() {
+        operandDelta_.makeImmutable();
+        return operandDelta_;
+      }
+      /**
+       * <pre>
+       * and/or operands as differences to the previous operand (the first to 0), alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 operandDelta = 7;</code>
+       * @return The count of operandDelta.
+       */
+      public int getOperandDeltaCount() {
+        return operandDelta_.size();
+      }
+      /**
+       * <pre>
+       * and/or operands as differences to the previous operand (the first to 0), alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 operandDelta = 7;</code>
+       * @param index The index of the element to return.
+       * @return The operandDelta at the given index.
+       */
+      public int getOperandDelta(int index) {
+        return operandDelta_.getInt(index);
+      }
+      /**
+       * <pre>
+       * and/or operands as differences to the previous operand (the first to 0), alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 operandDelta = 7;</code>
+       * @param index The index to set the value at.
+       * @param value The operandDelta to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOperandDelta(
+          int index, int value) {
+
+        ensureOperandDeltaIsMutable();
+        operandDelta_.setInt(index, value);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * and/or operands as differences to the previous operand (the first to 0), alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 operandDelta = 7;</code>
+       * @param value The operandDelta to add.
+       * @return This builder for chaining.
+       */
+      public Builder addOperandDelta(int value) {
+
+        ensureOperandDeltaIsMutable();
+        operandDelta_.addInt(value);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * and/or operands as differences to the previous operand (the first to 0), alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 operandDelta = 7;</code>
+       * @param values The operandDelta to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllOperandDelta(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureOperandDeltaIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, operandDelta_);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * and/or operands as differences to the previous operand (the first to 0), alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 operandDelta = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOperandDelta() {
+        operandDelta_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList clauseLiteral_ = emptyIntList();
+      private void ensureClauseLiteralIsMutable() {
+        if (!clauseLiteral_.isModifiable()) {
+          clauseLiteral_ = makeMutableCopy(clauseLiteral_);
+        }
+        bitField0_ |= 0x00000080;
+      }
+      /**
+       * <pre>
+       * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 clauseLiteral = 8;</code>
+       * @return A list containing the clauseLiteral.
+       */
+      public java.util.List<java.lang.Integer>
+          getClauseLiteralList() {
+        clauseLiteral_.makeImmutable();
+        return clauseLiteral_;
+      }
+      /**
+       * <pre>
+       * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 clauseLiteral = 8;</code>
+       * @return The count of clauseLiteral.
+       */
+      public int getClauseLiteralCount() {
+        return clauseLiteral_.size();
+      }
+      /**
+       * <pre>
+       * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 clauseLiteral = 8;</code>
+       * @param index The index of the element to return.
+       * @return The clauseLiteral at the given index.
+       */
+      public int getClauseLiteral(int index) {
+        return clauseLiteral_.getInt(index);
+      }
+      /**
+       * <pre>
+       * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 clauseLiteral = 8;</code>
+       * @param index The index to set the value at.
+       * @param value The clauseLiteral to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClauseLiteral(
+          int index, int value) {
+
+        ensureClauseLiteralIsMutable();
+        clauseLiteral_.setInt(index, value);
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 clauseLiteral = 8;</code>
+       * @param value The clauseLiteral to add.
+       * @return This builder for chaining.
+       */
+      public Builder addClauseLiteral(int value) {
+
+        ensureClauseLiteralIsMutable();
+        clauseLiteral_.addInt(value);
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 clauseLiteral = 8;</code>
+       * @param values The clauseLiteral to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllClauseLiteral(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureClauseLiteralIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, clauseLiteral_);
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * and: literals of all clauses of a CNF as indices into the variable table, alternative to operand
+       * </pre>
+       *
+       * <code>repeated sint32 clauseLiteral = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClauseLiteral() {
+        clauseLiteral_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList clauseSize_ = emptyIntList();
+      private void ensureClauseSizeIsMutable() {
+        if (!clauseSize_.isModifiable()) {
+          clauseSize_ = makeMutableCopy(clauseSize_);
+        }
+        bitField0_ |= 0x00000100;
+      }
+      /**
+       * <pre>
+       * and: number of literals of each clause of a CNF
+       * </pre>
+       *
+       * <code>repeated int32 clauseSize = 9;</code>
+       * @return A list containing the clauseSize.
+       */
+      public java.util.List<java.lang.Integer>
+          getClauseSizeList() {
+        clauseSize_.makeImmutable();
+        return clauseSize_;
+      }
+      /**
+       * <pre>
+       * and: number of literals of each clause of a CNF
+       * </pre>
+       *
+       * <code>repeated int32 clauseSize = 9;</code>
+       * @return The count of clauseSize.
+       */
+      public int getClauseSizeCount() {
+        return clauseSize_.size();
+      }
+      /**
+       * <pre>
+       * and: number of literals of each clause of a CNF
+       * </pre>
+       *
+       * <code>repeated int32 clauseSize = 9;</code>
+       * @param index The index of the element to return.
+       * @return The clauseSize at the given index.
+       */
+      public int getClauseSize(int index) {
+        return clauseSize_.getInt(index);
+      }
+      /**
+       * <pre>
+       * and: number of literals of each clause of a CNF
+       * </pre>
+       *
+       * <code>repeated int32 clauseSize = 9;</code>
+       * @param index The index to set the value at.
+       * @param value The clauseSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClauseSize(
+          int index, int value) {
+
+        ensureClauseSizeIsMutable();
+        clauseSize_.setInt(index, value);
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * and: number of literals of each clause of a CNF
+       * </pre>
+       *
+       * <code>repeated int32 clauseSize = 9;</code>
+       * @param value The clauseSize to add.
+       * @return This builder for chaining.
+       */
+      public Builder addClauseSize(int value) {
+
+        ensureClauseSizeIsMutable();
+        clauseSize_.addInt(value);
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * and: number of literals of each clause of a CNF
+       * </pre>
+       *
+       * <code>repeated int32 clauseSize = 9;</code>
+       * @param values The clauseSize to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllClauseSize(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureClauseSizeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, clauseSize_);
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * and: number of literals of each clause of a CNF
+       * </pre>
+       *
+       * <code>repeated int32 clauseSize = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClauseSize() {
+        clauseSize_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:formulas.PBInternalFormula)
+    }
+
+    // @@protoc_insertion_point(class_scope:formulas.PBInternalFormula)
+    private static final com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula();
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBInternalFormula>
+        PARSER = new com.google.protobuf.AbstractParser<PBInternalFormula>() {
+      @java.lang.Override
+      public PBInternalFormula parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBInternalFormula> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBInternalFormula> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBInternalPseudoBooleanConstraintOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:formulas.PBInternalPseudoBooleanConstraint)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.formulas.PBComparison comparator = 1;</code>
+     * @return The enum numeric value on the wire for comparator.
+     */
+    int getComparatorValue();
+    /**
+     * <code>.formulas.PBComparison comparator = 1;</code>
+     * @return The comparator.
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison getComparator();
+
+    /**
+     * <code>int64 rhs = 2;</code>
+     * @return The rhs.
+     */
+    long getRhs();
+
+    /**
+     * <pre>
+     * legacy encoding
+     * </pre>
+     *
+     * <code>repeated int64 coefficient = 3;</code>
+     * @return A list containing the coefficient.
+     */
+    java.util.List<java.lang.Long> getCoefficientList();
+    /**
+     * <pre>
+     * legacy encoding
+     * </pre>
+     *
+     * <code>repeated int64 coefficient = 3;</code>
+     * @return The count of coefficient.
+     */
+    int getCoefficientCount();
+    /**
+     * <pre>
+     * legacy encoding
+     * </pre>
+     *
+     * <code>repeated int64 coefficient = 3;</code>
+     * @param index The index of the element to return.
+     * @return The coefficient at the given index.
+     */
+    long getCoefficient(int index);
+
+    /**
+     * <pre>
+     * including phase with/out `~`, legacy encoding
+     * </pre>
+     *
+     * <code>repeated string literal = 4;</code>
+     * @return A list containing the literal.
+     */
+    java.util.List<java.lang.String>
+        getLiteralList();
+    /**
+     * <pre>
+     * including phase with/out `~`, legacy encoding
+     * </pre>
+     *
+     * <code>repeated string literal = 4;</code>
+     * @return The count of literal.
+     */
+    int getLiteralCount();
+    /**
+     * <pre>
+     * including phase with/out `~`, legacy encoding
+     * </pre>
+     *
+     * <code>repeated string literal = 4;</code>
+     * @param index The index of the element to return.
+     * @return The literal at the given index.
+     */
+    java.lang.String getLiteral(int index);
+    /**
+     * <pre>
+     * including phase with/out `~`, legacy encoding
+     * </pre>
+     *
+     * <code>repeated string literal = 4;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the literal at the given index.
+     */
+    com.google.protobuf.ByteString
+        getLiteralBytes(int index);
+
+    /**
+     * <pre>
+     * literals as indices into the variable table (negative = negative phase)
+     * </pre>
+     *
+     * <code>repeated sint32 literalIndex = 5;</code>
+     * @return A list containing the literalIndex.
+     */
+    java.util.List<java.lang.Integer> getLiteralIndexList();
+    /**
+     * <pre>
+     * literals as indices into the variable table (negative = negative phase)
+     * </pre>
+     *
+     * <code>repeated sint32 literalIndex = 5;</code>
+     * @return The count of literalIndex.
+     */
+    int getLiteralIndexCount();
+    /**
+     * <pre>
+     * literals as indices into the variable table (negative = negative phase)
+     * </pre>
+     *
+     * <code>repeated sint32 literalIndex = 5;</code>
+     * @param index The index of the element to return.
+     * @return The literalIndex at the given index.
+     */
+    int getLiteralIndex(int index);
+
+    /**
+     * <pre>
+     * coefficients as zigzag varints, empty if unitCoefficients is set
+     * </pre>
+     *
+     * <code>repeated sint32 coefficientValue = 6;</code>
+     * @return A list containing the coefficientValue.
+     */
+    java.util.List<java.lang.Integer> getCoefficientValueList();
+    /**
+     * <pre>
+     * coefficients as zigzag varints, empty if unitCoefficients is set
+     * </pre>
+     *
+     * <code>repeated sint32 coefficientValue = 6;</code>
+     * @return The count of coefficientValue.
+     */
+    int getCoefficientValueCount();
+    /**
+     * <pre>
+     * coefficients as zigzag varints, empty if unitCoefficients is set
+     * </pre>
+     *
+     * <code>repeated sint32 coefficientValue = 6;</code>
+     * @param index The index of the element to return.
+     * @return The coefficientValue at the given index.
+     */
+    int getCoefficientValue(int index);
+
+    /**
+     * <pre>
+     * all coefficients are 1 (cardinality constraints)
+     * </pre>
+     *
+     * <code>bool unitCoefficients = 7;</code>
+     * @return The unitCoefficients.
+     */
+    boolean getUnitCoefficients();
+  }
+  /**
+   * Protobuf type {@code formulas.PBInternalPseudoBooleanConstraint}
+   */
+  public static final class PBInternalPseudoBooleanConstraint extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:formulas.PBInternalPseudoBooleanConstraint)
+      PBInternalPseudoBooleanConstraintOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 27,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBInternalPseudoBooleanConstraint.class.getName());
+    }
+    // Use PBInternalPseudoBooleanConstraint.newBuilder() to construct.
+    private PBInternalPseudoBooleanConstraint(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBInternalPseudoBooleanConstraint() {
+      comparator_ = 0;
+      coefficient_ = emptyLongList();
+      literal_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      literalIndex_ = emptyIntList();
+      coefficientValue_ = emptyIntList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalPseudoBooleanConstraint_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalPseudoBooleanConstraint_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder.class);
+    }
+
+    public static final int COMPARATOR_FIELD_NUMBER = 1;
+    private int comparator_ = 0;
+    /**
+     * <code>.formulas.PBComparison comparator = 1;</code>
+     * @return The enum numeric value on the wire for comparator.
+     */
+    @java.lang.Override public int getComparatorValue() {
+      return comparator_;
+    }
+    /**
+     * <code>.formulas.PBComparison comparator = 1;</code>
+     * @return The comparator.
+     */
+    @java.lang.Override public com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison getComparator() {
+      com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison result = com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.forNumber(comparator_);
+      return result == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.UNRECOGNIZED : result;
+    }
+
+    public static final int RHS_FIELD_NUMBER = 2;
+    private long rhs_ = 0L;
+    /**
+     * <code>int64 rhs = 2;</code>
+     * @return The rhs.
+     */
+    @java.lang.Override
+    public long getRhs() {
+      return rhs_;
+    }
+
+    public static final int COEFFICIENT_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.LongList coefficient_ =
+        emptyLongList();
+    /**
+     * <pre>
+     * legacy encoding
+     * </pre>
+     *
+     * <code>repeated int64 coefficient = 3;</code>
+     * @return A list containing the coefficient.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getCoefficientList() {
+      return coefficient_;
+    }
+    /**
+     * <pre>
+     * legacy encoding
+     * </pre>
+     *
+     * <code>repeated int64 coefficient = 3;</code>
+     * @return The count of coefficient.
+     */
+    public int getCoefficientCount() {
+      return coefficient_.size();
+    }
+    /**
+     * <pre>
+     * legacy encoding
+     * </pre>
+     *
+     * <code>repeated int64 coefficient = 3;</code>
+     * @param index The index of the element to return.
+     * @return The coefficient at the given index.
+     */
+    public long getCoefficient(int index) {
+      return coefficient_.getLong(index);
+    }
+    private int coefficientMemoizedSerializedSize = -1;
+
+    public static final int LITERAL_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList literal_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * including phase with/out `~`, legacy encoding
+     * </pre>
+     *
+     * <code>repeated string literal = 4;</code>
+     * @return A list containing the literal.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getLiteralList() {
+      return literal_;
+    }
+    /**
+     * <pre>
+     * including phase with/out `~`, legacy encoding
+     * </pre>
+     *
+     * <code>repeated string literal = 4;</code>
+     * @return The count of literal.
+     */
+    public int getLiteralCount() {
+      return literal_.size();
+    }
+    /**
+     * <pre>
+     * including phase with/out `~`, legacy encoding
+     * </pre>
+     *
+     * <code>repeated string literal = 4;</code>
+     * @param index The index of the element to return.
+     * @return The literal at the given index.
+     */
+    public java.lang.String getLiteral(int index) {
+      return literal_.get(index);
+    }
+    /**
+     * <pre>
+     * including phase with/out `~`, legacy encoding
+     * </pre>
+     *
+     * <code>repeated string literal = 4;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the literal at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getLiteralBytes(int index) {
+      return literal_.getByteString(index);
+    }
+
+    public static final int LITERALINDEX_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList literalIndex_ =
+        emptyIntList();
+    /**
+     * <pre>
+     * literals as indices into the variable table (negative = negative phase)
+     * </pre>
+     *
+     * <code>repeated sint32 literalIndex = 5;</code>
+     * @return A list containing the literalIndex.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getLiteralIndexList() {
+      return literalIndex_;
+    }
+    /**
+     * <pre>
+     * literals as indices into the variable table (negative = negative phase)
+     * </pre>
+     *
+     * <code>repeated sint32 literalIndex = 5;</code>
+     * @return The count of literalIndex.
+     */
+    public int getLiteralIndexCount() {
+      return literalIndex_.size();
+    }
+    /**
+     * <pre>
+     * literals as indices into the variable table (negative = negative phase)
+     * </pre>
+     *
+     * <code>repeated sint32 literalIndex = 5;</code>
+     * @param index The index of the element to return.
+     * @return The literalIndex at the given index.
+     */
+    public int getLiteralIndex(int index) {
+      return literalIndex_.getInt(index);
+    }
+    private int literalIndexMemoizedSerializedSize = -1;
+
+    public static final int COEFFICIENTVALUE_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList coefficientValue_ =
+        emptyIntList();
+    /**
+     * <pre>
+     * coefficients as zigzag varints, empty if unitCoefficients is set
+     * </pre>
+     *
+     * <code>repeated sint32 coefficientValue = 6;</code>
+     * @return A list containing the coefficientValue.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getCoefficientValueList() {
+      return coefficientValue_;
+    }
+    /**
+     * <pre>
+     * coefficients as zigzag varints, empty if unitCoefficients is set
+     * </pre>
+     *
+     * <code>repeated sint32 coefficientValue = 6;</code>
+     * @return The count of coefficientValue.
+     */
+    public int getCoefficientValueCount() {
+      return coefficientValue_.size();
+    }
+    /**
+     * <pre>
+     * coefficients as zigzag varints, empty if unitCoefficients is set
+     * </pre>
+     *
+     * <code>repeated sint32 coefficientValue = 6;</code>
+     * @param index The index of the element to return.
+     * @return The coefficientValue at the given index.
+     */
+    public int getCoefficientValue(int index) {
+      return coefficientValue_.getInt(index);
+    }
+    private int coefficientValueMemoizedSerializedSize = -1;
+
+    public static final int UNITCOEFFICIENTS_FIELD_NUMBER = 7;
+    private boolean unitCoefficients_ = false;
+    /**
+     * <pre>
+     * all coefficients are 1 (cardinality constraints)
+     * </pre>
+     *
+     * <code>bool unitCoefficients = 7;</code>
+     * @return The unitCoefficients.
+     */
+    @java.lang.Override
+    public boolean getUnitCoefficients() {
+      return unitCoefficients_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (comparator_ != com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.EQ.getNumber()) {
+        output.writeEnum(1, comparator_);
+      }
+      if (rhs_ != 0L) {
+        output.writeInt64(2, rhs_);
+      }
+      if (getCoefficientList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(coefficientMemoizedSerializedSize);
+      }
+      for (int i = 0; i < coefficient_.size(); i++) {
+        output.writeInt64NoTag(coefficient_.getLong(i));
+      }
+      for (int i = 0; i < literal_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, literal_.getRaw(i));
+      }
+      if (getLiteralIndexList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(literalIndexMemoizedSerializedSize);
+      }
+      for (int i = 0; i < literalIndex_.size(); i++) {
+        output.writeSInt32NoTag(literalIndex_.getInt(i));
+      }
+      if (getCoefficientValueList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(coefficientValueMemoizedSerializedSize);
+      }
+      for (int i = 0; i < coefficientValue_.size(); i++) {
+        output.writeSInt32NoTag(coefficientValue_.getInt(i));
+      }
+      if (unitCoefficients_ != false) {
+        output.writeBool(7, unitCoefficients_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (comparator_ != com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.EQ.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, comparator_);
+      }
+      if (rhs_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, rhs_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < coefficient_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(coefficient_.getLong(i));
+        }
+        size += dataSize;
+        if (!getCoefficientList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        coefficientMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < literal_.size(); i++) {
+          dataSize += computeStringSizeNoTag(literal_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getLiteralList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < literalIndex_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(literalIndex_.getInt(i));
+        }
+        size += dataSize;
+        if (!getLiteralIndexList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        literalIndexMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < coefficientValue_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(coefficientValue_.getInt(i));
+        }
+        size += dataSize;
+        if (!getCoefficientValueList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        coefficientValueMemoizedSerializedSize = dataSize;
+      }
+      if (unitCoefficients_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, unitCoefficients_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint other = (com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint) obj;
+
+      if (comparator_ != other.comparator_) return false;
+      if (getRhs()
+          != other.getRhs()) return false;
+      if (!getCoefficientList()
+          .equals(other.getCoefficientList())) return false;
+      if (!getLiteralList()
+          .equals(other.getLiteralList())) return false;
+      if (!getLiteralIndexList()
+          .equals(other.getLiteralIndexList())) return false;
+      if (!getCoefficientValueList()
+          .equals(other.getCoefficientValueList())) return false;
+      if (getUnitCoefficients()
+          != other.getUnitCoefficients()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + COMPARATOR_FIELD_NUMBER;
+      hash = (53 * hash) + comparator_;
+      hash = (37 * hash) + RHS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRhs());
+      if (getCoefficientCount() > 0) {
+        hash = (37 * hash) + COEFFICIENT_FIELD_NUMBER;
+        hash = (53 * hash) + getCoefficientList().hashCode();
+      }
+      if (getLiteralCount() > 0) {
+        hash = (37 * hash) + LITERAL_FIELD_NUMBER;
+        hash = (53 * hash) + getLiteralList().hashCode();
+      }
+      if (getLiteralIndexCount() > 0) {
+        hash = (37 * hash) + LITERALINDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getLiteralIndexList().hashCode();
+      }
+      if (getCoefficientValueCount() > 0) {
+        hash = (37 * hash) + COEFFICIENTVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getCoefficientValueList().hashCode();
+      }
+      hash = (37 * hash) + UNITCOEFFICIENTS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getUnitCoefficients());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code formulas.PBInternalPseudoBooleanConstraint}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:formulas.PBInternalPseudoBooleanConstraint)
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraintOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalPseudoBooleanConstraint_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalPseudoBooleanConstraint_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        comparator_ = 0;
+        rhs_ = 0L;
+        coefficient_ = emptyLongList();
+        literal_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        literalIndex_ = emptyIntList();
+        coefficientValue_ = emptyIntList();
+        unitCoefficients_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBInternalPseudoBooleanConstraint_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getDefaultInstanceForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint build() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint buildPartial() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint result = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.comparator_ = comparator_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.rhs_ = rhs_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          coefficient_.makeImmutable();
+          result.coefficient_ = coefficient_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          literal_.makeImmutable();
+          result.literal_ = literal_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          literalIndex_.makeImmutable();
+          result.literalIndex_ = literalIndex_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          coefficientValue_.makeImmutable();
+          result.coefficientValue_ = coefficientValue_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.unitCoefficients_ = unitCoefficients_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint) {
+          return mergeFrom((com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint other) {
+        if (other == com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint.getDefaultInstance()) return this;
+        if (other.comparator_ != 0) {
+          setComparatorValue(other.getComparatorValue());
+        }
+        if (other.getRhs() != 0L) {
+          setRhs(other.getRhs());
+        }
+        if (!other.coefficient_.isEmpty()) {
+          if (coefficient_.isEmpty()) {
+            coefficient_ = other.coefficient_;
+            coefficient_.makeImmutable();
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureCoefficientIsMutable();
+            coefficient_.addAll(other.coefficient_);
+          }
+          onChanged();
+        }
+        if (!other.literal_.isEmpty()) {
+          if (literal_.isEmpty()) {
+            literal_ = other.literal_;
+            bitField0_ |= 0x00000008;
+          } else {
+            ensureLiteralIsMutable();
+            literal_.addAll(other.literal_);
+          }
+          onChanged();
+        }
+        if (!other.literalIndex_.isEmpty()) {
+          if (literalIndex_.isEmpty()) {
+            literalIndex_ = other.literalIndex_;
+            literalIndex_.makeImmutable();
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureLiteralIndexIsMutable();
+            literalIndex_.addAll(other.literalIndex_);
+          }
+          onChanged();
+        }
+        if (!other.coefficientValue_.isEmpty()) {
+          if (coefficientValue_.isEmpty()) {
+            coefficientValue_ = other.coefficientValue_;
+            coefficientValue_.makeImmutable();
+            bitField0_ |= 0x00000020;
+          } else {
+            ensureCoefficientValueIsMutable();
+            coefficientValue_.addAll(other.coefficientValue_);
+          }
+          onChanged();
+        }
+        if (other.getUnitCoefficients() != false) {
+          setUnitCoefficients(other.getUnitCoefficients());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                comparator_ = input.readEnum();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                rhs_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                long v = input.readInt64();
+                ensureCoefficientIsMutable();
+                coefficient_.addLong(v);
+                break;
+              } // case 24
+              case 26: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureCoefficientIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  coefficient_.addLong(input.readInt64());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 26
+              case 34: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureLiteralIsMutable();
+                literal_.add(s);
+                break;
+              } // case 34
+              case 40: {
+                int v = input.readSInt32();
+                ensureLiteralIndexIsMutable();
+                literalIndex_.addInt(v);
+                break;
+              } // case 40
+              case 42: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureLiteralIndexIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  literalIndex_.addInt(input.readSInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 42
+              case 48: {
+                int v = input.readSInt32();
+                ensureCoefficientValueIsMutable();
+                coefficientValue_.addInt(v);
+                break;
+              } // case 48
+              case 50: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureCoefficientValueIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  coefficientValue_.addInt(input.readSInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 50
+              case 56: {
+                unitCoefficients_ = input.readBool();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int comparator_ = 0;
+      /**
+       * <code>.formulas.PBComparison comparator = 1;</code>
+       * @return The enum numeric value on the wire for comparator.
+       */
+      @java.lang.Override public int getComparatorValue() {
+        return comparator_;
+      }
+      /**
+       * <code>.formulas.PBComparison comparator = 1;</code>
+       * @param value The enum numeric value on the wire for comparator to set.
+       * @return This builder for chaining.
+       */
+      public Builder setComparatorValue(int value) {
+        comparator_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.formulas.PBComparison comparator = 1;</code>
+       * @return The comparator.
+       */
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison getComparator() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison result = com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.forNumber(comparator_);
+        return result == null ? com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.formulas.PBComparison comparator = 1;</code>
+       * @param value The comparator to set.
+       * @return This builder for chaining.
+       */
+      public Builder setComparator(com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        comparator_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.formulas.PBComparison comparator = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearComparator() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        comparator_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long rhs_ ;
+      /**
+       * <code>int64 rhs = 2;</code>
+       * @return The rhs.
+       */
+      @java.lang.Override
+      public long getRhs() {
+        return rhs_;
+      }
+      /**
+       * <code>int64 rhs = 2;</code>
+       * @param value The rhs to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRhs(long value) {
+
+        rhs_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 rhs = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRhs() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        rhs_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList coefficient_ = emptyLongList();
+      private void ensureCoefficientIsMutable() {
+        if (!coefficient_.isModifiable()) {
+          coefficient_ = makeMutableCopy(coefficient_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <pre>
+       * legacy encoding
+       * </pre>
+       *
+       * <code>repeated int64 coefficient = 3;</code>
+       * @return A list containing the coefficient.
+       */
+      public java.util.List<java.lang.Long>
+          getCoefficientList() {
+        coefficient_.makeImmutable();
+        return coefficient_;
+      }
+      /**
+       * <pre>
+       * legacy encoding
+       * </pre>
+       *
+       * <code>repeated int64 coefficient = 3;</code>
+       * @return The count of coefficient.
+       */
+      public int getCoefficientCount() {
+        return coefficient_.size();
+      }
+      /**
+       * <pre>
+       * legacy encoding
+       * </pre>
+       *
+       * <code>repeated int64 coefficient = 3;</code>
+       * @param index The index of the element to return.
+       * @return The coefficient at the given index.
+       */
+      public long getCoefficient(int index) {
+        return coefficient_.getLong(index);
+      }
+      /**
+       * <pre>
+       * legacy encoding
+       * </pre>
+       *
+       * <code>repeated int64 coefficient = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The coefficient to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCoefficient(
+          int index, long value) {
+
+        ensureCoefficientIsMutable();
+        coefficient_.setLong(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * legacy encoding
+       * </pre>
+       *
+       * <code>repeated int64 coefficient = 3;</code>
+       * @param value The coefficient to add.
+       * @return This builder for chaining.
+       */
+      public Builder addCoefficient(long value) {
+
+        ensureCoefficientIsMutable();
+        coefficient_.addLong(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * legacy encoding
+       * </pre>
+       *
+       * <code>repeated int64 coefficient = 3;</code>
+       * @param values The coefficient to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllCoefficient(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureCoefficientIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, coefficient_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * legacy encoding
+       * </pre>
+       *
+       * <code>repeated int64 coefficient = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCoefficient() {
+        coefficient_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList literal_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureLiteralIsMutable() {
+        if (!literal_.isModifiable()) {
+          literal_ = new com.google.protobuf.LazyStringArrayList(literal_);
+        }
+        bitField0_ |= 0x00000008;
+      }
+      /**
+       * <pre>
+       * including phase with/out `~`, legacy encoding
+       * </pre>
+       *
+       * <code>repeated string literal = 4;</code>
+       * @return A list containing the literal.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getLiteralList() {
+        literal_.makeImmutable();
+        return literal_;
+      }
+      /**
+       * <pre>
+       * including phase with/out `~`, legacy encoding
+       * </pre>
+       *
+       * <code>repeated string literal = 4;</code>
+       * @return The count of literal.
+       */
+      public int getLiteralCount() {
+        return literal_.size();
+      }
+      /**
+       * <pre>
+       * including phase with/out `~`, legacy encoding
+       * </pre>
+       *
+       * <code>repeated string literal = 4;</code>
+       * @param index The index of the element to return.
+       * @return The literal at the given index.
+       */
+      public java.lang.String getLiteral(int index) {
+        return literal_.get(index);
+      }
+      /**
+       * <pre>
+       * including phase with/out `~`, legacy encoding
+       * </pre>
+       *
+       * <code>repeated string literal = 4;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the literal at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getLiteralBytes(int index) {
+        return literal_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * including phase with/out `~`, legacy encoding
+       * </pre>
+       *
+       * <code>repeated string literal = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The literal to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLiteral(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureLiteralIsMutable();
+        literal_.set(index, value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * including phase with/out `~`, legacy encoding
+       * </pre>
+       *
+       * <code>repeated string literal = 4;</code>
+       * @param value The literal to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLiteral(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureLiteralIsMutable();
+        literal_.add(value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * including phase with/out `~`, legacy encoding
+       * </pre>
+       *
+       * <code>repeated string literal = 4;</code>
+       * @param values The literal to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLiteral(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureLiteralIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, literal_);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * including phase with/out `~`, legacy encoding
+       * </pre>
+       *
+       * <code>repeated string literal = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLiteral() {
+        literal_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * including phase with/out `~`, legacy encoding
+       * </pre>
+       *
+       * <code>repeated string literal = 4;</code>
+       * @param value The bytes of the literal to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLiteralBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureLiteralIsMutable();
+        literal_.add(value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList literalIndex_ = emptyIntList();
+      private void ensureLiteralIndexIsMutable() {
+        if (!literalIndex_.isModifiable()) {
+          literalIndex_ = makeMutableCopy(literalIndex_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <pre>
+       * literals as indices into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>repeated sint32 literalIndex = 5;</code>
+       * @return A list containing the literalIndex.
+       */
+      public java.util.List<java.lang.Integer>
+          getLiteralIndexList() {
+        literalIndex_.makeImmutable();
+        return literalIndex_;
+      }
+      /**
+       * <pre>
+       * literals as indices into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>repeated sint32 literalIndex = 5;</code>
+       * @return The count of literalIndex.
+       */
+      public int getLiteralIndexCount() {
+        return literalIndex_.size();
+      }
+      /**
+       * <pre>
+       * literals as indices into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>repeated sint32 literalIndex = 5;</code>
+       * @param index The index of the element to return.
+       * @return The literalIndex at the given index.
+       */
+      public int getLiteralIndex(int index) {
+        return literalIndex_.getInt(index);
+      }
+      /**
+       * <pre>
+       * literals as indices into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>repeated sint32 literalIndex = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The literalIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLiteralIndex(
+          int index, int value) {
+
+        ensureLiteralIndexIsMutable();
+        literalIndex_.setInt(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * literals as indices into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>repeated sint32 literalIndex = 5;</code>
+       * @param value The literalIndex to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLiteralIndex(int value) {
+
+        ensureLiteralIndexIsMutable();
+        literalIndex_.addInt(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * literals as indices into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>repeated sint32 literalIndex = 5;</code>
+       * @param values The literalIndex to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLiteralIndex(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLiteralIndexIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, literalIndex_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * literals as indices into the variable table (negative = negative phase)
+       * </pre>
+       *
+       * <code>repeated sint32 literalIndex = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLiteralIndex() {
+        literalIndex_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList coefficientValue_ = emptyIntList();
+      private void ensureCoefficientValueIsMutable() {
+        if (!coefficientValue_.isModifiable()) {
+          coefficientValue_ = makeMutableCopy(coefficientValue_);
+        }
+        bitField0_ |= 0x00000020;
+      }
+      /**
+       * <pre>
+       * coefficients as zigzag varints, empty if unitCoefficients is set
+       * </pre>
+       *
+       * <code>repeated sint32 coefficientValue = 6;</code>
+       * @return A list containing the coefficientValue.
+       */
+      public java.util.List<java.lang.Integer>
+          getCoefficientValueList() {
+        coefficientValue_.makeImmutable();
+        return coefficientValue_;
+      }
+      /**
+       * <pre>
+       * coefficients as zigzag varints, empty if unitCoefficients is set
+       * </pre>
+       *
+       * <code>repeated sint32 coefficientValue = 6;</code>
+       * @return The count of coefficientValue.
+       */
+      public int getCoefficientValueCount() {
+        return coefficientValue_.size();
+      }
+      /**
+       * <pre>
+       * coefficients as zigzag varints, empty if unitCoefficients is set
+       * </pre>
+       *
+       * <code>repeated sint32 coefficientValue = 6;</code>
+       * @param index The index of the element to return.
+       * @return The coefficientValue at the given index.
+       */
+      public int getCoefficientValue(int index) {
+        return coefficientValue_.getInt(index);
+      }
+      /**
+       * <pre>
+       * coefficients as zigzag varints, empty if unitCoefficients is set
+       * </pre>
+       *
+       * <code>repeated sint32 coefficientValue = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The coefficientValue to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCoefficientValue(
+          int index, int value) {
+
+        ensureCoefficientValueIsMutable();
+        coefficientValue_.setInt(index, value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * coefficients as zigzag varints, empty if unitCoefficients is set
+       * </pre>
+       *
+       * <code>repeated sint32 coefficientValue = 6;</code>
+       * @param value The coefficientValue to add.
+       * @return This builder for chaining.
+       */
+      public Builder addCoefficientValue(int value) {
+
+        ensureCoefficientValueIsMutable();
+        coefficientValue_.addInt(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * coefficients as zigzag varints, empty if unitCoefficients is set
+       * </pre>
+       *
+       * <code>repeated sint32 coefficientValue = 6;</code>
+       * @param values The coefficientValue to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllCoefficientValue(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureCoefficientValueIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, coefficientValue_);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * coefficients as zigzag varints, empty if unitCoefficients is set
+       * </pre>
+       *
+       * <code>repeated sint32 coefficientValue = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCoefficientValue() {
+        coefficientValue_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+
+      private boolean unitCoefficients_ ;
+      /**
+       * <pre>
+       * all coefficients are 1 (cardinality constraints)
+       * </pre>
+       *
+       * <code>bool unitCoefficients = 7;</code>
+       * @return The unitCoefficients.
+       */
+      @java.lang.Override
+      public boolean getUnitCoefficients() {
+        return unitCoefficients_;
+      }
+      /**
+       * <pre>
+       * all coefficients are 1 (cardinality constraints)
+       * </pre>
+       *
+       * <code>bool unitCoefficients = 7;</code>
+       * @param value The unitCoefficients to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUnitCoefficients(boolean value) {
+
+        unitCoefficients_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * all coefficients are 1 (cardinality constraints)
+       * </pre>
+       *
+       * <code>bool unitCoefficients = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUnitCoefficients() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        unitCoefficients_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:formulas.PBInternalPseudoBooleanConstraint)
+    }
+
+    // @@protoc_insertion_point(class_scope:formulas.PBInternalPseudoBooleanConstraint)
+    private static final com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint();
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBInternalPseudoBooleanConstraint>
+        PARSER = new com.google.protobuf.AbstractParser<PBInternalPseudoBooleanConstraint>() {
+      @java.lang.Override
+      public PBInternalPseudoBooleanConstraint parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBInternalPseudoBooleanConstraint> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBInternalPseudoBooleanConstraint> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBFormulaArchiveIndexOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:formulas.PBFormulaArchiveIndex)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * variable table of the whole archive
+     * </pre>
+     *
+     * <code>repeated string variable = 1;</code>
+     * @return A list containing the variable.
+     */
+    java.util.List<java.lang.String>
+        getVariableList();
+    /**
+     * <pre>
+     * variable table of the whole archive
+     * </pre>
+     *
+     * <code>repeated string variable = 1;</code>
+     * @return The count of variable.
+     */
+    int getVariableCount();
+    /**
+     * <pre>
+     * variable table of the whole archive
+     * </pre>
+     *
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the element to return.
+     * @return The variable at the given index.
+     */
+    java.lang.String getVariable(int index);
+    /**
+     * <pre>
+     * variable table of the whole archive
+     * </pre>
+     *
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the variable at the given index.
+     */
+    com.google.protobuf.ByteString
+        getVariableBytes(int index);
+
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+     */
+    java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment> 
+        getSegmentList();
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment getSegment(int index);
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+     */
+    int getSegmentCount();
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+     */
+    java.util.List<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegmentOrBuilder> 
+        getSegmentOrBuilderList();
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegmentOrBuilder getSegmentOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+     */
+    java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry> 
+        getEntryList();
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry getEntry(int index);
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+     */
+    int getEntryCount();
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+     */
+    java.util.List<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntryOrBuilder> 
+        getEntryOrBuilderList();
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+     */
+    com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntryOrBuilder getEntryOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code formulas.PBFormulaArchiveIndex}
+   */
+  public static final class PBFormulaArchiveIndex extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:formulas.PBFormulaArchiveIndex)
+      PBFormulaArchiveIndexOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 27,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBFormulaArchiveIndex.class.getName());
+    }
+    // Use PBFormulaArchiveIndex.newBuilder() to construct.
+    private PBFormulaArchiveIndex(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBFormulaArchiveIndex() {
+      variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      segment_ = java.util.Collections.emptyList();
+      entry_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveIndex_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveIndex_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex.Builder.class);
+    }
+
+    public static final int VARIABLE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList variable_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <pre>
+     * variable table of the whole archive
+     * </pre>
+     *
+     * <code>repeated string variable = 1;</code>
+     * @return A list containing the variable.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getVariableList() {
+      return variable_;
+    }
+    /**
+     * <pre>
+     * variable table of the whole archive
+     * </pre>
+     *
+     * <code>repeated string variable = 1;</code>
+     * @return The count of variable.
+     */
+    public int getVariableCount() {
+      return variable_.size();
+    }
+    /**
+     * <pre>
+     * variable table of the whole archive
+     * </pre>
+     *
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the element to return.
+     * @return The variable at the given index.
+     */
+    public java.lang.String getVariable(int index) {
+      return variable_.get(index);
+    }
+    /**
+     * <pre>
+     * variable table of the whole archive
+     * </pre>
+     *
+     * <code>repeated string variable = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the variable at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getVariableBytes(int index) {
+      return variable_.getByteString(index);
+    }
+
+    public static final int SEGMENT_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment> segment_;
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment> getSegmentList() {
+      return segment_;
+    }
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegmentOrBuilder> 
+        getSegmentOrBuilderList() {
+      return segment_;
+    }
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+     */
+    @java.lang.Override
+    public int getSegmentCount() {
+      return segment_.size();
+    }
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment getSegment(int index) {
+      return segment_.get(index);
+    }
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegmentOrBuilder getSegmentOrBuilder(
+        int index) {
+      return segment_.get(index);
+    }
+
+    public static final int ENTRY_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry> entry_;
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry> getEntryList() {
+      return entry_;
+    }
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntryOrBuilder> 
+        getEntryOrBuilderList() {
+      return entry_;
+    }
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+     */
+    @java.lang.Override
+    public int getEntryCount() {
+      return entry_.size();
+    }
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry getEntry(int index) {
+      return entry_.get(index);
+    }
+    /**
+     * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+     */
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntryOrBuilder getEntryOrBuilder(
+        int index) {
+      return entry_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < variable_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, variable_.getRaw(i));
+      }
+      for (int i = 0; i < segment_.size(); i++) {
+        output.writeMessage(2, segment_.get(i));
+      }
+      for (int i = 0; i < entry_.size(); i++) {
+        output.writeMessage(3, entry_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < variable_.size(); i++) {
+          dataSize += computeStringSizeNoTag(variable_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getVariableList().size();
+      }
+      for (int i = 0; i < segment_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, segment_.get(i));
+      }
+      for (int i = 0; i < entry_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, entry_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex other = (com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex) obj;
+
+      if (!getVariableList()
+          .equals(other.getVariableList())) return false;
+      if (!getSegmentList()
+          .equals(other.getSegmentList())) return false;
+      if (!getEntryList()
+          .equals(other.getEntryList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getVariableCount() > 0) {
+        hash = (37 * hash) + VARIABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getVariableList().hashCode();
+      }
+      if (getSegmentCount() > 0) {
+        hash = (37 * hash) + SEGMENT_FIELD_NUMBER;
+        hash = (53 * hash) + getSegmentList().hashCode();
+      }
+      if (getEntryCount() > 0) {
+        hash = (37 * hash) + ENTRY_FIELD_NUMBER;
+        hash = (53 * hash) + getEntryList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code formulas.PBFormulaArchiveIndex}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:formulas.PBFormulaArchiveIndex)
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndexOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveIndex_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveIndex_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        variable_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        if (segmentBuilder_ == null) {
+          segment_ = java.util.Collections.emptyList();
+        } else {
+          segment_ = null;
+          segmentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (entryBuilder_ == null) {
+          entry_ = java.util.Collections.emptyList();
+        } else {
+          entry_ = null;
+          entryBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveIndex_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex getDefaultInstanceForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex build() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex buildPartial() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex result = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex result) {
+        if (segmentBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            segment_ = java.util.Collections.unmodifiableList(segment_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.segment_ = segment_;
+        } else {
+          result.segment_ = segmentBuilder_.build();
+        }
+        if (entryBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            entry_ = java.util.Collections.unmodifiableList(entry_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.entry_ = entry_;
+        } else {
+          result.entry_ = entryBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          variable_.makeImmutable();
+          result.variable_ = variable_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex) {
+          return mergeFrom((com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex other) {
+        if (other == com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex.getDefaultInstance()) return this;
+        if (!other.variable_.isEmpty()) {
+          if (variable_.isEmpty()) {
+            variable_ = other.variable_;
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureVariableIsMutable();
+            variable_.addAll(other.variable_);
+          }
+          onChanged();
+        }
+        if (segmentBuilder_ == null) {
+          if (!other.segment_.isEmpty()) {
+            if (segment_.isEmpty()) {
+              segment_ = other.segment_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureSegmentIsMutable();
+              segment_.addAll(other.segment_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.segment_.isEmpty()) {
+            if (segmentBuilder_.isEmpty()) {
+              segmentBuilder_.dispose();
+              segmentBuilder_ = null;
+              segment_ = other.segment_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              segmentBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getSegmentFieldBuilder() : null;
+            } else {
+              segmentBuilder_.addAllMessages(other.segment_);
+            }
+          }
+        }
+        if (entryBuilder_ == null) {
+          if (!other.entry_.isEmpty()) {
+            if (entry_.isEmpty()) {
+              entry_ = other.entry_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureEntryIsMutable();
+              entry_.addAll(other.entry_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entry_.isEmpty()) {
+            if (entryBuilder_.isEmpty()) {
+              entryBuilder_.dispose();
+              entryBuilder_ = null;
+              entry_ = other.entry_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              entryBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEntryFieldBuilder() : null;
+            } else {
+              entryBuilder_.addAllMessages(other.entry_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureVariableIsMutable();
+                variable_.add(s);
+                break;
+              } // case 10
+              case 18: {
+                com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment m =
+                    input.readMessage(
+                        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.parser(),
+                        extensionRegistry);
+                if (segmentBuilder_ == null) {
+                  ensureSegmentIsMutable();
+                  segment_.add(m);
+                } else {
+                  segmentBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              case 26: {
+                com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry m =
+                    input.readMessage(
+                        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.parser(),
+                        extensionRegistry);
+                if (entryBuilder_ == null) {
+                  ensureEntryIsMutable();
+                  entry_.add(m);
+                } else {
+                  entryBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringArrayList variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureVariableIsMutable() {
+        if (!variable_.isModifiable()) {
+          variable_ = new com.google.protobuf.LazyStringArrayList(variable_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <pre>
+       * variable table of the whole archive
+       * </pre>
+       *
+       * <code>repeated string variable = 1;</code>
+       * @return A list containing the variable.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getVariableList() {
+        variable_.makeImmutable();
+        return variable_;
+      }
+      /**
+       * <pre>
+       * variable table of the whole archive
+       * </pre>
+       *
+       * <code>repeated string variable = 1;</code>
+       * @return The count of variable.
+       */
+      public int getVariableCount() {
+        return variable_.size();
+      }
+      /**
+       * <pre>
+       * variable table of the whole archive
+       * </pre>
+       *
+       * <code>repeated string variable = 1;</code>
+       * @param index The index of the element to return.
+       * @return The variable at the given index.
+       */
+      public java.lang.String getVariable(int index) {
+        return variable_.get(index);
+      }
+      /**
+       * <pre>
+       * variable table of the whole archive
+       * </pre>
+       *
+       * <code>repeated string variable = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the variable at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getVariableBytes(int index) {
+        return variable_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * variable table of the whole archive
+       * </pre>
+       *
+       * <code>repeated string variable = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The variable to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVariable(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureVariableIsMutable();
+        variable_.set(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * variable table of the whole archive
+       * </pre>
+       *
+       * <code>repeated string variable = 1;</code>
+       * @param value The variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVariable(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureVariableIsMutable();
+        variable_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * variable table of the whole archive
+       * </pre>
+       *
+       * <code>repeated string variable = 1;</code>
+       * @param values The variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllVariable(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureVariableIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, variable_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * variable table of the whole archive
+       * </pre>
+       *
+       * <code>repeated string variable = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVariable() {
+        variable_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * variable table of the whole archive
+       * </pre>
+       *
+       * <code>repeated string variable = 1;</code>
+       * @param value The bytes of the variable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVariableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureVariableIsMutable();
+        variable_.add(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment> segment_ =
+        java.util.Collections.emptyList();
+      private void ensureSegmentIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          segment_ = new java.util.ArrayList<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment>(segment_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegmentOrBuilder> segmentBuilder_;
+
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment> getSegmentList() {
+        if (segmentBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(segment_);
+        } else {
+          return segmentBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public int getSegmentCount() {
+        if (segmentBuilder_ == null) {
+          return segment_.size();
+        } else {
+          return segmentBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment getSegment(int index) {
+        if (segmentBuilder_ == null) {
+          return segment_.get(index);
+        } else {
+          return segmentBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public Builder setSegment(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment value) {
+        if (segmentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSegmentIsMutable();
+          segment_.set(index, value);
+          onChanged();
+        } else {
+          segmentBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public Builder setSegment(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder builderForValue) {
+        if (segmentBuilder_ == null) {
+          ensureSegmentIsMutable();
+          segment_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          segmentBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public Builder addSegment(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment value) {
+        if (segmentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSegmentIsMutable();
+          segment_.add(value);
+          onChanged();
+        } else {
+          segmentBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public Builder addSegment(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment value) {
+        if (segmentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSegmentIsMutable();
+          segment_.add(index, value);
+          onChanged();
+        } else {
+          segmentBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public Builder addSegment(
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder builderForValue) {
+        if (segmentBuilder_ == null) {
+          ensureSegmentIsMutable();
+          segment_.add(builderForValue.build());
+          onChanged();
+        } else {
+          segmentBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public Builder addSegment(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder builderForValue) {
+        if (segmentBuilder_ == null) {
+          ensureSegmentIsMutable();
+          segment_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          segmentBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public Builder addAllSegment(
+          java.lang.Iterable<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment> values) {
+        if (segmentBuilder_ == null) {
+          ensureSegmentIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, segment_);
+          onChanged();
+        } else {
+          segmentBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public Builder clearSegment() {
+        if (segmentBuilder_ == null) {
+          segment_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          segmentBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public Builder removeSegment(int index) {
+        if (segmentBuilder_ == null) {
+          ensureSegmentIsMutable();
+          segment_.remove(index);
+          onChanged();
+        } else {
+          segmentBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder getSegmentBuilder(
+          int index) {
+        return getSegmentFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegmentOrBuilder getSegmentOrBuilder(
+          int index) {
+        if (segmentBuilder_ == null) {
+          return segment_.get(index);  } else {
+          return segmentBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public java.util.List<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegmentOrBuilder> 
+           getSegmentOrBuilderList() {
+        if (segmentBuilder_ != null) {
+          return segmentBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(segment_);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder addSegmentBuilder() {
+        return getSegmentFieldBuilder().addBuilder(
+            com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder addSegmentBuilder(
+          int index) {
+        return getSegmentFieldBuilder().addBuilder(
+            index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveSegment segment = 2;</code>
+       */
+      public java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder> 
+           getSegmentBuilderList() {
+        return getSegmentFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegmentOrBuilder> 
+          getSegmentFieldBuilder() {
+        if (segmentBuilder_ == null) {
+          segmentBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegmentOrBuilder>(
+                  segment_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          segment_ = null;
+        }
+        return segmentBuilder_;
+      }
+
+      private java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry> entry_ =
+        java.util.Collections.emptyList();
+      private void ensureEntryIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          entry_ = new java.util.ArrayList<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry>(entry_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntryOrBuilder> entryBuilder_;
+
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry> getEntryList() {
+        if (entryBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entry_);
+        } else {
+          return entryBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public int getEntryCount() {
+        if (entryBuilder_ == null) {
+          return entry_.size();
+        } else {
+          return entryBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry getEntry(int index) {
+        if (entryBuilder_ == null) {
+          return entry_.get(index);
+        } else {
+          return entryBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public Builder setEntry(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.set(index, value);
+          onChanged();
+        } else {
+          entryBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public Builder setEntry(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entryBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public Builder addEntry(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.add(value);
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public Builder addEntry(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry value) {
+        if (entryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntryIsMutable();
+          entry_.add(index, value);
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public Builder addEntry(
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public Builder addEntry(
+          int index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder builderForValue) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entryBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public Builder addAllEntry(
+          java.lang.Iterable<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry> values) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, entry_);
+          onChanged();
+        } else {
+          entryBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public Builder clearEntry() {
+        if (entryBuilder_ == null) {
+          entry_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          entryBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public Builder removeEntry(int index) {
+        if (entryBuilder_ == null) {
+          ensureEntryIsMutable();
+          entry_.remove(index);
+          onChanged();
+        } else {
+          entryBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder getEntryBuilder(
+          int index) {
+        return getEntryFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntryOrBuilder getEntryOrBuilder(
+          int index) {
+        if (entryBuilder_ == null) {
+          return entry_.get(index);  } else {
+          return entryBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public java.util.List<? extends com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntryOrBuilder> 
+           getEntryOrBuilderList() {
+        if (entryBuilder_ != null) {
+          return entryBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entry_);
+        }
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder addEntryBuilder() {
+        return getEntryFieldBuilder().addBuilder(
+            com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder addEntryBuilder(
+          int index) {
+        return getEntryFieldBuilder().addBuilder(
+            index, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .formulas.PBFormulaArchiveEntry entry = 3;</code>
+       */
+      public java.util.List<com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder> 
+           getEntryBuilderList() {
+        return getEntryFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntryOrBuilder> 
+          getEntryFieldBuilder() {
+        if (entryBuilder_ == null) {
+          entryBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntryOrBuilder>(
+                  entry_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entry_ = null;
+        }
+        return entryBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:formulas.PBFormulaArchiveIndex)
+    }
+
+    // @@protoc_insertion_point(class_scope:formulas.PBFormulaArchiveIndex)
+    private static final com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex();
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBFormulaArchiveIndex>
+        PARSER = new com.google.protobuf.AbstractParser<PBFormulaArchiveIndex>() {
+      @java.lang.Override
+      public PBFormulaArchiveIndex parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBFormulaArchiveIndex> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBFormulaArchiveIndex> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBFormulaArchiveSegmentOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:formulas.PBFormulaArchiveSegment)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * byte offset of the segment's PBFormulaMapping in the archive
+     * </pre>
+     *
+     * <code>int64 offset = 1;</code>
+     * @return The offset.
+     */
+    long getOffset();
+
+    /**
+     * <pre>
+     * byte length of the segment's PBFormulaMapping
+     * </pre>
+     *
+     * <code>int32 length = 2;</code>
+     * @return The length.
+     */
+    int getLength();
+
+    /**
+     * <pre>
+     * ID of the first node of the segment
+     * </pre>
+     *
+     * <code>int32 firstNode = 3;</code>
+     * @return The firstNode.
+     */
+    int getFirstNode();
+
+    /**
+     * <code>int32 nodeCount = 4;</code>
+     * @return The nodeCount.
+     */
+    int getNodeCount();
+
+    /**
+     * <pre>
+     * segments containing operands of the nodes of this segment in ascending order
+     * </pre>
+     *
+     * <code>repeated int32 dependency = 5;</code>
+     * @return A list containing the dependency.
+     */
+    java.util.List<java.lang.Integer> getDependencyList();
+    /**
+     * <pre>
+     * segments containing operands of the nodes of this segment in ascending order
+     * </pre>
+     *
+     * <code>repeated int32 dependency = 5;</code>
+     * @return The count of dependency.
+     */
+    int getDependencyCount();
+    /**
+     * <pre>
+     * segments containing operands of the nodes of this segment in ascending order
+     * </pre>
+     *
+     * <code>repeated int32 dependency = 5;</code>
+     * @param index The index of the element to return.
+     * @return The dependency at the given index.
+     */
+    int getDependency(int index);
+  }
+  /**
+   * Protobuf type {@code formulas.PBFormulaArchiveSegment}
+   */
+  public static final class PBFormulaArchiveSegment extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:formulas.PBFormulaArchiveSegment)
+      PBFormulaArchiveSegmentOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 27,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBFormulaArchiveSegment.class.getName());
+    }
+    // Use PBFormulaArchiveSegment.newBuilder() to construct.
+    private PBFormulaArchiveSegment(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBFormulaArchiveSegment() {
+      dependency_ = emptyIntList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveSegment_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveSegment_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder.class);
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 1;
+    private long offset_ = 0L;
+    /**
+     * <pre>
+     * byte offset of the segment's PBFormulaMapping in the archive
+     * </pre>
+     *
+     * <code>int64 offset = 1;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public long getOffset() {
+      return offset_;
+    }
+
+    public static final int LENGTH_FIELD_NUMBER = 2;
+    private int length_ = 0;
+    /**
+     * <pre>
+     * byte length of the segment's PBFormulaMapping
+     * </pre>
+     *
+     * <code>int32 length = 2;</code>
+     * @return The length.
+     */
+    @java.lang.Override
+    public int getLength() {
+      return length_;
+    }
+
+    public static final int FIRSTNODE_FIELD_NUMBER = 3;
+    private int firstNode_ = 0;
+    /**
+     * <pre>
+     * ID of the first node of the segment
+     * </pre>
+     *
+     * <code>int32 firstNode = 3;</code>
+     * @return The firstNode.
+     */
+    @java.lang.Override
+    public int getFirstNode() {
+      return firstNode_;
+    }
+
+    public static final int NODECOUNT_FIELD_NUMBER = 4;
+    private int nodeCount_ = 0;
+    /**
+     * <code>int32 nodeCount = 4;</code>
+     * @return The nodeCount.
+     */
+    @java.lang.Override
+    public int getNodeCount() {
+      return nodeCount_;
+    }
+
+    public static final int DEPENDENCY_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList dependency_ =
+        emptyIntList();
+    /**
+     * <pre>
+     * segments containing operands of the nodes of this segment in ascending order
+     * </pre>
+     *
+     * <code>repeated int32 dependency = 5;</code>
+     * @return A list containing the dependency.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getDependencyList() {
+      return dependency_;
+    }
+    /**
+     * <pre>
+     * segments containing operands of the nodes of this segment in ascending order
+     * </pre>
+     *
+     * <code>repeated int32 dependency = 5;</code>
+     * @return The count of dependency.
+     */
+    public int getDependencyCount() {
+      return dependency_.size();
+    }
+    /**
+     * <pre>
+     * segments containing operands of the nodes of this segment in ascending order
+     * </pre>
+     *
+     * <code>repeated int32 dependency = 5;</code>
+     * @param index The index of the element to return.
+     * @return The dependency at the given index.
+     */
+    public int getDependency(int index) {
+      return dependency_.getInt(index);
+    }
+    private int dependencyMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (offset_ != 0L) {
+        output.writeInt64(1, offset_);
+      }
+      if (length_ != 0) {
+        output.writeInt32(2, length_);
+      }
+      if (firstNode_ != 0) {
+        output.writeInt32(3, firstNode_);
+      }
+      if (nodeCount_ != 0) {
+        output.writeInt32(4, nodeCount_);
+      }
+      if (getDependencyList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(dependencyMemoizedSerializedSize);
+      }
+      for (int i = 0; i < dependency_.size(); i++) {
+        output.writeInt32NoTag(dependency_.getInt(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (offset_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, offset_);
+      }
+      if (length_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, length_);
+      }
+      if (firstNode_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, firstNode_);
+      }
+      if (nodeCount_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, nodeCount_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < dependency_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dependency_.getInt(i));
+        }
+        size += dataSize;
+        if (!getDependencyList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        dependencyMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment other = (com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment) obj;
+
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (getLength()
+          != other.getLength()) return false;
+      if (getFirstNode()
+          != other.getFirstNode()) return false;
+      if (getNodeCount()
+          != other.getNodeCount()) return false;
+      if (!getDependencyList()
+          .equals(other.getDependencyList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getOffset());
+      hash = (37 * hash) + LENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + getLength();
+      hash = (37 * hash) + FIRSTNODE_FIELD_NUMBER;
+      hash = (53 * hash) + getFirstNode();
+      hash = (37 * hash) + NODECOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeCount();
+      if (getDependencyCount() > 0) {
+        hash = (37 * hash) + DEPENDENCY_FIELD_NUMBER;
+        hash = (53 * hash) + getDependencyList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code formulas.PBFormulaArchiveSegment}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:formulas.PBFormulaArchiveSegment)
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegmentOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveSegment_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveSegment_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        offset_ = 0L;
+        length_ = 0;
+        firstNode_ = 0;
+        nodeCount_ = 0;
+        dependency_ = emptyIntList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveSegment_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment getDefaultInstanceForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment build() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment buildPartial() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment result = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.offset_ = offset_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.length_ = length_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.firstNode_ = firstNode_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.nodeCount_ = nodeCount_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          dependency_.makeImmutable();
+          result.dependency_ = dependency_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment) {
+          return mergeFrom((com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment other) {
+        if (other == com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment.getDefaultInstance()) return this;
+        if (other.getOffset() != 0L) {
+          setOffset(other.getOffset());
+        }
+        if (other.getLength() != 0) {
+          setLength(other.getLength());
+        }
+        if (other.getFirstNode() != 0) {
+          setFirstNode(other.getFirstNode());
+        }
+        if (other.getNodeCount() != 0) {
+          setNodeCount(other.getNodeCount());
+        }
+        if (!other.dependency_.isEmpty()) {
+          if (dependency_.isEmpty()) {
+            dependency_ = other.dependency_;
+            dependency_.makeImmutable();
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureDependencyIsMutable();
+            dependency_.addAll(other.dependency_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                offset_ = input.readInt64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                length_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                firstNode_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                nodeCount_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                int v = input.readInt32();
+                ensureDependencyIsMutable();
+                dependency_.addInt(v);
+                break;
+              } // case 40
+              case 42: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureDependencyIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  dependency_.addInt(input.readInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private long offset_ ;
+      /**
+       * <pre>
+       * byte offset of the segment's PBFormulaMapping in the archive
+       * </pre>
+       *
+       * <code>int64 offset = 1;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public long getOffset() {
+        return offset_;
+      }
+      /**
+       * <pre>
+       * byte offset of the segment's PBFormulaMapping in the archive
+       * </pre>
+       *
+       * <code>int64 offset = 1;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(long value) {
+
+        offset_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * byte offset of the segment's PBFormulaMapping in the archive
+       * </pre>
+       *
+       * <code>int64 offset = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        offset_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int length_ ;
+      /**
+       * <pre>
+       * byte length of the segment's PBFormulaMapping
+       * </pre>
+       *
+       * <code>int32 length = 2;</code>
+       * @return The length.
+       */
+      @java.lang.Override
+      public int getLength() {
+        return length_;
+      }
+      /**
+       * <pre>
+       * byte length of the segment's PBFormulaMapping
+       * </pre>
+       *
+       * <code>int32 length = 2;</code>
+       * @param value The length to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLength(int value) {
+
+        length_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * byte length of the segment's PBFormulaMapping
+       * </pre>
+       *
+       * <code>int32 length = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLength() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        length_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int firstNode_ ;
+      /**
+       * <pre>
+       * ID of the first node of the segment
+       * </pre>
+       *
+       * <code>int32 firstNode = 3;</code>
+       * @return The firstNode.
+       */
+      @java.lang.Override
+      public int getFirstNode() {
+        return firstNode_;
+      }
+      /**
+       * <pre>
+       * ID of the first node of the segment
+       * </pre>
+       *
+       * <code>int32 firstNode = 3;</code>
+       * @param value The firstNode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFirstNode(int value) {
+
+        firstNode_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * ID of the first node of the segment
+       * </pre>
+       *
+       * <code>int32 firstNode = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFirstNode() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        firstNode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int nodeCount_ ;
+      /**
+       * <code>int32 nodeCount = 4;</code>
+       * @return The nodeCount.
+       */
+      @java.lang.Override
+      public int getNodeCount() {
+        return nodeCount_;
+      }
+      /**
+       * <code>int32 nodeCount = 4;</code>
+       * @param value The nodeCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeCount(int value) {
+
+        nodeCount_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 nodeCount = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodeCount() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        nodeCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList dependency_ = emptyIntList();
+      private void ensureDependencyIsMutable() {
+        if (!dependency_.isModifiable()) {
+          dependency_ = makeMutableCopy(dependency_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <pre>
+       * segments containing operands of the nodes of this segment in ascending order
+       * </pre>
+       *
+       * <code>repeated int32 dependency = 5;</code>
+       * @return A list containing the dependency.
+       */
+      public java.util.List<java.lang.Integer>
+          getDependencyList() {
+        dependency_.makeImmutable();
+        return dependency_;
+      }
+      /**
+       * <pre>
+       * segments containing operands of the nodes of this segment in ascending order
+       * </pre>
+       *
+       * <code>repeated int32 dependency = 5;</code>
+       * @return The count of dependency.
+       */
+      public int getDependencyCount() {
+        return dependency_.size();
+      }
+      /**
+       * <pre>
+       * segments containing operands of the nodes of this segment in ascending order
+       * </pre>
+       *
+       * <code>repeated int32 dependency = 5;</code>
+       * @param index The index of the element to return.
+       * @return The dependency at the given index.
+       */
+      public int getDependency(int index) {
+        return dependency_.getInt(index);
+      }
+      /**
+       * <pre>
+       * segments containing operands of the nodes of this segment in ascending order
+       * </pre>
+       *
+       * <code>repeated int32 dependency = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The dependency to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDependency(
+          int index, int value) {
+
+        ensureDependencyIsMutable();
+        dependency_.setInt(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * segments containing operands of the nodes of this segment in ascending order
+       * </pre>
+       *
+       * <code>repeated int32 dependency = 5;</code>
+       * @param value The dependency to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDependency(int value) {
+
+        ensureDependencyIsMutable();
+        dependency_.addInt(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * segments containing operands of the nodes of this segment in ascending order
+       * </pre>
+       *
+       * <code>repeated int32 dependency = 5;</code>
+       * @param values The dependency to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDependency(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureDependencyIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, dependency_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * segments containing operands of the nodes of this segment in ascending order
+       * </pre>
+       *
+       * <code>repeated int32 dependency = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDependency() {
+        dependency_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:formulas.PBFormulaArchiveSegment)
+    }
+
+    // @@protoc_insertion_point(class_scope:formulas.PBFormulaArchiveSegment)
+    private static final com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment();
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PBFormulaArchiveSegment>
+        PARSER = new com.google.protobuf.AbstractParser<PBFormulaArchiveSegment>() {
+      @java.lang.Override
+      public PBFormulaArchiveSegment parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PBFormulaArchiveSegment> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PBFormulaArchiveSegment> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PBFormulaArchiveEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:formulas.PBFormulaArchiveEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * ID of the formula
+     * </pre>
+     *
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    int getId();
+
+    /**
+     * <code>optional string key = 2;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>optional string key = 2;</code>
+     * @return The key.
+     */
+    java.lang.String getKey();
+    /**
+     * <code>optional string key = 2;</code>
+     * @return The bytes for key.
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+  }
+  /**
+   * Protobuf type {@code formulas.PBFormulaArchiveEntry}
+   */
+  public static final class PBFormulaArchiveEntry extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:formulas.PBFormulaArchiveEntry)
+      PBFormulaArchiveEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 27,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PBFormulaArchiveEntry.class.getName());
+    }
+    // Use PBFormulaArchiveEntry.newBuilder() to construct.
+    private PBFormulaArchiveEntry(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private PBFormulaArchiveEntry() {
+      key_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveEntry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_ = 0;
+    /**
+     * <pre>
+     * ID of the formula
+     * </pre>
+     *
+     * <code>int32 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public int getId() {
+      return id_;
+    }
+
+    public static final int KEY_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object key_ = "";
+    /**
+     * <code>optional string key = 2;</code>
+     * @return Whether the key field is set.
+     */
+    @java.lang.Override
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string key = 2;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string key = 2;</code>
+     * @return The bytes for key.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (id_ != 0) {
+        output.writeInt32(1, id_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, key_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (id_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, id_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, key_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry)) {
+        return super.equals(obj);
+      }
+      com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry other = (com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry) obj;
+
+      if (getId()
+          != other.getId()) return false;
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId();
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code formulas.PBFormulaArchiveEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:formulas.PBFormulaArchiveEntry)
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveEntry_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.class, com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.Builder.class);
+      }
+
+      // Construct using com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = 0;
+        key_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.internal_static_formulas_PBFormulaArchiveEntry_descriptor;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry getDefaultInstanceForType() {
+        return com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry build() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry buildPartial() {
+        com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry result = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.key_ = key_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
       }
-      /**
-       * <code>repeated int64 coefficient = 3;</code>
-       * @param index The index to set the value at.
-       * @param value The coefficient to set.
-       * @return This builder for chaining.
-       */
-      public Builder setCoefficient(
-          int index, long value) {
 
-        ensureCoefficientIsMutable();
-        coefficient_.setLong(index, value);
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry) {
+          return mergeFrom((com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
       }
-      /**
-       * <code>repeated int64 coefficient = 3;</code>
-       * @param value The coefficient to add.
-       * @return This builder for chaining.
-       */
-      public Builder addCoefficient(long value) {
 
-        ensureCoefficientIsMutable();
-        coefficient_.addLong(value);
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated int64 coefficient = 3;</code>
-       * @param values The coefficient to add.
-       * @return This builder for chaining.
-       */
-      public Builder addAllCoefficient(
-          java.lang.Iterable<? extends java.lang.Long> values) {
-        ensureCoefficientIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, coefficient_);
-        bitField0_ |= 0x00000004;
+      public Builder mergeFrom(com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry other) {
+        if (other == com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry.getDefaultInstance()) return this;
+        if (other.getId() != 0) {
+          setId(other.getId());
+        }
+        if (other.hasKey()) {
+          key_ = other.key_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
-      /**
-       * <code>repeated int64 coefficient = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearCoefficient() {
-        coefficient_ = emptyLongList();
-        bitField0_ = (bitField0_ & ~0x00000004);
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
       }
 
-      private com.google.protobuf.LazyStringArrayList literal_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-      private void ensureLiteralIsMutable() {
-        if (!literal_.isModifiable()) {
-          literal_ = new com.google.protobuf.LazyStringArrayList(literal_);
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
         }
-        bitField0_ |= 0x00000008;
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                id_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                key_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
       }
+      private int bitField0_;
+
+      private int id_ ;
       /**
        * <pre>
-       * including phase with/out `-`
+       * ID of the formula
        * </pre>
        *
-       * <code>repeated string literal = 4;</code>
-       * @return A list containing the literal.
+       * <code>int32 id = 1;</code>
+       * @return The id.
        */
-      public com.google.protobuf.ProtocolStringList
-          getLiteralList() {
-        literal_.makeImmutable();
-        return literal_;
+      @java.lang.Override
+      public int getId() {
+        return id_;
       }
       /**
        * <pre>
-       * including phase with/out `-`
+       * ID of the formula
        * </pre>
        *
-       * <code>repeated string literal = 4;</code>
-       * @return The count of literal.
+       * <code>int32 id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
        */
-      public int getLiteralCount() {
-        return literal_.size();
+      public Builder setId(int value) {
+
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
       }
       /**
        * <pre>
-       * including phase with/out `-`
+       * ID of the formula
        * </pre>
        *
-       * <code>repeated string literal = 4;</code>
-       * @param index The index of the element to return.
-       * @return The literal at the given index.
+       * <code>int32 id = 1;</code>
+       * @return This builder for chaining.
        */
-      public java.lang.String getLiteral(int index) {
-        return literal_.get(index);
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = 0;
+        onChanged();
+        return this;
       }
+
+      private java.lang.Object key_ = "";
       /**
-       * <pre>
-       * including phase with/out `-`
-       * </pre>
-       *
-       * <code>repeated string literal = 4;</code>
-       * @param index The index of the value to return.
-       * @return The bytes of the literal at the given index.
+       * <code>optional string key = 2;</code>
+       * @return Whether the key field is set.
        */
-      public com.google.protobuf.ByteString
-          getLiteralBytes(int index) {
-        return literal_.getByteString(index);
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000002) != 0);
       }
       /**
-       * <pre>
-       * including phase with/out `-`
-       * </pre>
-       *
-       * <code>repeated string literal = 4;</code>
-       * @param index The index to set the value at.
-       * @param value The literal to set.
-       * @return This builder for chaining.
+       * <code>optional string key = 2;</code>
+       * @return The key.
        */
-      public Builder setLiteral(
-          int index, java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        ensureLiteralIsMutable();
-        literal_.set(index, value);
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <pre>
-       * including phase with/out `-`
-       * </pre>
-       *
-       * <code>repeated string literal = 4;</code>
-       * @param value The literal to add.
-       * @return This builder for chaining.
+       * <code>optional string key = 2;</code>
+       * @return The bytes for key.
        */
-      public Builder addLiteral(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        ensureLiteralIsMutable();
-        literal_.add(value);
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
       /**
-       * <pre>
-       * including phase with/out `-`
-       * </pre>
-       *
-       * <code>repeated string literal = 4;</code>
-       * @param values The literal to add.
+       * <code>optional string key = 2;</code>
+       * @param value The key to set.
        * @return This builder for chaining.
        */
-      public Builder addAllLiteral(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureLiteralIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, literal_);
-        bitField0_ |= 0x00000008;
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        key_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
       /**
-       * <pre>
-       * including phase with/out `-`
-       * </pre>
-       *
-       * <code>repeated string literal = 4;</code>
+       * <code>optional string key = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearLiteral() {
-        literal_ =
-          com.google.protobuf.LazyStringArrayList.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000008);;
+      public Builder clearKey() {
+        key_ = getDefaultInstance().getKey();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
-       * <pre>
-       * including phase with/out `-`
-       * </pre>
-       *
-       * <code>repeated string literal = 4;</code>
-       * @param value The bytes of the literal to add.
+       * <code>optional string key = 2;</code>
+       * @param value The bytes for key to set.
        * @return This builder for chaining.
        */
-      public Builder addLiteralBytes(
+      public Builder setKeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) { throw new NullPointerException(); }
         checkByteStringIsUtf8(value);
-        ensureLiteralIsMutable();
-        literal_.add(value);
-        bitField0_ |= 0x00000008;
+        key_ = value;
+        bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:formulas.PBInternalPseudoBooleanConstraint)
+      // @@protoc_insertion_point(builder_scope:formulas.PBFormulaArchiveEntry)
     }
 
-    // @@protoc_insertion_point(class_scope:formulas.PBInternalPseudoBooleanConstraint)
-    private static final com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:formulas.PBFormulaArchiveEntry)
+    private static final com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint();
+      DEFAULT_INSTANCE = new com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry();
     }
 
-    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getDefaultInstance() {
+    public static com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PBInternalPseudoBooleanConstraint>
-        PARSER = new com.google.protobuf.AbstractParser<PBInternalPseudoBooleanConstraint>() {
+    private static final com.google.protobuf.Parser<PBFormulaArchiveEntry>
+        PARSER = new com.google.protobuf.AbstractParser<PBFormulaArchiveEntry>() {
       @java.lang.Override
-      public PBInternalPseudoBooleanConstraint parsePartialFrom(
+      public PBFormulaArchiveEntry parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4169,17 +10508,17 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       }
     };
 
-    public static com.google.protobuf.Parser<PBInternalPseudoBooleanConstraint> parser() {
+    public static com.google.protobuf.Parser<PBFormulaArchiveEntry> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PBInternalPseudoBooleanConstraint> getParserForType() {
+    public com.google.protobuf.Parser<PBFormulaArchiveEntry> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint getDefaultInstanceForType() {
+    public com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -4190,6 +10529,11 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_formulas_PBFormulas_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_formulas_PBFormulaBaseReference_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_formulas_PBFormulaBaseReference_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_formulas_PBFormulaMapping_descriptor;
   private static final 
@@ -4210,6 +10554,21 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_formulas_PBInternalPseudoBooleanConstraint_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_formulas_PBFormulaArchiveIndex_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_formulas_PBFormulaArchiveIndex_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_formulas_PBFormulaArchiveSegment_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_formulas_PBFormulaArchiveSegment_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_formulas_PBFormulaArchiveEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_formulas_PBFormulaArchiveEntry_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -4219,22 +10578,40 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\016formulas.proto\022\010formulas\"E\n\nPBFormulas" +
-      "\022\n\n\002id\030\001 \003(\005\022+\n\007mapping\030\002 \001(\0132\032.formulas" +
-      ".PBFormulaMapping\"\231\001\n\020PBFormulaMapping\0228" +
-      "\n\007mapping\030\001 \003(\0132\'.formulas.PBFormulaMapp" +
-      "ing.MappingEntry\032K\n\014MappingEntry\022\013\n\003key\030" +
-      "\001 \001(\005\022*\n\005value\030\002 \001(\0132\033.formulas.PBIntern" +
-      "alFormula:\0028\001\"\364\001\n\021PBInternalFormula\022*\n\004t" +
-      "ype\030\001 \001(\0162\027.formulas.PBFormulaTypeH\000\210\001\001\022" +
-      "\022\n\005value\030\002 \001(\010H\001\210\001\001\022\025\n\010variable\030\003 \001(\tH\002\210" +
-      "\001\001\022F\n\014pbConstraint\030\004 \001(\0132+.formulas.PBIn" +
-      "ternalPseudoBooleanConstraintH\003\210\001\001\022\017\n\007op" +
-      "erand\030\005 \003(\005B\007\n\005_typeB\010\n\006_valueB\013\n\t_varia" +
-      "bleB\017\n\r_pbConstraint\"\202\001\n!PBInternalPseud" +
-      "oBooleanConstraint\022*\n\ncomparator\030\001 \001(\0162\026" +
-      ".formulas.PBComparison\022\013\n\003rhs\030\002 \001(\003\022\023\n\013c" +
-      "oefficient\030\003 \003(\003\022\017\n\007literal\030\004 \003(\t*6\n\014PBC" +
+      "\n\016formulas.proto\022\010formulas\"\203\001\n\nPBFormula" +
+      "s\022\n\n\002id\030\001 \003(\005\022+\n\007mapping\030\002 \001(\0132\032.formula" +
+      "s.PBFormulaMapping\0223\n\004base\030\003 \001(\0132 .formu" +
+      "las.PBFormulaBaseReferenceH\000\210\001\001B\007\n\005_base" +
+      "\"a\n\026PBFormulaBaseReference\022\014\n\004name\030\001 \001(\t" +
+      "\022\017\n\007version\030\002 \001(\005\022\021\n\tnodeCount\030\003 \001(\005\022\025\n\r" +
+      "variableCount\030\004 \001(\005\"\326\001\n\020PBFormulaMapping" +
+      "\0228\n\007mapping\030\001 \003(\0132\'.formulas.PBFormulaMa" +
+      "pping.MappingEntry\022\020\n\010variable\030\002 \003(\t\022)\n\004" +
+      "node\030\003 \003(\0132\033.formulas.PBInternalFormula\032" +
+      "K\n\014MappingEntry\022\013\n\003key\030\001 \001(\005\022*\n\005value\030\002 " +
+      "\001(\0132\033.formulas.PBInternalFormula:\0028\001\"\327\002\n" +
+      "\021PBInternalFormula\022*\n\004type\030\001 \001(\0162\027.formu" +
+      "las.PBFormulaTypeH\000\210\001\001\022\022\n\005value\030\002 \001(\010H\001\210" +
+      "\001\001\022\025\n\010variable\030\003 \001(\tH\002\210\001\001\022F\n\014pbConstrain" +
+      "t\030\004 \001(\0132+.formulas.PBInternalPseudoBoole" +
+      "anConstraintH\003\210\001\001\022\017\n\007operand\030\005 \003(\005\022\024\n\007li" +
+      "teral\030\006 \001(\021H\004\210\001\001\022\024\n\014operandDelta\030\007 \003(\021\022\025" +
+      "\n\rclauseLiteral\030\010 \003(\021\022\022\n\nclauseSize\030\t \003(" +
+      "\005B\007\n\005_typeB\010\n\006_valueB\013\n\t_variableB\017\n\r_pb" +
+      "ConstraintB\n\n\010_literal\"\314\001\n!PBInternalPse" +
+      "udoBooleanConstraint\022*\n\ncomparator\030\001 \001(\016" +
+      "2\026.formulas.PBComparison\022\013\n\003rhs\030\002 \001(\003\022\023\n" +
+      "\013coefficient\030\003 \003(\003\022\017\n\007literal\030\004 \003(\t\022\024\n\014l" +
+      "iteralIndex\030\005 \003(\021\022\030\n\020coefficientValue\030\006 " +
+      "\003(\021\022\030\n\020unitCoefficients\030\007 \001(\010\"\215\001\n\025PBForm" +
+      "ulaArchiveIndex\022\020\n\010variable\030\001 \003(\t\0222\n\007seg" +
+      "ment\030\002 \003(\0132!.formulas.PBFormulaArchiveSe" +
+      "gment\022.\n\005entry\030\003 \003(\0132\037.formulas.PBFormul" +
+      "aArchiveEntry\"s\n\027PBFormulaArchiveSegment" +
+      "\022\016\n\006offset\030\001 \001(\003\022\016\n\006length\030\002 \001(\005\022\021\n\tfirs" +
+      "tNode\030\003 \001(\005\022\021\n\tnodeCount\030\004 \001(\005\022\022\n\ndepend" +
+      "ency\030\005 \003(\005\"=\n\025PBFormulaArchiveEntry\022\n\n\002i" +
+      "d\030\001 \001(\005\022\020\n\003key\030\002 \001(\tH\000\210\001\001B\006\n\004_key*6\n\014PBC" +
       "omparison\022\006\n\002EQ\020\000\022\006\n\002GT\020\001\022\006\n\002GE\020\002\022\006\n\002LT\020" +
       "\003\022\006\n\002LE\020\004*n\n\rPBFormulaType\022\t\n\005CONST\020\000\022\013\n" +
       "\007LITERAL\020\001\022\007\n\003NOT\020\002\022\007\n\003AND\020\003\022\006\n\002OR\020\004\022\010\n\004" +
@@ -4251,13 +10628,19 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
     internal_static_formulas_PBFormulas_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_formulas_PBFormulas_descriptor,
-        new java.lang.String[] { "Id", "Mapping", });
-    internal_static_formulas_PBFormulaMapping_descriptor =
+        new java.lang.String[] { "Id", "Mapping", "Base", });
+    internal_static_formulas_PBFormulaBaseReference_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_formulas_PBFormulaBaseReference_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_formulas_PBFormulaBaseReference_descriptor,
+        new java.lang.String[] { "Name", "Version", "NodeCount", "VariableCount", });
+    internal_static_formulas_PBFormulaMapping_descriptor =
+      getDescriptor().getMessageTypes().get(2);
     internal_static_formulas_PBFormulaMapping_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_formulas_PBFormulaMapping_descriptor,
-        new java.lang.String[] { "Mapping", });
+        new java.lang.String[] { "Mapping", "Variable", "Node", });
     internal_static_formulas_PBFormulaMapping_MappingEntry_descriptor =
       internal_static_formulas_PBFormulaMapping_descriptor.getNestedTypes().get(0);
     internal_static_formulas_PBFormulaMapping_MappingEntry_fieldAccessorTable = new
@@ -4265,17 +10648,35 @@ com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula defaultValue)
         internal_static_formulas_PBFormulaMapping_MappingEntry_descriptor,
         new java.lang.String[] { "Key", "Value", });
     internal_static_formulas_PBInternalFormula_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(3);
     internal_static_formulas_PBInternalFormula_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_formulas_PBInternalFormula_descriptor,
-        new java.lang.String[] { "Type", "Value", "Variable", "PbConstraint", "Operand", });
+        new java.lang.String[] { "Type", "Value", "Variable", "PbConstraint", "Operand", "Literal", "OperandDelta", "ClauseLiteral", "ClauseSize", });
     internal_static_formulas_PBInternalPseudoBooleanConstraint_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(4);
     internal_static_formulas_PBInternalPseudoBooleanConstraint_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_formulas_PBInternalPseudoBooleanConstraint_descriptor,
-        new java.lang.String[] { "Comparator", "Rhs", "Coefficient", "Literal", });
+        new java.lang.String[] { "Comparator", "Rhs", "Coefficient", "Literal", "LiteralIndex", "CoefficientValue", "UnitCoefficients", });
+    internal_static_formulas_PBFormulaArchiveIndex_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_formulas_PBFormulaArchiveIndex_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_formulas_PBFormulaArchiveIndex_descriptor,
+        new java.lang.String[] { "Variable", "Segment", "Entry", });
+    internal_static_formulas_PBFormulaArchiveSegment_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_formulas_PBFormulaArchiveSegment_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_formulas_PBFormulaArchiveSegment_descriptor,
+        new java.lang.String[] { "Offset", "Length", "FirstNode", "NodeCount", "Dependency", });
+    internal_static_formulas_PBFormulaArchiveEntry_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_formulas_PBFormulaArchiveEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_formulas_PBFormulaArchiveEntry_descriptor,
+        new java.lang.String[] { "Id", "Key", });
     descriptor.resolveAllFeaturesImmutable();
   }
 
@@ -0,0 +1,337 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A double-buffered file writer with a background thread.
+ * <p>
+ * The calling thread writes into one of two large buffers.  A full buffer is
+ * handed over to a background thread which compresses it with a codec and
+ * writes it to a {@link FileChannel}, while the calling thread fills the
+ * other buffer.  The calling thread only waits if both buffers are full.
+ * After {@link #close()}, the remaining data is written in the background and
+ * the {@link #result() result} is completed as soon as the file is forced to
+ * the storage device.
+ * <p>
+ * The data is written to a temporary file in the directory of the target file,
+ * which is atomically moved over the target file only if all data was written
+ * successfully.  If the caller fails to produce the data, it calls
+ * {@link #abort(Throwable)} instead of {@link #close()}, so an existing target
+ * file is never replaced by a partial one.
+ * <p>
+ * If the background thread fails, it still recycles the buffers until the
+ * writer is closed or aborted, so the calling thread never blocks on a failed
+ * writer.  The failure is reported by the next write or by the result.  If the
+ * background thread dies nevertheless, the calling thread notices the failed
+ * result while it waits for a buffer and stops waiting.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+final class AsyncFileWriter extends OutputStream {
+
+    /**
+     * The default size of the two buffers.
+     */
+    static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    private static final int CHANNEL_BUFFER_SIZE = 1 << 16;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final BlockingQueue<Chunk> full = new ArrayBlockingQueue<>(1);
+    private final BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(2);
+    private final CompletableFuture<Path> result = new CompletableFuture<>();
+    private volatile Throwable failure;
+    private byte[] buffer;
+    private int size;
+    private boolean closed;
+
+    private AsyncFileWriter(final int bufferSize) {
+        this.buffer = new byte[bufferSize];
+        this.free.add(new byte[bufferSize]);
+    }
+
+    /**
+     * Opens a new writer for a file and starts its background thread.  An
+     * existing file is replaced when the writer is closed.
+     * @param path       the file path
+     * @param codec      the compression codec
+     * @param bufferSize the size of each of the two buffers
+     * @return the writer
+     */
+    static AsyncFileWriter open(final Path path, final Codec codec, final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        final AsyncFileWriter writer = new AsyncFileWriter(bufferSize);
+        final Thread thread = new Thread(() -> writer.drain(path, codec), "snapshot-writer");
+        thread.setDaemon(true);
+        thread.start();
+        return writer;
+    }
+
+    /**
+     * Returns the result of this writer.  It is completed with the file path
+     * when all data was written and forced to the storage device, or
+     * exceptionally if there was a problem writing the file.
+     * @return the result of this writer
+     */
+    CompletableFuture<Path> result() {
+        return this.result;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        if (this.size == this.buffer.length) {
+            handOver();
+        }
+        this.buffer[this.size++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (this.size == this.buffer.length) {
+                handOver();
+            }
+            final int n = Math.min(len, this.buffer.length - this.size);
+            System.arraycopy(b, off, this.buffer, this.size, n);
+            this.size += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Hands the remaining data over to the background thread and returns
+     * without waiting for it to be written.
+     * @throws IOException if the calling thread is interrupted or the background thread died
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            put(new Chunk(this.buffer, this.size, true));
+            this.buffer = null;
+        }
+    }
+
+    /**
+     * Discards the data written so far and completes the result exceptionally
+     * with the given cause.  The target file is left untouched.  Does nothing
+     * if the writer is already closed.
+     * @param cause the reason for the abort
+     */
+    void abort(final Throwable cause) {
+        if (!this.closed) {
+            this.closed = true;
+            this.buffer = null;
+            final Chunk chunk = new Chunk(cause);
+            boolean interrupted = false;
+            boolean handedOver = false;
+            while (!handedOver) {
+                try {
+                    handedOver = this.full.offer(chunk, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS) || this.result.isDone();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Writer is closed");
+        }
+        ensureRunning();
+    }
+
+    private void ensureRunning() throws IOException {
+        final Throwable cause = this.failure;
+        if (cause != null) {
+            throw new IOException("Background writer failed", cause);
+        }
+    }
+
+    private void handOver() throws IOException {
+        put(new Chunk(this.buffer, this.size, false));
+        try {
+            byte[] next;
+            while ((next = this.free.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                ensureRunning();
+            }
+            this.buffer = next;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free buffer");
+        }
+        this.size = 0;
+    }
+
+    private void put(final Chunk chunk) throws IOException {
+        try {
+            while (!this.full.offer(chunk, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                ensureRunning();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while handing over a buffer");
+        }
+    }
+
+    private void drain(final Path path, final Codec codec) {
+        Throwable error = null;
+        Path temp = null;
+        FileChannel channel = null;
+        OutputStream output = null;
+        boolean interrupted = false;
+        try {
+            final Path target = path.toAbsolutePath();
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            output = Codecs.newOutputStream(new BufferedOutputStream(new ChannelOutputStream(channel), CHANNEL_BUFFER_SIZE), codec);
+        } catch (final Throwable e) {
+            error = e;
+        }
+        try {
+            Chunk chunk = null;
+            while (chunk == null || !chunk.last) {
+                try {
+                    chunk = this.full.take();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                    if (error == null) {
+                        error = new InterruptedIOException("Background writer was interrupted");
+                    }
+                    continue;
+                }
+                if (chunk.abort != null) {
+                    if (error == null) {
+                        error = chunk.abort;
+                    }
+                } else if (error == null) {
+                    try {
+                        output.write(chunk.data, 0, chunk.length);
+                        if (chunk.last) {
+                            output.close();
+                            channel.force(true);
+                        }
+                    } catch (final Throwable e) {
+                        error = e;
+                    }
+                }
+                if (error != null) {
+                    this.failure = error;
+                }
+                if (!chunk.last) {
+                    this.free.add(chunk.data);
+                }
+            }
+            if (channel != null) {
+                channel.close();
+            }
+            if (error == null) {
+                move(temp, path);
+                this.result.complete(path);
+            }
+        } catch (final Throwable e) {
+            error = e;
+            this.failure = e;
+        }
+        if (error != null) {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+            this.result.completeExceptionally(error);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void deleteQuietly(final Path temp) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (final IOException e) {
+            // the failure is reported by the result
+        }
+    }
+
+    private static void move(final Path temp, final Path path) throws IOException {
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * A buffer handed over to the background thread.
+     */
+    private static final class Chunk {
+        private final byte[] data;
+        private final int length;
+        private final boolean last;
+        private final Throwable abort;
+
+        private Chunk(final byte[] data, final int length, final boolean last) {
+            this.data = data;
+            this.length = length;
+            this.last = last;
+            this.abort = null;
+        }
+
+        private Chunk(final Throwable abort) {
+            this.data = null;
+            this.length = 0;
+            this.last = true;
+            this.abort = abort;
+        }
+    }
+
+    /**
+     * A stream which writes to a file channel and does not close it, so the
+     * channel can be forced after the codec has finished.
+     */
+    private static final class ChannelOutputStream extends OutputStream {
+        private final FileChannel channel;
+
+        private ChannelOutputStream(final FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula;
+import org.logicng.formulas.FType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.PBConstraint;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A canonical serialization of formulas with a content hash.
+ * <p>
+ * The serialization of {@link Formulas#serializeFormulas(Collection)} depends
+ * on the order in which the formula factory stores the operands of a formula,
+ * so equal formulas from different factories can be serialized to different
+ * bytes.  The canonical serialization only depends on the structure of the
+ * formulas:
+ * <ul>
+ *     <li>every node has a SHA-256 digest which is computed from its type,
+ *     its variable name and phase, or the digests of its operands,</li>
+ *     <li>the operands of conjunctions, disjunctions and equivalences are
+ *     ordered by their digest, and their digests are combined in this order,</li>
+ *     <li>the literals of pseudo-Boolean constraints keep their order, since
+ *     it is part of the identity of a constraint on the formula factory,</li>
+ *     <li>the nodes are numbered in post-order of a traversal which visits the
+ *     operands in this order, and the variables are numbered by their first
+ *     occurrence in this traversal.</li>
+ * </ul>
+ * So equal lists of formulas have the same canonical protocol buffer and the
+ * same content hash, independent of the formula factory and the JVM.  The
+ * canonical protocol buffer is a regular {@link PBFormulas} message and can
+ * be deserialized with {@link Formulas#deserializeFormulaList}.
+ * <p>
+ * The content hash is the SHA-256 digest of the number of formulas and the
+ * digests of the formulas in the order of the list.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public final class CanonicalFormulas {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private final PBFormulas serialized;
+    private final byte[] contentHash;
+
+    private CanonicalFormulas(final PBFormulas serialized, final byte[] contentHash) {
+        this.serialized = serialized;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Serializes a list of formulas canonically and computes its content hash.
+     * @param formulas the formulas
+     * @return the canonical serialization
+     */
+    public static CanonicalFormulas serialize(final Collection<Formula> formulas) {
+        final NodeDigests digests = new NodeDigests();
+        final byte[] contentHash = digests.contentHash(formulas);
+        return new CanonicalFormulas(new CanonicalSerializer(digests).serialize(formulas), contentHash);
+    }
+
+    /**
+     * Computes the content hash of a list of formulas without serializing them.
+     * @param formulas the formulas
+     * @return the content hash
+     */
+    public static byte[] contentHash(final Collection<Formula> formulas) {
+        return new NodeDigests().contentHash(formulas);
+    }
+
+    /**
+     * Returns the canonical protocol buffer.
+     * @return the canonical protocol buffer
+     */
+    public PBFormulas serialized() {
+        return this.serialized;
+    }
+
+    /**
+     * Returns the content hash.
+     * @return the content hash
+     */
+    public byte[] contentHash() {
+        return this.contentHash.clone();
+    }
+
+    /**
+     * Returns the content hash as lower-case hexadecimal string.
+     * @return the content hash as hexadecimal string
+     */
+    public String contentHashHex() {
+        final StringBuilder sb = new StringBuilder(2 * this.contentHash.length);
+        for (final byte b : this.contentHash) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "CanonicalFormulas{" +
+                "contentHash=" + contentHashHex() +
+                ", nodes=" + this.serialized.getMapping().getNodeCount() +
+                '}';
+    }
+
+    private static int compareDigests(final byte[] d1, final byte[] d2) {
+        for (int i = 0; i < d1.length; i++) {
+            final int c = Integer.compare(d1[i] & 0xFF, d2[i] & 0xFF);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The digests of formula nodes.  The digests are computed bottom-up and
+     * stored by the ID of the nodes in a node table.
+     */
+    private static final class NodeDigests {
+        private final FormulaNodeTable table;
+        private final List<byte[]> digests;
+        private final MessageDigest md;
+
+        private NodeDigests() {
+            this.table = new FormulaNodeTable();
+            this.digests = new ArrayList<>();
+            try {
+                this.md = MessageDigest.getInstance(ALGORITHM);
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException(ALGORITHM + " is not available", e);
+            }
+        }
+
+        private byte[] contentHash(final Collection<Formula> formulas) {
+            final List<byte[]> roots = new ArrayList<>(formulas.size());
+            for (final Formula formula : formulas) {
+                roots.add(digest(formula));
+            }
+            updateInt(formulas.size());
+            roots.forEach(this.md::update);
+            return this.md.digest();
+        }
+
+        private byte[] digest(final Formula formula) {
+            return this.digests.get(this.table.add(formula, (node, id) -> this.digests.add(compute(node))));
+        }
+
+        private byte[] get(final Formula node) {
+            return this.digests.get(this.table.id(node));
+        }
+
+        private Formula[] sortedOperands(final Formula node) {
+            final Formula[] operands = new Formula[node.numberOfOperands()];
+            int i = 0;
+            for (final Formula op : node) {
+                operands[i++] = op;
+            }
+            switch (node.type()) {
+                case AND:
+                case OR:
+                case EQUIV:
+                    Arrays.sort(operands, (op1, op2) -> compareDigests(get(op1), get(op2)));
+                    break;
+                default:
+                    break;
+            }
+            return operands;
+        }
+
+        private byte[] compute(final Formula node) {
+            this.md.update((byte) FormulaEncoder.type(node).getNumber());
+            switch (node.type()) {
+                case TRUE:
+                case FALSE:
+                    this.md.update((byte) (node.type() == FType.TRUE ? 1 : 0));
+                    break;
+                case LITERAL:
+                    updateLiteral((Literal) node);
+                    break;
+                case PBC:
+                    final PBConstraint pbc = (PBConstraint) node;
+                    final Literal[] literals = pbc.operands();
+                    final int[] coefficients = pbc.coefficients();
+                    updateInt(Formulas.serializeCType(pbc.comparator()).getNumber());
+                    updateInt(pbc.rhs());
+                    updateInt(literals.length);
+                    for (int i = 0; i < literals.length; i++) {
+                        updateLiteral(literals[i]);
+                        updateInt(coefficients[i]);
+                    }
+                    break;
+                default:
+                    final Formula[] operands = sortedOperands(node);
+                    updateInt(operands.length);
+                    for (final Formula op : operands) {
+                        this.md.update(get(op));
+                    }
+            }
+            return this.md.digest();
+        }
+
+        private void updateLiteral(final Literal literal) {
+            final byte[] name = literal.name().getBytes(StandardCharsets.UTF_8);
+            this.md.update((byte) (literal.phase() ? 1 : 0));
+            updateInt(name.length);
+            this.md.update(name);
+        }
+
+        private void updateInt(final int value) {
+            this.md.update((byte) (value >>> 24));
+            this.md.update((byte) (value >>> 16));
+            this.md.update((byte) (value >>> 8));
+            this.md.update((byte) value);
+        }
+    }
+
+    /**
+     * A serializer which numbers the nodes in the canonical order.
+     */
+    private static final class CanonicalSerializer {
+        private final NodeDigests digests;
+        private final FormulaNodeTable table;
+        private final List<PBInternalFormula> nodes;
+
+        private CanonicalSerializer(final NodeDigests digests) {
+            this.digests = digests;
+            this.table = new FormulaNodeTable();
+            this.nodes = new ArrayList<>();
+        }
+
+        private PBFormulas serialize(final Collection<Formula> formulas) {
+            final PBFormulas.Builder builder = PBFormulas.newBuilder();
+            for (final Formula formula : formulas) {
+                builder.addId(add(formula));
+            }
+            return builder
+                    .setMapping(PBFormulaMapping.newBuilder()
+                            .addAllVariable(this.table.variables())
+                            .addAllNode(this.nodes)
+                            .build())
+                    .build();
+        }
+
+        private int add(final Formula formula) {
+            final int existing = this.table.id(formula);
+            if (existing >= 0) {
+                return existing;
+            }
+            final Deque<Frame> stack = new ArrayDeque<>();
+            stack.push(new Frame(formula, this.digests.sortedOperands(formula)));
+            while (!stack.isEmpty()) {
+                final Frame top = stack.peek();
+                if (top.next < top.operands.length) {
+                    final Formula operand = top.operands[top.next++];
+                    if (this.table.id(operand) < 0) {
+                        stack.push(new Frame(operand, this.digests.sortedOperands(operand)));
+                    }
+                } else {
+                    stack.pop();
+                    this.table.add(top.node, (node, id) -> this.nodes.add(serializeNode(node, top.operands)));
+                }
+            }
+            return this.table.id(formula);
+        }
+
+        private PBInternalFormula serializeNode(final Formula node, final Formula[] operands) {
+            switch (node.type()) {
+                case AND:
+                case OR:
+                case EQUIV:
+                    final PBInternalFormula.Builder builder = PBInternalFormula.newBuilder().setType(FormulaEncoder.type(node));
+                    for (final Formula op : operands) {
+                        builder.addOperand(this.table.id(op));
+                    }
+                    return builder.build();
+                default:
+                    return Formulas.serialize(node, this.table);
+            }
+        }
+    }
+
+    /**
+     * A node on the traversal stack with its operands in canonical order.
+     */
+    private static final class Frame {
+        private final Formula node;
+        private final Formula[] operands;
+        private int next;
+
+        private Frame(final Formula node, final Formula[] operands) {
+            this.node = node;
+            this.operands = operands;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A compression codec for serialized files.
+ * <p>
+ * Files written with a codec start with a small header which contains the
+ * ID of the codec, so readers detect the codec automatically (see
+ * {@link Codecs}).  The built-in codecs are available from {@link Codecs},
+ * custom codecs can be registered with {@link Codecs#register(Codec)}.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public interface Codec {
+
+    /**
+     * Returns the ID of this codec which is stored in the file header.  The
+     * IDs 0 to 15 are reserved for the built-in codecs.
+     * @return the ID of this codec, between 0 and 255
+     */
+    int id();
+
+    /**
+     * Returns a stream which compresses all written data to the given stream.
+     * Closing the returned stream finishes the compression and closes the
+     * given stream.
+     * @param out the stream for the compressed data
+     * @return the compressing stream
+     * @throws IOException if there is a problem writing to the stream
+     */
+    OutputStream compress(OutputStream out) throws IOException;
+
+    /**
+     * Returns a stream which decompresses the data of the given stream.
+     * Closing the returned stream closes the given stream.
+     * @param in the stream with the compressed data
+     * @return the decompressing stream
+     * @throws IOException if there is a problem reading from the stream
+     */
+    InputStream decompress(InputStream in) throws IOException;
+}
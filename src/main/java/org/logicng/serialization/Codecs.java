@@ -0,0 +1,290 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The built-in compression codecs and the file header of codecs.
+ * <p>
+ * A file written with a codec starts with a header of four bytes: the magic
+ * bytes {@code LNG} and the ID of the codec.  Readers detect the codec from
+ * this header.  Files without a header, written by the methods with a
+ * {@code compress} flag, are detected as well: GZIP files by their magic
+ * bytes, all other files are read as uncompressed protocol buffers.  Since a
+ * protocol buffer never starts with the byte {@code L} (it would be an end
+ * group tag), the header is unambiguous.
+ * <p>
+ * The built-in codecs are
+ * <ul>
+ *     <li>{@link #raw()}: no compression,</li>
+ *     <li>{@link #deflate(int, int)}: the JDK {@link Deflater} with a given
+ *     level and strategy, for a good compression ratio,</li>
+ *     <li>{@link #lz()}: a fast pure-Java LZ77 codec in the style of LZ4,
+ *     for a high compression and decompression speed.</li>
+ * </ul>
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public final class Codecs {
+
+    static final int RAW_ID = 0;
+    static final int DEFLATE_ID = 1;
+    static final int LZ_ID = 2;
+
+    /**
+     * The IDs up to this bound are reserved for the built-in codecs.
+     */
+    static final int RESERVED_IDS = 16;
+
+    /**
+     * The length of the codec header in bytes.
+     */
+    static final int HEADER_LENGTH = 4;
+
+    private static final byte[] MAGIC = {'L', 'N', 'G'};
+    private static final int GZIP_MAGIC_0 = 0x1f;
+    private static final int GZIP_MAGIC_1 = 0x8b;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Codec RAW = new RawCodec();
+    private static final Codec DEFLATE = new DeflateCodec(Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+    private static final Codec LZ = new LzCodec();
+
+    private static final Map<Integer, Codec> CODECS = new ConcurrentHashMap<>();
+
+    static {
+        CODECS.put(RAW_ID, RAW);
+        CODECS.put(DEFLATE_ID, DEFLATE);
+        CODECS.put(LZ_ID, LZ);
+    }
+
+    private Codecs() {
+        // Only static methods
+    }
+
+    /**
+     * Returns the codec without compression.
+     * @return the codec
+     */
+    public static Codec raw() {
+        return RAW;
+    }
+
+    /**
+     * Returns the deflate codec with the default level and strategy.
+     * @return the codec
+     */
+    public static Codec deflate() {
+        return DEFLATE;
+    }
+
+    /**
+     * Returns a deflate codec with a given level and strategy.  The level and
+     * strategy only affect the compression, files of all deflate codecs are
+     * read the same way.
+     * @param level    the compression level from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION},
+     *                 or {@link Deflater#DEFAULT_COMPRESSION}
+     * @param strategy the compression strategy, e.g. {@link Deflater#DEFAULT_STRATEGY} or {@link Deflater#FILTERED}
+     * @return the codec
+     */
+    public static Codec deflate(final int level, final int strategy) {
+        return new DeflateCodec(level, strategy);
+    }
+
+    /**
+     * Returns the fast LZ codec.
+     * @return the codec
+     */
+    public static Codec lz() {
+        return LZ;
+    }
+
+    /**
+     * Registers a custom codec, so that files written with it can be read
+     * with {@link #newInputStream(InputStream)}.
+     * @param codec the codec
+     * @throws IllegalArgumentException if the ID of the codec is reserved, out of range, or registered for another codec
+     */
+    public static void register(final Codec codec) {
+        final int id = codec.id();
+        if (id < RESERVED_IDS || id > 255) {
+            throw new IllegalArgumentException("Codec ID must be between " + RESERVED_IDS + " and 255: " + id);
+        }
+        final Codec existing = CODECS.putIfAbsent(id, codec);
+        if (existing != null && existing != codec) {
+            throw new IllegalArgumentException("Codec ID " + id + " is already registered");
+        }
+    }
+
+    /**
+     * Writes the header of a codec to a stream and returns a stream which
+     * compresses all written data with the codec.
+     * @param out   the stream
+     * @param codec the codec
+     * @return the compressing stream
+     * @throws IOException if there is a problem writing to the stream
+     */
+    public static OutputStream newOutputStream(final OutputStream out, final Codec codec) throws IOException {
+        out.write(MAGIC);
+        out.write(codec.id());
+        return codec.compress(out);
+    }
+
+    /**
+     * Reads the header of a stream and returns a stream which decompresses
+     * the data of the stream with the codec of the header.  Streams without a
+     * header are either GZIP compressed or uncompressed.
+     * @param in the stream
+     * @return the decompressing stream
+     * @throws IOException if there is a problem reading from the stream or the codec of the header is unknown
+     */
+    public static InputStream newInputStream(final InputStream in) throws IOException {
+        final PushbackInputStream pushback = new PushbackInputStream(in, HEADER_LENGTH);
+        final byte[] header = new byte[HEADER_LENGTH];
+        int length = 0;
+        int read;
+        while (length < HEADER_LENGTH && (read = pushback.read(header, length, HEADER_LENGTH - length)) >= 0) {
+            length += read;
+        }
+        if (length == HEADER_LENGTH && hasMagic(header)) {
+            return codec(header[3] & 0xff).decompress(pushback);
+        }
+        pushback.unread(header, 0, length);
+        if (length >= 2 && (header[0] & 0xff) == GZIP_MAGIC_0 && (header[1] & 0xff) == GZIP_MAGIC_1) {
+            return new GZIPInputStream(pushback, BUFFER_SIZE);
+        }
+        return pushback;
+    }
+
+    /**
+     * Returns the offset of the uncompressed protocol buffer in a file, if the
+     * file is uncompressed.
+     * @param path the file path
+     * @return the length of the header of an uncompressed file or -1 if the file is compressed
+     * @throws IOException if there is a problem reading the file
+     */
+    static int uncompressedOffset(final Path path) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read the header
+            }
+        }
+        final int length = header.position();
+        if (length == HEADER_LENGTH && hasMagic(header.array())) {
+            return (header.get(3) & 0xff) == RAW_ID ? HEADER_LENGTH : -1;
+        }
+        if (length >= 2 && (header.get(0) & 0xff) == GZIP_MAGIC_0 && (header.get(1) & 0xff) == GZIP_MAGIC_1) {
+            return -1;
+        }
+        return 0;
+    }
+
+    private static boolean hasMagic(final byte[] header) {
+        return header[0] == MAGIC[0] && header[1] == MAGIC[1] && header[2] == MAGIC[2];
+    }
+
+    private static Codec codec(final int id) throws IOException {
+        final Codec codec = CODECS.get(id);
+        if (codec == null) {
+            throw new IOException("Unknown codec ID " + id);
+        }
+        return codec;
+    }
+
+    /**
+     * The codec without compression.
+     */
+    private static final class RawCodec implements Codec {
+
+        @Override
+        public int id() {
+            return RAW_ID;
+        }
+
+        @Override
+        public OutputStream compress(final OutputStream out) {
+            return out;
+        }
+
+        @Override
+        public InputStream decompress(final InputStream in) {
+            return in;
+        }
+
+        @Override
+        public String toString() {
+            return "raw";
+        }
+    }
+
+    /**
+     * The codec of the JDK {@link Deflater} in the zlib format.
+     */
+    private static final class DeflateCodec implements Codec {
+        private final int level;
+        private final int strategy;
+
+        private DeflateCodec(final int level, final int strategy) {
+            this.level = level;
+            this.strategy = strategy;
+        }
+
+        @Override
+        public int id() {
+            return DEFLATE_ID;
+        }
+
+        @Override
+        public OutputStream compress(final OutputStream out) {
+            final Deflater deflater = new Deflater(this.level);
+            deflater.setStrategy(this.strategy);
+            return new DeflaterOutputStream(out, deflater, BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deflater.end();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public InputStream decompress(final InputStream in) {
+            final Inflater inflater = new Inflater();
+            return new InflaterInputStream(in, inflater, BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inflater.end();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "deflate{level=" + this.level + ", strategy=" + this.strategy + "}";
+        }
+    }
+}
@@ -0,0 +1,295 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A preset dictionary for the compression of small messages.
+ * <p>
+ * Small messages like single formulas or propositions of a few hundred bytes
+ * hardly shrink with deflate, since the compression starts with an empty
+ * window.  With a preset dictionary, the window is filled with the typical
+ * content of the messages, e.g. variable names and common structures, before
+ * the compression starts.  A dictionary is trained once with
+ * {@link #train(Collection, int)} on a sample of serialized messages and
+ * shipped to all senders and receivers with {@link #bytes()}.
+ * <p>
+ * The compressed messages use the zlib format with a preset dictionary.  Its
+ * header contains the Adler-32 checksum of the dictionary as the
+ * {@link #id() dictionary ID}, so readers with several dictionaries pick the
+ * right one with {@link #decompress(byte[], Collection)}.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public final class CompressionDictionary {
+
+    /**
+     * The maximal size of a dictionary, i.e. the size of the deflate window.
+     */
+    public static final int MAX_SIZE = 32 * 1024;
+
+    private static final int K = 8;
+    private static final int SEGMENT_LENGTH = 64;
+    private static final int HEADER_LENGTH = 6;
+    private static final int FLAG_DICTIONARY = 0x20;
+
+    private final byte[] bytes;
+    private final int id;
+
+    private CompressionDictionary(final byte[] bytes) {
+        this.bytes = bytes;
+        final Adler32 adler = new Adler32();
+        adler.update(bytes, 0, bytes.length);
+        this.id = (int) adler.getValue();
+    }
+
+    /**
+     * Creates a dictionary from its bytes, e.g. as received from the sender.
+     * @param bytes the bytes of the dictionary
+     * @return the dictionary
+     * @throws IllegalArgumentException if the dictionary is empty or longer than {@link #MAX_SIZE}
+     */
+    public static CompressionDictionary of(final byte[] bytes) {
+        if (bytes.length == 0 || bytes.length > MAX_SIZE) {
+            throw new IllegalArgumentException("Dictionary size must be between 1 and " + MAX_SIZE + ": " + bytes.length);
+        }
+        return new CompressionDictionary(bytes.clone());
+    }
+
+    /**
+     * Trains a dictionary on a sample of messages.
+     * <p>
+     * The samples are split into epochs, one per segment of 64 bytes of the
+     * dictionary.  From each epoch, the segment whose 8-byte sequences are
+     * most frequent in all samples is selected, and the frequencies of its
+     * sequences are reset, so that later segments cover other content.  The
+     * segments are concatenated with the best segments at the end of the
+     * dictionary, since deflate encodes shorter distances more compactly.
+     * @param samples the serialized sample messages
+     * @param size    the maximal size of the dictionary, at most {@link #MAX_SIZE}
+     * @return the dictionary
+     * @throws IllegalArgumentException if the size is out of range or the samples are too small for a dictionary
+     */
+    public static CompressionDictionary train(final Collection<byte[]> samples, final int size) {
+        if (size < SEGMENT_LENGTH || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Dictionary size must be between " + SEGMENT_LENGTH + " and " + MAX_SIZE + ": " + size);
+        }
+        final ByteArrayOutputStream concatenation = new ByteArrayOutputStream();
+        final List<Integer> ends = new ArrayList<>(samples.size());
+        for (final byte[] sample : samples) {
+            concatenation.write(sample, 0, sample.length);
+            ends.add(concatenation.size());
+        }
+        final byte[] data = concatenation.toByteArray();
+        final int[] sampleEnd = new int[data.length];
+        int from = 0;
+        for (final int end : ends) {
+            Arrays.fill(sampleEnd, from, end, end);
+            from = end;
+        }
+        final Map<Long, Integer> frequencies = new HashMap<>();
+        for (int pos = 0; pos + K <= data.length; pos++) {
+            if (pos + K <= sampleEnd[pos]) {
+                frequencies.merge(kmer(data, pos), 1, Integer::sum);
+            }
+        }
+        final List<Segment> segments = selectSegments(data, sampleEnd, frequencies, size / SEGMENT_LENGTH);
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("The samples contain no repeated content for a dictionary");
+        }
+        segments.sort(Comparator.comparingLong(s -> s.score));
+        final ByteArrayOutputStream dictionary = new ByteArrayOutputStream(size);
+        for (final Segment segment : segments) {
+            dictionary.write(data, segment.start, segment.end - segment.start);
+        }
+        final byte[] bytes = dictionary.toByteArray();
+        return new CompressionDictionary(bytes.length > size ? Arrays.copyOfRange(bytes, bytes.length - size, bytes.length) : bytes);
+    }
+
+    /**
+     * Returns the ID of this dictionary, the Adler-32 checksum of its bytes.
+     * @return the ID of this dictionary
+     */
+    public int id() {
+        return this.id;
+    }
+
+    /**
+     * Returns a copy of the bytes of this dictionary.
+     * @return the bytes of this dictionary
+     */
+    public byte[] bytes() {
+        return this.bytes.clone();
+    }
+
+    /**
+     * Returns the size of this dictionary in bytes.
+     * @return the size of this dictionary
+     */
+    public int size() {
+        return this.bytes.length;
+    }
+
+    /**
+     * Compresses a message with this dictionary.
+     * @param message the message
+     * @return the compressed message in the zlib format
+     */
+    public byte[] compress(final byte[] message) {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setDictionary(this.bytes);
+            deflater.setInput(message);
+            deflater.finish();
+            byte[] compressed = new byte[message.length + message.length / 8 + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, 2 * compressed.length);
+                }
+                length += deflater.deflate(compressed, length, compressed.length - length);
+            }
+            return Arrays.copyOf(compressed, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses a message which was compressed with this dictionary.
+     * @param compressed the compressed message
+     * @return the message
+     * @throws IOException if the message is corrupt or was compressed with another dictionary
+     */
+    public byte[] decompress(final byte[] compressed) throws IOException {
+        if (dictionaryId(compressed) != this.id) {
+            throw new IOException("Message was compressed with dictionary " + Integer.toHexString(dictionaryId(compressed))
+                    + ", not with dictionary " + Integer.toHexString(this.id));
+        }
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] message = new byte[Math.max(64, 4 * compressed.length)];
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == message.length) {
+                    message = Arrays.copyOf(message, 2 * message.length);
+                }
+                final int n = inflater.inflate(message, length, message.length - length);
+                if (n == 0 && inflater.needsDictionary()) {
+                    inflater.setDictionary(this.bytes);
+                } else if (n == 0 && !inflater.finished() && inflater.needsInput()) {
+                    throw new IOException("Corrupt compressed message");
+                }
+                length += n;
+            }
+            return Arrays.copyOf(message, length);
+        } catch (final DataFormatException e) {
+            throw new IOException("Corrupt compressed message", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Decompresses a message with the dictionary it was compressed with.
+     * @param compressed   the compressed message
+     * @param dictionaries the known dictionaries
+     * @return the message
+     * @throws IOException if the message is corrupt or its dictionary is unknown
+     */
+    public static byte[] decompress(final byte[] compressed, final Collection<CompressionDictionary> dictionaries) throws IOException {
+        final int id = dictionaryId(compressed);
+        for (final CompressionDictionary dictionary : dictionaries) {
+            if (dictionary.id == id) {
+                return dictionary.decompress(compressed);
+            }
+        }
+        throw new IOException("Unknown dictionary " + Integer.toHexString(id));
+    }
+
+    /**
+     * Returns the ID of the dictionary a message was compressed with.
+     * @param compressed the compressed message
+     * @return the dictionary ID
+     * @throws IOException if the message has no zlib header with a dictionary ID
+     */
+    public static int dictionaryId(final byte[] compressed) throws IOException {
+        if (compressed.length < HEADER_LENGTH || (compressed[0] & 0x0f) != Deflater.DEFLATED
+                || ((compressed[0] & 0xff) << 8 | compressed[1] & 0xff) % 31 != 0 || (compressed[1] & FLAG_DICTIONARY) == 0) {
+            throw new IOException("Message has no zlib header with a dictionary ID");
+        }
+        return (compressed[2] & 0xff) << 24 | (compressed[3] & 0xff) << 16 | (compressed[4] & 0xff) << 8 | compressed[5] & 0xff;
+    }
+
+    private static List<Segment> selectSegments(final byte[] data, final int[] sampleEnd, final Map<Long, Integer> frequencies,
+                                                final int count) {
+        final List<Segment> segments = new ArrayList<>(count);
+        final int epochLength = Math.max(SEGMENT_LENGTH, data.length / Math.max(1, count));
+        for (int epoch = 0; epoch < data.length; epoch += epochLength) {
+            final int epochEnd = Math.min(data.length, epoch + epochLength);
+            Segment best = null;
+            long score = 0;
+            int windowStart = epoch;
+            for (int pos = epoch; pos + K <= epochEnd; pos++) {
+                if (pos + K > sampleEnd[pos]) {
+                    windowStart = sampleEnd[pos];
+                    score = 0;
+                    continue;
+                }
+                score += frequencies.get(kmer(data, pos));
+                if (pos + K - windowStart > SEGMENT_LENGTH) {
+                    score -= frequencies.get(kmer(data, windowStart));
+                    windowStart++;
+                }
+                if (best == null || score > best.score) {
+                    best = new Segment(windowStart, pos + K, score);
+                }
+            }
+            if (best != null && best.score > best.end - best.start - K + 1) {
+                segments.add(best);
+                for (int pos = best.start; pos + K <= best.end; pos++) {
+                    frequencies.put(kmer(data, pos), 0);
+                }
+            }
+        }
+        return segments;
+    }
+
+    private static long kmer(final byte[] data, final int pos) {
+        long kmer = 0;
+        for (int i = 0; i < K; i++) {
+            kmer = kmer << 8 | (data[pos + i] & 0xff);
+        }
+        return kmer;
+    }
+
+    /**
+     * A segment of the samples with its score.
+     */
+    private static final class Segment {
+        private final int start;
+        private final int end;
+        private final long score;
+
+        private Segment(final int start, final int end, final long score) {
+            this.start = start;
+            this.end = end;
+            this.score = score;
+        }
+    }
+}
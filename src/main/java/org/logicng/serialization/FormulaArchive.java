@@ -0,0 +1,267 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.logicng.serialization.FormulaArchiveWriter.MAGIC;
+import static org.logicng.serialization.FormulaArchiveWriter.TRAILER_SIZE;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Random access to the formulas of an archive written by a {@link FormulaArchiveWriter}.
+ * <p>
+ * Opening an archive only reads its index.  A formula is read on its first
+ * access: only the node segments it requires are read from the file and only
+ * the nodes and variables of the formula itself are generated on the formula
+ * factory.  The required segments are the segment of the formula and all
+ * segments it transitively depends on.  Segments which were read once are kept, so formulas sharing
+ * sub-formulas with formulas read before require fewer reads.
+ * <p>
+ * An archive is not thread-safe.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class FormulaArchive implements Closeable {
+
+    private final FormulaFactory f;
+    private final FileChannel channel;
+    private final PBFormulaArchiveIndex index;
+    private final Map<String, Integer> keys;
+    private final int[] segmentFirstNodes;
+    private final PBFormulaMapping[] segmentMappings;
+    private final Formula[][] segmentNodes;
+    private final boolean[] closureLoaded;
+    private final int[] segmentVisits;
+    private final Variable[] variables;
+    private final IntFunction<Formula> id2formula;
+    private final FormulaNodeDeserializer deserializer;
+    private int[] buildStack;
+    private int visit;
+
+    private FormulaArchive(final FormulaFactory f, final FileChannel channel, final PBFormulaArchiveIndex index) {
+        this.f = f;
+        this.deserializer = new FormulaNodeDeserializer(f);
+        this.channel = channel;
+        this.index = index;
+        this.keys = new HashMap<>();
+        for (int i = 0; i < index.getEntryCount(); i++) {
+            final PBFormulaArchiveEntry entry = index.getEntry(i);
+            if (entry.hasKey()) {
+                this.keys.put(entry.getKey(), i);
+            }
+        }
+        this.segmentFirstNodes = new int[index.getSegmentCount()];
+        for (int i = 0; i < this.segmentFirstNodes.length; i++) {
+            this.segmentFirstNodes[i] = index.getSegment(i).getFirstNode();
+        }
+        this.segmentMappings = new PBFormulaMapping[index.getSegmentCount()];
+        this.segmentNodes = new Formula[index.getSegmentCount()][];
+        this.closureLoaded = new boolean[index.getSegmentCount()];
+        this.segmentVisits = new int[index.getSegmentCount()];
+        this.variables = new Variable[index.getVariableCount()];
+        this.id2formula = id -> {
+            final int segment = segmentOf(id);
+            return this.segmentNodes[segment][id - this.segmentFirstNodes[segment]];
+        };
+        this.buildStack = new int[64];
+    }
+
+    /**
+     * Opens a formula archive.  Only the index of the archive is read.
+     * @param f    the formula factory to generate the formulas
+     * @param path the file path
+     * @return the formula archive
+     * @throws IOException if there is a problem reading the file or the file is not a formula archive
+     */
+    public static FormulaArchive open(final FormulaFactory f, final Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final long size = channel.size();
+            if (size < TRAILER_SIZE) {
+                throw new IOException("Not a formula archive: " + path);
+            }
+            final ByteBuffer trailer = read(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+            final long indexSize = trailer.getLong();
+            if (trailer.getLong() != MAGIC || indexSize < 0 || indexSize > Math.min(Integer.MAX_VALUE, size - TRAILER_SIZE)) {
+                throw new IOException("Not a formula archive: " + path);
+            }
+            final ByteBuffer indexBytes = read(channel, size - TRAILER_SIZE - indexSize, (int) indexSize);
+            return new FormulaArchive(f, channel, PBFormulaArchiveIndex.parseFrom(indexBytes));
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of formulas in the archive.
+     * @return the number of formulas
+     */
+    public int size() {
+        return this.index.getEntryCount();
+    }
+
+    /**
+     * Returns the formula at the given position of the archive.
+     * @param position the position of the formula
+     * @return the formula
+     * @throws IndexOutOfBoundsException if the position is out of range
+     * @throws IOException               if there is a problem reading the file
+     */
+    public Formula get(final int position) throws IOException {
+        final PBFormulaArchiveEntry entry = this.index.getEntry(position);
+        loadClosure(segmentOf(entry.getId()));
+        return build(entry.getId());
+    }
+
+    /**
+     * Returns the formula with the given key.
+     * @param key the key of the formula
+     * @return the formula or {@code null} if there is no formula with this key
+     * @throws IOException if there is a problem reading the file
+     */
+    public Formula get(final String key) throws IOException {
+        final Integer position = this.keys.get(key);
+        return position == null ? null : get(position);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private void loadClosure(final int segment) throws IOException {
+        if (this.closureLoaded[segment]) {
+            return;
+        }
+        this.visit++;
+        final LNGIntVector closure = new LNGIntVector();
+        closure.push(segment);
+        this.segmentVisits[segment] = this.visit;
+        for (int i = 0; i < closure.size(); i++) {
+            final PBFormulaArchiveSegment range = this.index.getSegment(closure.get(i));
+            for (int j = 0; j < range.getDependencyCount(); j++) {
+                final int dependency = range.getDependency(j);
+                if (!this.closureLoaded[dependency] && this.segmentVisits[dependency] != this.visit) {
+                    this.segmentVisits[dependency] = this.visit;
+                    closure.push(dependency);
+                }
+            }
+        }
+        for (int i = 0; i < closure.size(); i++) {
+            loadSegment(closure.get(i));
+        }
+        for (int i = 0; i < closure.size(); i++) {
+            this.closureLoaded[closure.get(i)] = true;
+        }
+    }
+
+    private void loadSegment(final int segment) throws IOException {
+        if (this.segmentMappings[segment] != null) {
+            return;
+        }
+        final PBFormulaArchiveSegment range = this.index.getSegment(segment);
+        this.segmentMappings[segment] = PBFormulaMapping.parseFrom(read(this.channel, range.getOffset(), range.getLength()));
+        this.segmentNodes[segment] = new Formula[range.getNodeCount()];
+    }
+
+    private Formula build(final int id) {
+        int stackSize = 0;
+        this.buildStack[stackSize++] = id;
+        while (stackSize > 0) {
+            final int top = this.buildStack[stackSize - 1];
+            final int segment = segmentOf(top);
+            final int offset = top - this.segmentFirstNodes[segment];
+            if (this.segmentNodes[segment][offset] != null) {
+                stackSize--;
+                continue;
+            }
+            final PBInternalFormula node = this.segmentMappings[segment].getNode(offset);
+            boolean ready = true;
+            int operand = 0;
+            for (int i = 0; i < Formulas.operandCount(node); i++) {
+                operand = Formulas.operand(node, i, operand);
+                if (this.id2formula.apply(operand) == null) {
+                    if (stackSize == this.buildStack.length) {
+                        this.buildStack = Arrays.copyOf(this.buildStack, 2 * stackSize);
+                    }
+                    this.buildStack[stackSize++] = operand;
+                    ready = false;
+                }
+            }
+            if (ready) {
+                resolveVariables(node);
+                this.segmentNodes[segment][offset] = this.deserializer.deserialize(node, this.id2formula, this.variables);
+                stackSize--;
+            }
+        }
+        return this.id2formula.apply(id);
+    }
+
+    private void resolveVariables(final PBInternalFormula node) {
+        if (node.hasLiteral()) {
+            resolveVariable(node.getLiteral());
+        } else if (node.hasPbConstraint()) {
+            for (final int literal : node.getPbConstraint().getLiteralIndexList()) {
+                resolveVariable(literal);
+            }
+        } else {
+            for (int i = 0; i < node.getClauseLiteralCount(); i++) {
+                resolveVariable(node.getClauseLiteral(i));
+            }
+        }
+    }
+
+    private void resolveVariable(final int literal) {
+        final int index = Math.abs(literal) - 1;
+        if (this.variables[index] == null) {
+            this.variables[index] = this.f.variable(this.index.getVariable(index));
+        }
+    }
+
+    private int segmentOf(final int id) {
+        int low = 0;
+        int high = this.segmentFirstNodes.length - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (this.segmentFirstNodes[mid] <= id) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static ByteBuffer read(final FileChannel channel, final long position, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of formula archive");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,164 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveEntry;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveSegment;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.Formula;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A writer for indexed formula archives which can be read by a {@link FormulaArchive}.
+ * <p>
+ * An archive consists of a sequence of node segments, followed by an index and
+ * a fixed-size trailer.  Each segment is a {@link PBFormulaMapping} with the
+ * nodes introduced by one formula.  The index contains the variable table of
+ * the archive, for each segment its byte range and the segments containing
+ * the operands of its nodes, and for each formula its ID and its optional key.
+ * The trailer consists of the byte length of the index and a magic number.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class FormulaArchiveWriter implements Closeable {
+
+    static final long MAGIC = 0x4C4E47464152434BL;
+    static final int TRAILER_SIZE = 16;
+
+    private final OutputStream stream;
+    private final FormulaNodeTable table;
+    private final PBFormulaArchiveIndex.Builder index;
+    private final LNGIntVector segmentFirstNodes;
+    private final Set<String> keys;
+    private long position;
+
+    /**
+     * Constructs a new archive writer for the given file.
+     * @param path the file path
+     * @throws IOException if there is a problem opening the file
+     */
+    public FormulaArchiveWriter(final Path path) throws IOException {
+        this.stream = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16);
+        this.table = new FormulaNodeTable();
+        this.index = PBFormulaArchiveIndex.newBuilder();
+        this.segmentFirstNodes = new LNGIntVector();
+        this.keys = new HashSet<>();
+    }
+
+    /**
+     * Adds a formula without a key to the archive.
+     * @param formula the formula
+     * @return the position of the formula in the archive
+     * @throws IOException if there is a problem writing the file
+     */
+    public int add(final Formula formula) throws IOException {
+        return add(null, formula);
+    }
+
+    /**
+     * Adds a formula with a key to the archive.
+     * @param key     the key of the formula, may be {@code null}
+     * @param formula the formula
+     * @return the position of the formula in the archive
+     * @throws IOException              if there is a problem writing the file
+     * @throws IllegalArgumentException if the key was already used for another formula
+     */
+    public int add(final String key, final Formula formula) throws IOException {
+        if (key != null && !this.keys.add(key)) {
+            throw new IllegalArgumentException("Duplicate key in formula archive: " + key);
+        }
+        final int firstNode = this.table.size();
+        final PBFormulaMapping.Builder segment = PBFormulaMapping.newBuilder();
+        final LNGIntVector dependencies = new LNGIntVector();
+        final int id = this.table.add(formula, (node, nodeId) -> {
+            segment.addNode(Formulas.serialize(node, this.table));
+            for (final Formula op : node) {
+                final int opId = this.table.id(op);
+                if (opId >= 0 && opId < firstNode) {
+                    dependencies.push(segmentOf(opId));
+                }
+            }
+        });
+        if (segment.getNodeCount() > 0) {
+            writeSegment(segment.build(), firstNode, dependencies);
+        }
+        final PBFormulaArchiveEntry.Builder entry = PBFormulaArchiveEntry.newBuilder().setId(id);
+        if (key != null) {
+            entry.setKey(key);
+        }
+        this.index.addEntry(entry);
+        return this.index.getEntryCount() - 1;
+    }
+
+    /**
+     * Writes the index and closes the archive.
+     * @throws IOException if there is a problem writing the file
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            final PBFormulaArchiveIndex builtIndex = this.index.addAllVariable(this.table.variables()).build();
+            builtIndex.writeTo(this.stream);
+            final ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+            trailer.putLong(builtIndex.getSerializedSize()).putLong(MAGIC);
+            this.stream.write(trailer.array());
+        } finally {
+            this.stream.close();
+        }
+    }
+
+    private void writeSegment(final PBFormulaMapping segment, final int firstNode, final LNGIntVector dependencies) throws IOException {
+        final int length = segment.getSerializedSize();
+        segment.writeTo(this.stream);
+        final PBFormulaArchiveSegment.Builder range = PBFormulaArchiveSegment.newBuilder()
+                .setOffset(this.position)
+                .setLength(length)
+                .setFirstNode(firstNode)
+                .setNodeCount(segment.getNodeCount());
+        for (final int dependency : distinctSorted(dependencies)) {
+            range.addDependency(dependency);
+        }
+        this.index.addSegment(range);
+        this.position += length;
+        this.segmentFirstNodes.push(firstNode);
+    }
+
+    private int segmentOf(final int id) {
+        int low = 0;
+        int high = this.segmentFirstNodes.size() - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (this.segmentFirstNodes.get(mid) <= id) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static int[] distinctSorted(final LNGIntVector values) {
+        final int[] sorted = values.toArray();
+        Arrays.sort(sorted);
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, size);
+    }
+}
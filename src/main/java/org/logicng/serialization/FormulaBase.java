@@ -0,0 +1,264 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaBaseReference;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import org.logicng.formulas.FType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.PBConstraint;
+import org.logicng.formulas.Variable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A named and versioned base of formula nodes for delta serialization.
+ * <p>
+ * A base is created once by the sender with {@link #of} and shipped to the
+ * receiver as a {@link PBFormulaMapping} with {@link #serialize()}.  The
+ * receiver loads it with {@link #deserialize}.  Afterwards, formulas can be
+ * serialized relative to the base with {@link Formulas#serializeFormulas(Collection, FormulaBase)}:
+ * such a message contains only the nodes and variables which are not already
+ * in the base and refers to the base nodes by their IDs.  On the receiving
+ * side, the base nodes are neither decoded nor generated again.
+ * <p>
+ * The formulas of a base belong to a single formula factory, so formulas
+ * serialized relative to the base must be from the same factory, and
+ * formulas deserialized relative to the base are generated on this factory.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public final class FormulaBase {
+
+    private final String name;
+    private final int version;
+    private final Formula[] nodes;
+    private final Variable[] variables;
+    private FormulaNodeTable table;
+
+    private FormulaBase(final String name, final int version, final Formula[] nodes, final Variable[] variables,
+                        final FormulaNodeTable table) {
+        this.name = name;
+        this.version = version;
+        this.nodes = nodes;
+        this.variables = variables;
+        this.table = table;
+    }
+
+    /**
+     * Creates a new base with all nodes of the given formulas.
+     * @param name     the name of the base
+     * @param version  the version of the base
+     * @param formulas the formulas, all from the same formula factory
+     * @return the base
+     */
+    public static FormulaBase of(final String name, final int version, final Collection<? extends Formula> formulas) {
+        final FormulaNodeTable table = new FormulaNodeTable();
+        final List<Formula> nodes = new ArrayList<>();
+        final List<Variable> variables = new ArrayList<>();
+        for (final Formula formula : formulas) {
+            table.add(formula, (node, id) -> {
+                nodes.add(node);
+                if (node.type() == FType.LITERAL) {
+                    addVariable((Literal) node, table, variables);
+                } else if (node.type() == FType.PBC) {
+                    for (final Literal literal : ((PBConstraint) node).operands()) {
+                        addVariable(literal, table, variables);
+                    }
+                }
+            });
+        }
+        return new FormulaBase(name, version, nodes.toArray(new Formula[0]), variables.toArray(new Variable[0]), table);
+    }
+
+    /**
+     * Creates a new base which can be used as dictionary for many small
+     * formulas.  The base contains all variables of the given corpus, but only
+     * those nodes which occur in at least {@code minOccurrences} formulas of
+     * the corpus.  Since the sub-nodes of a node occur at least as often as
+     * the node itself, the base is closed under sub-nodes.  Formulas serialized
+     * relative to the base then only contain the nodes which are specific to
+     * them and refer to their variables and shared sub-formulas by index.
+     * @param name           the name of the base
+     * @param version        the version of the base
+     * @param corpus         the corpus of formulas, all from the same formula factory
+     * @param minOccurrences the minimal number of corpus formulas a node must occur in
+     * @return the base
+     */
+    public static FormulaBase dictionary(final String name, final int version, final Collection<? extends Formula> corpus,
+                                         final int minOccurrences) {
+        final FormulaNodeTable all = new FormulaNodeTable();
+        final List<Formula> allNodes = new ArrayList<>();
+        final List<Variable> variables = new ArrayList<>();
+        final Map<Formula, Integer> occurrences = new IdentityHashMap<>();
+        for (final Formula formula : corpus) {
+            all.add(formula, (node, id) -> {
+                allNodes.add(node);
+                if (node.type() == FType.LITERAL) {
+                    addVariable((Literal) node, all, variables);
+                } else if (node.type() == FType.PBC) {
+                    for (final Literal literal : ((PBConstraint) node).operands()) {
+                        addVariable(literal, all, variables);
+                    }
+                }
+            });
+            new FormulaNodeTable().add(formula, (node, id) -> occurrences.merge(node, 1, Integer::sum));
+        }
+        final FormulaNodeTable table = new FormulaNodeTable();
+        for (final Variable variable : variables) {
+            table.literalIndex(variable);
+        }
+        final List<Formula> nodes = new ArrayList<>();
+        final FormulaNodeTable.NodeVisitor ignore = (node, id) -> {
+        };
+        for (final Formula node : allNodes) {
+            if (occurrences.get(node) >= minOccurrences) {
+                table.add(node, ignore);
+                nodes.add(node);
+            }
+        }
+        return new FormulaBase(name, version, nodes.toArray(new Formula[0]), variables.toArray(new Variable[0]), table);
+    }
+
+    private static void addVariable(final Literal literal, final FormulaNodeTable table, final List<Variable> variables) {
+        if (Math.abs(table.literalIndex(literal)) > variables.size()) {
+            variables.add(literal.variable());
+        }
+    }
+
+    /**
+     * Deserializes a base from a protocol buffer written by {@link #serialize()}.
+     * @param f       the formula factory to generate the formulas
+     * @param name    the name of the base
+     * @param version the version of the base
+     * @param bin     the protocol buffer
+     * @return the base
+     */
+    public static FormulaBase deserialize(final FormulaFactory f, final String name, final int version, final PBFormulaMapping bin) {
+        if (bin.getMappingCount() > 0) {
+            throw new IllegalArgumentException("A formula base must contain its nodes as node list");
+        }
+        final Variable[] variables = Formulas.deserializeVariables(f, bin);
+        return new FormulaBase(name, version, Formulas.deserializeNodes(f, bin, variables), variables, null);
+    }
+
+    /**
+     * Serializes this base to a protocol buffer.
+     * @return the protocol buffer
+     */
+    public PBFormulaMapping serialize() {
+        final FormulaNodeTable table = table();
+        final PBFormulaMapping.Builder builder = PBFormulaMapping.newBuilder();
+        for (final Variable variable : this.variables) {
+            builder.addVariable(variable.name());
+        }
+        for (final Formula node : this.nodes) {
+            builder.addNode(Formulas.serialize(node, table));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the name of this base.
+     * @return the name
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Returns the version of this base.
+     * @return the version
+     */
+    public int version() {
+        return this.version;
+    }
+
+    /**
+     * Returns the number of nodes of this base.
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return this.nodes.length;
+    }
+
+    /**
+     * Returns the number of variables of this base.
+     * @return the number of variables
+     */
+    public int variableCount() {
+        return this.variables.length;
+    }
+
+    /**
+     * Returns the node with the given ID.
+     * @param id the ID
+     * @return the node
+     */
+    public Formula node(final int id) {
+        return this.nodes[id];
+    }
+
+    /**
+     * Returns a copy of the variables of this base, indexed by their position
+     * in the variable table, with space for additional variables.
+     * @param additional the number of additional variables
+     * @return the variables
+     */
+    Variable[] variables(final int additional) {
+        final Variable[] result = new Variable[this.variables.length + additional];
+        System.arraycopy(this.variables, 0, result, 0, this.variables.length);
+        return result;
+    }
+
+    /**
+     * Returns the reference to this base for a protocol buffer.
+     * @return the reference
+     */
+    PBFormulaBaseReference reference() {
+        return PBFormulaBaseReference.newBuilder()
+                .setName(this.name)
+                .setVersion(this.version)
+                .setNodeCount(this.nodes.length)
+                .setVariableCount(this.variables.length)
+                .build();
+    }
+
+    /**
+     * Returns the node table of this base.  For a deserialized base, the table
+     * is computed on the first call.
+     * @return the node table
+     */
+    synchronized FormulaNodeTable table() {
+        if (this.table == null) {
+            final FormulaNodeTable newTable = new FormulaNodeTable();
+            for (final Variable variable : this.variables) {
+                newTable.literalIndex(variable);
+            }
+            final FormulaNodeTable.NodeVisitor ignore = (node, id) -> {
+            };
+            for (int i = 0; i < this.nodes.length; i++) {
+                if (newTable.add(this.nodes[i], ignore) != i) {
+                    throw new IllegalArgumentException("The nodes of a formula base must be unique and in topological order");
+                }
+            }
+            if (newTable.variableCount() != this.variables.length) {
+                throw new IllegalArgumentException("The variable table of a formula base must contain all its variables");
+            }
+            this.table = newTable;
+        }
+        return this.table;
+    }
+
+    @Override
+    public String toString() {
+        return "FormulaBase{name=" + this.name + ", version=" + this.version + ", nodes=" + this.nodes.length + "}";
+    }
+}
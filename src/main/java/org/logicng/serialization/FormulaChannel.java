@@ -0,0 +1,409 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.knowledgecompilation.dnnf.ProtoBufDnnf.PBDnnf;
+import com.booleworks.logicng.propositions.ProtoBufPropositions.PBStandardProposition;
+import com.booleworks.logicng.solvers.ProtoBufSatSolver.PBGlucose;
+import com.booleworks.logicng.solvers.ProtoBufSatSolver.PBMiniSat2;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.knowledgecompilation.dnnf.datastructures.Dnnf;
+import org.logicng.propositions.StandardProposition;
+import org.logicng.solvers.MiniSat;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A framed channel for formulas, propositions, DNNFs and solvers on one stream.
+ * <p>
+ * The stream methods like {@link Formulas#serializeFormulaToStream} write a
+ * single message without framing, which is read until the end of the stream.
+ * A channel instead writes a sequence of self-describing frames, so a socket
+ * or a pipe can carry any number of objects of different types.  A frame
+ * consists of
+ * <ul>
+ *     <li>the ID of its {@link FrameType} as one byte,</li>
+ *     <li>the length of the message as varint (like
+ *     {@link MessageLite#writeDelimitedTo}),</li>
+ *     <li>the message.</li>
+ * </ul>
+ * Readers skip frames with unknown type IDs, so new frame types can be added
+ * without breaking old readers.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public final class FormulaChannel {
+
+    /**
+     * The default size of the buffers of writers and readers.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The default number of frames after which a writer flushes its stream.
+     */
+    public static final int DEFAULT_FLUSH_FRAMES = 64;
+
+    private FormulaChannel() {
+        // Only static methods
+    }
+
+    /**
+     * Returns a new writer on a stream with the default buffer size and the
+     * default number of frames per flush.
+     * @param stream the stream
+     * @return the writer
+     */
+    public static Writer writer(final OutputStream stream) {
+        return new Writer(stream, DEFAULT_BUFFER_SIZE, DEFAULT_FLUSH_FRAMES);
+    }
+
+    /**
+     * Returns a new writer on a stream.
+     * @param stream      the stream
+     * @param bufferSize  the size of the write buffer
+     * @param flushFrames the number of frames after which the writer flushes the stream
+     * @return the writer
+     */
+    public static Writer writer(final OutputStream stream, final int bufferSize, final int flushFrames) {
+        return new Writer(stream, bufferSize, flushFrames);
+    }
+
+    /**
+     * Returns a new reader on a stream with the default buffer size.
+     * @param f      the formula factory to generate the formulas
+     * @param stream the stream
+     * @return the reader
+     */
+    public static Reader reader(final FormulaFactory f, final InputStream stream) {
+        return new Reader(f, stream, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a new reader on a stream.
+     * @param f          the formula factory to generate the formulas
+     * @param stream     the stream
+     * @param bufferSize the size of the read buffer
+     * @return the reader
+     */
+    public static Reader reader(final FormulaFactory f, final InputStream stream, final int bufferSize) {
+        return new Reader(f, stream, bufferSize);
+    }
+
+    /**
+     * The types of frames.
+     */
+    public enum FrameType {
+        /**
+         * A list of formulas as {@link PBFormulas}.
+         */
+        FORMULAS(1, PBFormulas.parser()),
+        /**
+         * A standard proposition as {@link PBStandardProposition}.
+         */
+        PROPOSITION(2, PBStandardProposition.parser()),
+        /**
+         * A DNNF as {@link PBDnnf}.
+         */
+        DNNF(3, PBDnnf.parser()),
+        /**
+         * A MiniSat or MiniCard solver as {@link PBMiniSat2}.
+         */
+        MINISAT(4, PBMiniSat2.parser()),
+        /**
+         * A Glucose solver as {@link PBGlucose}.
+         */
+        GLUCOSE(5, PBGlucose.parser());
+
+        private static final FrameType[] BY_ID = new FrameType[256];
+
+        static {
+            for (final FrameType type : values()) {
+                BY_ID[type.id] = type;
+            }
+        }
+
+        private final int id;
+        private final Parser<? extends MessageLite> parser;
+
+        FrameType(final int id, final Parser<? extends MessageLite> parser) {
+            this.id = id;
+            this.parser = parser;
+        }
+
+        /**
+         * Returns the ID of this frame type which is written as first byte of a frame.
+         * @return the ID of this frame type
+         */
+        public int id() {
+            return this.id;
+        }
+    }
+
+    /**
+     * A writer of frames.  The frames are collected in a buffer which is
+     * written to the stream when it is full, and the stream is flushed after
+     * a given number of frames, so many small frames are sent in batches.
+     */
+    public static final class Writer implements Closeable, Flushable {
+        private final OutputStream stream;
+        private final CodedOutputStream output;
+        private final int flushFrames;
+        private int pendingFrames;
+
+        private Writer(final OutputStream stream, final int bufferSize, final int flushFrames) {
+            if (bufferSize < 1 || flushFrames < 1) {
+                throw new IllegalArgumentException("Buffer size and flush frames must be positive");
+            }
+            this.stream = stream;
+            this.output = CodedOutputStream.newInstance(stream, bufferSize);
+            this.flushFrames = flushFrames;
+        }
+
+        /**
+         * Writes a formula as a frame of type {@link FrameType#FORMULAS}.
+         * @param formula the formula
+         * @throws IOException if there is a problem writing to the stream
+         */
+        public void writeFormula(final Formula formula) throws IOException {
+            writeFormulas(Collections.singletonList(formula));
+        }
+
+        /**
+         * Writes a list of formulas as one frame of type {@link FrameType#FORMULAS}.
+         * Sub-formulas shared between the formulas are written only once.
+         * @param formulas the formulas
+         * @throws IOException if there is a problem writing to the stream
+         */
+        public void writeFormulas(final Collection<Formula> formulas) throws IOException {
+            write(FrameType.FORMULAS, Formulas.serializeFormulas(formulas));
+        }
+
+        /**
+         * Writes a standard proposition as a frame of type {@link FrameType#PROPOSITION}.
+         * @param proposition the proposition
+         * @throws IOException if there is a problem writing to the stream
+         */
+        public void writeProposition(final StandardProposition proposition) throws IOException {
+            write(FrameType.PROPOSITION, Propositions.serializePropositions(proposition));
+        }
+
+        /**
+         * Writes a DNNF as a frame of type {@link FrameType#DNNF}.
+         * @param dnnf the DNNF
+         * @throws IOException if there is a problem writing to the stream
+         */
+        public void writeDnnf(final Dnnf dnnf) throws IOException {
+            write(FrameType.DNNF, Dnnfs.serializeDnnf(dnnf));
+        }
+
+        /**
+         * Writes a solver as a frame of type {@link FrameType#GLUCOSE} for
+         * Glucose solvers or {@link FrameType#MINISAT} for all other solvers.
+         * @param miniSat    the solver
+         * @param serializer the solver serializer
+         * @throws IOException if there is a problem writing to the stream
+         */
+        public void writeSolver(final MiniSat miniSat, final SolverSerializer serializer) throws IOException {
+            if (miniSat.getStyle() == MiniSat.SolverStyle.GLUCOSE) {
+                write(FrameType.GLUCOSE, serializer.serializeGlucose(miniSat));
+            } else {
+                write(FrameType.MINISAT, serializer.serializeMiniSat(miniSat));
+            }
+        }
+
+        /**
+         * Writes a frame.  The message must be of the type of the frame.
+         * @param type    the frame type
+         * @param message the message
+         * @throws IOException if there is a problem writing to the stream
+         */
+        public void write(final FrameType type, final MessageLite message) throws IOException {
+            this.output.writeRawByte(type.id);
+            this.output.writeUInt32NoTag(message.getSerializedSize());
+            message.writeTo(this.output);
+            if (++this.pendingFrames >= this.flushFrames) {
+                flush();
+            }
+        }
+
+        /**
+         * Writes all buffered frames and flushes the stream.
+         * @throws IOException if there is a problem writing to the stream
+         */
+        @Override
+        public void flush() throws IOException {
+            this.output.flush();
+            this.stream.flush();
+            this.pendingFrames = 0;
+        }
+
+        /**
+         * Writes all buffered frames and closes the stream.
+         * @throws IOException if there is a problem writing to the stream
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                this.stream.close();
+            }
+        }
+    }
+
+    /**
+     * A reader of frames.  The reader reads the stream with one buffer which
+     * is reused for all frames, the messages are parsed directly from this
+     * buffer.
+     * <p>
+     * {@link #next()} reads the next frame and returns its type, afterwards
+     * the object of the frame is returned by the accessor of its type.
+     */
+    public static final class Reader implements Closeable {
+        private final FormulaFactory f;
+        private final InputStream stream;
+        private final CodedInputStream input;
+        private FrameType type;
+        private MessageLite message;
+
+        private Reader(final FormulaFactory f, final InputStream stream, final int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("Buffer size must be positive");
+            }
+            this.f = f;
+            this.stream = stream;
+            this.input = CodedInputStream.newInstance(stream, bufferSize);
+            this.input.setSizeLimit(Integer.MAX_VALUE);
+        }
+
+        /**
+         * Reads the next frame.  Frames of unknown types are skipped.
+         * @return the type of the frame or {@code null} if the stream is at its end
+         * @throws IOException if there is a problem reading from the stream or the frame is corrupt
+         */
+        public FrameType next() throws IOException {
+            this.type = null;
+            this.message = null;
+            while (!this.input.isAtEnd()) {
+                this.input.resetSizeCounter();
+                final FrameType frameType = FrameType.BY_ID[this.input.readRawByte() & 0xff];
+                final int length = this.input.readRawVarint32();
+                if (length < 0) {
+                    throw new IOException("Negative frame length " + length);
+                }
+                if (frameType == null) {
+                    this.input.skipRawBytes(length);
+                    continue;
+                }
+                final int limit = this.input.pushLimit(length);
+                this.message = frameType.parser.parseFrom(this.input, ExtensionRegistryLite.getEmptyRegistry());
+                this.input.checkLastTagWas(0);
+                this.input.popLimit(limit);
+                this.type = frameType;
+                return frameType;
+            }
+            return null;
+        }
+
+        /**
+         * Returns the type of the current frame.
+         * @return the type of the current frame or {@code null} if there is no current frame
+         */
+        public FrameType type() {
+            return this.type;
+        }
+
+        /**
+         * Returns the message of the current frame.
+         * @return the message of the current frame
+         * @throws IllegalStateException if there is no current frame
+         */
+        public MessageLite message() {
+            if (this.message == null) {
+                throw new IllegalStateException("There is no current frame");
+            }
+            return this.message;
+        }
+
+        /**
+         * Returns the formulas of the current frame.
+         * @return the formulas
+         * @throws IllegalStateException if the current frame is no frame of type {@link FrameType#FORMULAS}
+         */
+        public List<Formula> formulas() {
+            return Formulas.deserializeFormulaList(this.f, (PBFormulas) message(FrameType.FORMULAS));
+        }
+
+        /**
+         * Returns the single formula of the current frame.
+         * @return the formula
+         * @throws IllegalStateException if the current frame is no frame of type {@link FrameType#FORMULAS} with exactly one formula
+         */
+        public Formula formula() {
+            final List<Formula> formulas = formulas();
+            if (formulas.size() != 1) {
+                throw new IllegalStateException("Frame contains " + formulas.size() + " formulas");
+            }
+            return formulas.get(0);
+        }
+
+        /**
+         * Returns the proposition of the current frame.
+         * @return the proposition
+         * @throws IllegalStateException if the current frame is no frame of type {@link FrameType#PROPOSITION}
+         */
+        public StandardProposition proposition() {
+            return Propositions.deserializePropositions(this.f, (PBStandardProposition) message(FrameType.PROPOSITION));
+        }
+
+        /**
+         * Returns the DNNF of the current frame.
+         * @return the DNNF
+         * @throws IllegalStateException if the current frame is no frame of type {@link FrameType#DNNF}
+         */
+        public Dnnf dnnf() {
+            return Dnnfs.deserializeDnnf(this.f, (PBDnnf) message(FrameType.DNNF));
+        }
+
+        /**
+         * Returns the solver of the current frame.
+         * @param serializer the solver serializer, its formula factory is used for the solver
+         * @return the solver
+         * @throws IllegalStateException if the current frame is no frame of type {@link FrameType#MINISAT} or {@link FrameType#GLUCOSE}
+         */
+        public MiniSat solver(final SolverSerializer serializer) {
+            if (this.type == FrameType.GLUCOSE) {
+                return serializer.deserializeGlucose((PBGlucose) this.message);
+            }
+            return serializer.deserializeMiniSat((PBMiniSat2) message(FrameType.MINISAT));
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.stream.close();
+        }
+
+        private MessageLite message(final FrameType expected) {
+            if (this.type != expected) {
+                throw new IllegalStateException("Current frame is of type " + this.type + ", not " + expected);
+            }
+            return this.message;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.FType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.PBConstraint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An encoder which writes a {@link PBFormulas} message directly to a coded
+ * output stream without generating protocol buffer objects for the nodes.
+ * <p>
+ * The nodes are encoded during the traversal of the {@link FormulaNodeTable}
+ * into a chunk buffer.  Since the byte length of the mapping is not known in
+ * advance, the mapping field is written once for each chunk, together with
+ * the variables which were added by the nodes of the chunk.  Protocol buffer
+ * parsers merge the chunks to a single mapping with the same variables and
+ * nodes as the mapping of {@link Formulas#serializeFormulas(Collection)}.
+ * The IDs of the formulas are written after the last chunk.
+ * <p>
+ * So the memory required for serialization is the node table and one chunk
+ * of bytes.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+final class FormulaEncoder {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final CodedOutputStream output;
+    private final FormulaNodeTable table;
+    private final ChunkBuffer chunk;
+    private final CodedOutputStream chunkOutput;
+    private long chunkStart;
+    private int chunkVariables;
+
+    private int[] values;
+    private int[] coefficients;
+    private int count;
+    private int pbSize;
+    private boolean unitCoefficients;
+
+    private FormulaEncoder(final CodedOutputStream output) {
+        this.output = output;
+        this.table = new FormulaNodeTable();
+        this.chunk = new ChunkBuffer();
+        this.chunkOutput = CodedOutputStream.newInstance(this.chunk, 4096);
+        this.values = new int[16];
+        this.coefficients = new int[16];
+    }
+
+    /**
+     * Writes a list of formulas as {@link PBFormulas} message to a coded output
+     * stream.  The output stream is not flushed.
+     * @param formulas the formulas
+     * @param output   the coded output stream
+     * @throws IOException if there is a problem writing to the stream
+     */
+    static void write(final Collection<Formula> formulas, final CodedOutputStream output) throws IOException {
+        new FormulaEncoder(output).encode(formulas);
+    }
+
+    private void encode(final Collection<Formula> formulas) throws IOException {
+        final LNGIntVector ids = new LNGIntVector(formulas.size());
+        try {
+            for (final Formula formula : formulas) {
+                ids.push(this.table.add(formula, this::encodeNode));
+            }
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writeChunk();
+        if (ids.size() > 0) {
+            final int[] idArray = ids.toArray();
+            this.output.writeTag(PBFormulas.ID_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            this.output.writeUInt32NoTag(packedDataSize(idArray, idArray.length, false));
+            for (final int id : idArray) {
+                this.output.writeInt32NoTag(id);
+            }
+        }
+    }
+
+    private void encodeNode(final Formula node, final int id) {
+        try {
+            final int size = prepare(node);
+            this.chunkOutput.writeTag(PBFormulaMapping.NODE_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            this.chunkOutput.writeUInt32NoTag(size);
+            writeNode(node);
+            if (this.chunkOutput.getTotalBytesWritten() - this.chunkStart >= CHUNK_SIZE) {
+                writeChunk();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Computes the operand IDs or literal indices of a node and returns the
+     * size of its encoding.
+     * @param node the node
+     * @return the size of the encoded node
+     */
+    private int prepare(final Formula node) {
+        final int size = CodedOutputStream.computeEnumSize(PBInternalFormula.TYPE_FIELD_NUMBER, type(node).getNumber());
+        switch (node.type()) {
+            case TRUE:
+            case FALSE:
+                return size + CodedOutputStream.computeBoolSize(PBInternalFormula.VALUE_FIELD_NUMBER, true);
+            case LITERAL:
+                this.values[0] = this.table.literalIndex((Literal) node);
+                return size + CodedOutputStream.computeBoolSize(PBInternalFormula.VALUE_FIELD_NUMBER, true)
+                        + CodedOutputStream.computeSInt32Size(PBInternalFormula.LITERAL_FIELD_NUMBER, this.values[0]);
+            case PBC:
+                this.pbSize = preparePBConstraint((PBConstraint) node);
+                return size + CodedOutputStream.computeTagSize(PBInternalFormula.PBCONSTRAINT_FIELD_NUMBER)
+                        + CodedOutputStream.computeUInt32SizeNoTag(this.pbSize) + this.pbSize;
+            default:
+                this.count = node.numberOfOperands();
+                ensureCapacity(this.count);
+                int i = 0;
+                for (final Formula op : node) {
+                    this.values[i++] = this.table.id(op);
+                }
+                return size + packedSize(PBInternalFormula.OPERAND_FIELD_NUMBER, this.values, this.count, false);
+        }
+    }
+
+    private int preparePBConstraint(final PBConstraint pbc) {
+        final Literal[] literals = pbc.operands();
+        final int[] pbCoefficients = pbc.coefficients();
+        this.count = literals.length;
+        ensureCapacity(this.count);
+        this.unitCoefficients = true;
+        for (int i = 0; i < this.count; i++) {
+            this.values[i] = this.table.literalIndex(literals[i]);
+            this.coefficients[i] = pbCoefficients[i];
+            this.unitCoefficients &= pbCoefficients[i] == 1;
+        }
+        final int comparator = Formulas.serializeCType(pbc.comparator()).getNumber();
+        int size = comparator == 0 ? 0 : CodedOutputStream.computeEnumSize(PBInternalPseudoBooleanConstraint.COMPARATOR_FIELD_NUMBER, comparator);
+        size += pbc.rhs() == 0 ? 0 : CodedOutputStream.computeInt64Size(PBInternalPseudoBooleanConstraint.RHS_FIELD_NUMBER, pbc.rhs());
+        size += packedSize(PBInternalPseudoBooleanConstraint.LITERALINDEX_FIELD_NUMBER, this.values, this.count, true);
+        if (this.unitCoefficients) {
+            size += CodedOutputStream.computeBoolSize(PBInternalPseudoBooleanConstraint.UNITCOEFFICIENTS_FIELD_NUMBER, true);
+        } else {
+            size += packedSize(PBInternalPseudoBooleanConstraint.COEFFICIENTVALUE_FIELD_NUMBER, this.coefficients, this.count, true);
+        }
+        return size;
+    }
+
+    private void writeNode(final Formula node) throws IOException {
+        final CodedOutputStream out = this.chunkOutput;
+        out.writeEnum(PBInternalFormula.TYPE_FIELD_NUMBER, type(node).getNumber());
+        switch (node.type()) {
+            case TRUE:
+            case FALSE:
+                out.writeBool(PBInternalFormula.VALUE_FIELD_NUMBER, node.type() == FType.TRUE);
+                break;
+            case LITERAL:
+                out.writeBool(PBInternalFormula.VALUE_FIELD_NUMBER, ((Literal) node).phase());
+                out.writeSInt32(PBInternalFormula.LITERAL_FIELD_NUMBER, this.values[0]);
+                break;
+            case PBC:
+                writePBConstraint((PBConstraint) node);
+                break;
+            default:
+                writePacked(out, PBInternalFormula.OPERAND_FIELD_NUMBER, this.values, this.count, false);
+        }
+    }
+
+    private void writePBConstraint(final PBConstraint pbc) throws IOException {
+        final CodedOutputStream out = this.chunkOutput;
+        out.writeTag(PBInternalFormula.PBCONSTRAINT_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(this.pbSize);
+        final int comparator = Formulas.serializeCType(pbc.comparator()).getNumber();
+        if (comparator != 0) {
+            out.writeEnum(PBInternalPseudoBooleanConstraint.COMPARATOR_FIELD_NUMBER, comparator);
+        }
+        if (pbc.rhs() != 0) {
+            out.writeInt64(PBInternalPseudoBooleanConstraint.RHS_FIELD_NUMBER, pbc.rhs());
+        }
+        writePacked(out, PBInternalPseudoBooleanConstraint.LITERALINDEX_FIELD_NUMBER, this.values, this.count, true);
+        if (this.unitCoefficients) {
+            out.writeBool(PBInternalPseudoBooleanConstraint.UNITCOEFFICIENTS_FIELD_NUMBER, true);
+        } else {
+            writePacked(out, PBInternalPseudoBooleanConstraint.COEFFICIENTVALUE_FIELD_NUMBER, this.coefficients, this.count, true);
+        }
+    }
+
+    private void writeChunk() throws IOException {
+        this.chunkOutput.flush();
+        final List<String> variables = this.table.variables();
+        int size = this.chunk.size();
+        for (int i = this.chunkVariables; i < variables.size(); i++) {
+            size += CodedOutputStream.computeStringSize(PBFormulaMapping.VARIABLE_FIELD_NUMBER, variables.get(i));
+        }
+        this.output.writeTag(PBFormulas.MAPPING_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        this.output.writeUInt32NoTag(size);
+        for (int i = this.chunkVariables; i < variables.size(); i++) {
+            this.output.writeString(PBFormulaMapping.VARIABLE_FIELD_NUMBER, variables.get(i));
+        }
+        this.output.writeRawBytes(this.chunk.buffer(), 0, this.chunk.size());
+        this.chunkVariables = variables.size();
+        this.chunk.reset();
+        this.chunkStart = this.chunkOutput.getTotalBytesWritten();
+    }
+
+    private void ensureCapacity(final int count) {
+        if (count > this.values.length) {
+            this.values = new int[Math.max(count, 2 * this.values.length)];
+            this.coefficients = new int[this.values.length];
+        }
+    }
+
+    /**
+     * Returns the protocol buffer type of a formula node.
+     * @param node the node
+     * @return the protocol buffer type
+     */
+    static PBFormulaType type(final Formula node) {
+        switch (node.type()) {
+            case TRUE:
+            case FALSE:
+                return PBFormulaType.CONST;
+            case LITERAL:
+                return PBFormulaType.LITERAL;
+            case NOT:
+                return PBFormulaType.NOT;
+            case AND:
+                return PBFormulaType.AND;
+            case OR:
+                return PBFormulaType.OR;
+            case IMPL:
+                return PBFormulaType.IMPL;
+            case EQUIV:
+                return PBFormulaType.EQUIV;
+            case PBC:
+                return PBFormulaType.PBC;
+            default:
+                throw new IllegalArgumentException("Cannot serialize type " + node.type());
+        }
+    }
+
+    private static int packedSize(final int field, final int[] values, final int count, final boolean signed) {
+        if (count == 0) {
+            return 0;
+        }
+        final int dataSize = packedDataSize(values, count, signed);
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(dataSize) + dataSize;
+    }
+
+    private static int packedDataSize(final int[] values, final int count, final boolean signed) {
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            size += signed ? CodedOutputStream.computeSInt32SizeNoTag(values[i]) : CodedOutputStream.computeInt32SizeNoTag(values[i]);
+        }
+        return size;
+    }
+
+    private static void writePacked(final CodedOutputStream out, final int field, final int[] values, final int count, final boolean signed)
+            throws IOException {
+        if (count == 0) {
+            return;
+        }
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(packedDataSize(values, count, signed));
+        for (int i = 0; i < count; i++) {
+            if (signed) {
+                out.writeSInt32NoTag(values[i]);
+            } else {
+                out.writeInt32NoTag(values[i]);
+            }
+        }
+    }
+
+    /**
+     * A byte array output stream with access to its buffer.
+     */
+    private static final class ChunkBuffer extends ByteArrayOutputStream {
+        private ChunkBuffer() {
+            super(CHUNK_SIZE + 4096);
+        }
+
+        private byte[] buffer() {
+            return this.buf;
+        }
+    }
+}
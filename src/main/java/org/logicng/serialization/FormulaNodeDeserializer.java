@@ -0,0 +1,277 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.logicng.serialization.Formulas.NOT_SYMBOL;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * A deserializer for formula nodes which reuses its buffers across nodes.
+ * <p>
+ * The operands of n-ary operators and the clauses of flat CNFs are collected
+ * in a reused buffer which is handed to the formula factory as a list view,
+ * and the literals of clauses and the literals and coefficients of
+ * pseudo-Boolean constraints are collected in reused arrays (the formula
+ * factory copies all of them).  So apart from the objects created by the
+ * formula factory, the deserialization of a node does not allocate any
+ * objects.
+ * <p>
+ * A deserializer is not thread-safe.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+final class FormulaNodeDeserializer {
+
+    /**
+     * Pseudo-Boolean constraints up to this size use arrays which are cached
+     * by their size, larger constraints use new arrays.
+     */
+    private static final int MAX_CACHED_PB_SIZE = 256;
+
+    private final FormulaFactory f;
+    private final OperandBuffer operands;
+    private Literal[][] literalBuffers;
+    private int[][] coefficientBuffers;
+    private int[][] unitCoefficients;
+
+    /**
+     * Constructs a new deserializer.
+     * @param f the formula factory to generate the formulas
+     */
+    FormulaNodeDeserializer(final FormulaFactory f) {
+        this.f = f;
+        this.operands = new OperandBuffer();
+    }
+
+    /**
+     * Deserializes all nodes of a protocol buffer in the topologically ordered layout.
+     * @param bin       the protocol buffer
+     * @param variables the deserialized variable table
+     * @return the formulas, indexed by their ID
+     */
+    Formula[] deserializeNodes(final PBFormulaMapping bin, final Variable[] variables) {
+        final Formula[] nodes = new Formula[bin.getNodeCount()];
+        final IntFunction<Formula> id2formula = id -> nodes[id];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = deserialize(bin.getNode(i), id2formula, variables);
+        }
+        return nodes;
+    }
+
+    /**
+     * Deserializes a protocol buffer to a formula with a given ID to formula mapping.
+     * @param bin        the protocol buffer
+     * @param id2formula a mapping from ID to formula (must contain all sub-nodes of the formula)
+     * @param variables  the deserialized variable table
+     * @return the formula
+     */
+    Formula deserialize(final PBInternalFormula bin, final IntFunction<Formula> id2formula, final Variable[] variables) {
+        switch (bin.getType()) {
+            case CONST:
+                return this.f.constant(bin.getValue());
+            case LITERAL:
+                return bin.hasLiteral()
+                        ? Formulas.deserializeLiteral(bin.getLiteral(), variables)
+                        : this.f.literal(bin.getVariable(), bin.getValue());
+            case NOT:
+                return this.f.not(id2formula.apply(bin.getOperand(0)));
+            case IMPL:
+                return this.f.implication(id2formula.apply(bin.getOperand(0)), id2formula.apply(bin.getOperand(1)));
+            case EQUIV:
+                return this.f.equivalence(id2formula.apply(bin.getOperand(0)), id2formula.apply(bin.getOperand(1)));
+            case AND:
+            case OR:
+                if (bin.getClauseSizeCount() > 0) {
+                    return deserializeCnf(bin, variables);
+                }
+                this.operands.fill(bin, id2formula);
+                try {
+                    return bin.getType() == PBFormulaType.AND
+                            ? this.f.and(this.operands)
+                            : this.f.or(this.operands);
+                } finally {
+                    this.operands.clear();
+                }
+            case PBC:
+                return deserializePBConstraint(bin.getPbConstraint(), variables);
+            case PREDICATE:
+                return null;
+            default:
+                throw new IllegalArgumentException("Cannot deserialize type " + bin.getType());
+        }
+    }
+
+    /**
+     * Deserializes a flat CNF.  The clauses are generated directly from their
+     * literals without a lookup of operand nodes.
+     * @param bin       the protocol buffer
+     * @param variables the deserialized variable table
+     * @return the CNF
+     */
+    Formula deserializeCnf(final PBInternalFormula bin, final Variable[] variables) {
+        int literalIndex = 0;
+        try {
+            for (int i = 0; i < bin.getClauseSizeCount(); i++) {
+                final int size = bin.getClauseSize(i);
+                if (size == 1) {
+                    this.operands.add(Formulas.deserializeLiteral(bin.getClauseLiteral(literalIndex++), variables));
+                } else {
+                    final Literal[] literals = literalBuffer(size);
+                    for (int j = 0; j < size; j++) {
+                        literals[j] = Formulas.deserializeLiteral(bin.getClauseLiteral(literalIndex++), variables);
+                    }
+                    this.operands.add(this.f.clause(literals));
+                    Arrays.fill(literals, null);
+                }
+            }
+            return this.f.cnf(this.operands);
+        } finally {
+            this.operands.clear();
+        }
+    }
+
+    /**
+     * Deserializes a protocol buffer to a pseudo-Boolean constraint.
+     * @param bin       the protocol buffer
+     * @param variables the deserialized variable table
+     * @return the constraint
+     */
+    Formula deserializePBConstraint(final PBInternalPseudoBooleanConstraint bin, final Variable[] variables) {
+        final int rhs = (int) bin.getRhs();
+        final CType ctype = Formulas.deserializeCType(bin.getComparator());
+        final boolean indexed = bin.getLiteralIndexCount() > 0;
+        final int size = indexed ? bin.getLiteralIndexCount() : bin.getLiteralCount();
+        final Literal[] literals = literalBuffer(size);
+        for (int i = 0; i < size; i++) {
+            if (indexed) {
+                literals[i] = Formulas.deserializeLiteral(bin.getLiteralIndex(i), variables);
+            } else {
+                final String literal = bin.getLiteral(i);
+                literals[i] = literal.startsWith(NOT_SYMBOL) ? this.f.literal(literal.substring(1), false) : this.f.literal(literal, true);
+            }
+        }
+        final int[] coefficients;
+        if (bin.getUnitCoefficients()) {
+            coefficients = unitCoefficients(size);
+        } else {
+            coefficients = coefficientBuffer(size);
+            if (bin.getCoefficientValueCount() > 0) {
+                for (int i = 0; i < size; i++) {
+                    coefficients[i] = bin.getCoefficientValue(i);
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    coefficients[i] = (int) bin.getCoefficient(i);
+                }
+            }
+        }
+        try {
+            return this.f.pbc(ctype, rhs, literals, coefficients);
+        } finally {
+            Arrays.fill(literals, null);
+        }
+    }
+
+    private Literal[] literalBuffer(final int size) {
+        if (size > MAX_CACHED_PB_SIZE) {
+            return new Literal[size];
+        }
+        if (this.literalBuffers == null) {
+            this.literalBuffers = new Literal[MAX_CACHED_PB_SIZE + 1][];
+        }
+        if (this.literalBuffers[size] == null) {
+            this.literalBuffers[size] = new Literal[size];
+        }
+        return this.literalBuffers[size];
+    }
+
+    private int[] coefficientBuffer(final int size) {
+        if (size > MAX_CACHED_PB_SIZE) {
+            return new int[size];
+        }
+        if (this.coefficientBuffers == null) {
+            this.coefficientBuffers = new int[MAX_CACHED_PB_SIZE + 1][];
+        }
+        if (this.coefficientBuffers[size] == null) {
+            this.coefficientBuffers[size] = new int[size];
+        }
+        return this.coefficientBuffers[size];
+    }
+
+    private int[] unitCoefficients(final int size) {
+        if (size > MAX_CACHED_PB_SIZE) {
+            final int[] coefficients = new int[size];
+            Arrays.fill(coefficients, 1);
+            return coefficients;
+        }
+        if (this.unitCoefficients == null) {
+            this.unitCoefficients = new int[MAX_CACHED_PB_SIZE + 1][];
+        }
+        if (this.unitCoefficients[size] == null) {
+            this.unitCoefficients[size] = new int[size];
+            Arrays.fill(this.unitCoefficients[size], 1);
+        }
+        return this.unitCoefficients[size];
+    }
+
+    /**
+     * A reused buffer for the operands of an n-ary operator.
+     */
+    private static final class OperandBuffer extends AbstractList<Formula> implements RandomAccess {
+        private Formula[] elements = new Formula[16];
+        private int size;
+
+        private void fill(final PBInternalFormula bin, final IntFunction<Formula> id2formula) {
+            final int count = Formulas.operandCount(bin);
+            if (count > this.elements.length) {
+                this.elements = new Formula[Math.max(count, 2 * this.elements.length)];
+            }
+            int operand = 0;
+            for (int i = 0; i < count; i++) {
+                operand = Formulas.operand(bin, i, operand);
+                this.elements[i] = id2formula.apply(operand);
+            }
+            this.size = count;
+        }
+
+        @Override
+        public boolean add(final Formula formula) {
+            if (this.size == this.elements.length) {
+                this.elements = Arrays.copyOf(this.elements, 2 * this.size);
+            }
+            this.elements[this.size++] = formula;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(this.elements, 0, this.size, null);
+            this.size = 0;
+        }
+
+        @Override
+        public Formula get(final int index) {
+            return this.elements[index];
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+    }
+}
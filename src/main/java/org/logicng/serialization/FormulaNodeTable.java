@@ -0,0 +1,300 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.PBConstraint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The node and variable table of serialized formulas.
+ * <p>
+ * The table assigns consecutive IDs to the nodes of formulas in post-order,
+ * so every node gets a larger ID than all of its operands.  Since formulas are
+ * hash-consed by their formula factory, nodes are identified by object identity
+ * and their IDs are stored in a primitive open-addressing table.
+ * <p>
+ * The traversal uses an explicit stack instead of recursion and never reads or
+ * writes the function caches of the formulas.  Therefore, it can be used for
+ * formulas with millions of nodes and for very deep formulas.
+ * <p>
+ * A table can be filled incrementally: nodes which are already present are
+ * neither traversed again nor reported again.
+ * <p>
+ * A table can extend a base table.  The nodes and variables of the base table
+ * keep their IDs and indices, new nodes and variables are numbered after them.
+ * The base table is only read and must not be changed afterwards, so it can
+ * be shared by many tables.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public final class FormulaNodeTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final FormulaNodeTable base;
+    private final int nodeOffset;
+    private final int variableOffset;
+
+    private Formula[] keys;
+    private int[] ids;
+    private int size;
+
+    private Formula[] nodeStack;
+    private Iterator<Formula>[] operandStack;
+
+    private final Map<String, Integer> variable2index;
+    private final List<String> variables;
+
+    /**
+     * Constructs a new empty node table.
+     */
+    public FormulaNodeTable() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new node table extending a base table.
+     * @param base the base table, may be {@code null}
+     */
+    public FormulaNodeTable(final FormulaNodeTable base) {
+        this.base = base;
+        this.nodeOffset = base == null ? 0 : base.size();
+        this.variableOffset = base == null ? 0 : base.variableCount();
+        this.keys = new Formula[INITIAL_CAPACITY];
+        this.ids = new int[INITIAL_CAPACITY];
+        this.nodeStack = new Formula[INITIAL_CAPACITY];
+        this.operandStack = newIteratorArray(INITIAL_CAPACITY);
+        this.variable2index = new HashMap<>();
+        this.variables = new ArrayList<>();
+    }
+
+    /**
+     * Returns the number of nodes in this table, including the nodes of the base table.
+     * @return the number of nodes
+     */
+    public int size() {
+        return this.nodeOffset + this.size;
+    }
+
+    /**
+     * Returns the ID of a formula node in this table.
+     * @param formula the formula node
+     * @return the ID of the node or -1 if the node is not in this table
+     */
+    public int id(final Formula formula) {
+        if (this.base != null) {
+            final int baseId = this.base.id(formula);
+            if (baseId >= 0) {
+                return baseId;
+            }
+        }
+        final int mask = this.keys.length - 1;
+        int pos = hash(formula) & mask;
+        Formula key;
+        while ((key = this.keys[pos]) != null) {
+            if (key == formula) {
+                return this.ids[pos];
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a formula and all of its sub-nodes to this table.  The given visitor
+     * is called for each node which was not yet in the table, in the order of
+     * the assigned IDs.  When a node is visited, all of its operands are already
+     * in the table.
+     * @param formula the formula
+     * @param visitor the visitor for the new nodes
+     * @return the ID of the formula
+     */
+    public int add(final Formula formula, final NodeVisitor visitor) {
+        return add(formula, visitor, null);
+    }
+
+    /**
+     * Adds a formula and all of its sub-nodes to this table.  Nodes which
+     * satisfy the given predicate are added without their operands, their
+     * operands are only added if they are reachable from other nodes.  The
+     * given visitor is called for each node which was not yet in the table,
+     * in the order of the assigned IDs.
+     * @param formula the formula
+     * @param visitor the visitor for the new nodes
+     * @param opaque  the predicate for nodes which are added without their operands, may be {@code null}
+     * @return the ID of the formula
+     */
+    public int add(final Formula formula, final NodeVisitor visitor, final Predicate<Formula> opaque) {
+        final int existing = id(formula);
+        if (existing >= 0) {
+            return existing;
+        }
+        int stackSize = push(formula, 0, opaque);
+        int id = -1;
+        while (stackSize > 0) {
+            final int top = stackSize - 1;
+            final Iterator<Formula> operands = this.operandStack[top];
+            if (operands != null && operands.hasNext()) {
+                final Formula operand = operands.next();
+                if (id(operand) < 0) {
+                    stackSize = push(operand, stackSize, opaque);
+                }
+            } else {
+                final Formula node = this.nodeStack[top];
+                this.nodeStack[top] = null;
+                this.operandStack[top] = null;
+                stackSize--;
+                id = put(node);
+                visitor.visit(node, id);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Returns the number of variables in the variable table, including the variables of the base table.
+     * @return the number of variables
+     */
+    public int variableCount() {
+        return this.variableOffset + this.variables.size();
+    }
+
+    /**
+     * Returns the variable table, the variable names in the order of their index.
+     * For a table with a base table, only the variables which are not in the base
+     * table are returned.
+     * @return the variable table
+     */
+    public List<String> variables() {
+        return Collections.unmodifiableList(this.variables);
+    }
+
+    /**
+     * Returns the signed index of a literal in the variable table.  The
+     * literal's variable is added to the table if it is not yet present.
+     * @param literal the literal
+     * @return the 1-based index of the literal's variable, negated if the literal has a negative phase
+     */
+    public int literalIndex(final Literal literal) {
+        Integer index = variableIndex(literal.name());
+        if (index == null) {
+            index = this.variableOffset + this.variables.size();
+            this.variable2index.put(literal.name(), index);
+            this.variables.add(literal.name());
+        }
+        return literal.phase() ? index + 1 : -(index + 1);
+    }
+
+    /**
+     * Adds the variables of a node to the variable table, in the same order as
+     * the serialization of the node: the variable of a literal or the variables
+     * of the literals of a pseudo-Boolean constraint.  Other nodes have no
+     * variables of their own.
+     * @param node the node
+     */
+    void addVariables(final Formula node) {
+        switch (node.type()) {
+            case LITERAL:
+                literalIndex((Literal) node);
+                break;
+            case PBC:
+                for (final Literal literal : ((PBConstraint) node).operands()) {
+                    literalIndex(literal);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private Integer variableIndex(final String name) {
+        if (this.base != null) {
+            final Integer baseIndex = this.base.variableIndex(name);
+            if (baseIndex != null) {
+                return baseIndex;
+            }
+        }
+        return this.variable2index.get(name);
+    }
+
+    private int push(final Formula node, final int stackSize, final Predicate<Formula> opaque) {
+        if (stackSize == this.nodeStack.length) {
+            final Formula[] newNodeStack = new Formula[stackSize * 2];
+            final Iterator<Formula>[] newOperandStack = newIteratorArray(stackSize * 2);
+            System.arraycopy(this.nodeStack, 0, newNodeStack, 0, stackSize);
+            System.arraycopy(this.operandStack, 0, newOperandStack, 0, stackSize);
+            this.nodeStack = newNodeStack;
+            this.operandStack = newOperandStack;
+        }
+        this.nodeStack[stackSize] = node;
+        this.operandStack[stackSize] = node.numberOfOperands() == 0 || opaque != null && opaque.test(node) ? null : node.iterator();
+        return stackSize + 1;
+    }
+
+    private int put(final Formula formula) {
+        if (2 * (this.size + 1) > this.keys.length) {
+            rehash();
+        }
+        final int mask = this.keys.length - 1;
+        int pos = hash(formula) & mask;
+        while (this.keys[pos] != null) {
+            pos = (pos + 1) & mask;
+        }
+        this.keys[pos] = formula;
+        this.ids[pos] = this.nodeOffset + this.size;
+        this.size++;
+        return this.ids[pos];
+    }
+
+    private void rehash() {
+        final Formula[] oldKeys = this.keys;
+        final int[] oldIds = this.ids;
+        this.keys = new Formula[oldKeys.length * 2];
+        this.ids = new int[oldKeys.length * 2];
+        final int mask = this.keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int pos = hash(oldKeys[i]) & mask;
+                while (this.keys[pos] != null) {
+                    pos = (pos + 1) & mask;
+                }
+                this.keys[pos] = oldKeys[i];
+                this.ids[pos] = oldIds[i];
+            }
+        }
+    }
+
+    private static int hash(final Formula formula) {
+        final int h = System.identityHashCode(formula) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Iterator<Formula>[] newIteratorArray(final int size) {
+        return (Iterator<Formula>[]) new Iterator[size];
+    }
+
+    /**
+     * A visitor for new nodes of a node table.
+     */
+    @FunctionalInterface
+    public interface NodeVisitor {
+
+        /**
+         * Visits a node which was added to the table.
+         * @param node the node
+         * @param id   the ID of the node
+         */
+        void visit(Formula node, int id);
+    }
+}
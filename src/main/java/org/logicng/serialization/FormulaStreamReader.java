@@ -0,0 +1,201 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A reader for a stream of formulas written by a {@link FormulaStreamWriter}.
+ * <p>
+ * The reader reads the stream chunk by chunk and returns each formula as soon
+ * as its chunk has arrived.  Nodes are generated on the formula factory only
+ * when a formula which contains them is returned, so formulas which are
+ * {@link #skip() skipped} by the caller are not generated, unless they are
+ * shared with other formulas.  The variables of a chunk are always generated.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class FormulaStreamReader implements Iterator<Formula>, Closeable {
+
+    private final FormulaFactory f;
+    private final InputStream stream;
+    private final IntFunction<Formula> id2formula;
+    private final FormulaNodeDeserializer deserializer;
+
+    private Variable[] variables;
+    private int variableCount;
+    private Formula[] nodes;
+    private PBInternalFormula[] pendingNodes;
+    private int nodeCount;
+    private int[] buildStack;
+
+    private PBFormulas chunk;
+    private int chunkPosition;
+    private boolean exhausted;
+
+    /**
+     * Constructs a new formula stream reader.
+     * @param f      the formula factory to generate the formulas
+     * @param stream the stream
+     */
+    public FormulaStreamReader(final FormulaFactory f, final InputStream stream) {
+        this.f = f;
+        this.deserializer = new FormulaNodeDeserializer(f);
+        this.stream = stream;
+        this.id2formula = id -> this.nodes[id];
+        this.variables = new Variable[64];
+        this.nodes = new Formula[64];
+        this.pendingNodes = new PBInternalFormula[64];
+        this.buildStack = new int[64];
+    }
+
+    /**
+     * Returns whether there is another formula in the stream.  This method
+     * reads the next chunk of the stream if the current chunk is exhausted.
+     * @return {@code true} if there is another formula, otherwise {@code false}
+     * @throws UncheckedIOException if there is a problem reading from the stream
+     */
+    @Override
+    public boolean hasNext() {
+        while (!this.exhausted && (this.chunk == null || this.chunkPosition == this.chunk.getIdCount())) {
+            try {
+                readChunk();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return !this.exhausted;
+    }
+
+    /**
+     * Returns the next formula of the stream.  All nodes of the formula which
+     * were not generated yet are generated on the formula factory.
+     * @return the next formula
+     * @throws NoSuchElementException if there are no more formulas
+     * @throws UncheckedIOException   if there is a problem reading from the stream
+     */
+    @Override
+    public Formula next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return build(this.chunk.getId(this.chunkPosition++));
+    }
+
+    /**
+     * Skips the next formula of the stream without generating it.
+     * @return {@code true} if a formula was skipped, {@code false} if there are no more formulas
+     * @throws UncheckedIOException if there is a problem reading from the stream
+     */
+    public boolean skip() {
+        if (!hasNext()) {
+            return false;
+        }
+        this.chunkPosition++;
+        return true;
+    }
+
+    /**
+     * Returns a spliterator over the remaining formulas of the stream.
+     * @return the spliterator
+     */
+    public Spliterator<Formula> spliterator() {
+        return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream of the remaining formulas of the stream.
+     * @return the stream
+     */
+    public Stream<Formula> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.stream.close();
+    }
+
+    private void readChunk() throws IOException {
+        this.chunk = PBFormulas.parseDelimitedFrom(this.stream);
+        this.chunkPosition = 0;
+        if (this.chunk == null) {
+            this.exhausted = true;
+            return;
+        }
+        final PBFormulaMapping mapping = this.chunk.getMapping();
+        if (mapping.getMappingCount() > 0) {
+            throw new IllegalArgumentException("A formula stream chunk must contain its nodes as node list");
+        }
+        if (this.chunk.hasBase()) {
+            throw new IllegalArgumentException("A formula stream chunk must not refer to a formula base");
+        }
+        if (this.variableCount + mapping.getVariableCount() > this.variables.length) {
+            this.variables = Arrays.copyOf(this.variables, Math.max(2 * this.variables.length, this.variableCount + mapping.getVariableCount()));
+        }
+        for (int i = 0; i < mapping.getVariableCount(); i++) {
+            this.variables[this.variableCount++] = this.f.variable(mapping.getVariable(i));
+        }
+        if (this.nodeCount + mapping.getNodeCount() > this.nodes.length) {
+            final int capacity = Math.max(2 * this.nodes.length, this.nodeCount + mapping.getNodeCount());
+            this.nodes = Arrays.copyOf(this.nodes, capacity);
+            this.pendingNodes = Arrays.copyOf(this.pendingNodes, capacity);
+        }
+        for (int i = 0; i < mapping.getNodeCount(); i++) {
+            this.pendingNodes[this.nodeCount++] = mapping.getNode(i);
+        }
+    }
+
+    private Formula build(final int id) {
+        if (this.nodes[id] != null) {
+            return this.nodes[id];
+        }
+        int stackSize = 0;
+        this.buildStack[stackSize++] = id;
+        while (stackSize > 0) {
+            final int top = this.buildStack[stackSize - 1];
+            if (this.nodes[top] != null) {
+                stackSize--;
+                continue;
+            }
+            final PBInternalFormula node = this.pendingNodes[top];
+            boolean ready = true;
+            int operand = 0;
+            for (int i = 0; i < Formulas.operandCount(node); i++) {
+                operand = Formulas.operand(node, i, operand);
+                if (this.nodes[operand] == null) {
+                    if (stackSize == this.buildStack.length) {
+                        this.buildStack = Arrays.copyOf(this.buildStack, 2 * stackSize);
+                    }
+                    this.buildStack[stackSize++] = operand;
+                    ready = false;
+                }
+            }
+            if (ready) {
+                this.nodes[top] = this.deserializer.deserialize(node, this.id2formula, this.variables);
+                this.pendingNodes[top] = null;
+                stackSize--;
+            }
+        }
+        return this.nodes[id];
+    }
+}
@@ -0,0 +1,144 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import org.logicng.formulas.Formula;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+
+/**
+ * An incremental writer for a stream of formulas.
+ * <p>
+ * A formula stream is a sequence of length-delimited {@link PBFormulas} messages
+ * (chunks).  Node IDs and variable indices are shared across the whole stream:
+ * each chunk contains only the variables and nodes which were not written in an
+ * earlier chunk, in the order of their index resp. ID, together with the IDs of
+ * the formulas of this chunk.  So sub-formulas shared between formulas are
+ * written only once and the memory of the writer is bounded by its node table
+ * and the current chunk.
+ * <p>
+ * Formulas written one by one are collected in chunks of a given batch size,
+ * a collection of formulas is always written as one chunk.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class FormulaStreamWriter implements Closeable, Flushable {
+
+    /**
+     * The default number of formulas in a chunk.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final OutputStream stream;
+    private final int batchSize;
+    private final FormulaNodeTable table;
+    private final PBFormulas.Builder chunk;
+    private final PBFormulaMapping.Builder chunkMapping;
+    private int writtenVariables;
+    private int pendingFormulas;
+
+    /**
+     * Constructs a new formula stream writer with the default batch size.
+     * @param stream the stream
+     */
+    public FormulaStreamWriter(final OutputStream stream) {
+        this(stream, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs a new formula stream writer.
+     * @param stream    the stream
+     * @param batchSize the number of formulas after which a chunk is written
+     */
+    public FormulaStreamWriter(final OutputStream stream, final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, but was " + batchSize);
+        }
+        this.stream = stream;
+        this.batchSize = batchSize;
+        this.table = new FormulaNodeTable();
+        this.chunk = PBFormulas.newBuilder();
+        this.chunkMapping = PBFormulaMapping.newBuilder();
+    }
+
+    /**
+     * Writes a formula.  The formula is written with the next chunk, at the latest
+     * when the writer is flushed.
+     * @param formula the formula
+     * @throws IOException if there is a problem writing to the stream
+     */
+    public void write(final Formula formula) throws IOException {
+        add(formula);
+        if (this.pendingFormulas >= this.batchSize) {
+            writeChunk();
+        }
+    }
+
+    /**
+     * Writes a batch of formulas as one chunk, together with all pending formulas.
+     * @param formulas the formulas
+     * @throws IOException if there is a problem writing to the stream
+     */
+    public void write(final Collection<Formula> formulas) throws IOException {
+        for (final Formula formula : formulas) {
+            add(formula);
+        }
+        writeChunk();
+    }
+
+    /**
+     * Returns the number of distinct nodes written to or pending for this stream.
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return this.table.size();
+    }
+
+    /**
+     * Writes all pending formulas and flushes the stream.
+     * @throws IOException if there is a problem writing to the stream
+     */
+    @Override
+    public void flush() throws IOException {
+        writeChunk();
+        this.stream.flush();
+    }
+
+    /**
+     * Writes all pending formulas and closes the stream.
+     * @throws IOException if there is a problem writing to the stream
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeChunk();
+        } finally {
+            this.stream.close();
+        }
+    }
+
+    private void add(final Formula formula) {
+        this.chunk.addId(this.table.add(formula, (node, id) -> this.chunkMapping.addNode(Formulas.serialize(node, this.table))));
+        this.pendingFormulas++;
+    }
+
+    private void writeChunk() throws IOException {
+        if (this.pendingFormulas == 0 && this.chunkMapping.getNodeCount() == 0) {
+            return;
+        }
+        final int variableCount = this.table.variableCount();
+        this.chunkMapping.addAllVariable(this.table.variables().subList(this.writtenVariables, variableCount));
+        this.chunk.setMapping(this.chunkMapping).build().writeDelimitedTo(this.stream);
+        this.writtenVariables = variableCount;
+        this.pendingFormulas = 0;
+        this.chunk.clear();
+        this.chunkMapping.clear();
+    }
+}
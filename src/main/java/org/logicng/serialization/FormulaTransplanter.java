@@ -0,0 +1,128 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import org.logicng.formulas.BinaryOperator;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Not;
+import org.logicng.formulas.PBConstraint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Copies formulas to another formula factory without a detour over protocol buffers.
+ * <p>
+ * The nodes of the formulas are numbered by a {@link FormulaNodeTable} in the
+ * same way as for serialization, and each new node is generated directly on
+ * the target factory from the already copied operands.  The copies are kept
+ * by their node ID, so sub-formulas which were copied by an earlier call are
+ * reused and not traversed again.  Consequently, a transplanter keeps all
+ * formulas it has copied and the corresponding source formulas alive.
+ * <p>
+ * A transplanter is not thread-safe.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public class FormulaTransplanter {
+
+    private final FormulaFactory target;
+    private final FormulaNodeTable table;
+    private final FormulaNodeTable.NodeVisitor visitor;
+    private Formula[] copies;
+
+    /**
+     * Constructs a new transplanter for the given target factory.
+     * @param target the formula factory to generate the copies
+     */
+    public FormulaTransplanter(final FormulaFactory target) {
+        this.target = target;
+        this.table = new FormulaNodeTable();
+        this.visitor = this::copy;
+        this.copies = new Formula[64];
+    }
+
+    /**
+     * Returns the target factory of this transplanter.
+     * @return the target factory
+     */
+    public FormulaFactory target() {
+        return this.target;
+    }
+
+    /**
+     * Copies a formula to the target factory.
+     * @param formula the formula
+     * @return the copy of the formula on the target factory
+     */
+    public Formula transplant(final Formula formula) {
+        final int id = this.table.add(formula, this.visitor);
+        return this.copies[id];
+    }
+
+    /**
+     * Copies a collection of formulas to the target factory.
+     * @param formulas the formulas
+     * @return the copies of the formulas on the target factory, in the order of the collection
+     */
+    public List<Formula> transplant(final Collection<? extends Formula> formulas) {
+        final List<Formula> result = new ArrayList<>(formulas.size());
+        for (final Formula formula : formulas) {
+            result.add(transplant(formula));
+        }
+        return result;
+    }
+
+    private void copy(final Formula node, final int id) {
+        if (id == this.copies.length) {
+            this.copies = Arrays.copyOf(this.copies, 2 * id);
+        }
+        this.copies[id] = generate(node);
+    }
+
+    private Formula generate(final Formula node) {
+        switch (node.type()) {
+            case TRUE:
+                return this.target.verum();
+            case FALSE:
+                return this.target.falsum();
+            case LITERAL:
+                return literal((Literal) node);
+            case NOT:
+                return this.target.not(operand(((Not) node).operand()));
+            case IMPL:
+            case EQUIV:
+                final BinaryOperator binary = (BinaryOperator) node;
+                return this.target.binaryOperator(node.type(), operand(binary.left()), operand(binary.right()));
+            case AND:
+            case OR:
+                final List<Formula> operands = new ArrayList<>(node.numberOfOperands());
+                for (final Formula op : node) {
+                    operands.add(operand(op));
+                }
+                return this.target.naryOperator(node.type(), operands);
+            case PBC:
+                final PBConstraint pbc = (PBConstraint) node;
+                final Literal[] literals = pbc.operands();
+                for (int i = 0; i < literals.length; i++) {
+                    literals[i] = literal(literals[i]);
+                }
+                return this.target.pbc(pbc.comparator(), pbc.rhs(), literals, pbc.coefficients());
+            default:
+                throw new IllegalArgumentException("Cannot transplant formula type " + node.type());
+        }
+    }
+
+    private Formula operand(final Formula operand) {
+        return this.copies[this.table.id(operand)];
+    }
+
+    private Literal literal(final Literal literal) {
+        return literal.phase() ? this.target.variable(literal.name()) : this.target.variable(literal.name()).negate();
+    }
+}
@@ -15,7 +15,7 @@ import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType;
 import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
 import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula;
 import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint;
-import org.logicng.formulas.And;
+import com.google.protobuf.CodedOutputStream;
 import org.logicng.formulas.CType;
 import org.logicng.formulas.Equivalence;
 import org.logicng.formulas.FType;
@@ -24,14 +24,15 @@ import org.logicng.formulas.FormulaFactory;
 import org.logicng.formulas.Implication;
 import org.logicng.formulas.Literal;
 import org.logicng.formulas.Not;
-import org.logicng.formulas.Or;
 import org.logicng.formulas.PBConstraint;
+import org.logicng.formulas.Variable;
 import org.logicng.functions.SubNodeFunction;
 import org.logicng.util.Pair;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -42,13 +43,41 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 /**
  * Serialization methods for LogicNG formulas.
- * @version 2.5.0
+ * <p>
+ * Variable names are stored only once per formula mapping in a variable table.
+ * Literals refer to this table by a signed index: the absolute value is the
+ * 1-based position in the table, the sign is the phase of the literal.
+ * <p>
+ * The nodes of all formulas are stored as a list in topological order: the ID
+ * of a node is its position in the list and each node refers only to nodes
+ * with smaller IDs.  Mappings in the older layout, a map from ID to node, can
+ * still be deserialized.
+ * <p>
+ * Optionally, the operands of conjunctions and disjunctions are delta-coded:
+ * each operand is stored as the zigzag-encoded difference to the previous
+ * operand (the first one to 0) in the field {@code operandDelta} instead of
+ * {@code operand}.  The order of the operands is kept, so the formula factory
+ * gets them in the same order as with the plain encoding.  Since the nodes are
+ * numbered in post-order, the operands of a node mostly have ascending and
+ * close IDs, so the differences are small even in large mappings.
+ * <p>
+ * Optionally, conjunctions of clauses are stored as flat CNFs: the literals of
+ * all clauses are stored in one list of indices into the variable table
+ * ({@code clauseLiteral}) together with the number of literals of each clause
+ * ({@code clauseSize}).  The clauses are not stored as nodes of their own
+ * unless they are referenced by other nodes.
+ * @version 2.6.0
  * @since 2.5.0
  */
 public interface Formulas {
@@ -69,7 +98,40 @@ public interface Formulas {
     }
 
     /**
-     * Deserialize a formula from a file.
+     * Serialize a formula to a file with a compression codec.
+     * @param formula the formula
+     * @param path    the file path
+     * @param codec   the compression codec
+     * @throws IOException if there is a problem writing the file
+     */
+    static void serializeFormulaToFile(final Formula formula, final Path path, final Codec codec) throws IOException {
+        try (final OutputStream outputStream = Codecs.newOutputStream(Files.newOutputStream(path), codec)) {
+            serializeFormulaToStream(formula, outputStream);
+        }
+    }
+
+    /**
+     * Deserialize a formula from a file.  The compression codec is detected
+     * from the file header.  Uncompressed files are memory-mapped and decoded
+     * directly from the mapped file.
+     * @param f    the formula factory to generate the formula
+     * @param path the file path
+     * @return the formula
+     * @throws IOException if there is a problem reading the file
+     */
+    static Formula deserializeFormulaFromFile(final FormulaFactory f, final Path path) throws IOException {
+        final int offset = Codecs.uncompressedOffset(path);
+        if (offset >= 0 && MappedFiles.canMap(path)) {
+            return deserializeFormula(f, PBFormulas.parseFrom(MappedFiles.open(path, offset)));
+        }
+        try (final InputStream inputStream = Codecs.newInputStream(Files.newInputStream(path))) {
+            return deserializeFormulaFromStream(f, inputStream);
+        }
+    }
+
+    /**
+     * Deserialize a formula from a file.  Uncompressed files are memory-mapped
+     * and decoded directly from the mapped file.
      * @param f        the formula factory to generate the formula
      * @param path     the file path
      * @param compress a flag whether the file should be compressed (zip)
@@ -77,6 +139,9 @@ public interface Formulas {
      * @throws IOException if there is a problem reading the file
      */
     static Formula deserializeFormulaFromFile(final FormulaFactory f, final Path path, final boolean compress) throws IOException {
+        if (!compress && MappedFiles.canMap(path)) {
+            return deserializeFormula(f, PBFormulas.parseFrom(MappedFiles.open(path)));
+        }
         try (final InputStream inputStream = compress ? new GZIPInputStream(Files.newInputStream(path)) : Files.newInputStream(path)) {
             return deserializeFormulaFromStream(f, inputStream);
         }
@@ -96,7 +161,96 @@ public interface Formulas {
     }
 
     /**
-     * Deserialize a list of formulas from a file.
+     * Serialize a list of formulas to a file with a compression codec.
+     * @param formulas the formulas
+     * @param path     the file path
+     * @param codec    the compression codec
+     * @throws IOException if there is a problem writing the file
+     */
+    static void serializeFormulaListToFile(final List<Formula> formulas, final Path path, final Codec codec) throws IOException {
+        try (final OutputStream outputStream = Codecs.newOutputStream(Files.newOutputStream(path), codec)) {
+            serializeFormulaListToStream(formulas, outputStream);
+        }
+    }
+
+    /**
+     * Serialize a list of formulas to a GZIP file which is compressed in
+     * parallel on a fork/join pool.  The file can be read by all methods for
+     * compressed files.
+     * @param formulas the formulas
+     * @param path     the file path
+     * @param pool     the fork/join pool
+     * @throws IOException if there is a problem writing the file
+     */
+    static void serializeFormulaListToFile(final List<Formula> formulas, final Path path, final ForkJoinPool pool) throws IOException {
+        try (final OutputStream outputStream = ParallelGzip.newOutputStream(Files.newOutputStream(path), pool, Deflater.DEFAULT_COMPRESSION)) {
+            serializeFormulaListToStream(formulas, outputStream);
+        }
+    }
+
+    /**
+     * Serialize a list of formulas to a file with a compression codec in the
+     * background.  The formulas are encoded on the calling thread, the
+     * compression and the writing of the file are performed by a background
+     * thread.
+     * @param formulas the formulas
+     * @param path     the file path
+     * @param codec    the compression codec
+     * @return a future which is completed with the file path when the file is written and forced to the storage device
+     * @throws IOException if the calling thread is interrupted while waiting for a free buffer or the background
+     *                     thread died; an existing file is left untouched in this case
+     */
+    static CompletableFuture<Path> serializeFormulaListToFileAsync(final List<Formula> formulas, final Path path, final Codec codec)
+            throws IOException {
+        final AsyncFileWriter writer = AsyncFileWriter.open(path, codec, AsyncFileWriter.DEFAULT_BUFFER_SIZE);
+        try {
+            serializeFormulaListToStream(formulas, writer);
+        } catch (final Throwable e) {
+            writer.abort(e);
+            throw e;
+        }
+        writer.close();
+        return writer.result();
+    }
+
+    /**
+     * Deserialize a list of formulas from a GZIP file.  Files written by
+     * {@link #serializeFormulaListToFile(List, Path, ForkJoinPool)} are
+     * decompressed in parallel on the fork/join pool.
+     * @param f    the formula factory to generate the formulas
+     * @param path the file path
+     * @param pool the fork/join pool
+     * @return the list of formulas
+     * @throws IOException if there is a problem reading the file
+     */
+    static List<Formula> deserializeFormulaListFromFile(final FormulaFactory f, final Path path, final ForkJoinPool pool) throws IOException {
+        try (final InputStream inputStream = ParallelGzip.newInputStream(Files.newInputStream(path), pool)) {
+            return deserializeFormulaListFromStream(f, inputStream);
+        }
+    }
+
+    /**
+     * Deserialize a list of formulas from a file.  The compression codec is
+     * detected from the file header.  Uncompressed files are memory-mapped and
+     * decoded directly from the mapped file.
+     * @param f    the formula factory to generate the formulas
+     * @param path the file path
+     * @return the list of formulas
+     * @throws IOException if there is a problem reading the file
+     */
+    static List<Formula> deserializeFormulaListFromFile(final FormulaFactory f, final Path path) throws IOException {
+        final int offset = Codecs.uncompressedOffset(path);
+        if (offset >= 0 && MappedFiles.canMap(path)) {
+            return deserializeFormulaList(f, PBFormulas.parseFrom(MappedFiles.open(path, offset)));
+        }
+        try (final InputStream inputStream = Codecs.newInputStream(Files.newInputStream(path))) {
+            return deserializeFormulaListFromStream(f, inputStream);
+        }
+    }
+
+    /**
+     * Deserialize a list of formulas from a file.  Uncompressed files are
+     * memory-mapped and decoded directly from the mapped file.
      * @param f        the formula factory to generate the formulas
      * @param path     the file path
      * @param compress a flag whether the file should be compressed (zip)
@@ -104,19 +258,54 @@ public interface Formulas {
      * @throws IOException if there is a problem reading the file
      */
     static List<Formula> deserializeFormulaListFromFile(final FormulaFactory f, final Path path, final boolean compress) throws IOException {
+        if (!compress && MappedFiles.canMap(path)) {
+            return deserializeFormulaList(f, PBFormulas.parseFrom(MappedFiles.open(path)));
+        }
         try (final InputStream inputStream = compress ? new GZIPInputStream(Files.newInputStream(path)) : Files.newInputStream(path)) {
             return deserializeFormulaListFromStream(f, inputStream);
         }
     }
 
     /**
-     * Serialize a formula to a stream.
+     * Deserialize a list of formulas from a file in two stages.  The
+     * compression codec is detected from the file header.
+     * @param f    the formula factory to generate the formulas
+     * @param path the file path
+     * @return the list of formulas
+     * @throws IOException if there is a problem reading the file
+     * @see #deserializeFormulaListFromStreamPipelined(FormulaFactory, InputStream)
+     */
+    static List<Formula> deserializeFormulaListFromFilePipelined(final FormulaFactory f, final Path path) throws IOException {
+        try (final InputStream inputStream = Codecs.newInputStream(Files.newInputStream(path))) {
+            return deserializeFormulaListFromStreamPipelined(f, inputStream);
+        }
+    }
+
+    /**
+     * Deserialize a list of formulas from a file in two stages.
+     * @param f        the formula factory to generate the formulas
+     * @param path     the file path
+     * @param compress a flag whether the file should be compressed (zip)
+     * @return the list of formulas
+     * @throws IOException if there is a problem reading the file
+     * @see #deserializeFormulaListFromStreamPipelined(FormulaFactory, InputStream)
+     */
+    static List<Formula> deserializeFormulaListFromFilePipelined(final FormulaFactory f, final Path path, final boolean compress)
+            throws IOException {
+        try (final InputStream inputStream = compress ? new GZIPInputStream(Files.newInputStream(path)) : Files.newInputStream(path)) {
+            return deserializeFormulaListFromStreamPipelined(f, inputStream);
+        }
+    }
+
+    /**
+     * Serialize a formula to a stream.  The formula is encoded directly to the
+     * stream without generating protocol buffer objects for its nodes.
      * @param formula the formula
      * @param stream  the stream
      * @throws IOException if there is a problem writing to the stream
      */
     static void serializeFormulaToStream(final Formula formula, final OutputStream stream) throws IOException {
-        serializeFormula(formula).writeTo(stream);
+        serializeFormulaListToStream(Collections.singletonList(formula), stream);
     }
 
     /**
@@ -131,13 +320,31 @@ public interface Formulas {
     }
 
     /**
-     * Serialize a list of formulas to a stream.
+     * Serialize a list of formulas to a stream.  The formulas are encoded
+     * directly to the stream without generating protocol buffer objects for
+     * their nodes.
      * @param formulas the formulas
      * @param stream   the stream
      * @throws IOException if there is a problem writing to the stream
      */
     static void serializeFormulaListToStream(final Collection<Formula> formulas, final OutputStream stream) throws IOException {
-        serializeFormulas(formulas).writeTo(stream);
+        final CodedOutputStream output = CodedOutputStream.newInstance(stream);
+        serializeFormulaListToStream(formulas, output);
+        output.flush();
+    }
+
+    /**
+     * Serialize a list of formulas to a coded output stream.  The formulas are
+     * encoded directly to the stream without generating protocol buffer objects
+     * for their nodes.  The bytes are the same message as the one of
+     * {@link #serializeFormulas(Collection)} and can be read by all readers of
+     * a {@link PBFormulas} message.  The stream is not flushed.
+     * @param formulas the formulas
+     * @param output   the coded output stream
+     * @throws IOException if there is a problem writing to the stream
+     */
+    static void serializeFormulaListToStream(final Collection<Formula> formulas, final CodedOutputStream output) throws IOException {
+        FormulaEncoder.write(formulas, output);
     }
 
     /**
@@ -151,6 +358,68 @@ public interface Formulas {
         return deserializeFormulaList(f, PBFormulas.newBuilder().mergeFrom(stream).build());
     }
 
+    /**
+     * Deserialize a list of formulas from a stream in two stages.  A separate
+     * thread reads and decodes the stream while the calling thread only generates
+     * the formulas on the formula factory.  This speeds up the deserialization of
+     * large formula lists, especially from compressed streams.  The formula factory
+     * is only accessed by the calling thread.
+     * <p>
+     * The nodes on the stream must be stored as node list, mappings in the
+     * older map layout are not supported.
+     * @param f      the formula factory to generate the formulas
+     * @param stream the stream
+     * @return the list of formulas
+     * @throws IOException if there is a problem reading from the stream
+     */
+    static List<Formula> deserializeFormulaListFromStreamPipelined(final FormulaFactory f, final InputStream stream) throws IOException {
+        return PipelinedFormulaDeserializer.deserialize(f, stream);
+    }
+
+    /**
+     * Serialize a list of formulas to a byte array of the exact serialized size.
+     * @param formulas the formulas
+     * @return the byte array
+     */
+    static byte[] serializeFormulasToByteArray(final Collection<Formula> formulas) {
+        return MessageBuffers.toByteArray(serializeFormulas(formulas));
+    }
+
+    /**
+     * Serialize a list of formulas into a byte buffer, starting at its current
+     * position.  The position of the buffer is advanced by the number of
+     * written bytes.
+     * @param formulas the formulas
+     * @param buffer   the byte buffer, either a heap or a direct buffer
+     * @return the number of written bytes
+     * @throws java.nio.BufferOverflowException if the remaining bytes of the buffer are not sufficient
+     */
+    static int serializeFormulasInto(final Collection<Formula> formulas, final ByteBuffer buffer) {
+        return MessageBuffers.writeInto(serializeFormulas(formulas), buffer);
+    }
+
+    /**
+     * Serialize a list of formulas to a direct byte buffer of the exact
+     * serialized size.  The returned buffer is ready to be read.
+     * @param formulas the formulas
+     * @return the direct byte buffer
+     */
+    static ByteBuffer serializeFormulasToDirectBuffer(final Collection<Formula> formulas) {
+        return MessageBuffers.toDirectBuffer(serializeFormulas(formulas));
+    }
+
+    /**
+     * Deserialize a list of formulas from the remaining bytes of a byte buffer.
+     * Direct buffers are decoded without copying them to the heap.
+     * @param f      the formula factory to generate the formulas
+     * @param buffer the byte buffer
+     * @return the list of formulas
+     * @throws IOException if the buffer does not contain a valid protocol buffer
+     */
+    static List<Formula> deserializeFormulaListFromBuffer(final FormulaFactory f, final ByteBuffer buffer) throws IOException {
+        return deserializeFormulaList(f, PBFormulas.parseFrom(buffer));
+    }
+
     /**
      * Serializes a formula to a protocol buffer.
      * @param formula the formula
@@ -166,20 +435,167 @@ public interface Formulas {
      * @return the protocol buffer
      */
     static PBFormulas serializeFormulas(final Collection<Formula> formulas) {
-        final Pair<Map<Formula, Integer>, Map<Integer, PBInternalFormula>> maps = computeMappings(formulas);
-        final List<Integer> ids = formulas.stream().map(maps.first()::get).collect(Collectors.toList());
-        return PBFormulas.newBuilder()
-                .addAllId(ids)
-                .setMapping(PBFormulaMapping.newBuilder().putAllMapping(maps.second()).build())
+        return serializeFormulas(formulas, false);
+    }
+
+    /**
+     * Serializes a list of formulas to a protocol buffer.
+     * @param formulas      the formulas
+     * @param deltaOperands a flag whether the operands of conjunctions and disjunctions should be delta-coded
+     * @return the protocol buffer
+     */
+    static PBFormulas serializeFormulas(final Collection<Formula> formulas, final boolean deltaOperands) {
+        return serializeFormulas(formulas, deltaOperands, false);
+    }
+
+    /**
+     * Serializes a list of formulas to a protocol buffer.
+     * @param formulas      the formulas
+     * @param deltaOperands a flag whether the operands of conjunctions and disjunctions should be delta-coded
+     * @param flatCnfs      a flag whether conjunctions of clauses should be stored as flat clauses
+     * @return the protocol buffer
+     */
+    static PBFormulas serializeFormulas(final Collection<Formula> formulas, final boolean deltaOperands, final boolean flatCnfs) {
+        final FormulaNodeTable table = new FormulaNodeTable();
+        final List<PBInternalFormula> nodes = computeMappings(formulas, table, deltaOperands, flatCnfs);
+        final PBFormulas.Builder builder = PBFormulas.newBuilder();
+        for (final Formula formula : formulas) {
+            builder.addId(table.id(formula));
+        }
+        return builder
+                .setMapping(PBFormulaMapping.newBuilder()
+                        .addAllVariable(table.variables())
+                        .addAllNode(nodes)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Serializes a list of formulas to a protocol buffer in parallel on the
+     * common fork/join pool.  The result is the same as the one of
+     * {@link #serializeFormulas(Collection)}.
+     * @param formulas the formulas
+     * @return the protocol buffer
+     */
+    static PBFormulas serializeFormulasParallel(final Collection<Formula> formulas) {
+        return serializeFormulasParallel(formulas, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Serializes a list of formulas to a protocol buffer in parallel on the
+     * given fork/join pool.  The result is the same as the one of
+     * {@link #serializeFormulas(Collection)}.
+     * @param formulas the formulas
+     * @param pool     the fork/join pool
+     * @return the protocol buffer
+     */
+    static PBFormulas serializeFormulasParallel(final Collection<Formula> formulas, final ForkJoinPool pool) {
+        return ParallelFormulaSerializer.serialize(formulas, pool);
+    }
+
+    /**
+     * Serializes a formula and compresses it with a preset dictionary.  For
+     * small formulas, this is much smaller than a compression without
+     * dictionary.
+     * @param formula    the formula
+     * @param dictionary the dictionary, trained on serialized formulas
+     * @return the compressed formula
+     */
+    static byte[] serializeFormulaCompressed(final Formula formula, final CompressionDictionary dictionary) {
+        return dictionary.compress(MessageBuffers.toByteArray(serializeFormula(formula)));
+    }
+
+    /**
+     * Serializes a formula to a protocol buffer relative to a base.
+     * @param formula the formula
+     * @param base    the base
+     * @return the protocol buffer
+     */
+    static PBFormulas serializeFormula(final Formula formula, final FormulaBase base) {
+        return serializeFormulas(Collections.singletonList(formula), base);
+    }
+
+    /**
+     * Serializes a list of formulas to a protocol buffer relative to a base.
+     * The protocol buffer only contains the nodes and variables which are not
+     * in the base.
+     * @param formulas the formulas
+     * @param base     the base
+     * @return the protocol buffer
+     */
+    static PBFormulas serializeFormulas(final Collection<Formula> formulas, final FormulaBase base) {
+        final FormulaNodeTable table = new FormulaNodeTable(base.table());
+        final List<PBInternalFormula> nodes = computeMappings(formulas, table);
+        final PBFormulas.Builder builder = PBFormulas.newBuilder();
+        for (final Formula formula : formulas) {
+            builder.addId(table.id(formula));
+        }
+        return builder
+                .setMapping(PBFormulaMapping.newBuilder()
+                        .addAllVariable(table.variables())
+                        .addAllNode(nodes)
+                        .build())
+                .setBase(base.reference())
                 .build();
     }
 
     /**
-     * Computes the serialization mappings for a given list of formulas.
+     * Computes the serialization mappings for a given list of formulas.  All
+     * sub-nodes of the formulas are added to the given node table.
+     * @param formulas the formulas
+     * @param table    the node table
+     * @return the list of serialized formulas (protocol buffers) for each sub-node of the formulas which was
+     * not yet in the node table, in topological order, i.e. ordered by their ID
+     */
+    static List<PBInternalFormula> computeMappings(final Collection<Formula> formulas, final FormulaNodeTable table) {
+        return computeMappings(formulas, table, false);
+    }
+
+    /**
+     * Computes the serialization mappings for a given list of formulas.  All
+     * sub-nodes of the formulas are added to the given node table.
+     * @param formulas      the formulas
+     * @param table         the node table
+     * @param deltaOperands a flag whether the operands of conjunctions and disjunctions should be delta-coded
+     * @return the list of serialized formulas (protocol buffers) for each sub-node of the formulas which was
+     * not yet in the node table, in topological order, i.e. ordered by their ID
+     */
+    static List<PBInternalFormula> computeMappings(final Collection<Formula> formulas, final FormulaNodeTable table,
+                                                   final boolean deltaOperands) {
+        return computeMappings(formulas, table, deltaOperands, false);
+    }
+
+    /**
+     * Computes the serialization mappings for a given list of formulas.  All
+     * sub-nodes of the formulas are added to the given node table, except for
+     * the clauses of flat CNFs which are only reachable through the CNF.
+     * @param formulas      the formulas
+     * @param table         the node table
+     * @param deltaOperands a flag whether the operands of conjunctions and disjunctions should be delta-coded
+     * @param flatCnfs      a flag whether conjunctions of clauses should be stored as flat clauses
+     * @return the list of serialized formulas (protocol buffers) for each sub-node of the formulas which was
+     * not yet in the node table, in topological order, i.e. ordered by their ID
+     */
+    static List<PBInternalFormula> computeMappings(final Collection<Formula> formulas, final FormulaNodeTable table,
+                                                   final boolean deltaOperands, final boolean flatCnfs) {
+        final List<PBInternalFormula> nodes = new ArrayList<>();
+        final Predicate<Formula> opaque = flatCnfs ? Formulas::isFlatCnf : null;
+        for (final Formula formula : formulas) {
+            table.add(formula, (node, id) -> nodes.add(serialize(node, table, deltaOperands, flatCnfs)), opaque);
+        }
+        return nodes;
+    }
+
+    /**
+     * Computes the serialization mappings for a given list of formulas in the
+     * legacy layout with a mapping from ID to node and variable names in the
+     * literal nodes.
      * @param formulas the formulas
-     * @return a mapping from formula to ID and a mapping from ID to serialized formula (protocol buffer)
-     * for each sub-node of the formulas.
+     * @return the pair of mappings from formula to ID and from ID to serialized formula
+     * @deprecated use {@link #computeMappings(Collection, FormulaNodeTable)}, which stores the nodes in
+     * topological order and the variable names only once
      */
+    @Deprecated
     static Pair<Map<Formula, Integer>, Map<Integer, PBInternalFormula>> computeMappings(final Collection<Formula> formulas) {
         final Map<Formula, Integer> formula2id = new LinkedHashMap<>();
         final Map<Integer, PBInternalFormula> id2formula = new LinkedHashMap<>();
@@ -198,11 +614,124 @@ public interface Formulas {
     }
 
     /**
-     * Serializes a formula to a protocol buffer with a given formula to ID mapping.
+     * Serializes a formula to a protocol buffer with a given node table.
+     * @param formula the formula
+     * @param table   the node table (must contain all operands of the formula); unknown variables
+     *                of the formula are added to its variable table
+     * @return the protocol buffer.
+     */
+    static PBInternalFormula serialize(final Formula formula, final FormulaNodeTable table) {
+        return serialize(formula, table, false);
+    }
+
+    /**
+     * Serializes a formula to a protocol buffer with a given node table.
+     * @param formula       the formula
+     * @param table         the node table (must contain all operands of the formula); unknown variables
+     *                      of the formula are added to its variable table
+     * @param deltaOperands a flag whether the operands of conjunctions and disjunctions should be delta-coded
+     * @return the protocol buffer.
+     */
+    static PBInternalFormula serialize(final Formula formula, final FormulaNodeTable table, final boolean deltaOperands) {
+        return serialize(formula, table, deltaOperands, false);
+    }
+
+    /**
+     * Serializes a formula to a protocol buffer with a given node table.
+     * @param formula       the formula
+     * @param table         the node table (must contain all operands of the formula which are serialized
+     *                      as nodes); unknown variables of the formula are added to its variable table
+     * @param deltaOperands a flag whether the operands of conjunctions and disjunctions should be delta-coded
+     * @param flatCnfs      a flag whether conjunctions of clauses should be stored as flat clauses
+     * @return the protocol buffer.
+     */
+    static PBInternalFormula serialize(final Formula formula, final FormulaNodeTable table, final boolean deltaOperands,
+                                       final boolean flatCnfs) {
+        final PBInternalFormula.Builder builder = PBInternalFormula.newBuilder();
+        switch (formula.type()) {
+            case FALSE:
+            case TRUE:
+                builder.setType(PBFormulaType.CONST);
+                builder.setValue(formula.type() == FType.TRUE);
+                break;
+            case LITERAL:
+                builder.setType(PBFormulaType.LITERAL);
+                final Literal lit = (Literal) formula;
+                builder.setValue(lit.phase());
+                builder.setLiteral(table.literalIndex(lit));
+                break;
+            case NOT:
+                builder.setType(PBFormulaType.NOT);
+                final Not not = (Not) formula;
+                builder.addOperand(table.id(not.operand()));
+                break;
+            case EQUIV:
+                builder.setType(PBFormulaType.EQUIV);
+                final Equivalence eq = (Equivalence) formula;
+                builder.addOperand(table.id(eq.left()));
+                builder.addOperand(table.id(eq.right()));
+                break;
+            case IMPL:
+                builder.setType(PBFormulaType.IMPL);
+                final Implication impl = (Implication) formula;
+                builder.addOperand(table.id(impl.left()));
+                builder.addOperand(table.id(impl.right()));
+                break;
+            case OR:
+            case AND:
+                builder.setType(formula.type() == FType.AND ? PBFormulaType.AND : PBFormulaType.OR);
+                if (flatCnfs && isFlatCnf(formula)) {
+                    for (final Formula clause : formula) {
+                        if (clause.type() == FType.LITERAL) {
+                            builder.addClauseLiteral(table.literalIndex((Literal) clause));
+                        } else {
+                            for (final Formula clauseLit : clause) {
+                                builder.addClauseLiteral(table.literalIndex((Literal) clauseLit));
+                            }
+                        }
+                        builder.addClauseSize(clause.type() == FType.LITERAL ? 1 : clause.numberOfOperands());
+                    }
+                    break;
+                }
+                int previous = 0;
+                for (final Formula op : formula) {
+                    final int id = table.id(op);
+                    if (deltaOperands) {
+                        builder.addOperandDelta(id - previous);
+                        previous = id;
+                    } else {
+                        builder.addOperand(id);
+                    }
+                }
+                break;
+            case PBC:
+                builder.setType(PBFormulaType.PBC);
+                final PBConstraint pbc = (PBConstraint) formula;
+                final PBInternalPseudoBooleanConstraint.Builder pbBuilder = PBInternalPseudoBooleanConstraint.newBuilder();
+                pbBuilder.setRhs(pbc.rhs());
+                pbBuilder.setComparator(serializeCType(pbc.comparator()));
+                final int[] coefficients = pbc.coefficients();
+                if (Arrays.stream(coefficients).allMatch(it -> it == 1)) {
+                    pbBuilder.setUnitCoefficients(true);
+                } else {
+                    Arrays.stream(coefficients).forEach(pbBuilder::addCoefficientValue);
+                }
+                Arrays.stream(pbc.operands()).forEach(it -> pbBuilder.addLiteralIndex(table.literalIndex(it)));
+                builder.setPbConstraint(pbBuilder.build());
+                break;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Serializes a formula to a protocol buffer with a given formula to ID
+     * mapping in the legacy layout with variable names in the literal nodes.
      * @param formula    the formula
      * @param formula2id a mapping from formula to ID (must contain all sub-nodes of the formula)
      * @return the protocol buffer.
+     * @deprecated use {@link #serialize(Formula, FormulaNodeTable)}
      */
+    @Deprecated
     static PBInternalFormula serialize(final Formula formula, final Map<Formula, Integer> formula2id) {
         final PBInternalFormula.Builder builder = PBInternalFormula.newBuilder();
         switch (formula.type()) {
@@ -235,16 +764,9 @@ public interface Formulas {
                 builder.addOperand(formula2id.get(impl.right()));
                 break;
             case OR:
-                builder.setType(PBFormulaType.OR);
-                final Or or = (Or) formula;
-                for (final Formula op : or) {
-                    builder.addOperand(formula2id.get(op));
-                }
-                break;
             case AND:
-                builder.setType(PBFormulaType.AND);
-                final And and = (And) formula;
-                for (final Formula op : and) {
+                builder.setType(formula.type() == FType.AND ? PBFormulaType.AND : PBFormulaType.OR);
+                for (final Formula op : formula) {
                     builder.addOperand(formula2id.get(op));
                 }
                 break;
@@ -279,8 +801,76 @@ public interface Formulas {
      * @return the list of formulas
      */
     static List<Formula> deserializeFormulaList(final FormulaFactory f, final PBFormulas bin) {
-        final Map<Integer, Formula> id2formula = deserializeFormula(f, bin.getMapping());
-        return bin.getIdList().stream().map(id2formula::get).collect(Collectors.toList());
+        if (bin.hasBase()) {
+            throw new IllegalArgumentException("The formulas were serialized relative to the base " + bin.getBase().getName());
+        }
+        if (bin.getMapping().getMappingCount() > 0) {
+            final Map<Integer, Formula> id2formula = deserializeFormula(f, bin.getMapping());
+            return bin.getIdList().stream().map(id2formula::get).collect(Collectors.toList());
+        }
+        final Formula[] nodes = deserializeNodes(f, bin.getMapping());
+        final List<Formula> formulas = new ArrayList<>(bin.getIdCount());
+        for (int i = 0; i < bin.getIdCount(); i++) {
+            formulas.add(nodes[bin.getId(i)]);
+        }
+        return formulas;
+    }
+
+    /**
+     * Deserializes a formula from a protocol buffer relative to a base.
+     * @param f    the formula factory to generate the formula, must be the factory of the base
+     * @param bin  the protocol buffer
+     * @param base the base
+     * @return the formula
+     */
+    static Formula deserializeFormula(final FormulaFactory f, final PBFormulas bin, final FormulaBase base) {
+        return deserializeFormulaList(f, bin, base).get(0);
+    }
+
+    /**
+     * Deserializes a formula which was compressed with a preset dictionary.
+     * @param f            the formula factory to generate the formula
+     * @param compressed   the compressed formula
+     * @param dictionaries the known dictionaries, the dictionary of the formula is chosen by its ID
+     * @return the formula
+     * @throws IOException if the compressed formula is corrupt or its dictionary is unknown
+     */
+    static Formula deserializeFormulaCompressed(final FormulaFactory f, final byte[] compressed,
+                                                final Collection<CompressionDictionary> dictionaries) throws IOException {
+        return deserializeFormula(f, PBFormulas.parseFrom(CompressionDictionary.decompress(compressed, dictionaries)));
+    }
+
+    /**
+     * Deserializes a list of formulas from a protocol buffer relative to a base.
+     * The nodes of the base are taken from the base, only the remaining nodes
+     * are generated.
+     * @param f    the formula factory to generate the formulas, must be the factory of the base
+     * @param bin  the protocol buffer
+     * @param base the base
+     * @return the list of formulas
+     * @throws IllegalArgumentException if the formulas were not serialized relative to the given base
+     */
+    static List<Formula> deserializeFormulaList(final FormulaFactory f, final PBFormulas bin, final FormulaBase base) {
+        if (!bin.hasBase() || !bin.getBase().equals(base.reference())) {
+            throw new IllegalArgumentException("The formulas were not serialized relative to " + base);
+        }
+        final PBFormulaMapping mapping = bin.getMapping();
+        final Variable[] variables = base.variables(mapping.getVariableCount());
+        for (int i = 0; i < mapping.getVariableCount(); i++) {
+            variables[base.variableCount() + i] = f.variable(mapping.getVariable(i));
+        }
+        final int offset = base.nodeCount();
+        final Formula[] nodes = new Formula[mapping.getNodeCount()];
+        final IntFunction<Formula> id2formula = id -> id < offset ? base.node(id) : nodes[id - offset];
+        final FormulaNodeDeserializer deserializer = new FormulaNodeDeserializer(f);
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = deserializer.deserialize(mapping.getNode(i), id2formula, variables);
+        }
+        final List<Formula> formulas = new ArrayList<>(bin.getIdCount());
+        for (int i = 0; i < bin.getIdCount(); i++) {
+            formulas.add(id2formula.apply(bin.getId(i)));
+        }
+        return formulas;
     }
 
     /**
@@ -291,51 +881,144 @@ public interface Formulas {
      */
     static Map<Integer, Formula> deserializeFormula(final FormulaFactory f, final PBFormulaMapping bin) {
         final Map<Integer, Formula> id2formula = new TreeMap<>();
+        if (bin.getMappingCount() == 0) {
+            final Formula[] nodes = deserializeNodes(f, bin);
+            for (int i = 0; i < nodes.length; i++) {
+                id2formula.put(i, nodes[i]);
+            }
+            return id2formula;
+        }
+        final Variable[] variables = deserializeVariables(f, bin);
+        final FormulaNodeDeserializer deserializer = new FormulaNodeDeserializer(f);
         bin.getMappingMap().forEach((k, v) -> {
-            id2formula.put(k, deserialize(f, v, id2formula));
+            id2formula.put(k, deserializer.deserialize(v, id2formula::get, variables));
         });
         return id2formula;
     }
 
+    /**
+     * Deserializes the node table of a protocol buffer in the topologically ordered layout.
+     * @param f   the formula factory to generate the formulas
+     * @param bin the protocol buffer
+     * @return the formulas, indexed by their ID
+     */
+    static Formula[] deserializeNodes(final FormulaFactory f, final PBFormulaMapping bin) {
+        return deserializeNodes(f, bin, deserializeVariables(f, bin));
+    }
+
+    /**
+     * Deserializes the node table of a protocol buffer in the topologically ordered layout.
+     * @param f         the formula factory to generate the formulas
+     * @param bin       the protocol buffer
+     * @param variables the deserialized variable table
+     * @return the formulas, indexed by their ID
+     */
+    static Formula[] deserializeNodes(final FormulaFactory f, final PBFormulaMapping bin, final Variable[] variables) {
+        return new FormulaNodeDeserializer(f).deserializeNodes(bin, variables);
+    }
+
+    /**
+     * Deserializes the variable table of a protocol buffer.  Each variable is
+     * generated only once on the formula factory.
+     * @param f   the formula factory to generate the variables
+     * @param bin the protocol buffer
+     * @return the variables, indexed by their position in the variable table
+     */
+    static Variable[] deserializeVariables(final FormulaFactory f, final PBFormulaMapping bin) {
+        final Variable[] variables = new Variable[bin.getVariableCount()];
+        for (int i = 0; i < variables.length; i++) {
+            variables[i] = f.variable(bin.getVariable(i));
+        }
+        return variables;
+    }
+
+    /**
+     * Deserializes a literal from its signed index in the variable table.
+     * @param index     the 1-based index of the literal's variable, negative if the literal has a negative phase
+     * @param variables the deserialized variable table
+     * @return the literal
+     */
+    static Literal deserializeLiteral(final int index, final Variable[] variables) {
+        return index > 0 ? variables[index - 1] : variables[-index - 1].negate();
+    }
+
+    /**
+     * Returns whether a formula is stored as a flat CNF: a conjunction whose
+     * operands are literals or disjunctions of literals.  The clauses of a flat
+     * CNF are stored as literal lists in the CNF node instead of as nodes of
+     * their own.
+     * @param formula the formula
+     * @return {@code true} if the formula is a conjunction of clauses, otherwise {@code false}
+     */
+    static boolean isFlatCnf(final Formula formula) {
+        if (formula.type() != FType.AND) {
+            return false;
+        }
+        for (final Formula clause : formula) {
+            if (clause.type() == FType.OR) {
+                for (final Formula literal : clause) {
+                    if (literal.type() != FType.LITERAL) {
+                        return false;
+                    }
+                }
+            } else if (clause.type() != FType.LITERAL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of operands of a serialized node, independent of
+     * whether its operands are delta-coded.
+     * @param bin the protocol buffer
+     * @return the number of operands
+     */
+    static int operandCount(final PBInternalFormula bin) {
+        return bin.getOperandDeltaCount() > 0 ? bin.getOperandDeltaCount() : bin.getOperandCount();
+    }
+
+    /**
+     * Returns the ID of an operand of a serialized node.  The operands must be
+     * read in ascending order, since a delta-coded operand is relative to the
+     * previous one.
+     * @param bin      the protocol buffer
+     * @param index    the index of the operand
+     * @param previous the ID of the previous operand, 0 for the first operand
+     * @return the ID of the operand
+     */
+    static int operand(final PBInternalFormula bin, final int index, final int previous) {
+        return bin.getOperandDeltaCount() > 0 ? previous + bin.getOperandDelta(index) : bin.getOperand(index);
+    }
+
     /**
      * Deserializes a protocol buffer to a formula with a given ID to formula mapping.
+     * For deserializing many nodes, a {@link FormulaNodeDeserializer} should be
+     * used, since it reuses its buffers across nodes.
+     * @param f          the formula factory to generate the formulas
+     * @param bin        the protocol buffer
+     * @param id2formula a mapping from ID to formula (must contain all sub-nodes of the formula)
+     * @param variables  the deserialized variable table
+     * @return the formula
+     */
+    static Formula deserialize(final FormulaFactory f, final PBInternalFormula bin, final IntFunction<Formula> id2formula,
+                               final Variable[] variables) {
+        return new FormulaNodeDeserializer(f).deserialize(bin, id2formula, variables);
+    }
+
+    /**
+     * Deserializes a protocol buffer to a formula with a given ID to formula
+     * mapping.  The literals of the node must be stored with their variable
+     * names, as by {@link #serialize(Formula, Map)}.
      * @param f          the formula factory to generate the formulas
      * @param bin        the protocol buffer
      * @param id2formula a mapping from ID to formula (must contain all sub-nodes of the formula)
      * @return the formula
+     * @deprecated use {@link #deserialize(FormulaFactory, PBInternalFormula, IntFunction, Variable[])}
      */
+    @Deprecated
     static Formula deserialize(final FormulaFactory f, final PBInternalFormula bin, final Map<Integer, Formula> id2formula) {
-        switch (bin.getType()) {
-            case CONST:
-                return f.constant(bin.getValue());
-            case LITERAL:
-                return f.literal(bin.getVariable(), bin.getValue());
-            case NOT:
-                return f.not(id2formula.get(bin.getOperand(0)));
-            case IMPL:
-            case EQUIV:
-                final FType binType = bin.getType() == PBFormulaType.IMPL ? FType.IMPL : FType.EQUIV;
-                return f.binaryOperator(binType, id2formula.get(bin.getOperand(0)), id2formula.get(bin.getOperand(1)));
-            case AND:
-            case OR:
-                final FType naryType = bin.getType() == PBFormulaType.AND ? FType.AND : FType.OR;
-                return f.naryOperator(naryType, bin.getOperandList().stream().map(id2formula::get).collect(Collectors.toList()));
-            case PBC:
-                final int rhs = (int) bin.getPbConstraint().getRhs();
-                final CType ctype = deserializeCType(bin.getPbConstraint().getComparator());
-                final List<Literal> lits = bin.getPbConstraint().getLiteralList().stream()
-                        .map(it -> it.startsWith(NOT_SYMBOL) ? f.literal(it.substring(1), false) : f.literal(it, true))
-                        .collect(Collectors.toList());
-                final List<Integer> coeffs = new ArrayList<>();
-                for (final long l : bin.getPbConstraint().getCoefficientList()) {
-                    coeffs.add((int) l);
-                }
-                return f.pbc(ctype, rhs, lits, coeffs);
-            case PREDICATE:
-                return null;
-            default:
-                throw new IllegalArgumentException("Cannot deserialize type " + bin.getType());
-        }
+        return deserialize(f, bin, id2formula::get, new Variable[0]);
     }
 
     /**
@@ -0,0 +1,333 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A fast LZ77 codec in the style of LZ4.
+ * <p>
+ * The data is split into blocks of 64 KiB which are compressed independently.
+ * A block starts with its uncompressed length and its stored length (both as
+ * 4-byte integers).  If the stored length equals the uncompressed length, the
+ * block is stored uncompressed, since it could not be compressed.  Otherwise
+ * the block is a sequence of
+ * <ul>
+ *     <li>a token byte with the number of literals in the upper four bits and
+ *     the match length minus four in the lower four bits,</li>
+ *     <li>further bytes of the number of literals if it is at least 15 (each
+ *     byte is added, a byte less than 255 ends the number),</li>
+ *     <li>the literals,</li>
+ *     <li>the offset of the match as two bytes (little-endian) and further
+ *     bytes of the match length, analogously to the number of literals.</li>
+ * </ul>
+ * The last sequence of a block consists only of literals.  Matches are found
+ * with a single hash table of 4-byte sequences and no chains, so the
+ * compression is fast but its ratio is lower than the one of deflate.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+final class LzCodec implements Codec {
+
+    static final int BLOCK_SIZE = 1 << 16;
+
+    private static final int MIN_MATCH = 4;
+    private static final int MAX_OFFSET = BLOCK_SIZE - 1;
+    private static final int HASH_BITS = 14;
+
+    @Override
+    public int id() {
+        return Codecs.LZ_ID;
+    }
+
+    @Override
+    public OutputStream compress(final OutputStream out) {
+        return new LzOutputStream(out);
+    }
+
+    @Override
+    public InputStream decompress(final InputStream in) {
+        return new LzInputStream(in);
+    }
+
+    @Override
+    public String toString() {
+        return "lz";
+    }
+
+    /**
+     * Compresses a block.
+     * @param src    the uncompressed data
+     * @param length the length of the uncompressed data
+     * @param dst    the buffer for the compressed data, must be larger than the maximal compressed length
+     * @param table  the hash table, filled with -1
+     * @return the length of the compressed data
+     */
+    static int compressBlock(final byte[] src, final int length, final byte[] dst, final int[] table) {
+        int anchor = 0;
+        int pos = 0;
+        int out = 0;
+        final int limit = length - MIN_MATCH;
+        while (pos <= limit) {
+            final int sequence = readInt(src, pos);
+            final int hash = (sequence * 0x9E3779B1) >>> (32 - HASH_BITS);
+            final int ref = table[hash];
+            table[hash] = pos;
+            if (ref < 0 || pos - ref > MAX_OFFSET || readInt(src, ref) != sequence) {
+                pos++;
+                continue;
+            }
+            int matchLength = MIN_MATCH;
+            while (pos + matchLength < length && src[ref + matchLength] == src[pos + matchLength]) {
+                matchLength++;
+            }
+            out = writeSequence(src, anchor, pos - anchor, dst, out, pos - ref, matchLength);
+            pos += matchLength;
+            anchor = pos;
+        }
+        return writeSequence(src, anchor, length - anchor, dst, out, 0, 0);
+    }
+
+    /**
+     * Decompresses a block.
+     * @param src       the compressed data
+     * @param srcLength the length of the compressed data
+     * @param dst       the buffer for the uncompressed data
+     * @param dstLength the length of the uncompressed data
+     * @throws IOException if the compressed data is corrupt
+     */
+    static void decompressBlock(final byte[] src, final int srcLength, final byte[] dst, final int dstLength) throws IOException {
+        int in = 0;
+        int out = 0;
+        try {
+            while (in < srcLength) {
+                final int token = src[in++] & 0xff;
+                int literals = token >>> 4;
+                if (literals == 15) {
+                    int b;
+                    do {
+                        b = src[in++] & 0xff;
+                        literals += b;
+                    } while (b == 255);
+                }
+                System.arraycopy(src, in, dst, out, literals);
+                in += literals;
+                out += literals;
+                if (in == srcLength) {
+                    break;
+                }
+                final int offset = (src[in++] & 0xff) | (src[in++] & 0xff) << 8;
+                int matchLength = token & 0x0f;
+                if (matchLength == 15) {
+                    int b;
+                    do {
+                        b = src[in++] & 0xff;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                matchLength += MIN_MATCH;
+                if (offset == 0 || offset > out || out + matchLength > dstLength) {
+                    throw new IOException("Corrupt LZ block");
+                }
+                for (int i = 0; i < matchLength; i++) {
+                    dst[out + i] = dst[out - offset + i];
+                }
+                out += matchLength;
+            }
+        } catch (final IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt LZ block", e);
+        }
+        if (out != dstLength) {
+            throw new IOException("Corrupt LZ block");
+        }
+    }
+
+    /**
+     * Returns the maximal length of a compressed block.
+     * @param length the length of the uncompressed block
+     * @return the maximal compressed length
+     */
+    static int maxCompressedLength(final int length) {
+        return length + length / 255 + 16;
+    }
+
+    private static int writeSequence(final byte[] src, final int from, final int literals, final byte[] dst, int out,
+                                     final int offset, final int matchLength) {
+        final int tokenPos = out++;
+        int token = Math.min(literals, 15) << 4;
+        out = writeLength(dst, out, literals);
+        System.arraycopy(src, from, dst, out, literals);
+        out += literals;
+        if (matchLength > 0) {
+            dst[out++] = (byte) offset;
+            dst[out++] = (byte) (offset >>> 8);
+            token |= Math.min(matchLength - MIN_MATCH, 15);
+            out = writeLength(dst, out, matchLength - MIN_MATCH);
+        }
+        dst[tokenPos] = (byte) token;
+        return out;
+    }
+
+    private static int writeLength(final byte[] dst, int out, final int length) {
+        if (length >= 15) {
+            int remaining = length - 15;
+            while (remaining >= 255) {
+                dst[out++] = (byte) 255;
+                remaining -= 255;
+            }
+            dst[out++] = (byte) remaining;
+        }
+        return out;
+    }
+
+    private static int readInt(final byte[] src, final int pos) {
+        return (src[pos] & 0xff) | (src[pos + 1] & 0xff) << 8 | (src[pos + 2] & 0xff) << 16 | (src[pos + 3] & 0xff) << 24;
+    }
+
+    /**
+     * A stream which compresses its data in blocks.
+     */
+    private static final class LzOutputStream extends OutputStream {
+        private final DataOutputStream data;
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private final byte[] compressed = new byte[maxCompressedLength(BLOCK_SIZE)];
+        private final int[] table = new int[1 << HASH_BITS];
+        private int size;
+        private boolean closed;
+
+        private LzOutputStream(final OutputStream out) {
+            this.data = new DataOutputStream(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (this.size == BLOCK_SIZE) {
+                writeBlock();
+            }
+            this.block[this.size++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (this.size == BLOCK_SIZE) {
+                    writeBlock();
+                }
+                final int n = Math.min(len, BLOCK_SIZE - this.size);
+                System.arraycopy(b, off, this.block, this.size, n);
+                this.size += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBlock();
+            this.data.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!this.closed) {
+                this.closed = true;
+                try {
+                    writeBlock();
+                } finally {
+                    this.data.close();
+                }
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (this.size == 0) {
+                return;
+            }
+            Arrays.fill(this.table, -1);
+            final int length = compressBlock(this.block, this.size, this.compressed, this.table);
+            this.data.writeInt(this.size);
+            if (length < this.size) {
+                this.data.writeInt(length);
+                this.data.write(this.compressed, 0, length);
+            } else {
+                this.data.writeInt(this.size);
+                this.data.write(this.block, 0, this.size);
+            }
+            this.size = 0;
+        }
+    }
+
+    /**
+     * A stream which decompresses blocks.
+     */
+    private static final class LzInputStream extends InputStream {
+        private final DataInputStream data;
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private final byte[] compressed = new byte[maxCompressedLength(BLOCK_SIZE)];
+        private int size;
+        private int pos;
+
+        private LzInputStream(final InputStream in) {
+            this.data = new DataInputStream(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (this.pos == this.size && !readBlock()) {
+                return -1;
+            }
+            return this.block[this.pos++] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (this.pos == this.size && !readBlock()) {
+                return -1;
+            }
+            final int n = Math.min(len, this.size - this.pos);
+            System.arraycopy(this.block, this.pos, b, off, n);
+            this.pos += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return this.size - this.pos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.data.close();
+        }
+
+        private boolean readBlock() throws IOException {
+            final int first = this.data.read();
+            if (first < 0) {
+                return false;
+            }
+            final int length = first << 24 | this.data.readUnsignedByte() << 16 | this.data.readUnsignedShort();
+            final int stored = this.data.readInt();
+            if (length <= 0 || length > BLOCK_SIZE || stored <= 0 || stored > length) {
+                throw new IOException("Corrupt LZ block header");
+            }
+            if (stored == length) {
+                this.data.readFully(this.block, 0, length);
+            } else {
+                this.data.readFully(this.compressed, 0, stored);
+                decompressBlock(this.compressed, stored, this.block, length);
+            }
+            this.size = length;
+            this.pos = 0;
+            return true;
+        }
+    }
+}
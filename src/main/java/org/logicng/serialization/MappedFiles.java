@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.google.protobuf.CodedInputStream;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Helper methods for reading protocol buffers from memory-mapped files.
+ * <p>
+ * The file is mapped into memory and decoded directly from the mapped buffer
+ * with aliasing enabled, so the file content is read from the page cache
+ * without an intermediate copy on the heap.  The mapping is released when
+ * the buffer is garbage collected.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+final class MappedFiles {
+
+    private MappedFiles() {
+        // Only static methods
+    }
+
+    /**
+     * Returns whether a file can be read with a single mapping.
+     * @param path the file path
+     * @return {@code true} if the file can be mapped, otherwise {@code false}
+     * @throws IOException if there is a problem accessing the file
+     */
+    static boolean canMap(final Path path) throws IOException {
+        return Files.size(path) <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Maps a file into memory and returns a coded input stream on the mapped buffer.
+     * @param path the file path
+     * @return the coded input stream
+     * @throws IOException if there is a problem mapping the file
+     */
+    static CodedInputStream open(final Path path) throws IOException {
+        return open(path, 0);
+    }
+
+    /**
+     * Maps a file from a given offset into memory and returns a coded input
+     * stream on the mapped buffer.
+     * @param path   the file path
+     * @param offset the offset of the protocol buffer in the file
+     * @return the coded input stream
+     * @throws IOException if there is a problem mapping the file
+     */
+    static CodedInputStream open(final Path path, final int offset) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, channel.size() - offset);
+            final CodedInputStream input = CodedInputStream.newInstance(buffer);
+            input.enableAliasing(true);
+            return input;
+        }
+    }
+}
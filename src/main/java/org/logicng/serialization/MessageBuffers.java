@@ -0,0 +1,86 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Helper methods for writing protocol buffers to byte arrays and byte buffers.
+ * <p>
+ * The serialized size of the message is computed once and the message is
+ * written in a single pass to a target of exactly this size, so there is no
+ * intermediate buffer which has to grow or be copied.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+final class MessageBuffers {
+
+    private MessageBuffers() {
+        // Only static methods
+    }
+
+    /**
+     * Writes a message to a new byte array of its exact size.
+     * @param message the message
+     * @return the byte array
+     */
+    static byte[] toByteArray(final MessageLite message) {
+        final byte[] bytes = new byte[message.getSerializedSize()];
+        final CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        write(message, output);
+        output.checkNoSpaceLeft();
+        return bytes;
+    }
+
+    /**
+     * Writes a message to a byte buffer, starting at its current position.
+     * The position of the buffer is advanced by the number of written bytes.
+     * @param message the message
+     * @param buffer  the byte buffer, either a heap or a direct buffer
+     * @return the number of written bytes
+     * @throws BufferOverflowException if the remaining bytes of the buffer are not sufficient for the message
+     */
+    static int writeInto(final MessageLite message, final ByteBuffer buffer) {
+        final int size = message.getSerializedSize();
+        if (buffer.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        final CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+        write(message, output);
+        try {
+            output.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return size;
+    }
+
+    /**
+     * Writes a message to a new direct byte buffer of its exact size.  The
+     * returned buffer is ready to be read, i.e. its position is 0 and its limit
+     * is the size of the message.
+     * @param message the message
+     * @return the direct byte buffer
+     */
+    static ByteBuffer toDirectBuffer(final MessageLite message) {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(message.getSerializedSize());
+        writeInto(message, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void write(final MessageLite message, final CodedOutputStream output) {
+        try {
+            message.writeTo(output);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
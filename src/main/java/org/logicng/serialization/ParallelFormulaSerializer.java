@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula;
+import org.logicng.formulas.Formula;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A serializer which serializes large lists of formulas on a fork/join pool.
+ * <p>
+ * The serialization runs in three phases:
+ * <ol>
+ *     <li>The list is split into contiguous partitions.  For each partition,
+ *     a task collects the sub-nodes of its formulas in post-order with a node
+ *     table of its own.</li>
+ *     <li>The partitions are merged sequentially and in order into a single
+ *     node table.  A node which is already in the table is skipped.  Since
+ *     the sub-nodes of a node are always in the table before the node itself,
+ *     the merged table assigns exactly the same IDs as a sequential traversal
+ *     of the whole list.  The variables are added in the same order, too.</li>
+ *     <li>The nodes are serialized in parallel.  The merged table is not
+ *     changed anymore in this phase and is only read by the tasks.</li>
+ * </ol>
+ * So the result is the same message as the one of {@link Formulas#serializeFormulas(Collection)}.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+final class ParallelFormulaSerializer {
+
+    /**
+     * The number of partitions per thread of the pool, so that partitions of
+     * different size are balanced among the threads.
+     */
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private ParallelFormulaSerializer() {
+        // Only static methods
+    }
+
+    /**
+     * Serializes a list of formulas to a protocol buffer on the given pool.
+     * @param formulas the formulas
+     * @param pool     the fork/join pool
+     * @return the protocol buffer
+     */
+    static PBFormulas serialize(final Collection<Formula> formulas, final ForkJoinPool pool) {
+        final Formula[] roots = formulas.toArray(new Formula[0]);
+        final int partitions = Math.max(1, Math.min(roots.length, pool.getParallelism() * PARTITIONS_PER_THREAD));
+
+        final List<ForkJoinTask<Formula[]>> discoveries = new ArrayList<>(partitions);
+        for (int p = 0; p < partitions; p++) {
+            final int from = bound(roots.length, partitions, p);
+            final int to = bound(roots.length, partitions, p + 1);
+            discoveries.add(pool.submit(() -> discover(roots, from, to)));
+        }
+
+        final FormulaNodeTable table = new FormulaNodeTable();
+        final List<Formula> nodes = new ArrayList<>();
+        final FormulaNodeTable.NodeVisitor visitor = (node, id) -> {
+            nodes.add(node);
+            table.addVariables(node);
+        };
+        for (final ForkJoinTask<Formula[]> discovery : discoveries) {
+            for (final Formula node : discovery.join()) {
+                if (table.id(node) < 0) {
+                    table.add(node, visitor);
+                }
+            }
+        }
+
+        final PBInternalFormula[] serialized = new PBInternalFormula[nodes.size()];
+        final List<ForkJoinTask<?>> serializations = new ArrayList<>(partitions);
+        for (int p = 0; p < partitions; p++) {
+            final int from = bound(serialized.length, partitions, p);
+            final int to = bound(serialized.length, partitions, p + 1);
+            serializations.add(pool.submit(() -> {
+                for (int i = from; i < to; i++) {
+                    serialized[i] = Formulas.serialize(nodes.get(i), table);
+                }
+            }));
+        }
+        serializations.forEach(ForkJoinTask::join);
+
+        final PBFormulas.Builder builder = PBFormulas.newBuilder();
+        for (final Formula formula : roots) {
+            builder.addId(table.id(formula));
+        }
+        return builder
+                .setMapping(PBFormulaMapping.newBuilder()
+                        .addAllVariable(table.variables())
+                        .addAllNode(Arrays.asList(serialized))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Collects the sub-nodes of a range of formulas in post-order.
+     * @param roots the formulas
+     * @param from  the first formula (inclusive)
+     * @param to    the last formula (exclusive)
+     * @return the sub-nodes in post-order
+     */
+    private static Formula[] discover(final Formula[] roots, final int from, final int to) {
+        final FormulaNodeTable table = new FormulaNodeTable();
+        final List<Formula> nodes = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            table.add(roots[i], (node, id) -> nodes.add(node));
+        }
+        return nodes.toArray(new Formula[0]);
+    }
+
+    private static int bound(final int size, final int partitions, final int partition) {
+        return (int) ((long) size * partition / partitions);
+    }
+}
@@ -0,0 +1,413 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * A block-parallel GZIP compression in the style of pigz.
+ * <p>
+ * The data is split into blocks of 1 MiB which are deflated independently on
+ * a fork/join pool.  Each block is written as a GZIP member, so the result is
+ * a standard multi-member GZIP file which can be read by
+ * {@link GZIPInputStream} and all other GZIP tools.  The header of each member
+ * has an extra field with the subfield ID {@code LN} which contains the
+ * length of the member and the length of its uncompressed data (both as
+ * 4-byte little-endian integers).  With these block boundaries, the members
+ * can also be inflated in parallel.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+final class ParallelGzip {
+
+    /**
+     * The size of the uncompressed blocks.
+     */
+    static final int BLOCK_SIZE = 1 << 20;
+
+    /**
+     * The length of the header of a member.
+     */
+    static final int HEADER_LENGTH = 24;
+
+    private static final int TRAILER_LENGTH = 8;
+    private static final int FLAG_EXTRA = 0x04;
+    private static final int OS_UNKNOWN = 0xff;
+    private static final int EXTRA_LENGTH = 12;
+    private static final int SUBFIELD_LENGTH = 8;
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
+    private ParallelGzip() {
+        // Only static methods
+    }
+
+    /**
+     * Returns a stream which compresses all written data in parallel to a
+     * multi-member GZIP stream.  At most two blocks per thread of the pool
+     * are compressed or waiting to be written at the same time.
+     * @param out   the stream for the compressed data
+     * @param pool  the fork/join pool
+     * @param level the compression level of the {@link Deflater}
+     * @return the compressing stream
+     */
+    static OutputStream newOutputStream(final OutputStream out, final ForkJoinPool pool, final int level) {
+        return new ParallelGzipOutputStream(out, pool, level);
+    }
+
+    /**
+     * Returns a stream which decompresses a GZIP stream.  If the stream was
+     * written by {@link #newOutputStream}, its members are inflated in
+     * parallel, otherwise the stream is read with a {@link GZIPInputStream}.
+     * @param in   the stream with the compressed data
+     * @param pool the fork/join pool
+     * @return the decompressing stream
+     * @throws IOException if there is a problem reading from the stream or the stream is no GZIP stream
+     */
+    static InputStream newInputStream(final InputStream in, final ForkJoinPool pool) throws IOException {
+        final PushbackInputStream pushback = new PushbackInputStream(in, HEADER_LENGTH);
+        final byte[] header = new byte[HEADER_LENGTH];
+        int length = 0;
+        int read;
+        while (length < HEADER_LENGTH && (read = pushback.read(header, length, HEADER_LENGTH - length)) >= 0) {
+            length += read;
+        }
+        pushback.unread(header, 0, length);
+        if (length == HEADER_LENGTH && hasBlockHeader(header)) {
+            return new ParallelGzipInputStream(pushback, pool);
+        }
+        return new GZIPInputStream(pushback, GZIP_BUFFER_SIZE);
+    }
+
+    /**
+     * Compresses a block to a GZIP member.
+     * @param data   the block
+     * @param length the length of the block
+     * @param level  the compression level
+     * @return the member, the array may be longer than the member
+     */
+    static byte[] compressMember(final byte[] data, final int length, final int level) {
+        final Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(data, 0, length);
+            deflater.finish();
+            byte[] member = new byte[HEADER_LENGTH + length + length / 8 + 64 + TRAILER_LENGTH];
+            int pos = HEADER_LENGTH;
+            while (!deflater.finished()) {
+                if (pos == member.length - TRAILER_LENGTH) {
+                    member = Arrays.copyOf(member, 2 * member.length);
+                }
+                pos += deflater.deflate(member, pos, member.length - TRAILER_LENGTH - pos);
+            }
+            final CRC32 crc = new CRC32();
+            crc.update(data, 0, length);
+            final int memberLength = pos + TRAILER_LENGTH;
+            member[0] = (byte) 0x1f;
+            member[1] = (byte) 0x8b;
+            member[2] = (byte) Deflater.DEFLATED;
+            member[3] = (byte) FLAG_EXTRA;
+            member[9] = (byte) OS_UNKNOWN;
+            writeShort(member, 10, EXTRA_LENGTH);
+            member[12] = 'L';
+            member[13] = 'N';
+            writeShort(member, 14, SUBFIELD_LENGTH);
+            writeInt(member, 16, memberLength);
+            writeInt(member, 20, length);
+            writeInt(member, pos, (int) crc.getValue());
+            writeInt(member, pos + 4, length);
+            return member;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Returns the length of a member compressed by {@link #compressMember}.
+     * @param member the member
+     * @return the length of the member
+     */
+    static int memberLength(final byte[] member) {
+        return readInt(member, 16);
+    }
+
+    /**
+     * Decompresses a GZIP member with a block header.
+     * @param member the member
+     * @return the uncompressed block
+     * @throws IOException if the member is corrupt
+     */
+    static byte[] decompressMember(final byte[] member) throws IOException {
+        final int memberLength = memberLength(member);
+        final byte[] data = new byte[readInt(member, 20)];
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(member, HEADER_LENGTH, memberLength - HEADER_LENGTH - TRAILER_LENGTH);
+            final byte[] overflow = new byte[1];
+            int pos = 0;
+            while (!inflater.finished()) {
+                final int n = pos < data.length ? inflater.inflate(data, pos, data.length - pos) : inflater.inflate(overflow);
+                if (pos == data.length && n > 0 || n == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Corrupt GZIP member");
+                }
+                pos += n;
+            }
+            if (pos != data.length || inflater.getRemaining() != 0) {
+                throw new IOException("Corrupt GZIP member");
+            }
+        } catch (final DataFormatException e) {
+            throw new IOException("Corrupt GZIP member", e);
+        } finally {
+            inflater.end();
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        if (readInt(member, memberLength - TRAILER_LENGTH) != (int) crc.getValue()
+                || readInt(member, memberLength - 4) != data.length) {
+            throw new IOException("Corrupt GZIP member: wrong checksum or length");
+        }
+        return data;
+    }
+
+    private static boolean hasBlockHeader(final byte[] header) {
+        return (header[0] & 0xff) == 0x1f && (header[1] & 0xff) == 0x8b && header[2] == Deflater.DEFLATED
+                && header[3] == FLAG_EXTRA && readShort(header, 10) == EXTRA_LENGTH
+                && header[12] == 'L' && header[13] == 'N' && readShort(header, 14) == SUBFIELD_LENGTH;
+    }
+
+    private static void writeShort(final byte[] bytes, final int pos, final int value) {
+        bytes[pos] = (byte) value;
+        bytes[pos + 1] = (byte) (value >>> 8);
+    }
+
+    private static void writeInt(final byte[] bytes, final int pos, final int value) {
+        writeShort(bytes, pos, value);
+        writeShort(bytes, pos + 2, value >>> 16);
+    }
+
+    private static int readShort(final byte[] bytes, final int pos) {
+        return (bytes[pos] & 0xff) | (bytes[pos + 1] & 0xff) << 8;
+    }
+
+    private static int readInt(final byte[] bytes, final int pos) {
+        return readShort(bytes, pos) | readShort(bytes, pos + 2) << 16;
+    }
+
+    private static <T> T join(final ForkJoinTask<T> task) throws IOException {
+        try {
+            return task.join();
+        } catch (final RuntimeException e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) cause).getCause();
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A stream which compresses its blocks on a fork/join pool and writes the
+     * members in order.
+     */
+    private static final class ParallelGzipOutputStream extends OutputStream {
+        private final OutputStream out;
+        private final ForkJoinPool pool;
+        private final int level;
+        private final int maxPending;
+        private final Deque<ForkJoinTask<byte[]>> pending = new ArrayDeque<>();
+        private byte[] block = new byte[BLOCK_SIZE];
+        private int size;
+        private boolean empty = true;
+        private boolean closed;
+
+        private ParallelGzipOutputStream(final OutputStream out, final ForkJoinPool pool, final int level) {
+            this.out = out;
+            this.pool = pool;
+            this.level = level;
+            this.maxPending = 2 * pool.getParallelism();
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (this.size == BLOCK_SIZE) {
+                submit();
+            }
+            this.block[this.size++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (this.size == BLOCK_SIZE) {
+                    submit();
+                }
+                final int n = Math.min(len, BLOCK_SIZE - this.size);
+                System.arraycopy(b, off, this.block, this.size, n);
+                this.size += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        /**
+         * Finishes the current block as a member and writes all pending
+         * members.  Flushing often reduces the compression ratio.
+         * @throws IOException if there is a problem writing to the stream
+         */
+        @Override
+        public void flush() throws IOException {
+            if (this.size > 0) {
+                submit();
+            }
+            while (!this.pending.isEmpty()) {
+                writeNext();
+            }
+            this.out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!this.closed) {
+                this.closed = true;
+                try {
+                    if (this.size > 0 || this.empty) {
+                        submit();
+                    }
+                    while (!this.pending.isEmpty()) {
+                        writeNext();
+                    }
+                } finally {
+                    this.out.close();
+                }
+            }
+        }
+
+        private void submit() throws IOException {
+            final byte[] data = this.block;
+            final int length = this.size;
+            this.pending.add(this.pool.submit(() -> compressMember(data, length, this.level)));
+            this.block = new byte[BLOCK_SIZE];
+            this.size = 0;
+            this.empty = false;
+            while (this.pending.size() > this.maxPending) {
+                writeNext();
+            }
+        }
+
+        private void writeNext() throws IOException {
+            final byte[] member = join(this.pending.poll());
+            this.out.write(member, 0, memberLength(member));
+        }
+    }
+
+    /**
+     * A stream which reads the members of a stream with block headers and
+     * inflates them on a fork/join pool.
+     */
+    private static final class ParallelGzipInputStream extends InputStream {
+        private final DataInputStream in;
+        private final ForkJoinPool pool;
+        private final int maxPending;
+        private final Deque<ForkJoinTask<byte[]>> pending = new ArrayDeque<>();
+        private final byte[] header = new byte[HEADER_LENGTH];
+        private byte[] block = new byte[0];
+        private int pos;
+        private boolean eof;
+
+        private ParallelGzipInputStream(final InputStream in, final ForkJoinPool pool) {
+            this.in = new DataInputStream(in);
+            this.pool = pool;
+            this.maxPending = 2 * pool.getParallelism();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (this.pos == this.block.length && !nextBlock()) {
+                return -1;
+            }
+            return this.block[this.pos++] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (this.pos == this.block.length && !nextBlock()) {
+                return -1;
+            }
+            final int n = Math.min(len, this.block.length - this.pos);
+            System.arraycopy(this.block, this.pos, b, off, n);
+            this.pos += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return this.block.length - this.pos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.pending.forEach(task -> task.cancel(false));
+            this.pending.clear();
+            this.in.close();
+        }
+
+        private boolean nextBlock() throws IOException {
+            do {
+                while (!this.eof && this.pending.size() < this.maxPending) {
+                    submit();
+                }
+                if (this.pending.isEmpty()) {
+                    return false;
+                }
+                this.block = join(this.pending.poll());
+                this.pos = 0;
+            } while (this.block.length == 0);
+            return true;
+        }
+
+        private void submit() throws IOException {
+            final int first = this.in.read();
+            if (first < 0) {
+                this.eof = true;
+                return;
+            }
+            this.header[0] = (byte) first;
+            this.in.readFully(this.header, 1, HEADER_LENGTH - 1);
+            if (!hasBlockHeader(this.header)) {
+                throw new IOException("GZIP member without block header");
+            }
+            final int memberLength = memberLength(this.header);
+            if (memberLength < HEADER_LENGTH + TRAILER_LENGTH || readInt(this.header, 20) < 0) {
+                throw new IOException("Corrupt GZIP block header");
+            }
+            final byte[] member = new byte[memberLength];
+            System.arraycopy(this.header, 0, member, 0, HEADER_LENGTH);
+            this.in.readFully(member, HEADER_LENGTH, memberLength - HEADER_LENGTH);
+            this.pending.add(this.pool.submit(() -> {
+                try {
+                    return decompressMember(member);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        }
+    }
+}
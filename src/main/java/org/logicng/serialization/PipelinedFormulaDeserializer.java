@@ -0,0 +1,201 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
+import org.logicng.collections.LNGIntVector;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.IntFunction;
+
+/**
+ * A two-stage deserializer for a {@link PBFormulas} message on a stream.
+ * <p>
+ * A producer thread reads and decodes the stream into batches of variable
+ * names and node records, which are handed over to the calling thread by a
+ * bounded queue.  The calling thread only generates the variables and nodes
+ * on the formula factory.  So the formula factory is only accessed by the
+ * calling thread.
+ * <p>
+ * Only mappings in the node list layout are supported.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+final class PipelinedFormulaDeserializer {
+
+    private static final int BATCH_SIZE = 4096;
+    private static final int QUEUE_CAPACITY = 16;
+
+    private static final int FORMULAS_ID = PBFormulas.ID_FIELD_NUMBER;
+    private static final int FORMULAS_MAPPING = PBFormulas.MAPPING_FIELD_NUMBER;
+    private static final int FORMULAS_BASE = PBFormulas.BASE_FIELD_NUMBER;
+    private static final int MAPPING_LEGACY = PBFormulaMapping.MAPPING_FIELD_NUMBER;
+    private static final int MAPPING_VARIABLE = PBFormulaMapping.VARIABLE_FIELD_NUMBER;
+    private static final int MAPPING_NODE = PBFormulaMapping.NODE_FIELD_NUMBER;
+
+    private final FormulaFactory f;
+    private final IntFunction<Formula> id2formula;
+    private final FormulaNodeDeserializer deserializer;
+    private Variable[] variables;
+    private int variableCount;
+    private Formula[] nodes;
+    private int nodeCount;
+
+    private PipelinedFormulaDeserializer(final FormulaFactory f) {
+        this.f = f;
+        this.deserializer = new FormulaNodeDeserializer(f);
+        this.id2formula = id -> this.nodes[id];
+        this.variables = new Variable[64];
+        this.nodes = new Formula[1024];
+    }
+
+    /**
+     * Deserializes a list of formulas from a stream containing a {@link PBFormulas} message.
+     * @param f      the formula factory to generate the formulas
+     * @param stream the stream
+     * @return the list of formulas
+     * @throws IOException if there is a problem reading from the stream
+     */
+    static List<Formula> deserialize(final FormulaFactory f, final InputStream stream) throws IOException {
+        final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        final Thread producer = new Thread(() -> produce(stream, queue), "formula-deserializer");
+        producer.setDaemon(true);
+        producer.start();
+        try {
+            return new PipelinedFormulaDeserializer(f).consume(queue);
+        } finally {
+            producer.interrupt();
+        }
+    }
+
+    private List<Formula> consume(final BlockingQueue<Batch> queue) throws IOException {
+        while (true) {
+            final Batch batch = take(queue);
+            if (batch.error instanceof IOException) {
+                throw (IOException) batch.error;
+            } else if (batch.error instanceof RuntimeException) {
+                throw (RuntimeException) batch.error;
+            } else if (batch.error instanceof Error) {
+                throw (Error) batch.error;
+            } else if (batch.error != null) {
+                throw new IOException("Formula deserializer failed", batch.error);
+            }
+            if (this.variableCount + batch.variables.size() > this.variables.length) {
+                this.variables = Arrays.copyOf(this.variables, Math.max(2 * this.variables.length, this.variableCount + batch.variables.size()));
+            }
+            for (final String name : batch.variables) {
+                this.variables[this.variableCount++] = this.f.variable(name);
+            }
+            if (this.nodeCount + batch.nodes.size() > this.nodes.length) {
+                this.nodes = Arrays.copyOf(this.nodes, Math.max(2 * this.nodes.length, this.nodeCount + batch.nodes.size()));
+            }
+            for (final PBInternalFormula node : batch.nodes) {
+                this.nodes[this.nodeCount++] = this.deserializer.deserialize(node, this.id2formula, this.variables);
+            }
+            if (batch.ids != null) {
+                final List<Formula> formulas = new ArrayList<>(batch.ids.size());
+                for (int i = 0; i < batch.ids.size(); i++) {
+                    formulas.add(this.nodes[batch.ids.get(i)]);
+                }
+                return formulas;
+            }
+        }
+    }
+
+    private static Batch take(final BlockingQueue<Batch> queue) throws InterruptedIOException {
+        try {
+            return queue.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the formula deserializer");
+        }
+    }
+
+    private static void produce(final InputStream stream, final BlockingQueue<Batch> queue) {
+        try {
+            final CodedInputStream input = CodedInputStream.newInstance(stream);
+            final LNGIntVector ids = new LNGIntVector();
+            Batch batch = new Batch();
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                final int field = WireFormat.getTagFieldNumber(tag);
+                if (field == FORMULAS_ID && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    final int limit = input.pushLimit(input.readRawVarint32());
+                    while (input.getBytesUntilLimit() > 0) {
+                        ids.push(input.readInt32());
+                    }
+                    input.popLimit(limit);
+                } else if (field == FORMULAS_ID) {
+                    ids.push(input.readInt32());
+                } else if (field == FORMULAS_MAPPING) {
+                    final int limit = input.pushLimit(input.readRawVarint32());
+                    int mappingTag;
+                    while ((mappingTag = input.readTag()) != 0) {
+                        final int mappingField = WireFormat.getTagFieldNumber(mappingTag);
+                        if (mappingField == MAPPING_VARIABLE) {
+                            batch.variables.add(input.readStringRequireUtf8());
+                        } else if (mappingField == MAPPING_NODE) {
+                            batch.nodes.add(input.readMessage(PBInternalFormula.parser(), ExtensionRegistryLite.getEmptyRegistry()));
+                            if (batch.nodes.size() == BATCH_SIZE) {
+                                queue.put(batch);
+                                batch = new Batch();
+                            }
+                        } else if (mappingField == MAPPING_LEGACY) {
+                            throw new IllegalArgumentException("Pipelined deserialization requires the node list layout");
+                        } else {
+                            input.skipField(mappingTag);
+                        }
+                    }
+                    input.popLimit(limit);
+                } else if (field == FORMULAS_BASE) {
+                    throw new IllegalArgumentException("Pipelined deserialization does not support formulas relative to a base");
+                } else {
+                    input.skipField(tag);
+                }
+            }
+            batch.ids = ids;
+            queue.put(batch);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Throwable e) {
+            offerError(queue, e);
+        }
+    }
+
+    private static void offerError(final BlockingQueue<Batch> queue, final Throwable error) {
+        final Batch batch = new Batch();
+        batch.error = error;
+        try {
+            queue.put(batch);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A batch of decoded variable names and nodes.  The last batch contains the
+     * IDs of the top-level formulas or an error of the producer.
+     */
+    private static final class Batch {
+        private final List<String> variables = new ArrayList<>();
+        private final List<PBInternalFormula> nodes = new ArrayList<>(BATCH_SIZE);
+        private LNGIntVector ids;
+        private Throwable error;
+    }
+}
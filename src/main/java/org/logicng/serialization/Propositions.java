@@ -7,12 +7,15 @@ import com.booleworks.logicng.propositions.ProtoBufPropositions.PBStandardPropos
 import org.logicng.formulas.FormulaFactory;
 import org.logicng.propositions.StandardProposition;
 
+import java.io.IOException;
+import java.util.Collection;
+
 /**
  * Serialization methods for LogicNG propositions.
  * There are only functions for serializing and deserializing standard propositions.
  * If you want to serialize your own extended propositions, you have to provide the
  * according functions yourself.
- * @version 2.5.0
+ * @version 2.6.0
  * @since 2.5.0
  */
 public interface Propositions {
@@ -37,4 +40,57 @@ public interface Propositions {
     static StandardProposition deserializePropositions(final FormulaFactory f, final PBStandardProposition bin) {
         return new StandardProposition(bin.getDescription(), Formulas.deserializeFormula(f, bin.getFormula()));
     }
+
+    /**
+     * Serializes a standard proposition to a protocol buffer relative to a
+     * formula base.  For many small propositions, a base created with
+     * {@link FormulaBase#dictionary} acts as shared dictionary of their
+     * variables and common sub-formulas.
+     * @param prop the proposition
+     * @param base the base
+     * @return the protocol buffer
+     */
+    static PBStandardProposition serializePropositions(final StandardProposition prop, final FormulaBase base) {
+        final PBStandardProposition.Builder builder = PBStandardProposition.newBuilder();
+        builder.setFormula(Formulas.serializeFormula(prop.formula(), base));
+        return builder.setDescription(prop.description()).build();
+    }
+
+    /**
+     * Deserializes a standard proposition from a protocol buffer relative to
+     * a formula base.
+     * @param f    the formula factory to generate the proposition's formula, must be the factory of the base
+     * @param bin  the protocol buffer
+     * @param base the base the proposition was serialized with
+     * @return the proposition
+     */
+    static StandardProposition deserializePropositions(final FormulaFactory f, final PBStandardProposition bin, final FormulaBase base) {
+        return new StandardProposition(bin.getDescription(), Formulas.deserializeFormula(f, bin.getFormula(), base));
+    }
+
+    /**
+     * Serializes a standard proposition and compresses it with a preset
+     * dictionary.  For small propositions, this is much smaller than a
+     * compression without dictionary.
+     * @param prop       the proposition
+     * @param dictionary the dictionary, trained on serialized propositions
+     * @return the compressed proposition
+     */
+    static byte[] serializePropositionsCompressed(final StandardProposition prop, final CompressionDictionary dictionary) {
+        return dictionary.compress(MessageBuffers.toByteArray(serializePropositions(prop)));
+    }
+
+    /**
+     * Deserializes a standard proposition which was compressed with a preset
+     * dictionary.
+     * @param f            the formula factory to generate the proposition's formula
+     * @param compressed   the compressed proposition
+     * @param dictionaries the known dictionaries, the dictionary of the proposition is chosen by its ID
+     * @return the proposition
+     * @throws IOException if the compressed proposition is corrupt or its dictionary is unknown
+     */
+    static StandardProposition deserializePropositionsCompressed(final FormulaFactory f, final byte[] compressed,
+                                                                 final Collection<CompressionDictionary> dictionaries) throws IOException {
+        return deserializePropositions(f, PBStandardProposition.parseFrom(CompressionDictionary.decompress(compressed, dictionaries)));
+    }
 }
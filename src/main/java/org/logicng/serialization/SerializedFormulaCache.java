@@ -0,0 +1,272 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula;
+import com.google.protobuf.ByteString;
+import org.logicng.formulas.Formula;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * A bounded cache of serialized formulas.
+ * <p>
+ * The cache maps formulas to the bytes of their {@link PBFormulas} message.
+ * Since formulas are hash-consed by their formula factory, they are identified
+ * by object identity.  The formulas are only weakly referenced, so the cache
+ * does not keep formulas or their formula factory alive.  The size of the cache
+ * is bounded by the total number of cached bytes: when it is exceeded, the
+ * least recently used formulas are evicted.
+ * <p>
+ * When a list of formulas is serialized, the serialized nodes of its first
+ * formula are taken from the cache.  In the node table of a list, the nodes
+ * and variables of the first formula come first and are numbered exactly as
+ * when the formula is serialized alone.  So only the nodes of the remaining
+ * formulas are serialized and appended as a second mapping field, which is
+ * merged with the first one by protocol buffer parsers.  The parsed message
+ * is the same as the one of {@link Formulas#serializeFormulas(Collection)}.
+ * This pays off when many lists start with the same large formula, e.g. the
+ * base constraints of a product.
+ * <p>
+ * A cache is thread-safe.
+ * @version 2.6.0
+ * @since 2.6.0
+ */
+public final class SerializedFormulaCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries;
+    private final ReferenceQueue<Formula> queue;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a new cache.
+     * @param maxBytes the maximum number of cached bytes
+     */
+    public SerializedFormulaCache(final long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("The maximum number of bytes must not be negative");
+        }
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.queue = new ReferenceQueue<>();
+    }
+
+    /**
+     * Returns the serialized {@link PBFormulas} message of a formula.
+     * @param formula the formula
+     * @return the serialized message
+     */
+    public ByteString serializeFormula(final Formula formula) {
+        return entry(formula).bytes;
+    }
+
+    /**
+     * Returns the serialized {@link PBFormulas} message of a list of formulas.
+     * The nodes of the first formula are taken from the cache.
+     * @param formulas the formulas
+     * @return the serialized message
+     */
+    public ByteString serializeFormulas(final Collection<Formula> formulas) {
+        final Iterator<Formula> iterator = formulas.iterator();
+        if (!iterator.hasNext()) {
+            return Formulas.serializeFormulas(formulas).toByteString();
+        }
+        final Formula first = iterator.next();
+        final Entry entry = entry(first);
+        final FormulaNodeTable prefix = new FormulaNodeTable();
+        prefix.add(first, (node, id) -> prefix.addVariables(node));
+        final FormulaNodeTable table = new FormulaNodeTable(prefix);
+        final List<Formula> remaining = new ArrayList<>(formulas.size() - 1);
+        iterator.forEachRemaining(remaining::add);
+        final List<PBInternalFormula> nodes = Formulas.computeMappings(remaining, table);
+        final PBFormulas.Builder builder = PBFormulas.newBuilder();
+        for (final Formula formula : formulas) {
+            builder.addId(table.id(formula));
+        }
+        final ByteString rest = builder
+                .setMapping(PBFormulaMapping.newBuilder()
+                        .addAllVariable(table.variables())
+                        .addAllNode(nodes)
+                        .build())
+                .build()
+                .toByteString();
+        return entry.mapping.concat(rest);
+    }
+
+    /**
+     * Returns the maximum number of cached bytes.
+     * @return the maximum number of cached bytes
+     */
+    public long maxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * Returns the number of cached formulas.
+     * @return the number of cached formulas
+     */
+    public synchronized int size() {
+        expungeStaleEntries();
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of cached bytes.
+     * @return the number of cached bytes
+     */
+    public synchronized long bytes() {
+        expungeStaleEntries();
+        return this.bytes;
+    }
+
+    /**
+     * Returns the number of lookups which found the formula in the cache.
+     * @return the number of hits
+     */
+    public synchronized long hits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of lookups which did not find the formula in the cache.
+     * @return the number of misses
+     */
+    public synchronized long misses() {
+        return this.misses;
+    }
+
+    /**
+     * Returns the number of formulas which were evicted because the cache
+     * exceeded its maximum number of bytes.  Formulas which were removed
+     * because they were garbage collected are not counted.
+     * @return the number of evictions
+     */
+    public synchronized long evictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Removes all formulas from the cache.  The counters are not reset.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.bytes = 0;
+        while (this.queue.poll() != null) {
+            // drop references of removed keys
+        }
+    }
+
+    private Entry entry(final Formula formula) {
+        final Key lookup = new Key(formula, null);
+        synchronized (this) {
+            expungeStaleEntries();
+            final Entry entry = this.entries.get(lookup);
+            if (entry != null) {
+                this.hits++;
+                return entry;
+            }
+            this.misses++;
+        }
+        final Entry entry = new Entry(Formulas.serializeFormula(formula));
+        synchronized (this) {
+            if (entry.bytes.size() <= this.maxBytes) {
+                final Entry previous = this.entries.put(new Key(formula, this.queue), entry);
+                if (previous != null) {
+                    this.bytes -= previous.bytes.size();
+                }
+                this.bytes += entry.bytes.size();
+                evict();
+            }
+        }
+        return entry;
+    }
+
+    private void evict() {
+        final Iterator<Entry> iterator = this.entries.values().iterator();
+        while (this.bytes > this.maxBytes && iterator.hasNext()) {
+            this.bytes -= iterator.next().bytes.size();
+            iterator.remove();
+            this.evictions++;
+        }
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends Formula> reference;
+        while ((reference = this.queue.poll()) != null) {
+            final Entry entry = this.entries.remove(reference);
+            if (entry != null) {
+                this.bytes -= entry.bytes.size();
+            }
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "SerializedFormulaCache{" +
+                "size=" + this.entries.size() +
+                ", bytes=" + this.bytes +
+                ", maxBytes=" + this.maxBytes +
+                ", hits=" + this.hits +
+                ", misses=" + this.misses +
+                ", evictions=" + this.evictions +
+                '}';
+    }
+
+    /**
+     * A weak key which identifies a formula by object identity.
+     */
+    private static final class Key extends WeakReference<Formula> {
+        private final int hash;
+
+        private Key(final Formula formula, final ReferenceQueue<Formula> queue) {
+            super(formula, queue);
+            this.hash = System.identityHashCode(formula);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Formula formula = get();
+            return formula != null && formula == ((Key) other).get();
+        }
+    }
+
+    /**
+     * A cached formula.  The serialized message consists of the mapping field
+     * followed by the ID field, so the mapping field can be reused for lists
+     * of formulas starting with this formula.
+     */
+    private static final class Entry {
+        private final ByteString mapping;
+        private final ByteString bytes;
+
+        private Entry(final PBFormulas serialized) {
+            this.mapping = PBFormulas.newBuilder().setMapping(serialized.getMapping()).build().toByteString();
+            this.bytes = this.mapping.concat(PBFormulas.newBuilder().addAllId(serialized.getIdList()).build().toByteString());
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.booleworks.logicng.solvers.datastructures.ProtoBufSolverDatastructure
 import com.booleworks.logicng.solvers.datastructures.ProtoBufSolverDatastructures.PBProofInformation;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
 import org.logicng.collections.LNGIntVector;
 import org.logicng.collections.LNGVector;
 import org.logicng.datastructures.Tristate;
@@ -43,6 +44,7 @@ import org.logicng.util.Pair;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
@@ -50,13 +52,16 @@ import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Stack;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 /**
  * A serializer/deserializer for LogicNG SAT solvers.
- * @version 2.5.0
+ * @version 2.6.0
  * @since 2.5.0
  */
 public class SolverSerializer {
@@ -134,6 +139,60 @@ public class SolverSerializer {
         }
     }
 
+    /**
+     * Serializes a MiniSat solver to a file with a compression codec.
+     * @param miniSat the MiniSat solver
+     * @param path    the file path
+     * @param codec   the compression codec
+     * @throws IOException if there is a problem writing the file
+     */
+    public void serializeSolverToFile(final MiniSat miniSat, final Path path, final Codec codec) throws IOException {
+        try (final OutputStream outputStream = Codecs.newOutputStream(Files.newOutputStream(path), codec)) {
+            serializeSolverToStream(miniSat, outputStream);
+        }
+    }
+
+    /**
+     * Serializes a MiniSat solver to a GZIP file which is compressed in
+     * parallel on a fork/join pool.  The file can be read by all methods for
+     * compressed files, {@link #deserializeMiniSatFromFile(Path, ForkJoinPool)}
+     * and {@link #deserializeGlucoseFromFile(Path, ForkJoinPool)} also
+     * decompress it in parallel.
+     * @param miniSat the MiniSat solver
+     * @param path    the file path
+     * @param pool    the fork/join pool
+     * @throws IOException if there is a problem writing the file
+     */
+    public void serializeSolverToFile(final MiniSat miniSat, final Path path, final ForkJoinPool pool) throws IOException {
+        try (final OutputStream outputStream = ParallelGzip.newOutputStream(Files.newOutputStream(path), pool, Deflater.DEFAULT_COMPRESSION)) {
+            serializeSolverToStream(miniSat, outputStream);
+        }
+    }
+
+    /**
+     * Serializes a MiniSat solver to a file with a compression codec in the
+     * background.  The solver is encoded on the calling thread, so it can be
+     * modified again as soon as this method returns.  The compression and the
+     * writing of the file are performed by a background thread.
+     * @param miniSat the MiniSat solver
+     * @param path    the file path
+     * @param codec   the compression codec
+     * @return a future which is completed with the file path when the file is written and forced to the storage device
+     * @throws IOException if the calling thread is interrupted while waiting for a free buffer or the background
+     *                     thread died; an existing file is left untouched in this case
+     */
+    public CompletableFuture<Path> serializeSolverToFileAsync(final MiniSat miniSat, final Path path, final Codec codec) throws IOException {
+        final AsyncFileWriter writer = AsyncFileWriter.open(path, codec, AsyncFileWriter.DEFAULT_BUFFER_SIZE);
+        try {
+            serializeSolverToStream(miniSat, writer);
+        } catch (final Throwable e) {
+            writer.abort(e);
+            throw e;
+        }
+        writer.close();
+        return writer.result();
+    }
+
     /**
      * Serializes a MiniSat solver to a stream.
      * @param miniSat the MiniSat solver
@@ -141,11 +200,43 @@ public class SolverSerializer {
      * @throws IOException if there is a problem writing to the stream
      */
     public void serializeSolverToStream(final MiniSat miniSat, final OutputStream stream) throws IOException {
-        if (miniSat.getStyle() != MiniSat.SolverStyle.GLUCOSE) {
-            serializeMiniSat(miniSat).writeTo(stream);
-        } else {
-            serializeGlucose(miniSat).writeTo(stream);
-        }
+        serializeSolver(miniSat).writeTo(stream);
+    }
+
+    /**
+     * Serializes a MiniSat solver to a byte array of the exact serialized size.
+     * @param miniSat the MiniSat solver
+     * @return the byte array
+     */
+    public byte[] serializeSolverToByteArray(final MiniSat miniSat) {
+        return MessageBuffers.toByteArray(serializeSolver(miniSat));
+    }
+
+    /**
+     * Serializes a MiniSat solver into a byte buffer, starting at its current
+     * position.  The position of the buffer is advanced by the number of
+     * written bytes.
+     * @param miniSat the MiniSat solver
+     * @param buffer  the byte buffer, either a heap or a direct buffer
+     * @return the number of written bytes
+     * @throws java.nio.BufferOverflowException if the remaining bytes of the buffer are not sufficient
+     */
+    public int serializeSolverInto(final MiniSat miniSat, final ByteBuffer buffer) {
+        return MessageBuffers.writeInto(serializeSolver(miniSat), buffer);
+    }
+
+    /**
+     * Serializes a MiniSat solver to a direct byte buffer of the exact
+     * serialized size.  The returned buffer is ready to be read.
+     * @param miniSat the MiniSat solver
+     * @return the direct byte buffer
+     */
+    public ByteBuffer serializeSolverToDirectBuffer(final MiniSat miniSat) {
+        return MessageBuffers.toDirectBuffer(serializeSolver(miniSat));
+    }
+
+    private MessageLite serializeSolver(final MiniSat miniSat) {
+        return miniSat.getStyle() != MiniSat.SolverStyle.GLUCOSE ? serializeMiniSat(miniSat) : serializeGlucose(miniSat);
     }
 
     /**
@@ -190,6 +281,34 @@ public class SolverSerializer {
         }
     }
 
+    /**
+     * Deserializes a MiniSat solver from a file.  The compression codec is
+     * detected from the file header.
+     * @param path the file path
+     * @return the solver
+     * @throws IOException if there is a problem reading the file
+     */
+    public MiniSat deserializeMiniSatFromFile(final Path path) throws IOException {
+        try (final InputStream inputStream = Codecs.newInputStream(Files.newInputStream(path))) {
+            return deserializeMiniSatFromStream(inputStream);
+        }
+    }
+
+    /**
+     * Deserializes a MiniSat solver from a GZIP file.  Files written by
+     * {@link #serializeSolverToFile(MiniSat, Path, ForkJoinPool)} are
+     * decompressed in parallel on the fork/join pool.
+     * @param path the file path
+     * @param pool the fork/join pool
+     * @return the solver
+     * @throws IOException if there is a problem reading the file
+     */
+    public MiniSat deserializeMiniSatFromFile(final Path path, final ForkJoinPool pool) throws IOException {
+        try (final InputStream inputStream = ParallelGzip.newInputStream(Files.newInputStream(path), pool)) {
+            return deserializeMiniSatFromStream(inputStream);
+        }
+    }
+
     /**
      * Deserializes a MiniSat solver from a stream.
      * @param stream the stream
@@ -200,6 +319,16 @@ public class SolverSerializer {
         return deserializeMiniSat(ProtoBufSatSolver.PBMiniSat2.newBuilder().mergeFrom(stream).build());
     }
 
+    /**
+     * Deserializes a MiniSat solver from the remaining bytes of a byte buffer.
+     * @param buffer the byte buffer
+     * @return the solver
+     * @throws IOException if the buffer does not contain a valid protocol buffer
+     */
+    public MiniSat deserializeMiniSatFromBuffer(final ByteBuffer buffer) throws IOException {
+        return deserializeMiniSat(ProtoBufSatSolver.PBMiniSat2.parseFrom(buffer));
+    }
+
     /**
      * Deserializes a MiniSat solver from a protocol buffer.
      * @param bin the protocol buffer
@@ -224,6 +353,34 @@ public class SolverSerializer {
         }
     }
 
+    /**
+     * Deserializes a Glucose solver from a file.  The compression codec is
+     * detected from the file header.
+     * @param path the file path
+     * @return the solver
+     * @throws IOException if there is a problem reading the file
+     */
+    public MiniSat deserializeGlucoseFromFile(final Path path) throws IOException {
+        try (final InputStream inputStream = Codecs.newInputStream(Files.newInputStream(path))) {
+            return deserializeGlucoseFromStream(inputStream);
+        }
+    }
+
+    /**
+     * Deserializes a Glucose solver from a GZIP file.  Files written by
+     * {@link #serializeSolverToFile(MiniSat, Path, ForkJoinPool)} are
+     * decompressed in parallel on the fork/join pool.
+     * @param path the file path
+     * @param pool the fork/join pool
+     * @return the solver
+     * @throws IOException if there is a problem reading the file
+     */
+    public MiniSat deserializeGlucoseFromFile(final Path path, final ForkJoinPool pool) throws IOException {
+        try (final InputStream inputStream = ParallelGzip.newInputStream(Files.newInputStream(path), pool)) {
+            return deserializeGlucoseFromStream(inputStream);
+        }
+    }
+
     /**
      * Deserializes a Glucose solver from a stream.
      * @param stream the stream
@@ -234,6 +391,16 @@ public class SolverSerializer {
         return deserializeGlucose(ProtoBufSatSolver.PBGlucose.newBuilder().mergeFrom(stream).build());
     }
 
+    /**
+     * Deserializes a Glucose solver from the remaining bytes of a byte buffer.
+     * @param buffer the byte buffer
+     * @return the solver
+     * @throws IOException if the buffer does not contain a valid protocol buffer
+     */
+    public MiniSat deserializeGlucoseFromBuffer(final ByteBuffer buffer) throws IOException {
+        return deserializeGlucose(ProtoBufSatSolver.PBGlucose.parseFrom(buffer));
+    }
+
     /**
      * Deserializes a Glucose solver from a protocol buffer.
      * @param bin the protocol buffer
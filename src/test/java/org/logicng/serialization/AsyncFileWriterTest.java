@@ -0,0 +1,158 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+public class AsyncFileWriterTest {
+
+    @Test
+    public void testSmallBuffers() throws Exception {
+        final byte[] data = new byte[100_000];
+        new Random(42).nextBytes(data);
+        final Path file = Files.createTempFile("async", ".bin");
+        try {
+            for (final Codec codec : new Codec[]{Codecs.raw(), Codecs.deflate(), Codecs.lz()}) {
+                final AsyncFileWriter writer = AsyncFileWriter.open(file, codec, 1000);
+                writer.write(data[0]);
+                writer.write(data, 1, 4999);
+                writer.write(data, 5000, data.length - 5000);
+                writer.close();
+                writer.close();
+                assertThat(writer.result().get()).isEqualTo(file);
+                assertThat(read(file)).isEqualTo(data);
+                assertThatThrownBy(() -> writer.write(0)).isInstanceOf(IOException.class);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        final Path file = Files.createTempFile("async", ".bin");
+        try {
+            final AsyncFileWriter writer = AsyncFileWriter.open(file, Codecs.raw(), AsyncFileWriter.DEFAULT_BUFFER_SIZE);
+            writer.close();
+            writer.result().get();
+            assertThat(Files.size(file)).isEqualTo(Codecs.HEADER_LENGTH);
+            assertThat(read(file)).isEmpty();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testFailure() throws IOException {
+        final Path dir = Files.createTempDirectory("async");
+        try {
+            final AsyncFileWriter writer = AsyncFileWriter.open(dir.resolve("missing").resolve("file.bin"), Codecs.lz(), 16);
+            for (int i = 0; i < 1000; i++) {
+                try {
+                    writer.write(new byte[64]);
+                } catch (final IOException e) {
+                    break;
+                }
+            }
+            writer.close();
+            assertThatThrownBy(() -> writer.result().get()).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IOException.class);
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    public void testAbort() throws Exception {
+        final Path dir = Files.createTempDirectory("async");
+        final Path file = dir.resolve("file.bin");
+        try {
+            final AsyncFileWriter previous = AsyncFileWriter.open(file, Codecs.raw(), 16);
+            previous.write(new byte[]{1, 2, 3});
+            previous.close();
+            previous.result().get();
+
+            final AsyncFileWriter writer = AsyncFileWriter.open(file, Codecs.lz(), 16);
+            writer.write(new byte[1000]);
+            final IOException cause = new IOException("encoding failed");
+            writer.abort(cause);
+            writer.abort(cause);
+            writer.close();
+            assertThatThrownBy(() -> writer.result().get()).isInstanceOf(ExecutionException.class).hasCause(cause);
+            assertThatThrownBy(() -> writer.write(0)).isInstanceOf(IOException.class);
+            assertThat(read(file)).containsExactly(1, 2, 3);
+            try (final Stream<Path> files = Files.list(dir)) {
+                assertThat(files).containsExactly(file);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    public void testError() throws IOException {
+        final Codec failing = new Codec() {
+            @Override
+            public int id() {
+                return 201;
+            }
+
+            @Override
+            public OutputStream compress(final OutputStream out) {
+                return new OutputStream() {
+                    @Override
+                    public void write(final int b) {
+                        throw new OutOfMemoryError("test");
+                    }
+                };
+            }
+
+            @Override
+            public InputStream decompress(final InputStream in) {
+                return in;
+            }
+        };
+        final Path dir = Files.createTempDirectory("async");
+        try {
+            final AsyncFileWriter writer = AsyncFileWriter.open(dir.resolve("file.bin"), failing, 16);
+            assertThatThrownBy(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    writer.write(new byte[64]);
+                }
+            }).isInstanceOf(IOException.class).hasRootCauseInstanceOf(OutOfMemoryError.class);
+            writer.close();
+            assertThatThrownBy(() -> writer.result().get()).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(OutOfMemoryError.class);
+            try (final Stream<Path> files = Files.list(dir)) {
+                assertThat(files).isEmpty();
+            }
+        } finally {
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static byte[] read(final Path file) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final InputStream input = Codecs.newInputStream(Files.newInputStream(file))) {
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
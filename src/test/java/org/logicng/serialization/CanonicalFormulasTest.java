@@ -0,0 +1,89 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class CanonicalFormulasTest {
+
+    @Test
+    public void testOperandOrder() {
+        final FormulaFactory f1 = new FormulaFactory();
+        final FormulaFactory f2 = new FormulaFactory();
+        final List<Formula> formulas1 = Arrays.asList(
+                f1.and(f1.variable("a"), f1.or(f1.variable("b"), f1.literal("c", false)), f1.variable("d")),
+                f1.equivalence(f1.variable("x"), f1.variable("y")),
+                f1.pbc(CType.LE, 3, new Literal[]{f1.variable("a"), f1.literal("b", false), f1.variable("c")}, new int[]{1, 2, 3}));
+        final List<Formula> formulas2 = Arrays.asList(
+                f2.and(f2.variable("d"), f2.or(f2.literal("c", false), f2.variable("b")), f2.variable("a")),
+                f2.equivalence(f2.variable("y"), f2.variable("x")),
+                f2.pbc(CType.LE, 3, new Literal[]{f2.variable("a"), f2.literal("b", false), f2.variable("c")}, new int[]{1, 2, 3}));
+        assertThat(formulas2).isEqualTo(formulas1);
+        assertThat(Formulas.serializeFormulas(formulas2)).isNotEqualTo(Formulas.serializeFormulas(formulas1));
+
+        final CanonicalFormulas canonical1 = CanonicalFormulas.serialize(formulas1);
+        final CanonicalFormulas canonical2 = CanonicalFormulas.serialize(formulas2);
+        assertThat(canonical2.serialized()).isEqualTo(canonical1.serialized());
+        assertThat(canonical2.serialized().toByteArray()).isEqualTo(canonical1.serialized().toByteArray());
+        assertThat(canonical2.contentHash()).isEqualTo(canonical1.contentHash());
+        assertThat(canonical2.contentHashHex()).isEqualTo(canonical1.contentHashHex()).hasSize(64);
+        assertThat(CanonicalFormulas.contentHash(formulas2)).isEqualTo(canonical1.contentHash());
+        assertThat(Formulas.deserializeFormulaList(new FormulaFactory(), canonical1.serialized())).isEqualTo(formulas1);
+    }
+
+    @Test
+    public void testRandomizedFormulas() {
+        final FormulaFactory f = new FormulaFactory();
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().seed(42).build());
+        final List<Formula> formulas = randomizer.constraintSet(200, 4);
+        final CanonicalFormulas canonical = CanonicalFormulas.serialize(formulas);
+        final List<Formula> copy = Formulas.deserializeFormulaList(new FormulaFactory(), canonical.serialized());
+        assertThat(copy).isEqualTo(formulas);
+        final CanonicalFormulas canonicalCopy = CanonicalFormulas.serialize(copy);
+        assertThat(canonicalCopy.serialized()).isEqualTo(canonical.serialized());
+        assertThat(canonicalCopy.contentHash()).isEqualTo(canonical.contentHash());
+        for (int i = 0; i < 200; i++) {
+            final Formula formula = randomizer.formula(4);
+            final Formula formulaCopy = Formulas.deserializeFormula(new FormulaFactory(), CanonicalFormulas.serialize(Collections.singletonList(formula)).serialized());
+            assertThat(formulaCopy).isEqualTo(formula);
+            assertThat(CanonicalFormulas.contentHash(Collections.singletonList(formulaCopy)))
+                    .isEqualTo(CanonicalFormulas.contentHash(Collections.singletonList(formula)));
+        }
+    }
+
+    @Test
+    public void testDistinctHashes() {
+        final FormulaFactory f = new FormulaFactory();
+        final Formula a = f.variable("a");
+        final Formula b = f.variable("b");
+        final List<List<Formula>> lists = Arrays.asList(
+                Collections.emptyList(),
+                Collections.singletonList(f.verum()),
+                Collections.singletonList(f.falsum()),
+                Collections.singletonList(a),
+                Collections.singletonList(a.negate()),
+                Collections.singletonList(f.implication(a, b)),
+                Collections.singletonList(f.implication(b, a)),
+                Arrays.asList(a, b),
+                Arrays.asList(b, a),
+                Collections.singletonList(f.and(a, b)),
+                Collections.singletonList(f.or(a, b)),
+                Collections.singletonList(f.pbc(CType.GE, 1, new Literal[]{f.variable("a"), f.variable("b")}, new int[]{1, 2})),
+                Collections.singletonList(f.pbc(CType.GE, 1, new Literal[]{f.variable("a"), f.variable("b")}, new int[]{2, 1})));
+        final long distinct = lists.stream().map(CanonicalFormulas::serialize).map(CanonicalFormulas::contentHashHex).distinct().count();
+        assertThat(distinct).isEqualTo(lists.size());
+    }
+}
@@ -0,0 +1,127 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+public class CodecsTest {
+
+    private static final List<Codec> CODECS = Arrays.asList(Codecs.raw(), Codecs.deflate(),
+            Codecs.deflate(Deflater.BEST_COMPRESSION, Deflater.FILTERED), Codecs.lz());
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final Random random = new Random(42);
+        for (final int length : new int[]{0, 1, 4, 15, 16, 300, LzCodec.BLOCK_SIZE - 1, LzCodec.BLOCK_SIZE, LzCodec.BLOCK_SIZE + 1, 500_000}) {
+            final byte[] randomBytes = new byte[length];
+            random.nextBytes(randomBytes);
+            final byte[] textBytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                textBytes[i] = (byte) ('a' + (i * 7 + i / 13) % 10 + (random.nextInt(20) == 0 ? 1 : 0));
+            }
+            final byte[] zeroBytes = new byte[length];
+            for (final byte[] data : Arrays.asList(randomBytes, textBytes, zeroBytes)) {
+                for (final Codec codec : CODECS) {
+                    assertThat(decode(encode(data, codec))).as(codec + " " + length).isEqualTo(data);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCompression() throws IOException {
+        final byte[] data = new byte[200_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ('a' + (i * 7 + i / 13) % 10);
+        }
+        assertThat(encode(data, Codecs.raw())).hasSize(data.length + Codecs.HEADER_LENGTH);
+        assertThat(encode(data, Codecs.lz()).length).isLessThan(data.length / 2);
+        assertThat(encode(data, Codecs.deflate()).length).isLessThan(encode(data, Codecs.lz()).length);
+    }
+
+    @Test
+    public void testHeaderlessStreams() throws IOException {
+        final byte[] data = "\n\u0003abc".getBytes(StandardCharsets.UTF_8);
+        assertThat(decode(data)).isEqualTo(data);
+        assertThat(decode(new byte[0])).isEmpty();
+        assertThat(decode(new byte[]{1})).isEqualTo(new byte[]{1});
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(data);
+        }
+        assertThat(decode(bytes.toByteArray())).isEqualTo(data);
+    }
+
+    @Test
+    public void testCustomCodec() throws IOException {
+        final Codec custom = new Codec() {
+            @Override
+            public int id() {
+                return 200;
+            }
+
+            @Override
+            public OutputStream compress(final OutputStream out) throws IOException {
+                return Codecs.lz().compress(out);
+            }
+
+            @Override
+            public InputStream decompress(final InputStream in) throws IOException {
+                return Codecs.lz().decompress(in);
+            }
+        };
+        final byte[] data = "custom codec".getBytes(StandardCharsets.UTF_8);
+        final byte[] encoded = encode(data, custom);
+        assertThatThrownBy(() -> decode(encoded)).isInstanceOf(IOException.class).hasMessageContaining("200");
+        Codecs.register(custom);
+        Codecs.register(custom);
+        assertThat(decode(encoded)).isEqualTo(data);
+        assertThatThrownBy(() -> Codecs.register(Codecs.lz())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testCorruptLzBlock() throws IOException {
+        final byte[] data = new byte[1000];
+        final byte[] encoded = encode(data, Codecs.lz());
+        final int firstOffset = Codecs.HEADER_LENGTH + 8 + 2;
+        encoded[firstOffset] = (byte) 0x40;
+        assertThatThrownBy(() -> decode(encoded)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> decode(Arrays.copyOf(encoded, encoded.length - 1))).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] encode(final byte[] data, final Codec codec) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final OutputStream output = Codecs.newOutputStream(bytes, codec)) {
+            output.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] decode(final byte[] data) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final InputStream input = Codecs.newInputStream(new ByteArrayInputStream(data))) {
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class CompressionDictionaryTest {
+
+    @Test
+    public void testTrainAndCompress() throws IOException {
+        final Random random = new Random(42);
+        final List<byte[]> samples = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            samples.add(message(random));
+        }
+        final CompressionDictionary dictionary = CompressionDictionary.train(samples, 4096);
+        assertThat(dictionary.size()).isBetween(1, 4096);
+        int plainSize = 0;
+        int compressedSize = 0;
+        for (int i = 0; i < 100; i++) {
+            final byte[] message = message(random);
+            final byte[] compressed = dictionary.compress(message);
+            assertThat(CompressionDictionary.dictionaryId(compressed)).isEqualTo(dictionary.id());
+            assertThat(dictionary.decompress(compressed)).isEqualTo(message);
+            plainSize += message.length;
+            compressedSize += compressed.length;
+        }
+        assertThat(compressedSize).isLessThan(plainSize / 3);
+        assertThat(dictionary.decompress(dictionary.compress(new byte[0]))).isEmpty();
+    }
+
+    @Test
+    public void testDictionarySelection() throws IOException {
+        final CompressionDictionary first = CompressionDictionary.of("first dictionary".getBytes(StandardCharsets.UTF_8));
+        final CompressionDictionary second = CompressionDictionary.of("second dictionary".getBytes(StandardCharsets.UTF_8));
+        final byte[] message = "a message for the second dictionary".getBytes(StandardCharsets.UTF_8);
+        final byte[] compressed = second.compress(message);
+        assertThat(CompressionDictionary.decompress(compressed, Arrays.asList(first, second))).isEqualTo(message);
+        assertThatThrownBy(() -> CompressionDictionary.decompress(compressed, Collections.singletonList(first))).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> first.decompress(compressed)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> CompressionDictionary.dictionaryId(new byte[]{1, 2, 3})).isInstanceOf(IOException.class);
+        final byte[] truncated = Arrays.copyOf(compressed, compressed.length - 5);
+        assertThatThrownBy(() -> second.decompress(truncated)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThatThrownBy(() -> CompressionDictionary.of(new byte[0])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompressionDictionary.of(new byte[CompressionDictionary.MAX_SIZE + 1])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompressionDictionary.train(Collections.singletonList(new byte[100]), 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompressionDictionary.train(Collections.singletonList(new byte[]{1, 2, 3}), 1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] message(final Random random) {
+        final StringBuilder sb = new StringBuilder("\n\u0012update-").append(random.nextInt(100));
+        final int count = 3 + random.nextInt(6);
+        for (int i = 0; i < count; i++) {
+            sb.append("\u0008\u0002*\u0010feature_group_").append(random.nextInt(40)).append("_option_").append(random.nextInt(12)).append("\u0012\u0004");
+        }
+        return sb.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaArchiveIndex;
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FormulaArchiveTest {
+
+    final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testRandomAccess() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).numVars(20).build());
+        final List<Formula> formulas = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            formulas.add(randomizer.formula(3));
+        }
+        formulas.add(formulas.get(17));
+        final Path file = Files.createTempFile("temp", "archive");
+        try {
+            try (final FormulaArchiveWriter writer = new FormulaArchiveWriter(file)) {
+                for (int i = 0; i < formulas.size(); i++) {
+                    assertThat(writer.add("f" + i, formulas.get(i))).isEqualTo(i);
+                }
+            }
+            try (final FormulaArchive archive = FormulaArchive.open(new FormulaFactory(), file)) {
+                assertThat(archive.size()).isEqualTo(formulas.size());
+                for (int i = formulas.size() - 1; i >= 0; i -= 7) {
+                    assertThat(archive.get(i)).isEqualTo(formulas.get(i));
+                }
+                for (int i = 0; i < formulas.size(); i++) {
+                    assertThat(archive.get("f" + i)).isEqualTo(formulas.get(i));
+                }
+                assertThat(archive.get("unknown")).isNull();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testLazyLoading() throws IOException {
+        final Formula shared = this.f.or(this.f.variable("a"), this.f.literal("b", false));
+        final Formula f1 = this.f.and(shared, this.f.variable("c"));
+        final Formula f2 = this.f.implication(this.f.variable("d"), this.f.not(shared));
+        final Formula f3 = this.f.equivalence(shared, this.f.variable("e"));
+        final Formula f4 = this.f.pbc(CType.LE, 2,
+                new Literal[]{this.f.variable("x"), this.f.literal("y", false)}, new int[]{1, 2});
+        final Path file = Files.createTempFile("temp", "archive");
+        try {
+            try (final FormulaArchiveWriter writer = new FormulaArchiveWriter(file)) {
+                writer.add(f1);
+                writer.add("impl", f2);
+                writer.add(f3);
+                writer.add("pbc", f4);
+                assertThatThrownBy(() -> writer.add("pbc", f1)).isInstanceOf(IllegalArgumentException.class);
+            }
+            final FormulaFactory f = new FormulaFactory();
+            try (final FormulaArchive archive = FormulaArchive.open(f, file)) {
+                assertThat(archive.get(2)).isEqualTo(f3);
+                assertThat(f.statistics().conjunctions2()).isZero();
+                assertThat(f.statistics().disjunctions2()).isEqualTo(1);
+                assertThat(f.statistics().equivalences()).isEqualTo(1);
+                assertThat(f.statistics().implications()).isZero();
+                assertThat(f.statistics().pbcs()).isZero();
+                assertThat(f.statistics().positiveLiterals()).isEqualTo(3);
+                assertThat(archive.get("pbc")).isEqualTo(f4);
+                assertThat(f.statistics().pbcs()).isEqualTo(1);
+                assertThat(f.statistics().positiveLiterals()).isEqualTo(5);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testSegmentDependencies() throws IOException {
+        final List<Formula> chain = new ArrayList<>();
+        Formula formula = this.f.variable("v0");
+        for (int i = 1; i <= 200; i++) {
+            formula = i % 2 == 0 ? this.f.and(formula, this.f.variable("v" + i)) : this.f.or(formula, this.f.variable("v" + i));
+            chain.add(formula);
+        }
+        final Path file = Files.createTempFile("temp", "archive");
+        try {
+            try (final FormulaArchiveWriter writer = new FormulaArchiveWriter(file)) {
+                for (final Formula link : chain) {
+                    writer.add(link);
+                }
+            }
+            final byte[] bytes = Files.readAllBytes(file);
+            final ByteBuffer trailer = ByteBuffer.wrap(bytes, bytes.length - FormulaArchiveWriter.TRAILER_SIZE, FormulaArchiveWriter.TRAILER_SIZE);
+            final int indexSize = (int) trailer.getLong();
+            final PBFormulaArchiveIndex index = PBFormulaArchiveIndex.parseFrom(
+                    ByteBuffer.wrap(bytes, bytes.length - FormulaArchiveWriter.TRAILER_SIZE - indexSize, indexSize));
+            assertThat(index.getSegmentCount()).isEqualTo(chain.size());
+            assertThat(index.getSegment(0).getDependencyList()).isEmpty();
+            for (int i = 1; i < index.getSegmentCount(); i++) {
+                assertThat(index.getSegment(i).getDependencyList()).containsExactly(i - 1);
+            }
+            try (final FormulaArchive archive = FormulaArchive.open(new FormulaFactory(), file)) {
+                assertThat(archive.get(150)).isEqualTo(chain.get(150));
+                assertThat(archive.get(chain.size() - 1)).isEqualTo(chain.get(chain.size() - 1));
+                assertThat(archive.get(0)).isEqualTo(chain.get(0));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testNoArchive() throws IOException {
+        final Path file = Files.createTempFile("temp", "archive");
+        try {
+            Files.write(file, new byte[]{1, 2, 3});
+            assertThatThrownBy(() -> FormulaArchive.open(this.f, file)).isInstanceOf(IOException.class);
+            Files.write(file, new byte[32]);
+            assertThatThrownBy(() -> FormulaArchive.open(this.f, file)).isInstanceOf(IOException.class);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class FormulaBaseTest {
+
+    final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testDelta() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).numVars(30).build());
+        final List<Formula> rules = randomizer.constraintSet(200, 4);
+        final FormulaBase base = FormulaBase.of("rules", 3, rules);
+        assertThat(base.name()).isEqualTo("rules");
+        assertThat(base.version()).isEqualTo(3);
+        final PBFormulaMapping shippedBase = base.serialize();
+        assertThat(shippedBase).isEqualTo(Formulas.serializeFormulas(rules).getMapping());
+
+        final List<Formula> update = new ArrayList<>();
+        update.add(this.f.and(rules.get(0), rules.get(1)));
+        update.add(this.f.or(rules.get(5), this.f.variable("new_variable")));
+        update.add(rules.get(7));
+        final PBFormulas delta = Formulas.serializeFormulas(update, base);
+        assertThat(delta.getBase().getName()).isEqualTo("rules");
+        assertThat(delta.getMapping().getVariableList()).containsExactly("new_variable");
+        assertThat(delta.getMapping().getNodeCount()).isEqualTo(3);
+        assertThat(delta.getSerializedSize()).isLessThan(Formulas.serializeFormulas(update).getSerializedSize());
+
+        final FormulaFactory receiver = new FormulaFactory();
+        final FormulaBase receivedBase = FormulaBase.deserialize(receiver, "rules", 3, shippedBase);
+        assertThat(receivedBase.nodeCount()).isEqualTo(base.nodeCount());
+        assertThat(receivedBase.variableCount()).isEqualTo(base.variableCount());
+        final List<Formula> deserialized = Formulas.deserializeFormulaList(receiver, delta, receivedBase);
+        assertThat(deserialized).isEqualTo(update);
+        assertThat(deserialized.get(2)).isSameAs(receivedBase.node(delta.getId(2)));
+
+        assertThat(Formulas.serializeFormulas(deserialized, receivedBase).getMapping()).isEqualTo(delta.getMapping());
+    }
+
+    @Test
+    public void testDictionary() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).numVars(100).build());
+        final List<Formula> shared = randomizer.constraintSet(20, 3);
+        final List<Formula> corpus = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            corpus.add(this.f.implication(this.f.variable("x" + i), this.f.equivalence(shared.get(i % 20), shared.get((i + 7) % 20))));
+        }
+        final FormulaBase dictionary = FormulaBase.dictionary("dictionary", 1, corpus, 2);
+        final FormulaBase full = FormulaBase.of("full", 1, corpus);
+        assertThat(dictionary.variableCount()).isEqualTo(full.variableCount());
+        assertThat(dictionary.nodeCount()).isLessThan(full.nodeCount());
+        for (int i = 0; i < 20; i++) {
+            assertThat(Arrays.asList(nodes(dictionary))).contains(shared.get(i));
+        }
+        assertThat(Arrays.asList(nodes(dictionary))).doesNotContainAnyElementsOf(corpus);
+        assertThat(FormulaBase.dictionary("dictionary", 1, corpus, 1).serialize()).isEqualTo(full.serialize());
+
+        final FormulaFactory receiver = new FormulaFactory();
+        final FormulaBase receivedDictionary = FormulaBase.deserialize(receiver, "dictionary", 1, dictionary.serialize());
+        int plainSize = 0;
+        int dictionarySize = 0;
+        for (final Formula formula : corpus) {
+            final PBFormulas bin = Formulas.serializeFormula(formula, dictionary);
+            assertThat(bin.getMapping().getVariableCount()).isZero();
+            assertThat(Formulas.deserializeFormula(receiver, bin, receivedDictionary)).isEqualTo(formula);
+            plainSize += Formulas.serializeFormula(formula).getSerializedSize();
+            dictionarySize += bin.getSerializedSize();
+        }
+        assertThat(dictionarySize * 5).isLessThan(plainSize);
+    }
+
+    private static Formula[] nodes(final FormulaBase base) {
+        final Formula[] nodes = new Formula[base.nodeCount()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = base.node(i);
+        }
+        return nodes;
+    }
+
+    @Test
+    public void testPseudoBooleanVariables() {
+        final Literal a = this.f.variable("a");
+        final Literal nb = this.f.literal("b", false);
+        final Formula pbc = this.f.pbc(CType.LE, 2, new Literal[]{a, nb}, new int[]{1, 2});
+        final FormulaBase base = FormulaBase.of("pb", 1, Arrays.asList(pbc, this.f.variable("c")));
+        assertThat(base.variableCount()).isEqualTo(3);
+        final PBFormulas delta = Formulas.serializeFormula(this.f.and(pbc, this.f.literal("c", false)), base);
+        assertThat(delta.getMapping().getVariableCount()).isZero();
+        final FormulaFactory receiver = new FormulaFactory();
+        final FormulaBase receivedBase = FormulaBase.deserialize(receiver, "pb", 1, base.serialize());
+        assertThat(Formulas.deserializeFormula(receiver, delta, receivedBase)).isEqualTo(this.f.and(pbc, this.f.literal("c", false)));
+    }
+
+    @Test
+    public void testBaseMismatch() {
+        final FormulaBase base = FormulaBase.of("rules", 1, Arrays.asList(this.f.variable("a"), this.f.variable("b")));
+        final PBFormulas delta = Formulas.serializeFormula(this.f.and(this.f.variable("a"), this.f.variable("b")), base);
+        final FormulaBase otherVersion = FormulaBase.deserialize(this.f, "rules", 2, base.serialize());
+        assertThatThrownBy(() -> Formulas.deserializeFormula(this.f, delta, otherVersion)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Formulas.deserializeFormula(this.f, delta)).isInstanceOf(IllegalArgumentException.class);
+        final PBFormulas plain = Formulas.serializeFormula(this.f.variable("a"));
+        assertThatThrownBy(() -> Formulas.deserializeFormula(this.f, plain, base)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.knowledgecompilation.dnnf.DnnfFactory;
+import org.logicng.knowledgecompilation.dnnf.datastructures.Dnnf;
+import org.logicng.propositions.StandardProposition;
+import org.logicng.solvers.MiniSat;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+public class FormulaChannelTest {
+
+    private final FormulaFactory f = new FormulaFactory();
+    private final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+
+    @Test
+    public void testMixedFramesOverPipe() throws Exception {
+        final List<Formula> formulas = this.randomizer.constraintSet(20, 3);
+        final StandardProposition proposition = new StandardProposition("rule", this.randomizer.formula(3));
+        final Dnnf dnnf = new DnnfFactory().compile(this.randomizer.formula(3));
+        final MiniSat miniSat = MiniSat.miniSat(this.f);
+        miniSat.add(formulas);
+        final MiniSat glucose = MiniSat.glucose(this.f);
+        glucose.add(formulas);
+        final SolverSerializer serializer = SolverSerializer.withoutPropositions(this.f);
+
+        final PipedInputStream in = new PipedInputStream(1024);
+        final PipedOutputStream out = new PipedOutputStream(in);
+        final CompletableFuture<Void> sender = CompletableFuture.runAsync(() -> {
+            try (final FormulaChannel.Writer writer = FormulaChannel.writer(out, 512, 2)) {
+                writer.writeFormula(formulas.get(0));
+                writer.writeFormulas(formulas);
+                writer.writeProposition(proposition);
+                writer.writeDnnf(dnnf);
+                writer.writeSolver(miniSat, serializer);
+                writer.writeSolver(glucose, serializer);
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        final FormulaFactory receiver = new FormulaFactory();
+        final SolverSerializer receiverSerializer = SolverSerializer.withoutPropositions(receiver);
+        try (final FormulaChannel.Reader reader = FormulaChannel.reader(receiver, in, 256)) {
+            assertThat(reader.next()).isEqualTo(FormulaChannel.FrameType.FORMULAS);
+            assertThat(reader.formula()).isEqualTo(formulas.get(0));
+            assertThat(reader.next()).isEqualTo(FormulaChannel.FrameType.FORMULAS);
+            assertThat(reader.formulas()).isEqualTo(formulas);
+            assertThatThrownBy(reader::formula).isInstanceOf(IllegalStateException.class);
+            assertThat(reader.next()).isEqualTo(FormulaChannel.FrameType.PROPOSITION);
+            assertThat(reader.proposition()).isEqualTo(proposition);
+            assertThatThrownBy(reader::dnnf).isInstanceOf(IllegalStateException.class);
+            assertThat(reader.next()).isEqualTo(FormulaChannel.FrameType.DNNF);
+            assertThat(reader.dnnf()).isEqualTo(dnnf);
+            assertThat(reader.next()).isEqualTo(FormulaChannel.FrameType.MINISAT);
+            SolverComperator.compareSolverStates(miniSat, reader.solver(receiverSerializer));
+            assertThat(reader.next()).isEqualTo(FormulaChannel.FrameType.GLUCOSE);
+            SolverComperator.compareSolverStates(glucose, reader.solver(receiverSerializer));
+            assertThat(reader.next()).isNull();
+            assertThatThrownBy(reader::message).isInstanceOf(IllegalStateException.class);
+        }
+        sender.get();
+    }
+
+    @Test
+    public void testLoopbackSocket() throws IOException, InterruptedException, ExecutionException {
+        final List<Formula> formulas = this.randomizer.constraintSet(500, 3);
+        try (final ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final CompletableFuture<Void> sender = CompletableFuture.runAsync(() -> {
+                try (final Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort());
+                     final FormulaChannel.Writer writer = FormulaChannel.writer(socket.getOutputStream())) {
+                    for (final Formula formula : formulas) {
+                        writer.writeFormula(formula);
+                    }
+                } catch (final IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            try (final Socket socket = server.accept();
+                 final FormulaChannel.Reader reader = FormulaChannel.reader(new FormulaFactory(), socket.getInputStream())) {
+                for (final Formula formula : formulas) {
+                    assertThat(reader.next()).isEqualTo(FormulaChannel.FrameType.FORMULAS);
+                    assertThat(reader.formula()).isEqualTo(formula);
+                }
+                assertThat(reader.next()).isNull();
+            }
+            sender.get();
+        }
+    }
+
+    @Test
+    public void testUnknownAndCorruptFrames() throws IOException {
+        final Formula formula = this.randomizer.formula(3);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(new byte[]{(byte) 200, 3, 1, 2, 3});
+        try (final FormulaChannel.Writer writer = FormulaChannel.writer(bytes)) {
+            writer.writeFormula(formula);
+        }
+        final FormulaChannel.Reader reader = FormulaChannel.reader(this.f, new ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(reader.next()).isEqualTo(FormulaChannel.FrameType.FORMULAS);
+        assertThat(reader.formula()).isEqualTo(formula);
+        assertThat(reader.next()).isNull();
+
+        final byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 1);
+        final FormulaChannel.Reader truncatedReader = FormulaChannel.reader(this.f, new ByteArrayInputStream(truncated));
+        assertThatThrownBy(truncatedReader::next).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the allocations of the formula deserialization.
+ * <p>
+ * Run it with the main method, which enables the GC profiler.  Dividing the
+ * reported {@code gc.alloc.rate.norm} by the number of nodes printed during
+ * the setup gives the allocated bytes per node.  When deserializing into a
+ * warm factory, all nodes already exist on the factory, so the allocations
+ * are those of the decoder plus the lookups of the factory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormulaDeserializationBenchmark {
+
+    private PBFormulas serialized;
+    private FormulaFactory warmFactory;
+
+    @Setup
+    public void setup() {
+        final FormulaFactory f = new FormulaFactory();
+        final FormulaRandomizer randomizer = new FormulaRandomizer(f, FormulaRandomizerConfig.builder().seed(42).numVars(100).build());
+        final List<Formula> formulas = randomizer.constraintSet(1000, 4);
+        this.serialized = Formulas.serializeFormulas(formulas);
+        this.warmFactory = new FormulaFactory();
+        Formulas.deserializeFormulaList(this.warmFactory, this.serialized);
+        System.out.printf("%nNodes: %d%n", this.serialized.getMapping().getNodeCount());
+    }
+
+    @Benchmark
+    public List<Formula> deserializeIntoNewFactory() {
+        return Formulas.deserializeFormulaList(new FormulaFactory(), this.serialized);
+    }
+
+    @Benchmark
+    public List<Formula> deserializeIntoWarmFactory() {
+        return Formulas.deserializeFormulaList(this.warmFactory, this.serialized);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FormulaDeserializationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
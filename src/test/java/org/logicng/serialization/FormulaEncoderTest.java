@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class FormulaEncoderTest {
+
+    final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testRandomizedFormulas() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+        for (int i = 0; i < 200; i++) {
+            final Formula formula = randomizer.formula(5);
+            assertThat(PBFormulas.parseFrom(encode(Collections.singletonList(formula)))).isEqualTo(Formulas.serializeFormula(formula));
+        }
+        final List<Formula> constraints = randomizer.constraintSet(1000, 4);
+        final byte[] bytes = encode(constraints);
+        assertThat(bytes.length).isGreaterThan(1 << 16);
+        assertThat(PBFormulas.parseFrom(bytes)).isEqualTo(Formulas.serializeFormulas(constraints));
+        assertThat(Formulas.deserializeFormulaList(new FormulaFactory(), PBFormulas.parseFrom(bytes))).isEqualTo(constraints);
+        assertThat(Formulas.deserializeFormulaListFromStreamPipelined(new FormulaFactory(), new ByteArrayInputStream(bytes))).isEqualTo(constraints);
+    }
+
+    @Test
+    public void testSpecialNodes() throws IOException {
+        final Variable a = this.f.variable("a");
+        final Literal nb = this.f.literal("b", false);
+        final Literal[] literals = {a, nb, this.f.variable("c")};
+        final List<Formula> formulas = Arrays.asList(
+                this.f.verum(), this.f.falsum(), a, nb,
+                this.f.pbc(CType.GE, 2, literals, new int[]{1, 1, 1}),
+                this.f.pbc(CType.LE, -5, literals, new int[]{-1, 100_000, 3}),
+                this.f.pbc(CType.EQ, 0, literals, new int[]{1, 2, 1}),
+                this.f.pbc(CType.LT, 0, new Literal[0], new int[0]),
+                this.f.not(this.f.equivalence(a, this.f.implication(nb, a))),
+                a);
+        final byte[] bytes = encode(formulas);
+        assertThat(PBFormulas.parseFrom(bytes)).isEqualTo(Formulas.serializeFormulas(formulas));
+        assertThat(Formulas.deserializeFormulaList(new FormulaFactory(), PBFormulas.parseFrom(bytes))).isEqualTo(formulas);
+    }
+
+    @Test
+    public void testLargeOperators() throws IOException {
+        final Variable[] vars = new Variable[50_000];
+        final int[] coefficients = new int[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            vars[i] = this.f.variable("v" + i);
+            coefficients[i] = i - 25_000;
+        }
+        final List<Formula> formulas = Arrays.asList(this.f.or(vars), this.f.pbc(CType.GE, 17, vars, coefficients));
+        assertThat(PBFormulas.parseFrom(encode(formulas))).isEqualTo(Formulas.serializeFormulas(formulas));
+    }
+
+    @Test
+    public void testDeepFormula() throws IOException {
+        Formula formula = this.f.variable("v0");
+        for (int i = 1; i < 100_000; i++) {
+            formula = this.f.implication(this.f.variable("v" + i), formula);
+        }
+        assertThat(PBFormulas.parseFrom(encode(Collections.singletonList(formula)))).isEqualTo(Formulas.serializeFormula(formula));
+    }
+
+    @Test
+    public void testEmptyList() throws IOException {
+        final byte[] bytes = encode(new ArrayList<>());
+        assertThat(PBFormulas.parseFrom(bytes)).isEqualTo(Formulas.serializeFormulas(new ArrayList<>()));
+        assertThat(Formulas.deserializeFormulaList(this.f, PBFormulas.parseFrom(bytes))).isEmpty();
+    }
+
+    @Test
+    public void testStream() throws IOException {
+        final Formula formula = this.f.and(this.f.or(this.f.variable("a"), this.f.variable("b")), this.f.literal("c", false));
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        Formulas.serializeFormulaToStream(formula, stream);
+        assertThat(Formulas.deserializeFormulaFromStream(new FormulaFactory(), new ByteArrayInputStream(stream.toByteArray()))).isEqualTo(formula);
+    }
+
+    private static byte[] encode(final Collection<Formula> formulas) throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final CodedOutputStream output = CodedOutputStream.newInstance(stream);
+        Formulas.serializeFormulaListToStream(formulas, output);
+        output.flush();
+        return stream.toByteArray();
+    }
+}
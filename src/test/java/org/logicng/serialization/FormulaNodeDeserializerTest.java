@@ -0,0 +1,53 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.Variable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FormulaNodeDeserializerTest {
+
+    final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testReusedBuffers() {
+        final List<Formula> formulas = new ArrayList<>();
+        final Variable[] vars = new Variable[300];
+        for (int i = 0; i < vars.length; i++) {
+            vars[i] = this.f.variable("v" + i);
+        }
+        for (int i = 0; i < 20; i++) {
+            final Literal[] literals = {vars[i], vars[i + 1].negate(), vars[i + 2]};
+            formulas.add(this.f.pbc(CType.LE, i, literals, new int[]{i + 1, 2, -3}));
+            formulas.add(this.f.pbc(CType.GE, 1, literals, new int[]{1, 1, 1}));
+            formulas.add(this.f.and(this.f.or(vars[i], vars[i + 3]), this.f.or(vars[i + 1], vars[i + 4], vars[i + 5]), vars[i + 2]));
+        }
+        final Literal[] manyLiterals = new Literal[300];
+        final int[] coefficients = new int[300];
+        for (int i = 0; i < manyLiterals.length; i++) {
+            manyLiterals[i] = i % 2 == 0 ? vars[i] : vars[i].negate();
+            coefficients[i] = i - 150;
+        }
+        formulas.add(this.f.pbc(CType.EQ, 7, manyLiterals, coefficients));
+        formulas.add(this.f.or(vars));
+
+        final PBFormulas serialized = Formulas.serializeFormulas(formulas);
+        final FormulaFactory f2 = new FormulaFactory();
+        final FormulaNodeDeserializer deserializer = new FormulaNodeDeserializer(f2);
+        final Formula[] nodes = deserializer.deserializeNodes(serialized.getMapping(), Formulas.deserializeVariables(f2, serialized.getMapping()));
+        for (int i = 0; i < formulas.size(); i++) {
+            assertThat(nodes[serialized.getId(i)]).isEqualTo(formulas.get(i));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Variable;
+import org.logicng.formulas.cache.FunctionCacheEntry;
+import org.logicng.functions.SubNodeFunction;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FormulaNodeTableTest {
+
+    final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testPostOrder() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+        for (int i = 0; i < 100; i++) {
+            final Formula formula = randomizer.formula(5);
+            final FormulaNodeTable table = new FormulaNodeTable();
+            final List<Formula> visited = new ArrayList<>();
+            final int id = table.add(formula, (node, nodeId) -> {
+                assertThat(nodeId).isEqualTo(visited.size());
+                for (final Formula op : node) {
+                    assertThat(table.id(op)).isBetween(0, nodeId - 1);
+                }
+                visited.add(node);
+            });
+            assertThat(id).isEqualTo(visited.size() - 1);
+            assertThat(table.size()).isEqualTo(visited.size());
+            assertThat(visited).containsExactlyElementsOf(SubNodeFunction.get().apply(formula, false));
+        }
+    }
+
+    @Test
+    public void testIncremental() {
+        final Variable a = this.f.variable("a");
+        final Variable b = this.f.variable("b");
+        final Variable c = this.f.variable("c");
+        final Formula ab = this.f.and(a, b);
+        final FormulaNodeTable table = new FormulaNodeTable();
+        final List<Formula> visited = new ArrayList<>();
+        assertThat(table.add(ab, (node, id) -> visited.add(node))).isEqualTo(2);
+        assertThat(visited).containsExactly(a, b, ab);
+        visited.clear();
+        final Formula formula = this.f.or(ab, c);
+        assertThat(table.add(formula, (node, id) -> visited.add(node))).isEqualTo(4);
+        assertThat(visited).containsExactly(c, formula);
+        visited.clear();
+        assertThat(table.add(b, (node, id) -> visited.add(node))).isEqualTo(1);
+        assertThat(visited).isEmpty();
+        assertThat(table.id(this.f.variable("d"))).isEqualTo(-1);
+    }
+
+    @Test
+    public void testVariableTable() {
+        final FormulaNodeTable table = new FormulaNodeTable();
+        assertThat(table.literalIndex(this.f.literal("x", false))).isEqualTo(-1);
+        assertThat(table.literalIndex(this.f.literal("y", true))).isEqualTo(2);
+        assertThat(table.literalIndex(this.f.literal("x", true))).isEqualTo(1);
+        assertThat(table.variableCount()).isEqualTo(2);
+        assertThat(table.variables()).containsExactly("x", "y");
+    }
+
+    @Test
+    public void testBaseTable() {
+        final Variable a = this.f.variable("a");
+        final Variable b = this.f.variable("b");
+        final Formula and = this.f.and(a, b);
+        final FormulaNodeTable base = new FormulaNodeTable();
+        base.add(and, (node, id) -> base.literalIndex(a));
+        base.literalIndex(b);
+
+        final FormulaNodeTable table = new FormulaNodeTable(base);
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(table.id(and)).isEqualTo(2);
+        final List<Integer> ids = new ArrayList<>();
+        assertThat(table.add(this.f.or(and, this.f.variable("c")), (node, id) -> ids.add(id))).isEqualTo(4);
+        assertThat(ids).containsExactly(3, 4);
+        assertThat(table.size()).isEqualTo(5);
+        assertThat(base.size()).isEqualTo(3);
+        assertThat(table.literalIndex(this.f.literal("b", false))).isEqualTo(-2);
+        assertThat(table.literalIndex(this.f.variable("c"))).isEqualTo(3);
+        assertThat(table.variableCount()).isEqualTo(3);
+        assertThat(table.variables()).containsExactly("c");
+        assertThat(base.variableCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testNoFunctionCaches() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(17).build());
+        final Formula formula = randomizer.formula(6);
+        Formulas.serializeFormula(formula);
+        assertThat(formula.functionCacheEntry(FunctionCacheEntry.SUBFORMULAS)).isNull();
+    }
+
+    @Test
+    public void testDeepFormula() {
+        Formula formula = this.f.variable("v0");
+        for (int i = 1; i < 100_000; i++) {
+            formula = this.f.implication(this.f.variable("v" + i), formula);
+        }
+        final PBFormulas serialized = Formulas.serializeFormula(formula);
+        assertThat(serialized.getMapping().getNodeCount()).isEqualTo(2 * 100_000 - 1);
+        assertThat(Formulas.deserializeFormula(this.f, serialized)).isSameAs(formula);
+        final Formula deserialized = Formulas.deserializeFormula(new FormulaFactory(), serialized);
+        assertThat(Formulas.serializeFormula(deserialized)).isEqualTo(serialized);
+    }
+}
@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+public class FormulaStreamReaderTest {
+
+    final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).numVars(20).build());
+        final List<Formula> formulas = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            formulas.add(randomizer.formula(3));
+        }
+        final byte[] bytes = write(formulas, 30);
+
+        final List<Formula> deserialized = new ArrayList<>();
+        try (final FormulaStreamReader reader = new FormulaStreamReader(new FormulaFactory(), new ByteArrayInputStream(bytes))) {
+            while (reader.hasNext()) {
+                deserialized.add(reader.next());
+            }
+            assertThat(reader.skip()).isFalse();
+            assertThatThrownBy(reader::next).isInstanceOf(NoSuchElementException.class);
+        }
+        assertThat(deserialized).isEqualTo(formulas);
+
+        final FormulaStreamReader reader = new FormulaStreamReader(new FormulaFactory(), new ByteArrayInputStream(bytes));
+        assertThat(reader.stream().collect(Collectors.toList())).isEqualTo(formulas);
+    }
+
+    @Test
+    public void testSkip() throws IOException {
+        final Formula shared = this.f.or(this.f.variable("a"), this.f.variable("b"));
+        final Formula f1 = this.f.and(shared, this.f.variable("c"));
+        final Formula f2 = this.f.implication(this.f.variable("d"), this.f.not(shared));
+        final Formula f3 = this.f.equivalence(shared, this.f.variable("e"));
+        final byte[] bytes = write(Arrays.asList(f1, f2, f3), 2);
+
+        final FormulaFactory f = new FormulaFactory();
+        final FormulaStreamReader reader = new FormulaStreamReader(f, new ByteArrayInputStream(bytes));
+        assertThat(reader.skip()).isTrue();
+        assertThat(reader.skip()).isTrue();
+        assertThat(reader.next()).isEqualTo(f3);
+        assertThat(reader.hasNext()).isFalse();
+        assertThat(f.statistics().conjunctions2()).isZero();
+        assertThat(f.statistics().implications()).isZero();
+        assertThat(f.statistics().negations()).isZero();
+        assertThat(f.statistics().disjunctions2()).isEqualTo(1);
+        assertThat(f.statistics().equivalences()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDeepFormula() throws IOException {
+        Formula formula = this.f.variable("v0");
+        for (int i = 1; i < 100_000; i++) {
+            formula = this.f.implication(this.f.variable("v" + i), formula);
+        }
+        final FormulaStreamReader reader = new FormulaStreamReader(this.f, new ByteArrayInputStream(write(Arrays.asList(formula), 1)));
+        assertThat(reader.next()).isSameAs(formula);
+    }
+
+    private static byte[] write(final List<Formula> formulas, final int batchSize) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final FormulaStreamWriter writer = new FormulaStreamWriter(outputStream, batchSize)) {
+            for (final Formula formula : formulas) {
+                writer.write(formula);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+}
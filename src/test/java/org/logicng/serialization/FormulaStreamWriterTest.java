@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FormulaStreamWriterTest {
+
+    final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testSingleFormulas() throws IOException {
+        final List<Formula> formulas = randomFormulas(300);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final FormulaStreamWriter writer = new FormulaStreamWriter(outputStream, 50)) {
+            for (final Formula formula : formulas) {
+                writer.write(formula);
+            }
+        }
+        final List<PBFormulas> chunks = readChunks(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertThat(chunks).hasSize(6).allSatisfy(chunk -> assertThat(chunk.getIdCount()).isEqualTo(50));
+        final PBFormulas merged = merge(chunks);
+        assertThat(merged.getMapping().getNodeCount()).isEqualTo(Formulas.serializeFormulas(formulas).getMapping().getNodeCount());
+        assertThat(Formulas.deserializeFormulaList(new FormulaFactory(), merged)).isEqualTo(formulas);
+    }
+
+    @Test
+    public void testBatches() throws IOException {
+        final List<Formula> formulas = randomFormulas(100);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final FormulaStreamWriter writer = new FormulaStreamWriter(outputStream);
+        writer.write(formulas.get(0));
+        writer.write(formulas.subList(1, 40));
+        writer.write(formulas.subList(40, 100));
+        writer.flush();
+        writer.flush();
+        assertThat(writer.nodeCount()).isEqualTo(Formulas.serializeFormulas(formulas).getMapping().getNodeCount());
+        writer.close();
+
+        final List<PBFormulas> chunks = readChunks(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertThat(chunks).extracting(PBFormulas::getIdCount).containsExactly(40, 60);
+        assertThat(Formulas.deserializeFormulaList(new FormulaFactory(), merge(chunks))).isEqualTo(formulas);
+    }
+
+    @Test
+    public void testIllegalBatchSize() {
+        assertThatThrownBy(() -> new FormulaStreamWriter(new ByteArrayOutputStream(), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Formula> randomFormulas(final int n) {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).numVars(20).build());
+        final List<Formula> formulas = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            formulas.add(randomizer.formula(3));
+        }
+        return formulas;
+    }
+
+    private static List<PBFormulas> readChunks(final InputStream stream) throws IOException {
+        final List<PBFormulas> chunks = new ArrayList<>();
+        PBFormulas chunk;
+        while ((chunk = PBFormulas.parseDelimitedFrom(stream)) != null) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static PBFormulas merge(final List<PBFormulas> chunks) {
+        final PBFormulas.Builder builder = PBFormulas.newBuilder();
+        final PBFormulaMapping.Builder mapping = PBFormulaMapping.newBuilder();
+        for (final PBFormulas chunk : chunks) {
+            builder.addAllId(chunk.getIdList());
+            mapping.addAllVariable(chunk.getMapping().getVariableList());
+            mapping.addAllNode(chunk.getMapping().getNodeList());
+        }
+        return builder.setMapping(mapping).build();
+    }
+}
@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class FormulaTransplanterTest {
+
+    final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testRandomizedFormulas() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+        final FormulaFactory target = new FormulaFactory();
+        final FormulaTransplanter transplanter = new FormulaTransplanter(target);
+        assertThat(transplanter.target()).isSameAs(target);
+        for (int i = 0; i < 1000; i++) {
+            final Formula original = randomizer.formula(5);
+            final Formula copy = transplanter.transplant(original);
+            assertThat(copy.factory()).isSameAs(target);
+            assertThat(copy).isEqualTo(original);
+            assertThat(copy).isSameAs(Formulas.deserializeFormula(target, Formulas.serializeFormula(original)));
+        }
+        final List<Formula> constraints = randomizer.constraintSet(100, 4);
+        assertThat(transplanter.transplant(constraints)).isEqualTo(constraints);
+    }
+
+    @Test
+    public void testReuse() {
+        final Formula shared = this.f.or(this.f.variable("a"), this.f.literal("b", false));
+        final Formula pbc = this.f.pbc(CType.GE, 3, new Literal[]{this.f.variable("a"), this.f.literal("c", false)}, new int[]{2, -1});
+        final FormulaFactory target = new FormulaFactory();
+        final FormulaTransplanter transplanter = new FormulaTransplanter(target);
+        final Formula sharedCopy = transplanter.transplant(shared);
+        final Formula copy = transplanter.transplant(this.f.and(this.f.not(shared), pbc));
+        assertThat(copy).isEqualTo(this.f.and(this.f.not(shared), pbc));
+        assertThat(copy.iterator().next().iterator().next()).isSameAs(sharedCopy);
+        assertThat(transplanter.transplant(Arrays.asList(pbc, shared))).containsExactly(copy.stream().skip(1).findFirst().get(), sharedCopy);
+        assertThat(target.statistics().disjunctions2()).isEqualTo(1);
+        assertThat(target.statistics().pbcs()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDeepFormula() {
+        Formula formula = this.f.variable("v0");
+        for (int i = 1; i < 100_000; i++) {
+            formula = this.f.implication(this.f.variable("v" + i), formula);
+        }
+        final FormulaFactory target = new FormulaFactory();
+        final Formula copy = new FormulaTransplanter(target).transplant(formula);
+        assertThat(copy.factory()).isSameAs(target);
+        assertThat(Formulas.serializeFormula(copy)).isEqualTo(Formulas.serializeFormula(formula));
+    }
+}
@@ -4,25 +4,49 @@
 package org.logicng.serialization;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.logicng.serialization.Formulas.deserializeFormulaList;
 
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBComparison;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaMapping;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulaType;
 import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalFormula;
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBInternalPseudoBooleanConstraint;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.FType;
 import org.logicng.formulas.Formula;
 import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.formulas.PBConstraint;
 import org.logicng.io.parsers.ParserException;
 import org.logicng.io.parsers.PseudoBooleanParser;
 import org.logicng.util.FormulaRandomizer;
 import org.logicng.util.FormulaRandomizerConfig;
+import org.logicng.util.Pair;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -113,4 +137,311 @@ public class FormulasTest {
             assertThat(deserialized).isEqualTo(original);
         }
     }
+
+    @Test
+    public void testVariableTable() {
+        final String prefix = "a_rather_long_variable_name_prefix_";
+        final Literal a = this.f.literal(prefix + "a", true);
+        final Literal b = this.f.literal(prefix + "b", true);
+        final Literal nb = this.f.literal(prefix + "b", false);
+        final Formula pbc = this.f.pbc(CType.LE, 2, new Literal[]{a, nb}, new int[]{1, 2});
+        final List<Formula> formulas = Arrays.asList(this.f.or(a, nb), this.f.and(b, pbc), this.f.equivalence(nb, pbc));
+
+        final PBFormulas serialized = Formulas.serializeFormulas(formulas);
+        assertThat(serialized.getMapping().getVariableList()).containsExactly(prefix + "a", prefix + "b");
+        assertThat(serialized.getMapping().getNodeList()).noneMatch(PBInternalFormula::hasVariable);
+        assertThat(serialized.getMapping().getNodeList())
+                .filteredOn(it -> it.getType() == PBFormulaType.PBC)
+                .allSatisfy(it -> assertThat(it.getPbConstraint().getLiteralIndexList()).containsExactly(1, -2));
+        assertThat(deserializeFormulaList(new FormulaFactory(), serialized)).isEqualTo(formulas);
+    }
+
+    @Test
+    public void testCompactPBConstraints() {
+        final Literal a = this.f.variable("a");
+        final Literal b = this.f.variable("b");
+        final Literal nc = this.f.literal("c", false);
+        final Formula cc = this.f.cc(CType.LE, 1, this.f.variable("a"), this.f.variable("b"), this.f.variable("c"));
+        final Formula unit = this.f.pbc(CType.GE, 2, new Literal[]{a, b, nc}, new int[]{1, 1, 1});
+        final Formula pbc = this.f.pbc(CType.EQ, -3, new Literal[]{a, b, nc}, new int[]{-2, 1, 70000});
+        final List<Formula> formulas = Arrays.asList(cc, unit, pbc);
+
+        final PBFormulas serialized = Formulas.serializeFormulas(formulas);
+        final List<PBInternalPseudoBooleanConstraint> constraints = new ArrayList<>();
+        for (final PBInternalFormula node : serialized.getMapping().getNodeList()) {
+            if (node.getType() == PBFormulaType.PBC) {
+                constraints.add(node.getPbConstraint());
+            }
+        }
+        assertThat(constraints).hasSize(3);
+        assertThat(constraints).allSatisfy(it -> {
+            assertThat(it.getCoefficientCount()).isZero();
+            assertThat(it.getLiteralCount()).isZero();
+        });
+        assertThat(constraints.get(0).getUnitCoefficients()).isTrue();
+        assertThat(constraints.get(0).getCoefficientValueList()).isEmpty();
+        assertThat(constraints.get(1).getUnitCoefficients()).isTrue();
+        assertThat(constraints.get(2).getUnitCoefficients()).isFalse();
+        assertThat(constraints.get(2).getCoefficientValueList()).containsExactly(-2, 1, 70000);
+
+        final List<Formula> deserialized = deserializeFormulaList(new FormulaFactory(), serialized);
+        assertThat(deserialized).isEqualTo(formulas);
+        assertThat(((PBConstraint) deserialized.get(0)).isCC()).isTrue();
+        assertThat(((PBConstraint) deserialized.get(1)).isCC()).isFalse();
+    }
+
+    @Test
+    public void testTopologicalNodeTable() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+        final List<Formula> formulas = randomizer.constraintSet(20, 4);
+        final PBFormulas serialized = Formulas.serializeFormulas(formulas);
+        final PBFormulaMapping mapping = serialized.getMapping();
+        assertThat(mapping.getMappingCount()).isZero();
+        for (int i = 0; i < mapping.getNodeCount(); i++) {
+            assertThat(mapping.getNode(i).getOperandList()).allMatch(op -> op >= 0).allMatch(op -> op < mapping.getNodeCount());
+            final int id = i;
+            assertThat(mapping.getNode(i).getOperandList()).allMatch(op -> op < id);
+        }
+        final FormulaFactory f2 = new FormulaFactory();
+        final List<Formula> deserialized = deserializeFormulaList(f2, serialized);
+        assertThat(deserialized).isEqualTo(formulas);
+        final Map<Integer, Formula> id2formula = Formulas.deserializeFormula(f2, mapping);
+        assertThat(id2formula).hasSize(mapping.getNodeCount());
+        for (int i = 0; i < formulas.size(); i++) {
+            assertThat(id2formula.get(serialized.getId(i))).isEqualTo(formulas.get(i));
+        }
+    }
+
+    @Test
+    public void testDeltaOperands() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).numVars(500).build());
+        final List<Formula> clauses = randomClauses(randomizer, 20000);
+        final List<Formula> formulas = new ArrayList<>(randomizer.constraintSet(200, 4));
+        formulas.add(this.f.and(clauses));
+
+        final PBFormulas plain = Formulas.serializeFormulas(formulas);
+        final PBFormulas delta = Formulas.serializeFormulas(formulas, true);
+        for (final PBInternalFormula node : delta.getMapping().getNodeList()) {
+            if (node.getType() == PBFormulaType.AND || node.getType() == PBFormulaType.OR) {
+                assertThat(node.getOperandList()).isEmpty();
+                assertThat(node.getOperandDeltaList()).isNotEmpty();
+            }
+        }
+        final List<Formula> deserialized = deserializeFormulaList(new FormulaFactory(), delta);
+        assertThat(deserialized).isEqualTo(formulas);
+        for (int i = 0; i < formulas.size(); i++) {
+            assertThat(deserialized.get(i).toString()).isEqualTo(formulas.get(i).toString());
+        }
+        assertThat(Formulas.deserializeFormula(new FormulaFactory(), delta.getMapping()).get(delta.getId(formulas.size() - 1)))
+                .isEqualTo(formulas.get(formulas.size() - 1));
+
+        final int plainZipped = gzipSize(plain.toByteArray());
+        final int deltaZipped = gzipSize(delta.toByteArray());
+        System.out.printf("Plain operands:  %d bytes, zipped %d bytes%n", plain.getSerializedSize(), plainZipped);
+        System.out.printf("Delta operands:  %d bytes, zipped %d bytes%n", delta.getSerializedSize(), deltaZipped);
+        assertThat(delta.getSerializedSize()).isLessThan(plain.getSerializedSize());
+    }
+
+    @Test
+    public void testFlatCnfs() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).numVars(500).build());
+        final List<Formula> clauses = randomClauses(randomizer, 20000);
+        clauses.add(this.f.literal("unit", false));
+        final Formula cnf = this.f.and(clauses);
+        final Formula sharedClause = this.f.or(clauses.get(0), this.f.and(this.f.variable("x"), this.f.variable("y")));
+        final Formula nested = this.f.or(this.f.variable("z"), this.f.and(clauses.subList(10, 20)));
+        final List<Formula> formulas = Arrays.asList(cnf, sharedClause, nested, this.f.and(this.f.variable("x"), this.f.literal("y", false)));
+
+        final PBFormulas plain = Formulas.serializeFormulas(formulas);
+        final PBFormulas flat = Formulas.serializeFormulas(formulas, false, true);
+        final PBInternalFormula cnfNode = flat.getMapping().getNode(flat.getId(0));
+        assertThat(cnfNode.getType()).isEqualTo(PBFormulaType.AND);
+        assertThat(cnfNode.getOperandList()).isEmpty();
+        assertThat(cnfNode.getClauseSizeCount()).isEqualTo(cnf.numberOfOperands()).isEqualTo(clauses.size());
+        assertThat(flat.getMapping().getNodeCount()).isLessThan(plain.getMapping().getNodeCount() / 10);
+
+        final List<Formula> deserialized = deserializeFormulaList(new FormulaFactory(), flat);
+        assertThat(deserialized).isEqualTo(formulas);
+        for (int i = 0; i < formulas.size(); i++) {
+            assertThat(deserialized.get(i).toString()).isEqualTo(formulas.get(i).toString());
+        }
+        assertThat(deserializeFormulaList(this.f, flat)).isEqualTo(formulas);
+        assertThat(deserializeFormulaList(new FormulaFactory(), Formulas.serializeFormulas(formulas, true, true))).isEqualTo(formulas);
+
+        final int plainZipped = gzipSize(plain.toByteArray());
+        final int flatZipped = gzipSize(flat.toByteArray());
+        System.out.printf("Nodes:      %d bytes, zipped %d bytes%n", plain.getSerializedSize(), plainZipped);
+        System.out.printf("Flat CNFs:  %d bytes, zipped %d bytes%n", flat.getSerializedSize(), flatZipped);
+        assertThat(flat.getSerializedSize()).isLessThan(plain.getSerializedSize());
+    }
+
+    private List<Formula> randomClauses(final FormulaRandomizer randomizer, final int count) {
+        final Set<Formula> clauses = new LinkedHashSet<>();
+        while (clauses.size() < count) {
+            final Formula clause = this.f.or(randomizer.literal(), randomizer.literal(), randomizer.literal());
+            if (clause.type() == FType.OR) {
+                clauses.add(clause);
+            }
+        }
+        return new ArrayList<>(clauses);
+    }
+
+    private static int gzipSize(final byte[] bytes) throws IOException {
+        final ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        try (final GZIPOutputStream output = new GZIPOutputStream(bytesOut)) {
+            output.write(bytes);
+        }
+        return bytesOut.size();
+    }
+
+    @Test
+    public void testLegacyLiteralEncoding() {
+        final PBInternalFormula a = PBInternalFormula.newBuilder().setType(PBFormulaType.LITERAL).setVariable("a").setValue(true).build();
+        final PBInternalFormula nb = PBInternalFormula.newBuilder().setType(PBFormulaType.LITERAL).setVariable("b").setValue(false).build();
+        final PBInternalFormula pbc = PBInternalFormula.newBuilder().setType(PBFormulaType.PBC)
+                .setPbConstraint(PBInternalPseudoBooleanConstraint.newBuilder()
+                        .setComparator(PBComparison.GE).setRhs(1)
+                        .addLiteral("a").addLiteral("~b")
+                        .addCoefficient(1).addCoefficient(3)
+                        .build())
+                .build();
+        final PBInternalFormula or = PBInternalFormula.newBuilder().setType(PBFormulaType.OR).addOperand(0).addOperand(1).addOperand(2).build();
+        final PBFormulas legacy = PBFormulas.newBuilder()
+                .addId(3)
+                .setMapping(PBFormulaMapping.newBuilder().putMapping(0, a).putMapping(1, nb).putMapping(2, pbc).putMapping(3, or).build())
+                .build();
+
+        final Formula expected = this.f.or(this.f.variable("a"), this.f.literal("b", false),
+                this.f.pbc(CType.GE, 1, new Literal[]{this.f.variable("a"), this.f.literal("b", false)}, new int[]{1, 3}));
+        assertThat(Formulas.deserializeFormula(this.f, legacy)).isEqualTo(expected);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testLegacyMappings() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+        final List<Formula> formulas = randomizer.constraintSet(100, 3);
+        final Pair<Map<Formula, Integer>, Map<Integer, PBInternalFormula>> mappings = Formulas.computeMappings(formulas);
+        final PBFormulas legacy = PBFormulas.newBuilder()
+                .addAllId(formulas.stream().map(mappings.first()::get).collect(Collectors.toList()))
+                .setMapping(PBFormulaMapping.newBuilder().putAllMapping(mappings.second()).build())
+                .build();
+        assertThat(Formulas.deserializeFormulaList(new FormulaFactory(), legacy)).isEqualTo(formulas);
+
+        final Map<Integer, Formula> id2formula = new HashMap<>();
+        mappings.second().forEach((id, node) -> id2formula.put(id, Formulas.deserialize(this.f, node, id2formula)));
+        assertThat(formulas.stream().map(it -> id2formula.get(mappings.first().get(it)))).containsExactlyElementsOf(formulas);
+    }
+
+    @Test
+    public void testPipelinedDeserialization() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+        final List<Formula> formulas = randomizer.constraintSet(2000, 5);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Formulas.serializeFormulaListToStream(formulas, outputStream);
+        final byte[] bytes = outputStream.toByteArray();
+        assertThat(Formulas.deserializeFormulaListFromStreamPipelined(new FormulaFactory(), new ByteArrayInputStream(bytes)))
+                .isEqualTo(formulas);
+
+        final Path file = Files.createTempFile("formulas", ".zip");
+        try {
+            Formulas.serializeFormulaListToFile(formulas, file, true);
+            assertThat(Formulas.deserializeFormulaListFromFilePipelined(new FormulaFactory(), file, true)).isEqualTo(formulas);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        final byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+        assertThatThrownBy(() -> Formulas.deserializeFormulaListFromStreamPipelined(new FormulaFactory(), new ByteArrayInputStream(truncated)))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testPipelinedDeserializationProducerError() {
+        final InputStream failing = new InputStream() {
+            @Override
+            public int read() {
+                throw new OutOfMemoryError("test");
+            }
+        };
+        assertThatThrownBy(() -> Formulas.deserializeFormulaListFromStreamPipelined(this.f, failing))
+                .isInstanceOf(OutOfMemoryError.class).hasMessage("test");
+    }
+
+    @Test
+    public void testPipelinedDeserializationLegacyLayout() {
+        final PBInternalFormula a = PBInternalFormula.newBuilder().setType(PBFormulaType.LITERAL).setVariable("a").setValue(true).build();
+        final PBFormulas legacy = PBFormulas.newBuilder().addId(0).setMapping(PBFormulaMapping.newBuilder().putMapping(0, a)).build();
+        assertThatThrownBy(() -> Formulas.deserializeFormulaListFromStreamPipelined(this.f, new ByteArrayInputStream(legacy.toByteArray())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testFiles(final boolean compress) throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+        final List<Formula> formulas = randomizer.constraintSet(500, 5);
+        final Path file = Files.createTempFile("formulas", ".proto");
+        try {
+            Formulas.serializeFormulaListToFile(formulas, file, compress);
+            assertThat(Formulas.deserializeFormulaListFromFile(new FormulaFactory(), file, compress)).isEqualTo(formulas);
+            Formulas.serializeFormulaToFile(formulas.get(0), file, compress);
+            assertThat(Formulas.deserializeFormulaFromFile(new FormulaFactory(), file, compress)).isEqualTo(formulas.get(0));
+            assertThat(Formulas.deserializeFormulaFromFile(new FormulaFactory(), file)).isEqualTo(formulas.get(0));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testFilesWithCodecs() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+        final List<Formula> formulas = randomizer.constraintSet(500, 5);
+        final Path file = Files.createTempFile("formulas", ".proto");
+        try {
+            for (final Codec codec : Arrays.asList(Codecs.raw(), Codecs.deflate(), Codecs.deflate(Deflater.BEST_SPEED, Deflater.FILTERED), Codecs.lz())) {
+                Formulas.serializeFormulaListToFile(formulas, file, codec);
+                assertThat(Formulas.deserializeFormulaListFromFile(new FormulaFactory(), file)).isEqualTo(formulas);
+                assertThat(Formulas.deserializeFormulaListFromFilePipelined(new FormulaFactory(), file)).isEqualTo(formulas);
+                Formulas.serializeFormulaToFile(formulas.get(0), file, codec);
+                assertThat(Formulas.deserializeFormulaFromFile(new FormulaFactory(), file)).isEqualTo(formulas.get(0));
+            }
+            Formulas.serializeFormulaListToFile(formulas, file, new ForkJoinPool(2));
+            assertThat(Formulas.deserializeFormulaListFromFile(new FormulaFactory(), file, true)).isEqualTo(formulas);
+            assertThat(Formulas.deserializeFormulaListFromFile(new FormulaFactory(), file, ForkJoinPool.commonPool())).isEqualTo(formulas);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testBuffers() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+        final List<Formula> formulas = randomizer.constraintSet(200, 4);
+        final byte[] expected = Formulas.serializeFormulas(formulas).toByteArray();
+
+        final byte[] bytes = Formulas.serializeFormulasToByteArray(formulas);
+        assertThat(bytes).isEqualTo(expected);
+
+        final ByteBuffer heapBuffer = ByteBuffer.allocate(expected.length + 10);
+        heapBuffer.position(4);
+        assertThat(Formulas.serializeFormulasInto(formulas, heapBuffer)).isEqualTo(expected.length);
+        assertThat(heapBuffer.position()).isEqualTo(expected.length + 4);
+        heapBuffer.flip().position(4);
+        assertThat(Formulas.deserializeFormulaListFromBuffer(new FormulaFactory(), heapBuffer)).isEqualTo(formulas);
+
+        final ByteBuffer directBuffer = Formulas.serializeFormulasToDirectBuffer(formulas);
+        assertThat(directBuffer.isDirect()).isTrue();
+        assertThat(directBuffer.position()).isZero();
+        assertThat(directBuffer.limit()).isEqualTo(expected.length);
+        assertThat(directBuffer.capacity()).isEqualTo(expected.length);
+        final byte[] directBytes = new byte[expected.length];
+        directBuffer.duplicate().get(directBytes);
+        assertThat(directBytes).isEqualTo(expected);
+        assertThat(Formulas.deserializeFormulaListFromBuffer(new FormulaFactory(), directBuffer)).isEqualTo(formulas);
+
+        final ByteBuffer smallBuffer = ByteBuffer.allocateDirect(expected.length - 1);
+        assertThatThrownBy(() -> Formulas.serializeFormulasInto(formulas, smallBuffer)).isInstanceOf(BufferOverflowException.class);
+        assertThat(smallBuffer.position()).isZero();
+    }
 }
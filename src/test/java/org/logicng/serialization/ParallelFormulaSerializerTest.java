@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelFormulaSerializerTest {
+
+    final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testByteIdentical() {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).numVars(50).build());
+        final List<Formula> formulas = randomizer.constraintSet(2000, 4);
+        formulas.addAll(formulas.subList(100, 200));
+        formulas.add(this.f.and(formulas.subList(0, 50)));
+        final byte[] expected = Formulas.serializeFormulas(formulas).toByteArray();
+        for (final int parallelism : new int[]{1, 2, 3, 8}) {
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                assertThat(Formulas.serializeFormulasParallel(formulas, pool).toByteArray()).isEqualTo(expected);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        assertThat(Formulas.serializeFormulasParallel(formulas).toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testSmallLists() {
+        final Literal[] literals = {this.f.variable("c"), this.f.literal("a", false), this.f.variable("b")};
+        final Formula pbc = this.f.pbc(CType.GE, 2, literals, new int[]{1, 2, 3});
+        final Formula or = this.f.or(this.f.variable("b"), this.f.variable("d"));
+        final List<List<Formula>> lists = Arrays.asList(
+                new ArrayList<>(),
+                Collections.singletonList(this.f.verum()),
+                Collections.singletonList(pbc),
+                Arrays.asList(or, pbc, or, this.f.and(or, pbc), this.f.not(pbc)));
+        for (final List<Formula> formulas : lists) {
+            assertThat(Formulas.serializeFormulasParallel(formulas)).isEqualTo(Formulas.serializeFormulas(formulas));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class ParallelGzipTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(3);
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        for (final int length : new int[]{0, 1, 1000, ParallelGzip.BLOCK_SIZE, ParallelGzip.BLOCK_SIZE + 1, 5 * ParallelGzip.BLOCK_SIZE + 17}) {
+            final byte[] data = data(length);
+            final byte[] compressed = compress(data);
+            assertThat(read(new GZIPInputStream(new ByteArrayInputStream(compressed)))).as("gzip " + length).isEqualTo(data);
+            assertThat(read(ParallelGzip.newInputStream(new ByteArrayInputStream(compressed), this.pool))).as("parallel " + length).isEqualTo(data);
+            assertThat(read(Codecs.newInputStream(new ByteArrayInputStream(compressed)))).as("codecs " + length).isEqualTo(data);
+        }
+    }
+
+    @Test
+    public void testPlainGzip() throws IOException {
+        final byte[] data = data(100_000);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(data);
+        }
+        assertThat(read(ParallelGzip.newInputStream(new ByteArrayInputStream(bytes.toByteArray()), this.pool))).isEqualTo(data);
+    }
+
+    @Test
+    public void testCorruptMember() throws IOException {
+        final byte[] compressed = compress(data(3 * ParallelGzip.BLOCK_SIZE));
+        final byte[] corrupt = compressed.clone();
+        corrupt[compressed.length / 2] ^= 0x55;
+        assertThatThrownBy(() -> read(ParallelGzip.newInputStream(new ByteArrayInputStream(corrupt), this.pool))).isInstanceOf(IOException.class);
+        final byte[] truncated = Arrays.copyOf(compressed, compressed.length - 1);
+        assertThatThrownBy(() -> read(ParallelGzip.newInputStream(new ByteArrayInputStream(truncated), this.pool))).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] data(final int length) {
+        final Random random = new Random(length);
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) ('a' + random.nextInt(6));
+        }
+        return data;
+    }
+
+    private byte[] compress(final byte[] data) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final OutputStream output = ParallelGzip.newOutputStream(bytes, this.pool, Deflater.BEST_SPEED)) {
+            output.write(data, 0, data.length / 2);
+            output.write(data, data.length / 2, data.length - data.length / 2);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] read(final InputStream input) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final InputStream in = input) {
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
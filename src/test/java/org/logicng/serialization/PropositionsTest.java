@@ -7,11 +7,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.logicng.serialization.Propositions.deserializePropositions;
 import static org.logicng.serialization.Propositions.serializePropositions;
 
+import com.booleworks.logicng.propositions.ProtoBufPropositions.PBStandardProposition;
 import org.junit.jupiter.api.Test;
 import org.logicng.formulas.FormulaFactory;
 import org.logicng.io.parsers.ParserException;
 import org.logicng.io.parsers.PseudoBooleanParser;
 import org.logicng.propositions.StandardProposition;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 public class PropositionsTest {
 
@@ -23,4 +32,42 @@ public class PropositionsTest {
         final StandardProposition p = new StandardProposition("description", parser.parse("a & (b => c + d = 1) <=> ~x"));
         assertThat(deserializePropositions(this.f, serializePropositions(p))).isEqualTo(p);
     }
+
+    @Test
+    public void testStandardPropositionWithDictionary() {
+        final StandardProposition p1 = new StandardProposition("p1", this.f.and(this.f.or(this.f.variable("a"), this.f.variable("b")), this.f.variable("c")));
+        final StandardProposition p2 = new StandardProposition("p2", this.f.implication(this.f.or(this.f.variable("a"), this.f.variable("b")), this.f.literal("d", false)));
+        final FormulaBase dictionary = FormulaBase.dictionary("rules", 1, Arrays.asList(p1.formula(), p2.formula()), 2);
+        final PBStandardProposition bin = serializePropositions(p2, dictionary);
+        assertThat(bin.getFormula().getMapping().getVariableList()).isEmpty();
+        assertThat(bin.getFormula().getMapping().getNodeCount()).isEqualTo(2);
+        assertThat(bin.getSerializedSize()).isLessThan(serializePropositions(p2).getSerializedSize());
+
+        final FormulaFactory receiver = new FormulaFactory();
+        final FormulaBase receivedDictionary = FormulaBase.deserialize(receiver, "rules", 1, dictionary.serialize());
+        assertThat(deserializePropositions(receiver, bin, receivedDictionary)).isEqualTo(p2);
+        assertThat(deserializePropositions(receiver, serializePropositions(p1, dictionary), receivedDictionary)).isEqualTo(p1);
+    }
+
+    @Test
+    public void testStandardPropositionWithCompressionDictionary() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().numVars(30).seed(42).build());
+        final List<byte[]> samples = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            samples.add(serializePropositions(new StandardProposition("rule " + i, randomizer.formula(2))).toByteArray());
+        }
+        final CompressionDictionary dictionary = CompressionDictionary.train(samples, 8 * 1024);
+        final List<CompressionDictionary> dictionaries = Collections.singletonList(CompressionDictionary.of(dictionary.bytes()));
+        final FormulaFactory receiver = new FormulaFactory();
+        int plainSize = 0;
+        int compressedSize = 0;
+        for (int i = 0; i < 50; i++) {
+            final StandardProposition p = new StandardProposition("rule " + i, randomizer.formula(2));
+            final byte[] compressed = Propositions.serializePropositionsCompressed(p, dictionary);
+            assertThat(Propositions.deserializePropositionsCompressed(receiver, compressed, dictionaries)).isEqualTo(p);
+            plainSize += serializePropositions(p).getSerializedSize();
+            compressedSize += compressed.length;
+        }
+        assertThat(compressedSize).isLessThan(plainSize / 2);
+    }
 }
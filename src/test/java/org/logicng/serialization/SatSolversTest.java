@@ -9,6 +9,7 @@ import com.booleworks.logicng.formulas.ProtoBufFormulas;
 import com.google.protobuf.InvalidProtocolBufferException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.logicng.datastructures.Tristate;
@@ -31,8 +32,10 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -68,6 +71,48 @@ public class SatSolversTest {
         compareSolverModels(solverBefore, solverAfter);
     }
 
+    @Test
+    public void testCodecs() throws IOException {
+        for (final Codec codec : Arrays.asList(Codecs.raw(), Codecs.deflate(), Codecs.lz())) {
+            final MiniSat miniSatBefore = MiniSat.miniSat(f);
+            miniSatBefore.add(formula);
+            serializer.serializeSolverToFile(miniSatBefore, tempFile, codec);
+            final MiniSat miniSatAfter = SolverSerializer.withoutPropositions(new FormulaFactory()).deserializeMiniSatFromFile(tempFile);
+            SolverComperator.compareSolverStates(miniSatBefore, miniSatAfter);
+            compareSolverModels(miniSatBefore, miniSatAfter);
+
+            final MiniSat glucoseBefore = MiniSat.glucose(f);
+            glucoseBefore.add(formula);
+            serializer.serializeSolverToFile(glucoseBefore, tempFile, codec);
+            final MiniSat glucoseAfter = SolverSerializer.withoutPropositions(new FormulaFactory()).deserializeGlucoseFromFile(tempFile);
+            SolverComperator.compareSolverStates(glucoseBefore, glucoseAfter);
+            compareSolverModels(glucoseBefore, glucoseAfter);
+        }
+    }
+
+    @Test
+    public void testAsyncFile() throws Exception {
+        final MiniSat miniSatBefore = MiniSat.miniSat(f);
+        miniSatBefore.add(formula);
+        assertThat(serializer.serializeSolverToFileAsync(miniSatBefore, tempFile, Codecs.lz()).get()).isEqualTo(tempFile);
+        final MiniSat miniSatAfter = SolverSerializer.withoutPropositions(new FormulaFactory()).deserializeMiniSatFromFile(tempFile);
+        SolverComperator.compareSolverStates(miniSatBefore, miniSatAfter);
+        compareSolverModels(miniSatBefore, miniSatAfter);
+    }
+
+    @Test
+    public void testParallelGzip() throws IOException {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        final MiniSat glucoseBefore = MiniSat.glucose(f);
+        glucoseBefore.add(formula);
+        serializer.serializeSolverToFile(glucoseBefore, tempFile, pool);
+        final MiniSat glucoseAfter = SolverSerializer.withoutPropositions(new FormulaFactory()).deserializeGlucoseFromFile(tempFile, pool);
+        SolverComperator.compareSolverStates(glucoseBefore, glucoseAfter);
+        compareSolverModels(glucoseBefore, glucoseAfter);
+        final MiniSat legacyAfter = SolverSerializer.withoutPropositions(new FormulaFactory()).deserializeGlucoseFromFile(tempFile, true);
+        SolverComperator.compareSolverStates(glucoseBefore, legacyAfter);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {false, true})
     public void testMiniCardSimple(final boolean compress) throws IOException {
@@ -272,6 +317,30 @@ public class SatSolversTest {
         SolverComperator.compareSolverStates(solverBefore, solverAfter);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testBuffers(final boolean glucose) throws IOException {
+        final MiniSat solverBefore = glucose ? MiniSat.glucose(f) : MiniSat.miniSat(f);
+        solverBefore.add(formula);
+        solverBefore.sat();
+        final SolverSerializer deserializer = SolverSerializer.withoutPropositions(new FormulaFactory());
+
+        final byte[] bytes = serializer.serializeSolverToByteArray(solverBefore);
+        final ByteBuffer heapBuffer = ByteBuffer.allocate(bytes.length);
+        assertThat(serializer.serializeSolverInto(solverBefore, heapBuffer)).isEqualTo(bytes.length);
+        assertThat(heapBuffer.array()).isEqualTo(bytes);
+        final ByteBuffer directBuffer = serializer.serializeSolverToDirectBuffer(solverBefore);
+        assertThat(directBuffer.isDirect()).isTrue();
+        assertThat(directBuffer.remaining()).isEqualTo(bytes.length);
+
+        heapBuffer.flip();
+        final MiniSat fromHeap = glucose ? deserializer.deserializeGlucoseFromBuffer(heapBuffer) : deserializer.deserializeMiniSatFromBuffer(heapBuffer);
+        final MiniSat fromDirect = glucose ? deserializer.deserializeGlucoseFromBuffer(directBuffer) : deserializer.deserializeMiniSatFromBuffer(directBuffer);
+        SolverComperator.compareSolverStates(solverBefore, fromHeap);
+        SolverComperator.compareSolverStates(solverBefore, fromDirect);
+        compareSolverModels(solverBefore, fromDirect);
+    }
+
     private static void compareSolverModels(final MiniSat solver1, final MiniSat solver2) {
         solver1.sat();
         solver2.sat();
@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: Apache-2.0 and MIT
+// Copyright 2023-20xx BooleWorks GmbH
+
+package org.logicng.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booleworks.logicng.formulas.ProtoBufFormulas.PBFormulas;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+import org.logicng.formulas.CType;
+import org.logicng.formulas.Formula;
+import org.logicng.formulas.FormulaFactory;
+import org.logicng.formulas.Literal;
+import org.logicng.util.FormulaRandomizer;
+import org.logicng.util.FormulaRandomizerConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SerializedFormulaCacheTest {
+
+    final FormulaFactory f = new FormulaFactory();
+
+    @Test
+    public void testSerializeFormula() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).build());
+        final SerializedFormulaCache cache = new SerializedFormulaCache(1 << 20);
+        final List<Formula> formulas = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            formulas.add(randomizer.formula(4));
+        }
+        for (final Formula formula : formulas) {
+            assertThat(PBFormulas.parseFrom(cache.serializeFormula(formula))).isEqualTo(Formulas.serializeFormula(formula));
+        }
+        final long misses = cache.misses();
+        assertThat(cache.hits()).isEqualTo(100 - misses);
+        for (final Formula formula : formulas) {
+            final ByteString bytes = cache.serializeFormula(formula);
+            assertThat(cache.serializeFormula(formula)).isSameAs(bytes);
+            assertThat(Formulas.deserializeFormula(new FormulaFactory(), PBFormulas.parseFrom(bytes))).isEqualTo(formula);
+        }
+        assertThat(cache.hits()).isEqualTo(300 - misses);
+        assertThat(cache.misses()).isEqualTo(misses);
+        assertThat(cache.size()).isEqualTo(misses);
+        assertThat(cache.evictions()).isZero();
+    }
+
+    @Test
+    public void testSerializeFormulas() throws IOException {
+        final FormulaRandomizer randomizer = new FormulaRandomizer(this.f, FormulaRandomizerConfig.builder().seed(42).numVars(200).build());
+        final SerializedFormulaCache cache = new SerializedFormulaCache(1 << 20);
+        final List<Formula> constraints = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            constraints.add(this.f.or(randomizer.formula(3), randomizer.pbc()));
+        }
+        final Formula base = this.f.and(constraints);
+        assertThat(base.numberOfOperands()).isGreaterThan(1);
+        for (int i = 0; i < 20; i++) {
+            final List<Formula> formulas = new ArrayList<>();
+            formulas.add(base);
+            formulas.addAll(randomizer.constraintSet(i, 3));
+            formulas.add(base);
+            formulas.add(base.iterator().next());
+            final PBFormulas parsed = PBFormulas.parseFrom(cache.serializeFormulas(formulas));
+            assertThat(parsed).isEqualTo(Formulas.serializeFormulas(formulas));
+            assertThat(Formulas.deserializeFormulaList(new FormulaFactory(), parsed)).isEqualTo(formulas);
+        }
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.hits()).isEqualTo(19);
+        assertThat(PBFormulas.parseFrom(cache.serializeFormulas(Collections.singletonList(base)))).isEqualTo(Formulas.serializeFormula(base));
+        assertThat(PBFormulas.parseFrom(cache.serializeFormulas(Collections.emptyList()))).isEqualTo(Formulas.serializeFormulas(Collections.emptyList()));
+    }
+
+    @Test
+    public void testEviction() {
+        final Literal[] literals = {this.f.variable("a"), this.f.literal("b", false), this.f.variable("c")};
+        final List<Formula> formulas = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            formulas.add(this.f.pbc(CType.LE, i, literals, new int[]{1, 2, 3}));
+        }
+        final int size = Formulas.serializeFormula(formulas.get(0)).getSerializedSize();
+        final SerializedFormulaCache cache = new SerializedFormulaCache(3L * size);
+        for (final Formula formula : formulas) {
+            cache.serializeFormula(formula);
+        }
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.bytes()).isEqualTo(3L * size);
+        assertThat(cache.evictions()).isEqualTo(7);
+        cache.serializeFormula(formulas.get(7));
+        cache.serializeFormula(formulas.get(0));
+        assertThat(cache.evictions()).isEqualTo(8);
+        cache.serializeFormula(formulas.get(7));
+        assertThat(cache.hits()).isEqualTo(2);
+        assertThat(cache.misses()).isEqualTo(11);
+
+        final List<Formula> variables = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            variables.add(this.f.variable("v" + i));
+        }
+        final Formula large = this.f.or(variables);
+        cache.serializeFormula(large);
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.evictions()).isEqualTo(8);
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.bytes()).isZero();
+    }
+}